@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark;
+
+import com.bws.jdistil.core.configuration.Action;
+import com.bws.jdistil.core.configuration.Configuration;
+import com.bws.jdistil.core.configuration.Field;
+import com.bws.jdistil.core.conversion.DateConverter;
+import com.bws.jdistil.core.validation.rules.EmailRule;
+import com.bws.jdistil.core.validation.rules.MaxLengthRule;
+import com.bws.jdistil.core.validation.rules.NumberRule;
+
+import java.util.Set;
+
+/**
+  Configuration registering the fields and actions used by request processing benchmarks.
+  The configuration is loaded using the benchmark core properties file.
+  @author - Bryan Snipes
+*/
+public class BenchmarkConfiguration extends Configuration {
+
+  /**
+    Name field ID.
+  */
+  public static final String NAME = "BenchmarkName";
+
+  /**
+    Email field ID.
+  */
+  public static final String EMAIL = "BenchmarkEmail";
+
+  /**
+    Quantity field ID.
+  */
+  public static final String QUANTITY = "BenchmarkQuantity";
+
+  /**
+    Price field ID.
+  */
+  public static final String PRICE = "BenchmarkPrice";
+
+  /**
+    Start date field ID.
+  */
+  public static final String START_DATE = "BenchmarkStartDate";
+
+  /**
+    Save action ID.
+  */
+  public static final String SAVE = "BenchmarkSave";
+
+  /**
+    Creates a new BenchmarkConfiguration object.
+  */
+  public BenchmarkConfiguration() {
+    super();
+  }
+
+  /**
+    Registers fields used by benchmarks.
+    @param fields - Set of fields to be populated.
+  */
+  public void registerFields(Set<Field> fields) {
+
+    // Create fields
+    Field name = new Field(NAME, Field.STRING, "Name", null);
+    name.addRule(new MaxLengthRule(50));
+
+    Field email = new Field(EMAIL, Field.STRING, "Email", null);
+    email.addRule(new MaxLengthRule(100));
+    email.addRule(new EmailRule());
+
+    Field quantity = new Field(QUANTITY, Field.INTEGER, "Quantity", null);
+    quantity.addRule(new NumberRule(9, 0, NumberRule.POSITIVE));
+
+    Field price = new Field(PRICE, Field.DOUBLE, "Price", null);
+    price.addRule(new NumberRule(11, 2, NumberRule.ANY));
+
+    Field startDate = new Field(START_DATE, Field.DATE, "Start Date", DateConverter.getInstance());
+
+    // Register fields
+    fields.add(name);
+    fields.add(email);
+    fields.add(quantity);
+    fields.add(price);
+    fields.add(startDate);
+  }
+
+  /**
+    Registers actions used by benchmarks.
+    @param actions - Set of actions to be populated.
+  */
+  public void registerActions(Set<Action> actions) {
+
+    // Create save action
+    Action save = new Action(SAVE, "Save");
+    save.addField(NAME, true);
+    save.addField(EMAIL, true);
+    save.addField(QUANTITY, true);
+    save.addField(PRICE, false);
+    save.addField(START_DATE, false);
+
+    // Register actions
+    actions.add(save);
+  }
+
+}
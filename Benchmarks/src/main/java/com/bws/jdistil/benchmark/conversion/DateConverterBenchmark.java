@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.conversion;
+
+import com.bws.jdistil.core.conversion.DateConverter;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Measures locale specific and standard date parsing and formatting.
+  @author - Bryan Snipes
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateConverterBenchmark {
+
+  /**
+    Date converter.
+  */
+  private DateConverter dateConverter = DateConverter.getInstance();
+
+  /**
+    Fixed date value.
+  */
+  private Date date = null;
+
+  /**
+    Locale specific date text.
+  */
+  private String localeText = null;
+
+  /**
+    Standard date text.
+  */
+  private String standardText = null;
+
+  /**
+    Creates fixed date values.
+  */
+  @Setup
+  public void setup() {
+
+    date = new GregorianCalendar(2015, Calendar.JUNE, 15).getTime();
+    localeText = dateConverter.format(date, Locale.US);
+    standardText = dateConverter.formatAsStandard(date);
+  }
+
+  /**
+    Formats a date using a locale specific format.
+    @return String Formatted date.
+  */
+  @Benchmark
+  public String format() {
+    return dateConverter.format(date, Locale.US);
+  }
+
+  /**
+    Formats a date using the standard format.
+    @return String Formatted date.
+  */
+  @Benchmark
+  public String formatAsStandard() {
+    return dateConverter.formatAsStandard(date);
+  }
+
+  /**
+    Parses a date using a locale specific format.
+    @return Object Parsed date.
+  */
+  @Benchmark
+  public Object parse() {
+    return dateConverter.parse(localeText, Locale.US);
+  }
+
+  /**
+    Parses a date using the standard format.
+    @return Object Parsed date.
+  */
+  @Benchmark
+  public Object parseAsStandard() {
+    return dateConverter.parseAsStandard(standardText);
+  }
+
+}
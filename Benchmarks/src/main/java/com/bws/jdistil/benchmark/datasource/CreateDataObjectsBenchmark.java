@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.datasource;
+
+import com.bws.jdistil.core.datasource.DataSourceException;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Measures hydrating data objects from query results using a bound data manager
+  and an in memory H2 database.
+  @author - Bryan Snipes
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateDataObjectsBenchmark {
+
+  /**
+    Number of rows returned by the query.
+  */
+  @Param({"10", "100", "1000"})
+  private int rows;
+
+  /**
+    Database connection.
+  */
+  private Connection connection = null;
+
+  /**
+    Query statement.
+  */
+  private PreparedStatement statement = null;
+
+  /**
+    Data manager.
+  */
+  private SampleDataManager dataManager = null;
+
+  /**
+    Creates and populates the sample table.
+  */
+  @Setup
+  public void setup() throws SQLException {
+
+    // Open in memory database
+    connection = DriverManager.getConnection("jdbc:h2:mem:hydration_" + rows + ";DB_CLOSE_DELAY=-1");
+
+    // Create sample table
+    Statement createStatement = connection.createStatement();
+    createStatement.execute("create table " + SampleDataManager.TABLE_NAME +
+        " (sample_id integer primary key, name varchar(50), quantity integer)");
+    createStatement.close();
+
+    // Populate sample table
+    PreparedStatement insertStatement = connection.prepareStatement("insert into " +
+        SampleDataManager.TABLE_NAME + " (sample_id, name, quantity) values (?, ?, ?)");
+
+    for (int index = 1; index <= rows; index++) {
+
+      insertStatement.setInt(1, index);
+      insertStatement.setString(2, "Sample " + index);
+      insertStatement.setInt(3, index % 100);
+      insertStatement.addBatch();
+    }
+
+    insertStatement.executeBatch();
+    insertStatement.close();
+
+    // Prepare query and data manager
+    statement = connection.prepareStatement("select sample_id, name, quantity from " +
+        SampleDataManager.TABLE_NAME + " order by sample_id");
+    dataManager = new SampleDataManager();
+  }
+
+  /**
+    Drops the sample table and closes the database connection.
+  */
+  @TearDown
+  public void tearDown() throws SQLException {
+
+    statement.close();
+
+    Statement dropStatement = connection.createStatement();
+    dropStatement.execute("drop table " + SampleDataManager.TABLE_NAME);
+    dropStatement.close();
+
+    connection.close();
+  }
+
+  /**
+    Executes the query and hydrates data objects from the results.
+    @return List Data objects.
+  */
+  @Benchmark
+  public List<SampleDataObject> createDataObjects() throws SQLException, DataSourceException {
+
+    ResultSet resultSet = statement.executeQuery();
+
+    try {
+      return dataManager.hydrate(resultSet);
+    }
+    finally {
+      resultSet.close();
+    }
+  }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.datasource;
+
+import com.bws.jdistil.core.datasource.DataObjectSorter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Compares ordering data objects by a list of IDs using the data object sorter with
+  the comparator based ordering previously used by the database data manager.
+  @author - Bryan Snipes
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataObjectSorterBenchmark {
+
+  /**
+    Number of data objects and IDs.
+  */
+  @Param({"100", "500", "1000"})
+  private int size;
+
+  /**
+    Requested ID order.
+  */
+  private List<Integer> ids = null;
+
+  /**
+    Data objects in database order.
+  */
+  private List<SampleDataObject> source = null;
+
+  /**
+    Working list of data objects sorted by each invocation.
+  */
+  private List<SampleDataObject> dataObjects = null;
+
+  /**
+    Creates IDs in random order and data objects in ascending ID order.
+  */
+  @Setup(Level.Trial)
+  public void setupTrial() {
+
+    // Create IDs and data objects
+    ids = new ArrayList<Integer>(size);
+    source = new ArrayList<SampleDataObject>(size);
+
+    for (int index = 0; index < size; index++) {
+
+      // Create ID
+      Integer id = Integer.valueOf(index);
+
+      // Create data object
+      SampleDataObject dataObject = new SampleDataObject();
+      dataObject.setId(id);
+
+      ids.add(id);
+      source.add(dataObject);
+    }
+
+    // Randomize requested ID order using a fixed seed for reproducible results
+    Collections.shuffle(ids, new Random(42L));
+  }
+
+  /**
+    Resets the working list of data objects before each invocation.
+  */
+  @Setup(Level.Invocation)
+  public void setupInvocation() {
+    dataObjects = new ArrayList<SampleDataObject>(source);
+  }
+
+  /**
+    Orders data objects using the data object sorter.
+    @return List Ordered data objects.
+  */
+  @Benchmark
+  public List<SampleDataObject> sorter() {
+
+    DataObjectSorter.sort(dataObjects, ids);
+
+    return dataObjects;
+  }
+
+  /**
+    Orders data objects using the ID list based comparator.
+    @return List Ordered data objects.
+  */
+  @Benchmark
+  public List<SampleDataObject> comparator() {
+
+    Collections.sort(dataObjects, new IndexOfComparator(ids));
+
+    return dataObjects;
+  }
+
+/**
+  Comparator based ordering previously used by the database data manager.
+*/
+private static class IndexOfComparator implements Comparator<SampleDataObject> {
+
+  /**
+    List of data object IDs used for comparison.
+  */
+  private List<Integer> ids = null;
+
+  /**
+    Creates a new IndexOfComparator using a list of data object IDs.
+    @param ids List of data object IDs.
+  */
+  public IndexOfComparator(List<Integer> ids) {
+    this.ids = ids;
+  }
+
+  /**
+    Compares two data objects based on the position of their IDs.
+    @see java.util.Comparator#compare
+  */
+  public int compare(SampleDataObject dataObject1, SampleDataObject dataObject2) {
+
+    // Get indexes of data object IDs
+    Integer index1 = Integer.valueOf(ids.indexOf(dataObject1.getId()));
+    Integer index2 = Integer.valueOf(ids.indexOf(dataObject2.getId()));
+
+    return index1.compareTo(index2);
+  }
+
+}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.datasource;
+
+import com.bws.jdistil.core.datasource.DataSourceException;
+import com.bws.jdistil.core.datasource.database.BoundDatabaseDataManager;
+import com.bws.jdistil.core.datasource.database.ColumnBinding;
+import com.bws.jdistil.core.datasource.database.DataObjectBinding;
+import com.bws.jdistil.core.datasource.database.DbUtil;
+import com.bws.jdistil.core.datasource.database.IdColumnBinding;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+  Sample data manager exposing data object hydration to data access benchmarks.
+  @author - Bryan Snipes
+*/
+public class SampleDataManager extends BoundDatabaseDataManager<Integer, SampleDataObject> {
+
+  /**
+    Table name.
+  */
+  public static final String TABLE_NAME = "bws_sample";
+
+  /**
+    Creates a new SampleDataManager object.
+  */
+  public SampleDataManager() {
+    super();
+  }
+
+  /**
+    Creates and returns a data object binding.
+    @see com.bws.jdistil.core.datasource.database.BoundDatabaseDataManager#createDataObjectBinding
+  */
+  protected DataObjectBinding createDataObjectBinding() {
+
+    // Create ID column binding
+    IdColumnBinding idColumnBinding = new IdColumnBinding("sample_id");
+
+    // Create and populate column bindings
+    List<ColumnBinding> columnBindings = new ArrayList<ColumnBinding>();
+    columnBindings.add(new ColumnBinding("name", DbUtil.STRING, false, false, "Name"));
+    columnBindings.add(new ColumnBinding("quantity", DbUtil.INTEGER, false, false, "Quantity"));
+
+    return new DataObjectBinding(SampleDataObject.class, TABLE_NAME, idColumnBinding, columnBindings, null, null);
+  }
+
+  /**
+    Disabling domain awareness since samples are not domain specific.
+    @see com.bws.jdistil.core.datasource.database.DatabaseDataManager#isDomainAware()
+  */
+  @Override
+  protected boolean isDomainAware() {
+    return false;
+  }
+
+  /**
+    Returns data objects created from a result set.
+    @param resultSet Result set.
+    @return List Data objects.
+  */
+  public List<SampleDataObject> hydrate(ResultSet resultSet) throws DataSourceException {
+    return createDataObjects(Collections.singletonList(resultSet));
+  }
+
+}
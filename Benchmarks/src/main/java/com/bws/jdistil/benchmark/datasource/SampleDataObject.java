@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.datasource;
+
+import com.bws.jdistil.core.datasource.DataObject;
+
+/**
+  Sample data object used by data access benchmarks.
+  @author - Bryan Snipes
+*/
+public class SampleDataObject extends DataObject<Integer> {
+
+  /**
+    Serial version UID.
+  */
+  private static final long serialVersionUID = 4382645230871125964L;
+
+  /**
+    Name.
+  */
+  private String name = null;
+
+  /**
+    Quantity.
+  */
+  private Integer quantity = null;
+
+  /**
+    Creates a new SampleDataObject object.
+  */
+  public SampleDataObject() {
+    super();
+  }
+
+  /**
+    Returns the name.
+    @return String Name.
+  */
+  public String getName() {
+    return name;
+  }
+
+  /**
+    Sets the name.
+    @param name Name.
+  */
+  public void setName(String name) {
+    updateModifiedStatus(this.name, name);
+    this.name = name;
+  }
+
+  /**
+    Returns the quantity.
+    @return Integer Quantity.
+  */
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  /**
+    Sets the quantity.
+    @param quantity Quantity.
+  */
+  public void setQuantity(Integer quantity) {
+    updateModifiedStatus(this.quantity, quantity);
+    this.quantity = quantity;
+  }
+
+}
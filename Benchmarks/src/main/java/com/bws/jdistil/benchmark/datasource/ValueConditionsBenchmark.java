@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.datasource;
+
+import com.bws.jdistil.core.datasource.database.DbUtil;
+import com.bws.jdistil.core.datasource.database.Operators;
+import com.bws.jdistil.core.datasource.database.ValueCondition;
+import com.bws.jdistil.core.datasource.database.ValueConditions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Measures SQL generation for nested value conditions used by filtered finds.
+  @author - Bryan Snipes
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueConditionsBenchmark {
+
+  /**
+    Number of value conditions.
+  */
+  @Param({"2", "10", "50"})
+  private int conditions;
+
+  /**
+    Value conditions.
+  */
+  private ValueConditions valueConditions = null;
+
+  /**
+    Table aliases.
+  */
+  private Map<String, String> aliases = null;
+
+  /**
+    Creates value conditions alternating operators and nesting a group of or'ed conditions.
+  */
+  @Setup
+  public void setup() {
+
+    // Create first condition
+    valueConditions = new ValueConditions(new ValueCondition(SampleDataManager.TABLE_NAME, "name",
+        Operators.BEGINS_WITH, DbUtil.STRING, "Sample"));
+
+    for (int index = 1; index < conditions; index++) {
+
+      if (index % 2 == 0) {
+        valueConditions.add(Operators.AND, new ValueCondition(SampleDataManager.TABLE_NAME, "quantity",
+            Operators.GREATER_THAN, DbUtil.INTEGER, Integer.valueOf(index)));
+      }
+      else {
+
+        // Create nested group
+        ValueConditions group = new ValueConditions(new ValueCondition(SampleDataManager.TABLE_NAME,
+            "sample_id", Operators.EQUALS, DbUtil.INTEGER, Integer.valueOf(index)));
+        group.add(Operators.OR, new ValueCondition(SampleDataManager.TABLE_NAME, "name",
+            Operators.IS_NULL, DbUtil.STRING, null));
+
+        valueConditions.add(Operators.AND, group);
+      }
+    }
+
+    // Create aliases
+    aliases = new HashMap<String, String>();
+    aliases.put(SampleDataManager.TABLE_NAME, "s");
+  }
+
+  /**
+    Generates SQL without table aliases.
+    @return String SQL text.
+  */
+  @Benchmark
+  public String generateSql() {
+    return valueConditions.generateSql(null);
+  }
+
+  /**
+    Generates SQL using table aliases.
+    @return String SQL text.
+  */
+  @Benchmark
+  public String generateSqlWithAliases() {
+    return valueConditions.generateSql(aliases);
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.factory;
+
+import com.bws.jdistil.benchmark.datasource.SampleDataObject;
+import com.bws.jdistil.core.factory.PooledPojoFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Measures borrowing and recycling objects from a shared pooled factory under contention.
+  @author - Bryan Snipes
+*/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PooledPojoFactoryBenchmark {
+
+  /**
+    Indicates whether or not thread caching is enabled.
+  */
+  @Param({"false", "true"})
+  private boolean threadCache;
+
+  /**
+    Shared pooled factory.
+  */
+  private PooledPojoFactory factory = null;
+
+  /**
+    Creates the shared pooled factory.
+  */
+  @Setup
+  public void setup() {
+    factory = new PooledPojoFactory(SampleDataObject.class, 100, null, threadCache);
+  }
+
+  /**
+    Borrows and recycles an object using a single thread.
+    @return Object Borrowed object.
+  */
+  @Benchmark
+  @Threads(1)
+  public Object borrowRecycle() {
+    return borrowAndRecycle();
+  }
+
+  /**
+    Borrows and recycles an object using four threads.
+    @return Object Borrowed object.
+  */
+  @Benchmark
+  @Threads(4)
+  public Object borrowRecycleContended() {
+    return borrowAndRecycle();
+  }
+
+  /**
+    Borrows and recycles an object.
+    @return Object Borrowed object.
+  */
+  private Object borrowAndRecycle() {
+
+    Object object = factory.create();
+    factory.recycle(object);
+
+    return object;
+  }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.servlet;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+  In memory servlet request used by request processing benchmarks. Requests support parameters,
+  attributes, a fixed locale and a single session. All other request methods return default values.
+  @author - Bryan Snipes
+*/
+public class BenchmarkRequest implements InvocationHandler {
+
+  /**
+    Request parameters.
+  */
+  private Map<String, String[]> parameters = new HashMap<String, String[]>();
+
+  /**
+    Request attributes.
+  */
+  private Map<String, Object> attributes = new HashMap<String, Object>();
+
+  /**
+    Request locale.
+  */
+  private Locale locale = null;
+
+  /**
+    Session handler.
+  */
+  private SessionHandler sessionHandler = new SessionHandler();
+
+  /**
+    Proxy request.
+  */
+  private HttpServletRequest request = null;
+
+  /**
+    Creates a new BenchmarkRequest object using a locale.
+    @param locale - Request locale.
+  */
+  public BenchmarkRequest(Locale locale) {
+    super();
+
+    // Set locale
+    this.locale = locale;
+
+    // Create proxy request
+    request = (HttpServletRequest)Proxy.newProxyInstance(BenchmarkRequest.class.getClassLoader(),
+        new Class<?>[] {HttpServletRequest.class}, this);
+  }
+
+  /**
+    Sets a single valued request parameter.
+    @param name - Parameter name.
+    @param value - Parameter value.
+  */
+  public void setParameter(String name, String value) {
+    parameters.put(name, new String[] {value});
+  }
+
+  /**
+    Sets a multiple valued request parameter.
+    @param name - Parameter name.
+    @param values - Parameter values.
+  */
+  public void setParameterValues(String name, String[] values) {
+    parameters.put(name, values);
+  }
+
+  /**
+    Returns the proxy request.
+    @return HttpServletRequest - Proxy request.
+  */
+  public HttpServletRequest getRequest() {
+    return request;
+  }
+
+  /**
+    Handles request method invocations.
+    @see java.lang.reflect.InvocationHandler#invoke
+  */
+  public Object invoke(Object proxy, Method method, Object[] arguments) {
+
+    // Initialize return value
+    Object value = null;
+
+    // Get method name
+    String methodName = method.getName();
+
+    if (methodName.equals("getParameter")) {
+
+      // Get first parameter value
+      String[] values = parameters.get(arguments[0]);
+      value = values == null || values.length == 0 ? null : values[0];
+    }
+    else if (methodName.equals("getParameterValues")) {
+      value = parameters.get(arguments[0]);
+    }
+    else if (methodName.equals("getParameterNames")) {
+      value = Collections.enumeration(parameters.keySet());
+    }
+    else if (methodName.equals("getParameterMap")) {
+      value = Collections.unmodifiableMap(parameters);
+    }
+    else if (methodName.equals("getAttribute")) {
+      value = attributes.get(arguments[0]);
+    }
+    else if (methodName.equals("setAttribute")) {
+      attributes.put((String)arguments[0], arguments[1]);
+    }
+    else if (methodName.equals("removeAttribute")) {
+      attributes.remove(arguments[0]);
+    }
+    else if (methodName.equals("getLocale")) {
+      value = locale;
+    }
+    else if (methodName.equals("getSession")) {
+      value = sessionHandler.getSession();
+    }
+    else if (methodName.equals("hashCode")) {
+      value = Integer.valueOf(System.identityHashCode(proxy));
+    }
+    else if (methodName.equals("equals")) {
+      value = Boolean.valueOf(proxy == arguments[0]);
+    }
+    else if (methodName.equals("toString")) {
+      value = "BenchmarkRequest";
+    }
+    else if (method.getReturnType() == boolean.class) {
+      value = Boolean.FALSE;
+    }
+    else if (method.getReturnType() == int.class) {
+      value = Integer.valueOf(0);
+    }
+    else if (method.getReturnType() == long.class) {
+      value = Long.valueOf(0L);
+    }
+
+    return value;
+  }
+
+/**
+  In memory session supporting attributes.
+*/
+private static class SessionHandler implements InvocationHandler {
+
+  /**
+    Session attributes.
+  */
+  private Map<String, Object> attributes = new HashMap<String, Object>();
+
+  /**
+    Proxy session.
+  */
+  private HttpSession session = null;
+
+  /**
+    Creates a new SessionHandler object.
+  */
+  public SessionHandler() {
+    super();
+
+    // Create proxy session
+    session = (HttpSession)Proxy.newProxyInstance(BenchmarkRequest.class.getClassLoader(),
+        new Class<?>[] {HttpSession.class}, this);
+  }
+
+  /**
+    Returns the proxy session.
+    @return HttpSession - Proxy session.
+  */
+  public HttpSession getSession() {
+    return session;
+  }
+
+  /**
+    Handles session method invocations.
+    @see java.lang.reflect.InvocationHandler#invoke
+  */
+  public Object invoke(Object proxy, Method method, Object[] arguments) {
+
+    // Initialize return value
+    Object value = null;
+
+    // Get method name
+    String methodName = method.getName();
+
+    if (methodName.equals("getAttribute")) {
+      value = attributes.get(arguments[0]);
+    }
+    else if (methodName.equals("setAttribute")) {
+      attributes.put((String)arguments[0], arguments[1]);
+    }
+    else if (methodName.equals("removeAttribute")) {
+      attributes.remove(arguments[0]);
+    }
+    else if (methodName.equals("getAttributeNames")) {
+      value = Collections.enumeration(attributes.keySet());
+    }
+    else if (methodName.equals("getId")) {
+      value = "benchmark";
+    }
+    else if (methodName.equals("hashCode")) {
+      value = Integer.valueOf(System.identityHashCode(proxy));
+    }
+    else if (methodName.equals("equals")) {
+      value = Boolean.valueOf(proxy == arguments[0]);
+    }
+    else if (methodName.equals("toString")) {
+      value = "BenchmarkSession";
+    }
+    else if (method.getReturnType() == boolean.class) {
+      value = Boolean.FALSE;
+    }
+    else if (method.getReturnType() == int.class) {
+      value = Integer.valueOf(0);
+    }
+    else if (method.getReturnType() == long.class) {
+      value = Long.valueOf(0L);
+    }
+
+    return value;
+  }
+
+}
+
+}
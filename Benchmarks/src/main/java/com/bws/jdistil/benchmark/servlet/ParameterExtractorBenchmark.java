@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.servlet;
+
+import com.bws.jdistil.benchmark.BenchmarkConfiguration;
+import com.bws.jdistil.core.servlet.ParameterExtractor;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Measures typed extraction of request parameters using configured fields.
+  @author - Bryan Snipes
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterExtractorBenchmark {
+
+  /**
+    Servlet request.
+  */
+  private HttpServletRequest request = null;
+
+  /**
+    Creates a request containing single and multiple valued parameters.
+  */
+  @Setup
+  public void setup() {
+
+    BenchmarkRequest benchmarkRequest = new BenchmarkRequest(Locale.US);
+    benchmarkRequest.setParameter(BenchmarkConfiguration.NAME, "Sample");
+    benchmarkRequest.setParameter(BenchmarkConfiguration.QUANTITY, "1,250");
+    benchmarkRequest.setParameter(BenchmarkConfiguration.PRICE, "19.99");
+    benchmarkRequest.setParameter(BenchmarkConfiguration.START_DATE, "06/15/2015");
+    benchmarkRequest.setParameterValues(BenchmarkConfiguration.QUANTITY + "_1", new String[] {"1", "2", "3", "4", "5"});
+
+    request = benchmarkRequest.getRequest();
+  }
+
+  /**
+    Extracts a string value.
+    @return String Value.
+  */
+  @Benchmark
+  public String getString() {
+    return ParameterExtractor.getString(request, BenchmarkConfiguration.NAME);
+  }
+
+  /**
+    Extracts an integer value.
+    @return Integer Value.
+  */
+  @Benchmark
+  public Integer getInteger() {
+    return ParameterExtractor.getInteger(request, BenchmarkConfiguration.QUANTITY);
+  }
+
+  /**
+    Extracts a double value.
+    @return Double Value.
+  */
+  @Benchmark
+  public Double getDouble() {
+    return ParameterExtractor.getDouble(request, BenchmarkConfiguration.PRICE);
+  }
+
+  /**
+    Extracts a date value.
+    @return Date Value.
+  */
+  @Benchmark
+  public Date getDate() {
+    return ParameterExtractor.getDate(request, BenchmarkConfiguration.START_DATE);
+  }
+
+  /**
+    Extracts a value based on the configured field type.
+    @return Object Value.
+  */
+  @Benchmark
+  public Object getObject() {
+    return ParameterExtractor.getObject(request, BenchmarkConfiguration.QUANTITY);
+  }
+
+  /**
+    Extracts multiple integer values from a field instance.
+    @return List Values.
+  */
+  @Benchmark
+  public List<Integer> getIntegers() {
+    return ParameterExtractor.getIntegers(request, BenchmarkConfiguration.QUANTITY, 1);
+  }
+
+}
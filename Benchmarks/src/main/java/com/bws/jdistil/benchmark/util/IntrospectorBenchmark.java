@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.util;
+
+import com.bws.jdistil.benchmark.datasource.SampleDataObject;
+import com.bws.jdistil.core.util.Introspector;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Measures property access through the introspector used when populating data objects
+  and transferring request data.
+  @author - Bryan Snipes
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntrospectorBenchmark {
+
+  /**
+    Target data object.
+  */
+  private SampleDataObject dataObject = null;
+
+  /**
+    Quantity value set by each invocation.
+  */
+  private Integer quantity = Integer.valueOf(42);
+
+  /**
+    Creates the target data object.
+  */
+  @Setup
+  public void setup() {
+
+    dataObject = new SampleDataObject();
+    dataObject.setName("Sample");
+    dataObject.setQuantity(Integer.valueOf(1));
+  }
+
+  /**
+    Gets a string property value.
+    @return Object Property value.
+  */
+  @Benchmark
+  public Object getPropertyValue() {
+    return Introspector.getPropertyValue(dataObject, "Name");
+  }
+
+  /**
+    Sets an integer property value.
+    @return SampleDataObject Target data object.
+  */
+  @Benchmark
+  public SampleDataObject setPropertyValue() {
+
+    Introspector.setPropertyValue(dataObject, "Quantity", quantity);
+
+    return dataObject;
+  }
+
+  /**
+    Resolves the property class.
+    @return Class Property class.
+  */
+  @Benchmark
+  public Class<?> getPropertyClass() {
+    return Introspector.getPropertyClass(SampleDataObject.class, "Quantity");
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.benchmark.validation;
+
+import com.bws.jdistil.benchmark.BenchmarkConfiguration;
+import com.bws.jdistil.benchmark.servlet.BenchmarkRequest;
+import com.bws.jdistil.core.configuration.ConfigurationManager;
+import com.bws.jdistil.core.process.ProcessContext;
+import com.bws.jdistil.core.process.ProcessException;
+import com.bws.jdistil.core.security.DefaultSecurityManager;
+import com.bws.jdistil.core.validation.DefaultValidator;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+  Measures page validation of valid and invalid request data using configured field rules.
+  @author - Bryan Snipes
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultValidatorBenchmark {
+
+  /**
+    Validator.
+  */
+  private BenchmarkValidator validator = new BenchmarkValidator();
+
+  /**
+    Process context containing valid data.
+  */
+  private ProcessContext validContext = null;
+
+  /**
+    Process context containing invalid data.
+  */
+  private ProcessContext invalidContext = null;
+
+  /**
+    Creates process contexts for valid and invalid requests.
+  */
+  @Setup
+  public void setup() {
+
+    // Create valid request
+    BenchmarkRequest validRequest = new BenchmarkRequest(Locale.US);
+    validRequest.setParameter(BenchmarkConfiguration.NAME, "Sample");
+    validRequest.setParameter(BenchmarkConfiguration.EMAIL, "sample@example.com");
+    validRequest.setParameter(BenchmarkConfiguration.QUANTITY, "125");
+    validRequest.setParameter(BenchmarkConfiguration.PRICE, "19.99");
+    validRequest.setParameter(BenchmarkConfiguration.START_DATE, "06/15/2015");
+
+    // Create invalid request
+    BenchmarkRequest invalidRequest = new BenchmarkRequest(Locale.US);
+    invalidRequest.setParameter(BenchmarkConfiguration.EMAIL, "sample");
+    invalidRequest.setParameter(BenchmarkConfiguration.QUANTITY, "-125");
+    invalidRequest.setParameter(BenchmarkConfiguration.PRICE, "19.999");
+
+    // Create process contexts
+    validContext = new ProcessContext(validRequest.getRequest(), null,
+        ConfigurationManager.getAction(BenchmarkConfiguration.SAVE), null, new DefaultSecurityManager());
+    invalidContext = new ProcessContext(invalidRequest.getRequest(), null,
+        ConfigurationManager.getAction(BenchmarkConfiguration.SAVE), null, new DefaultSecurityManager());
+  }
+
+  /**
+    Validates a request containing valid data.
+    @return List Error messages.
+  */
+  @Benchmark
+  public List<String> validatePageValid() throws ProcessException {
+    return validator.validatePage(validContext);
+  }
+
+  /**
+    Validates a request containing invalid data.
+    @return List Error messages.
+  */
+  @Benchmark
+  public List<String> validatePageInvalid() throws ProcessException {
+    return validator.validatePage(invalidContext);
+  }
+
+/**
+  Validator exposing page validation to benchmarks.
+*/
+private static class BenchmarkValidator extends DefaultValidator {
+
+  /**
+    Creates a new BenchmarkValidator object.
+  */
+  public BenchmarkValidator() {
+    super();
+  }
+
+  /**
+    Validates page data and returns a list of all encountered errors.
+    @see com.bws.jdistil.core.validation.DefaultValidator#validatePage
+  */
+  @Override
+  public List<String> validatePage(ProcessContext processContext) throws ProcessException {
+    return super.validatePage(processContext);
+  }
+
+}
+
+}
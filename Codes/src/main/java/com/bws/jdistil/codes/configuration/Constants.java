@@ -26,6 +26,11 @@ public class Constants extends com.bws.jdistil.core.configuration.Constants {
 
   public static final String PROPERTY_FILE = "codes";
 
+  /**
+    Constant defining the code cache time to live property key.
+  */
+  public static final String CODE_CACHE_TTL = "code.cache.ttl";
+
   protected Constants() {
     super();
   }
@@ -18,11 +18,13 @@
  */
 package com.bws.jdistil.codes.lookup;
 
+import com.bws.jdistil.core.datasource.DataSourceException;
 import com.bws.jdistil.core.datasource.database.BoundDatabaseDataManager;
 import com.bws.jdistil.core.datasource.database.ColumnBinding;
 import com.bws.jdistil.core.datasource.database.DataObjectBinding;
 import com.bws.jdistil.core.datasource.database.DbUtil;
 import com.bws.jdistil.core.datasource.database.IdColumnBinding;
+import com.bws.jdistil.core.security.IDomain;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -72,4 +74,41 @@ public class CategoryManager extends BoundDatabaseDataManager<Integer, Category>
   	return false;
   }
   
+
+  /**
+    Saves a category and discards cached categories and codes for all domains.
+    @see com.bws.jdistil.core.datasource.IDataManager#save(com.bws.jdistil.core.datasource.DataObject, boolean, IDomain)
+  */
+  @Override
+  public void save(Category category, boolean checkDirty, IDomain domain) throws DataSourceException {
+
+    try {
+      // Save category
+      super.save(category, checkDirty, domain);
+    }
+    finally {
+
+      // Discard cached categories
+      CodeCache.invalidateAll();
+    }
+  }
+
+  /**
+    Deletes a category and discards cached categories and codes for all domains.
+    @see com.bws.jdistil.core.datasource.IDataManager#delete(com.bws.jdistil.core.datasource.DataObject, IDomain)
+  */
+  @Override
+  public void delete(Category category, IDomain domain) throws DataSourceException {
+
+    try {
+      // Delete category
+      super.delete(category, domain);
+    }
+    finally {
+
+      // Discard cached categories
+      CodeCache.invalidateAll();
+    }
+  }
+
 }
@@ -0,0 +1,360 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.codes.lookup;
+
+import com.bws.jdistil.codes.configuration.Constants;
+import com.bws.jdistil.core.configuration.ConfigurationManager;
+import com.bws.jdistil.core.datasource.DataSourceException;
+import com.bws.jdistil.core.factory.IFactory;
+import com.bws.jdistil.core.resource.ResourceUtil;
+import com.bws.jdistil.core.security.IDomain;
+import com.bws.jdistil.core.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+  Static class caching categories and codes for each domain. Each domain is loaded on first use, or
+  explicitly using the preload method, into an immutable snapshot so reads never lock or query the
+  database. Snapshots are discarded when codes or categories are saved or deleted through the code
+  and category managers and are reloaded after a configurable time to live so changes made by other
+  servers are eventually visible. Deleted codes are cached so list fields can display deleted codes
+  that are still selected. Cached data objects are shared and must not be modified.
+  @author Bryan Snipes
+*/
+public class CodeCache {
+
+  /**
+    Default snapshot time to live in seconds.
+  */
+  private static final long DEFAULT_TIME_TO_LIVE = 300;
+
+  /**
+    Snapshot time to live in nanoseconds.
+  */
+  private static final long timeToLive = loadTimeToLive() * 1000000000L;
+
+  /**
+    Map of snapshots keyed by domain ID.
+  */
+  private static final ConcurrentMap<Integer, Snapshot> snapshots = new ConcurrentHashMap<Integer, Snapshot>();
+
+  /**
+    Invalidation generation.
+  */
+  private static final AtomicLong generation = new AtomicLong();
+
+  /**
+    Creates a new CodeCache object.
+  */
+  private CodeCache() {
+    super();
+  }
+
+  /**
+    Returns the configured snapshot time to live or a default time to live if none is configured.
+    @return long Snapshot time to live in seconds.
+  */
+  private static long loadTimeToLive() {
+
+    // Initialize return value
+    long seconds = DEFAULT_TIME_TO_LIVE;
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(Constants.CODE_CACHE_TTL);
+
+    if (!StringUtil.isEmpty(value)) {
+
+      try {
+        // Parse configured value
+        long configuredValue = Long.parseLong(value.trim());
+
+        // Only use positive values
+        if (configuredValue > 0) {
+          seconds = configuredValue;
+        }
+      }
+      catch (NumberFormatException numberFormatException) {
+
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.codes.lookup");
+        logger.logp(Level.WARNING, CodeCache.class.getName(), "loadTimeToLive", "Invalid code cache time to live", numberFormatException);
+      }
+    }
+
+    return seconds;
+  }
+
+  /**
+    Loads categories and codes for a domain if they are not already cached.
+    @param domain Target domain.
+  */
+  public static void preload(IDomain domain) throws DataSourceException {
+    getSnapshot(domain);
+  }
+
+  /**
+    Returns all categories ordered by name.
+    @param domain Target domain.
+    @return List Unmodifiable list of categories.
+  */
+  public static List<Category> getCategories(IDomain domain) throws DataSourceException {
+    return getSnapshot(domain).categories;
+  }
+
+  /**
+    Returns the codes for a category ordered by name.
+    @param categoryId Category ID.
+    @param domain Target domain.
+    @return List Unmodifiable list of codes or an empty list if the category has no codes.
+  */
+  public static List<Code> getCodes(Integer categoryId, IDomain domain) throws DataSourceException {
+
+    // Lookup codes
+    List<Code> codes = getSnapshot(domain).codesByCategory.get(categoryId);
+
+    return codes == null ? Collections.<Code>emptyList() : codes;
+  }
+
+  /**
+    Returns a code using a code ID.
+    @param codeId Code ID.
+    @param domain Target domain.
+    @return Code Code or null if no code exists for the code ID.
+  */
+  public static Code getCode(Integer codeId, IDomain domain) throws DataSourceException {
+    return getSnapshot(domain).codesById.get(codeId);
+  }
+
+  /**
+    Discards cached categories and codes for a domain.
+    @param domain Target domain.
+  */
+  public static void invalidate(IDomain domain) {
+
+    // Advance generation and discard snapshot
+    generation.incrementAndGet();
+    snapshots.remove(getDomainId(domain));
+  }
+
+  /**
+    Discards cached categories and codes for all domains.
+  */
+  public static void invalidateAll() {
+
+    // Advance generation and discard all snapshots
+    generation.incrementAndGet();
+    snapshots.clear();
+  }
+
+  /**
+    Returns the domain ID used to key snapshots.
+    @param domain Target domain.
+    @return Integer Domain ID.
+  */
+  private static Integer getDomainId(IDomain domain) {
+    return domain == null ? IDomain.DEFAULT_ID : domain.getId();
+  }
+
+  /**
+    Returns the current snapshot for a domain, loading a new snapshot if none is cached or the cached snapshot expired.
+    @param domain Target domain.
+    @return Snapshot Snapshot.
+  */
+  private static Snapshot getSnapshot(IDomain domain) throws DataSourceException {
+
+    // Get domain ID
+    Integer domainId = getDomainId(domain);
+
+    // Lookup snapshot
+    Snapshot snapshot = snapshots.get(domainId);
+
+    if (snapshot == null || snapshot.isExpired(System.nanoTime())) {
+
+      // Get generation before any data is read
+      long loadGeneration = generation.get();
+
+      // Load snapshot
+      Snapshot loadedSnapshot = loadSnapshot(domain);
+
+      // Register snapshot replacing any expired snapshot
+      if (snapshot == null) {
+
+        Snapshot existingSnapshot = snapshots.putIfAbsent(domainId, loadedSnapshot);
+
+        if (existingSnapshot != null) {
+          loadedSnapshot = existingSnapshot;
+        }
+      }
+      else {
+        snapshots.replace(domainId, snapshot, loadedSnapshot);
+      }
+
+      // Discard snapshot if invalidated while loading
+      if (loadGeneration != generation.get()) {
+        snapshots.remove(domainId, loadedSnapshot);
+      }
+
+      snapshot = loadedSnapshot;
+    }
+
+    return snapshot;
+  }
+
+  /**
+    Loads categories and codes for a domain into a new snapshot.
+    @param domain Target domain.
+    @return Snapshot Snapshot.
+  */
+  private static Snapshot loadSnapshot(IDomain domain) throws DataSourceException {
+
+    // Initialize categories and codes
+    List<Category> categories = null;
+    List<Code> codes = null;
+
+    // Get category manager factory
+    IFactory categoryManagerFactory = ConfigurationManager.getFactory(CategoryManager.class);
+
+    // Create category manager
+    CategoryManager categoryManager = (CategoryManager)categoryManagerFactory.create();
+
+    try {
+      // Retrieve all categories
+      categories = categoryManager.find(domain);
+    }
+    finally {
+
+      // Recycle category manager
+      categoryManagerFactory.recycle(categoryManager);
+    }
+
+    // Get code manager factory
+    IFactory codeManagerFactory = ConfigurationManager.getFactory(CodeManager.class);
+
+    // Create code manager
+    CodeManager codeManager = (CodeManager)codeManagerFactory.create();
+
+    try {
+      // Retrieve all codes including deleted codes
+      codes = codeManager.findIncludingDeleted(domain);
+    }
+    finally {
+
+      // Recycle code manager
+      codeManagerFactory.recycle(codeManager);
+    }
+
+    return new Snapshot(categories, codes, System.nanoTime() + timeToLive);
+  }
+
+/**
+  Immutable snapshot of categories and codes for a single domain.
+*/
+private static class Snapshot {
+
+  /**
+    Unmodifiable list of categories ordered by name.
+  */
+  private final List<Category> categories;
+
+  /**
+    Unmodifiable lists of codes ordered by name keyed by category ID.
+  */
+  private final Map<Integer, List<Code>> codesByCategory;
+
+  /**
+    Codes keyed by code ID.
+  */
+  private final Map<Integer, Code> codesById;
+
+  /**
+    Expiration time in nanoseconds.
+  */
+  private final long expirationTime;
+
+  /**
+    Creates a new Snapshot object.
+    @param categories List of categories.
+    @param codes List of codes ordered by name.
+    @param expirationTime Expiration time in nanoseconds.
+  */
+  public Snapshot(List<Category> categories, List<Code> codes, long expirationTime) {
+
+    // Create sorted category list
+    List<Category> sortedCategories = new ArrayList<Category>();
+
+    if (categories != null) {
+      sortedCategories.addAll(categories);
+      Collections.sort(sortedCategories);
+    }
+
+    // Group codes by category and ID
+    Map<Integer, List<Code>> groupedCodes = new HashMap<Integer, List<Code>>();
+    Map<Integer, Code> keyedCodes = new HashMap<Integer, Code>();
+
+    if (codes != null) {
+
+      for (Code code : codes) {
+
+        // Get category codes
+        List<Code> categoryCodes = groupedCodes.get(code.getCategoryId());
+
+        if (categoryCodes == null) {
+          categoryCodes = new ArrayList<Code>();
+          groupedCodes.put(code.getCategoryId(), categoryCodes);
+        }
+
+        // Add code
+        categoryCodes.add(code);
+        keyedCodes.put(code.getId(), code);
+      }
+    }
+
+    // Make category code lists unmodifiable
+    for (Map.Entry<Integer, List<Code>> entry : groupedCodes.entrySet()) {
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+    }
+
+    // Set properties
+    this.categories = Collections.unmodifiableList(sortedCategories);
+    this.codesByCategory = Collections.unmodifiableMap(groupedCodes);
+    this.codesById = Collections.unmodifiableMap(keyedCodes);
+    this.expirationTime = expirationTime;
+  }
+
+  /**
+    Returns a value indicating whether or not the snapshot has expired.
+    @param currentTime Current time in nanoseconds.
+    @return boolean Expired indicator.
+  */
+  public boolean isExpired(long currentTime) {
+    return currentTime - expirationTime >= 0;
+  }
+
+}
+
+}
@@ -108,4 +108,58 @@ public class CodeManager extends BoundDatabaseDataManager<Integer, Code> {
     return codes;
   }
 
+  /**
+   * Returns a list of all codes including deleted codes ordered by name. Deleted codes are included
+   * so previously selected codes can still be displayed, matching the codes returned by findByCategory.
+   * @param domain Target domain.
+   * @return List List of code data objects.
+   * @throws DataSourceException
+   */
+  public List<Code> findIncludingDeleted(IDomain domain) throws DataSourceException {
+    
+    // Create deleted condition including deleted and active codes
+    ValueCondition deletedCondition = new ValueCondition("bws_code", "is_deleted", Operators.IS_NOT_NULL, DbUtil.BOOLEAN, null);
+    
+    // Create order condition
+    OrderCondition orderCondition = new OrderCondition("bws_code", "name", FieldValues.SORT_ASCENDING);
+    
+    return find(null, deletedCondition, orderCondition, domain);
+  }
+
+  /**
+    Saves a code and discards cached codes for the domain.
+    @see com.bws.jdistil.core.datasource.IDataManager#save(com.bws.jdistil.core.datasource.DataObject, boolean, IDomain)
+  */
+  @Override
+  public void save(Code code, boolean checkDirty, IDomain domain) throws DataSourceException {
+
+    try {
+      // Save code
+      super.save(code, checkDirty, domain);
+    }
+    finally {
+
+      // Discard cached codes
+      CodeCache.invalidate(domain);
+    }
+  }
+
+  /**
+    Deletes a code and discards cached codes for the domain.
+    @see com.bws.jdistil.core.datasource.IDataManager#delete(com.bws.jdistil.core.datasource.DataObject, IDomain)
+  */
+  @Override
+  public void delete(Code code, IDomain domain) throws DataSourceException {
+
+    try {
+      // Delete code
+      super.delete(code, domain);
+    }
+    finally {
+
+      // Discard cached codes
+      CodeCache.invalidate(domain);
+    }
+  }
+
 }
@@ -19,16 +19,16 @@
 package com.bws.jdistil.codes.tag;
 
 import com.bws.jdistil.codes.lookup.Code;
-import com.bws.jdistil.codes.lookup.CodeManager;
-import com.bws.jdistil.core.configuration.ConfigurationManager;
+import com.bws.jdistil.codes.lookup.CodeCache;
 import com.bws.jdistil.core.datasource.DataSourceException;
-import com.bws.jdistil.core.factory.IFactory;
 import com.bws.jdistil.core.security.IDomain;
 import com.bws.jdistil.core.tag.UiException;
 import com.bws.jdistil.core.tag.data.DisplayMultipleListField;
 import com.bws.jdistil.core.tag.data.IListItem;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -77,64 +77,70 @@ public class CodeDisplayMultipleField extends DisplayMultipleListField {
     String methodName = "getItems";
 
     // Initialize return value
-    @SuppressWarnings("unchecked")
-		List<IListItem> items = (List<IListItem>)pageContext.getRequest().getAttribute(categoryId.toString());
+    List<IListItem> items = null;
     
-    if (items == null) {
-    	
-      // Retrieve values
-      if (categoryId != null) {
+    if (categoryId != null) {
+
+      try {
+        // Retrieve cached codes
+        items = Collections.<IListItem>unmodifiableList(CodeCache.getCodes(categoryId, getCurrentDomain()));
+      }
+      catch (DataSourceException dataSourceException) {
         
-        // Initialize code manager
-        CodeManager codeManager = null;
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.codes.tag");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Building Code Display Field", dataSourceException);
 
-        // Check for a registered factory
-        IFactory codeManagerFactory = ConfigurationManager.getFactory(CodeManager.class);
+        throw new UiException(methodName + ":" + dataSourceException.getMessage());
+      }
+    }
 
-        // Create code manager
-        codeManager = (CodeManager)codeManagerFactory.create();
+    return items;
+  }
 
-        // Initialize codes list
-        List<Code> codes = null;
-        
-        // Get current domain
-        IDomain domain = getCurrentDomain();
-        
-        try {
-          // Retrieve codes
-          codes = codeManager.findByCategory(categoryId, domain);
-        }
-        catch (DataSourceException dataSourceException) {
-          
-          // Post error message
-          Logger logger = Logger.getLogger("com.bws.jdistil.codes.tag");
-          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Building Code Display Field", dataSourceException);
+  /**
+   * Returns the cached codes matching a collection of field values using code ID lookups.
+   * @see com.bws.jdistil.core.tag.data.DisplayMultipleListField#findItems
+   */
+  protected List<IListItem> findItems(List<IListItem> items, Collection<Object> fieldValues) throws UiException, JspException {
 
-          throw new UiException(methodName + ":" + dataSourceException.getMessage());
-        }
-        finally {
+    // Set method name
+    String methodName = "findItems";
 
-          // Recycle code manager
-          codeManagerFactory.recycle(codeManager);
-        }
-          
-        if (codes != null) {
-          
-          // Create list of items
-          items = new ArrayList<IListItem>();
-          
-          // Add codes to list of items
-          for (Code code : codes) {
-            items.add(code);
+    // Create list of codes
+    List<Code> codes = new ArrayList<Code>();
+
+    try {
+      // Get current domain
+      IDomain domain = getCurrentDomain();
+
+      for (Object fieldValue : fieldValues) {
+
+        if (fieldValue instanceof Integer) {
+
+          // Lookup cached code
+          Code code = CodeCache.getCode((Integer)fieldValue, domain);
+
+          // Only use codes belonging to the category
+          if (code != null && categoryId.equals(code.getCategoryId()) && !codes.contains(code)) {
+            codes.add(code);
           }
-          
-          // Store items for future reference
-          pageContext.getRequest().setAttribute(categoryId.toString(), items);
         }
       }
     }
+    catch (DataSourceException dataSourceException) {
+      
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.codes.tag");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Building Code Display Field", dataSourceException);
 
-    return items;
+      throw new UiException(methodName + ":" + dataSourceException.getMessage());
+    }
+
+    // Order codes by name to match list item order
+    Collections.sort(codes);
+
+    return new ArrayList<IListItem>(codes);
   }
 
 }
@@ -18,17 +18,13 @@
  */
 package com.bws.jdistil.codes.tag;
 
-import com.bws.jdistil.codes.lookup.Code;
-import com.bws.jdistil.codes.lookup.CodeManager;
-import com.bws.jdistil.core.configuration.ConfigurationManager;
+import com.bws.jdistil.codes.lookup.CodeCache;
 import com.bws.jdistil.core.datasource.DataSourceException;
-import com.bws.jdistil.core.factory.IFactory;
-import com.bws.jdistil.core.security.IDomain;
 import com.bws.jdistil.core.tag.UiException;
 import com.bws.jdistil.core.tag.data.IListItem;
 import com.bws.jdistil.core.tag.data.ListField;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -77,60 +73,21 @@ public class CodeListField extends ListField {
     String methodName = "getItems";
 
     // Initialize return value
-    @SuppressWarnings("unchecked")
-		List<IListItem> items = (List<IListItem>)pageContext.getRequest().getAttribute(categoryId.toString());
+    List<IListItem> items = null;
     
-    if (items == null) {
-    
-      // Retrieve values
-      if (categoryId != null) {
-        
-        // Initialize code manager
-        CodeManager codeManager = null;
-
-        // Check for a registered factory
-        IFactory codeManagerFactory = ConfigurationManager.getFactory(CodeManager.class);
-
-        // Create code manager
-        codeManager = (CodeManager)codeManagerFactory.create();
+    if (categoryId != null) {
 
-        // Initialize codes list
-        List<Code> codes = null;
-        
-        // Get current domain
-        IDomain domain = getCurrentDomain();
+      try {
+        // Retrieve cached codes
+        items = Collections.<IListItem>unmodifiableList(CodeCache.getCodes(categoryId, getCurrentDomain()));
+      }
+      catch (DataSourceException dataSourceException) {
         
-        try {
-          // Retrieve codes
-          codes = codeManager.findByCategory(categoryId, domain);
-        }
-        catch (DataSourceException dataSourceException) {
-          
-          // Post error message
-          Logger logger = Logger.getLogger("com.bws.jdistil.codes.tag");
-          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Building List Field", dataSourceException);
-
-          throw new UiException(methodName + ":" + dataSourceException.getMessage());
-        }
-        finally {
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.codes.tag");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Building List Field", dataSourceException);
 
-          // Recycle code manager
-          codeManagerFactory.recycle(codeManager);
-        }
-          
-        if (codes != null) {
-          
-          // Create list of items
-          items = new ArrayList<IListItem>();
-          
-          // Add codes to list of items
-          for (Code code : codes) {
-            items.add(code);
-          }
-          
-          // Store items for future reference
-          pageContext.getRequest().setAttribute(categoryId.toString(), items);
-        }
+        throw new UiException(methodName + ":" + dataSourceException.getMessage());
       }
     }
 
@@ -89,7 +89,7 @@ public class ViewCodes extends ViewDataObjects<Integer, Code> {
     super(CodeManager.class, filterCriteriaDefinition, AttributeNames.CODES, PageIds.CODES, 10,
     		FieldIds.CODE_CURRENT_PAGE_NUMBER, FieldIds.CODE_SELECTED_PAGE_NUMBER,
         ActionIds.VIEW_CODES_PREVIOUS_PAGE, ActionIds.VIEW_CODES_NEXT_PAGE, ActionIds.VIEW_CODES_SELECT_PAGE,
-        retrieveDataActionIds, refreshDataActionIds, false);
+        retrieveDataActionIds, refreshDataActionIds, false, true);
   }
 
   /**
@@ -28,6 +28,7 @@ public class AttributeNames {
   public static final String TOTAL_PAGES = "TOTAL_PAGES";
   public static final String TOTAL_ITEMS = "TOTAL_ITEMS";
   public static final String CURRENT_PAGE_NUMBER = "CURRENT_PAGE_NUMBER";
+  public static final String PARAMETER_INDEX = "PARAMETER_INDEX";
   
   protected AttributeNames() {
     super();
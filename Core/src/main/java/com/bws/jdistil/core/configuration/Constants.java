@@ -99,11 +99,126 @@ public class Constants {
   */
   public static final String CONNECTION_PROVIDER_FACTORY = "connection.provider.factory";
   
+  /**
+    Constant defining the connection pool JDBC URL property key prefix.
+  */
+  public static final String CONNECTION_POOL_URL = "connection.pool.url";
+  
+  /**
+    Constant defining the connection pool user property key prefix.
+  */
+  public static final String CONNECTION_POOL_USER = "connection.pool.user";
+  
+  /**
+    Constant defining the connection pool password property key prefix.
+  */
+  public static final String CONNECTION_POOL_PASSWORD = "connection.pool.password";
+  
+  /**
+    Constant defining the connection pool maximum size property key.
+  */
+  public static final String CONNECTION_POOL_MAX_SIZE = "connection.pool.max.size";
+  
+  /**
+    Constant defining the connection pool acquire timeout property key.
+  */
+  public static final String CONNECTION_POOL_ACQUIRE_TIMEOUT = "connection.pool.acquire.timeout";
+  
+  /**
+    Constant defining the connection pool validation timeout property key.
+  */
+  public static final String CONNECTION_POOL_VALIDATION_TIMEOUT = "connection.pool.validation.timeout";
+  
+  /**
+    Constant defining the connection pool idle timeout property key.
+  */
+  public static final String CONNECTION_POOL_IDLE_TIMEOUT = "connection.pool.idle.timeout";
+  
+  /**
+    Constant defining the connection pool maximum lifetime property key.
+  */
+  public static final String CONNECTION_POOL_MAX_LIFETIME = "connection.pool.max.lifetime";
+  
   /**
     Constant defining the sequence provider factory property key.
   */
   public static final String SEQUENCE_PROVIDER_FACTORY = "sequence.provider.factory";
   
+  /**
+    Constant defining the sequence block size property key.
+  */
+  public static final String SEQUENCE_BLOCK_SIZE = "sequence.block.size";
+  
+  /**
+    Constant defining the SQL dialect factory property key.
+  */
+  public static final String SQL_DIALECT_FACTORY = "sql.dialect.factory";
+  
+  /**
+    Constant defining the in list maximum size property key.
+  */
+  public static final String IN_LIST_MAX_SIZE = "in.list.max.size";
+  
+  /**
+    Constant defining the in list mode property key.
+  */
+  public static final String IN_LIST_MODE = "in.list.mode";
+  
+  /**
+    Constant defining the stream fetch size property key.
+  */
+  public static final String STREAM_FETCH_SIZE = "stream.fetch.size";
+  
+  /**
+    Constant defining the stream chunk size property key.
+  */
+  public static final String STREAM_CHUNK_SIZE = "stream.chunk.size";
+
+  /**
+    Constant defining the data object cache size property key.
+  */
+  public static final String DATA_OBJECT_CACHE_SIZE = "data.object.cache.size";
+
+  /**
+    Constant defining the data object cache time to live property key.
+  */
+  public static final String DATA_OBJECT_CACHE_TTL = "data.object.cache.ttl";
+
+  /**
+    Constant defining the data object cache version validation property key.
+  */
+  public static final String DATA_OBJECT_CACHE_VALIDATE = "data.object.cache.validate";
+
+  /**
+    Constant defining the data object fetch strategy property key.
+  */
+  public static final String DATA_OBJECT_FETCH_STRATEGY = "data.object.fetch.strategy";
+
+  /**
+    Constant defining the credential hashing thread count property key.
+  */
+  public static final String CREDENTIAL_HASH_THREADS = "credential.hash.threads";
+
+  /**
+    Constant defining the credential hashing queue size property key.
+  */
+  public static final String CREDENTIAL_HASH_QUEUE_SIZE = "credential.hash.queue.size";
+
+  /**
+    Constant defining the credential hashing timeout property key.
+  */
+  public static final String CREDENTIAL_HASH_TIMEOUT = "credential.hash.timeout";
+
+  /**
+    Constant defining the credential hashing algorithm property key.
+  */
+  public static final String CREDENTIAL_HASH_ALGORITHM = "credential.hash.algorithm";
+
+  /**
+    Constant defining the credential hashing iterations property key.
+  */
+  public static final String CREDENTIAL_HASH_ITERATIONS = "credential.hash.iterations";
+  
   /**
     Constant defining the security manager factory property key.
   */
@@ -114,6 +229,11 @@ public class Constants {
   */
   public static final String VALIDATOR_FACTORY = "validator.factory";
 
+  /**
+    Constant defining the pooled factory thread cache property key.
+  */
+  public static final String FACTORY_THREAD_CACHE = "factory.thread.cache";
+
   /**
     Constant defining the default page size property key.
   */
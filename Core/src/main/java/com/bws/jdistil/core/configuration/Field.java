@@ -27,6 +27,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
   Class defining field configuration information.
@@ -114,6 +116,11 @@ public class Field {
   */
   private String defaultDescription = null;
 
+  /**
+    Descriptions keyed by locale.
+  */
+  private final ConcurrentMap<Locale, String> descriptions = new ConcurrentHashMap<Locale, String>();
+
   /**
     Data converter.
   */
@@ -184,6 +191,35 @@ public class Field {
   */
   public String getDescription(Locale locale) {
 
+    // Resolve description without caching if no locale is specified
+    if (locale == null) {
+      return loadDescription(locale);
+    }
+
+    // Lookup cached description
+    String description = descriptions.get(locale);
+
+    if (description == null) {
+
+      // Resolve description
+      description = loadDescription(locale);
+
+      // Cache description
+      if (description != null) {
+        descriptions.putIfAbsent(locale, description);
+      }
+    }
+
+    return description;
+  }
+
+  /**
+    Resolves the description for a given locale using the description resources.
+    @param locale - Locale.
+    @return String - Description.
+  */
+  private String loadDescription(Locale locale) {
+
     // Initialize return value
     String description = null;
 
@@ -129,8 +129,14 @@ public class CurrencyConverter implements IConverter {
       locale = Locale.getDefault();
     }
       
-    // Create locale specific currency formatter
-    NumberFormat currencyFormatter = createCurrencyFormatter(locale);
+    // Lookup cached currency formatter
+    NumberFormat currencyFormatter = (NumberFormat)FormatCache.get(Formats.CURRENCY_FORMAT, locale);
+    
+    if (currencyFormatter == null) {
+
+      // Create and cache locale specific currency formatter
+      currencyFormatter = (NumberFormat)FormatCache.put(Formats.CURRENCY_FORMAT, locale, createCurrencyFormatter(locale));
+    }
     
     return currencyFormatter;
   }
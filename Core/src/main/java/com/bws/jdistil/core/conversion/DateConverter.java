@@ -21,7 +21,7 @@ package com.bws.jdistil.core.conversion;
 import com.bws.jdistil.core.util.StringUtil;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -134,16 +134,16 @@ public class DateConverter implements IConverter {
     	
     	if (date == null) {
     		
-      	try {
-        	
-          // Get locale specific date formatter
-          DateFormat dateFormatter = getDateFormatter(locale);
-          
-          // Attempt to parse date
-          date = dateFormatter.parse(value);
-        }
-        catch (ParseException parseException) {
-          System.out.println("Error parsing locale specific date: " + parseException.getMessage());
+        // Get locale specific date formatter
+        DateFormat dateFormatter = getDateFormatter(locale);
+        
+        // Attempt to parse date without throwing an exception on failure
+        ParsePosition parsePosition = new ParsePosition(0);
+        Date parsedDate = dateFormatter.parse(value, parsePosition);
+        
+        // Verify a value was parsed
+        if (parsePosition.getIndex() > 0) {
+          date = parsedDate;
         }
     	}
     }
@@ -164,16 +164,16 @@ public class DateConverter implements IConverter {
     // Check for valid string
     if (!StringUtil.isEmpty(value)) {
   
-      try {
-      	
-        // Get standard date formatter
-        DateFormat dateFormatter = getStandardDateFormatter();
-        
-        // Attempt to parse date
-        date = dateFormatter.parse(value);
-      }
-      catch (ParseException parseException) {
-        System.out.println("Error parsing standard date: " + parseException.getMessage());
+      // Get standard date formatter
+      DateFormat dateFormatter = getStandardDateFormatter();
+      
+      // Attempt to parse date without throwing an exception on failure
+      ParsePosition parsePosition = new ParsePosition(0);
+      Date parsedDate = dateFormatter.parse(value, parsePosition);
+      
+      // Verify a value was parsed
+      if (parsePosition.getIndex() > 0) {
+        date = parsedDate;
       }
     }
   
@@ -192,8 +192,14 @@ public class DateConverter implements IConverter {
       locale = Locale.getDefault();
     }
       
-    // Create locale specific date formatter
-    DateFormat dateFormatter = createDateFormatter(locale);
+    // Lookup cached date formatter
+    DateFormat dateFormatter = (DateFormat)FormatCache.get(Formats.DATE_FORMAT, locale);
+    
+    if (dateFormatter == null) {
+
+      // Create and cache locale specific date formatter
+      dateFormatter = (DateFormat)FormatCache.put(Formats.DATE_FORMAT, locale, createDateFormatter(locale));
+    }
     
     return dateFormatter;
   }
@@ -204,8 +210,14 @@ public class DateConverter implements IConverter {
   */
   private DateFormat getStandardDateFormatter() {
    
-    // Create standard date formatter
-    DateFormat dateFormatter = createStandardDateFormatter();
+    // Lookup cached standard date formatter
+    DateFormat dateFormatter = (DateFormat)FormatCache.get(STANDARD_DATE_FORMAT, null);
+    
+    if (dateFormatter == null) {
+
+      // Create and cache standard date formatter
+      dateFormatter = (DateFormat)FormatCache.put(STANDARD_DATE_FORMAT, null, createStandardDateFormatter());
+    }
     
     return dateFormatter;
   }
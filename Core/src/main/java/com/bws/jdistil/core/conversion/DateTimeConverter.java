@@ -21,7 +21,7 @@ package com.bws.jdistil.core.conversion;
 import com.bws.jdistil.core.util.StringUtil;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -35,7 +35,7 @@ public class DateTimeConverter implements IConverter {
   /**
    * Standard date time format.
    */
-  private static final String STANDARD_DATE_TIME_FORMAT = "MM/dd/yyyyTHH:mm";
+  private static final String STANDARD_DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm";
   
   /**
    * Singleton instance.
@@ -134,15 +134,16 @@ public class DateTimeConverter implements IConverter {
     	
     	if (date == null) {
     		
-      	try {
-          // Get locale specific date time formatter
-          DateFormat dateTimeFormatter = getDateTimeFormatter(locale);
-          
-          // Attempt to parse date time
-          date = dateTimeFormatter.parse(value);
-        }
-        catch (ParseException parseException) {
-          System.out.println("Error parsing date time: " + parseException.getMessage());
+        // Get locale specific date time formatter
+        DateFormat dateTimeFormatter = getDateTimeFormatter(locale);
+        
+        // Attempt to parse date time without throwing an exception on failure
+        ParsePosition parsePosition = new ParsePosition(0);
+        Date parsedDate = dateTimeFormatter.parse(value, parsePosition);
+        
+        // Verify a value was parsed
+        if (parsePosition.getIndex() > 0) {
+          date = parsedDate;
         }
     	}
     }
@@ -163,16 +164,16 @@ public class DateTimeConverter implements IConverter {
     // Check for valid string
     if (!StringUtil.isEmpty(value)) {
   
-      try {
-      	
-        // Get standard date time formatter
-        DateFormat dateTimeFormatter = getStandardDateTimeFormatter();
-        
-        // Attempt to parse date time
-        date = dateTimeFormatter.parse(value);
-      }
-      catch (ParseException parseException) {
-        System.out.println("Error parsing standard date time: " + parseException.getMessage());
+      // Get standard date time formatter
+      DateFormat dateTimeFormatter = getStandardDateTimeFormatter();
+      
+      // Attempt to parse date time without throwing an exception on failure
+      ParsePosition parsePosition = new ParsePosition(0);
+      Date parsedDate = dateTimeFormatter.parse(value, parsePosition);
+      
+      // Verify a value was parsed
+      if (parsePosition.getIndex() > 0) {
+        date = parsedDate;
       }
     }
   
@@ -191,8 +192,14 @@ public class DateTimeConverter implements IConverter {
       locale = Locale.getDefault();
     }
       
-    // Create locale specific date time formatter
-    DateFormat dateTimeFormatter = createDateTimeFormatter(locale);
+    // Lookup cached date time formatter
+    DateFormat dateTimeFormatter = (DateFormat)FormatCache.get(Formats.DATE_TIME_FORMAT, locale);
+    
+    if (dateTimeFormatter == null) {
+
+      // Create and cache locale specific date time formatter
+      dateTimeFormatter = (DateFormat)FormatCache.put(Formats.DATE_TIME_FORMAT, locale, createDateTimeFormatter(locale));
+    }
     
     return dateTimeFormatter;
   }
@@ -203,8 +210,14 @@ public class DateTimeConverter implements IConverter {
   */
   private DateFormat getStandardDateTimeFormatter() {
    
-    // Create standard date time formatter
-    DateFormat dateTimeFormatter = createStandardDateTimeFormatter();
+    // Lookup cached standard date time formatter
+    DateFormat dateTimeFormatter = (DateFormat)FormatCache.get(STANDARD_DATE_TIME_FORMAT, null);
+    
+    if (dateTimeFormatter == null) {
+
+      // Create and cache standard date time formatter
+      dateTimeFormatter = (DateFormat)FormatCache.put(STANDARD_DATE_TIME_FORMAT, null, createStandardDateTimeFormatter());
+    }
     
     return dateTimeFormatter;
   }
@@ -129,8 +129,14 @@ public class DecimalConverter implements IConverter {
       locale = Locale.getDefault();
     }
       
-    // Create locale specific decimal formatter
-    NumberFormat decimalFormatter = createDecimalFormatter(locale);
+    // Lookup cached decimal formatter
+    NumberFormat decimalFormatter = (NumberFormat)FormatCache.get(Formats.DECIMAL_FORMAT, locale);
+    
+    if (decimalFormatter == null) {
+
+      // Create and cache locale specific decimal formatter
+      decimalFormatter = (NumberFormat)FormatCache.put(Formats.DECIMAL_FORMAT, locale, createDecimalFormatter(locale));
+    }
     
     return decimalFormatter;
   }
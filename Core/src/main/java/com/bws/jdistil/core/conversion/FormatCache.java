@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.conversion;
+
+import java.text.Format;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+  Static class caching fully configured formatters by format type and locale. Cached formatters are
+  prototypes which are never used directly since formatters are not thread safe. Callers receive
+  a copy of the prototype which avoids repeated locale data lookups, format resource lookups and
+  pattern compilation each time a value is formatted or parsed.
+  @author - Bryan Snipes
+*/
+public class FormatCache {
+
+  /**
+    Formatter prototypes keyed by format type and locale.
+  */
+  private static final ConcurrentMap<String, Format> prototypes = new ConcurrentHashMap<String, Format>();
+
+  /**
+    Creates a new FormatCache object.  Defined with private access to prevent instantiation.
+  */
+  private FormatCache() {
+    super();
+  }
+
+  /**
+    Returns a copy of the cached formatter for a format type and locale.
+    @param type Format type.
+    @param locale Locale or null for locale independent formats.
+    @return Format Copy of cached formatter or null if no formatter is cached.
+  */
+  public static Format get(String type, Locale locale) {
+
+    // Lookup prototype
+    Format prototype = prototypes.get(getKey(type, locale));
+
+    return prototype == null ? null : (Format)prototype.clone();
+  }
+
+  /**
+    Caches a formatter for a format type and locale if no formatter is already cached and
+    returns a copy of the cached formatter.
+    @param type Format type.
+    @param locale Locale or null for locale independent formats.
+    @param formatter Fully configured formatter.
+    @return Format Copy of cached formatter.
+  */
+  public static Format put(String type, Locale locale, Format formatter) {
+
+    // Cache formatter unless another thread already cached one
+    Format prototype = prototypes.putIfAbsent(getKey(type, locale), formatter);
+
+    if (prototype == null) {
+      prototype = formatter;
+    }
+
+    return (Format)prototype.clone();
+  }
+
+  /**
+    Removes all cached formatters so formatters are recreated using current format resources.
+    Use Messages.clear when message resources are also reloaded so cached message text is
+    cleared along with parsed messages.
+  */
+  public static void clear() {
+    prototypes.clear();
+  }
+
+  /**
+    Returns a cache key for a format type and locale.
+    @param type Format type.
+    @param locale Locale.
+    @return String Cache key.
+  */
+  private static String getKey(String type, Locale locale) {
+    return locale == null ? type : type + "_" + locale.toString();
+  }
+
+}
@@ -129,8 +129,14 @@ public class NumberConverter implements IConverter {
       locale = Locale.getDefault();
     }
       
-    // Create locale specific number formatter
-    NumberFormat numberFormatter = createNumberFormatter(locale);
+    // Lookup cached number formatter
+    NumberFormat numberFormatter = (NumberFormat)FormatCache.get(Formats.NUMBER_FORMAT, locale);
+    
+    if (numberFormatter == null) {
+
+      // Create and cache locale specific number formatter
+      numberFormatter = (NumberFormat)FormatCache.put(Formats.NUMBER_FORMAT, locale, createNumberFormatter(locale));
+    }
     
     return numberFormatter;
   }
@@ -129,8 +129,14 @@ public class PercentageConverter implements IConverter {
       locale = Locale.getDefault();
     }
       
-    // Create locale specific percentage formatter
-    NumberFormat percentageFormatter = createPercentageFormatter(locale);
+    // Lookup cached percentage formatter
+    NumberFormat percentageFormatter = (NumberFormat)FormatCache.get(Formats.PERCENTAGE_FORMAT, locale);
+    
+    if (percentageFormatter == null) {
+
+      // Create and cache locale specific percentage formatter
+      percentageFormatter = (NumberFormat)FormatCache.put(Formats.PERCENTAGE_FORMAT, locale, createPercentageFormatter(locale));
+    }
   
     return percentageFormatter;
   }
@@ -21,7 +21,7 @@ package com.bws.jdistil.core.conversion;
 import com.bws.jdistil.core.util.StringUtil;
 
 import java.text.DateFormat;
-import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -134,16 +134,16 @@ public class TimeConverter implements IConverter {
     	
     	if (date == null) {
     		
-        try {
-
-        	// Get locale specific time formatter
-          DateFormat timeFormatter = getTimeFormatter(locale);
-          
-          // Attempt to parse time
-          date = timeFormatter.parse(value);
-        }
-        catch (ParseException parseException) {
-          System.out.println("Error parsing time: " + parseException.getMessage());
+        // Get locale specific time formatter
+        DateFormat timeFormatter = getTimeFormatter(locale);
+        
+        // Attempt to parse time without throwing an exception on failure
+        ParsePosition parsePosition = new ParsePosition(0);
+        Date parsedDate = timeFormatter.parse(value, parsePosition);
+        
+        // Verify a value was parsed
+        if (parsePosition.getIndex() > 0) {
+          date = parsedDate;
         }
     	}    	
     }
@@ -164,16 +164,16 @@ public class TimeConverter implements IConverter {
     // Check for valid string
     if (!StringUtil.isEmpty(value)) {
   
-      try {
-      	
-        // Get standard time formatter
-        DateFormat timeFormatter = getStandardTimeFormatter();
-        
-        // Attempt to parse time
-        date = timeFormatter.parse(value);
-      }
-      catch (ParseException parseException) {
-        System.out.println("Error parsing standard time: " + parseException.getMessage());
+      // Get standard time formatter
+      DateFormat timeFormatter = getStandardTimeFormatter();
+      
+      // Attempt to parse time without throwing an exception on failure
+      ParsePosition parsePosition = new ParsePosition(0);
+      Date parsedDate = timeFormatter.parse(value, parsePosition);
+      
+      // Verify a value was parsed
+      if (parsePosition.getIndex() > 0) {
+        date = parsedDate;
       }
     }
   
@@ -192,8 +192,14 @@ public class TimeConverter implements IConverter {
       locale = Locale.getDefault();
     }
       
-    // Create locale specific time formatter
-    DateFormat timeFormatter = createTimeFormatter(locale);
+    // Lookup cached time formatter
+    DateFormat timeFormatter = (DateFormat)FormatCache.get(Formats.TIME_FORMAT, locale);
+    
+    if (timeFormatter == null) {
+
+      // Create and cache locale specific time formatter
+      timeFormatter = (DateFormat)FormatCache.put(Formats.TIME_FORMAT, locale, createTimeFormatter(locale));
+    }
   
     return timeFormatter;
   }
@@ -204,8 +210,14 @@ public class TimeConverter implements IConverter {
   */
   private DateFormat getStandardTimeFormatter() {
    
-    // Create standard time formatter
-    DateFormat timeFormatter = createStandardTimeFormatter();
+    // Lookup cached standard time formatter
+    DateFormat timeFormatter = (DateFormat)FormatCache.get(STANDARD_TIME_FORMAT, null);
+    
+    if (timeFormatter == null) {
+
+      // Create and cache standard time formatter
+      timeFormatter = (DateFormat)FormatCache.put(STANDARD_TIME_FORMAT, null, createStandardTimeFormatter());
+    }
     
     return timeFormatter;
   }
@@ -24,6 +24,9 @@ import com.bws.jdistil.core.configuration.ObjectBinding;
 import com.bws.jdistil.core.util.Introspector;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -52,6 +55,17 @@ public abstract class DataObject<I> implements Serializable {
   */
   private Long version = Long.valueOf(1L);
 
+  /**
+    Persisted associate IDs and dependent data objects keyed by property name. Captured when
+    the data object is loaded or saved and used to identify associate and dependent changes.
+  */
+  private Map<String, Collection<?>> persistedValues = null;
+
+  /**
+    Associate and dependent property names excluded by the fetch group used to load the data object.
+  */
+  private Set<String> unloadedProperties = null;
+
   /**
     Creates a new DataObject object.
   */
@@ -128,6 +142,92 @@ public abstract class DataObject<I> implements Serializable {
     }
   }
 
+  /**
+    Indicates whether or not persisted values have been captured for the data object.
+    @return boolean - Persisted status.
+  */
+  public boolean isPersisted() {
+    return persistedValues != null;
+  }
+
+  /**
+    Returns the persisted values of an associate or dependent property.
+    @param propertyName - Property name.
+    @return Collection - Persisted values or null if values were not captured for the property.
+  */
+  public Collection<?> getPersistedValues(String propertyName) {
+
+    // Initialize return value
+    Collection<?> values = null;
+
+    // Lookup persisted values
+    if (persistedValues != null) {
+      values = persistedValues.get(propertyName);
+    }
+
+    return values;
+  }
+
+  /**
+    Marks the data object as persisted using the associate and dependent values currently
+    stored in the data source and resets the modified status.
+    @param newPersistedValues - Persisted values keyed by property name.
+  */
+  public void markPersisted(Map<String, Collection<?>> newPersistedValues) {
+    persistedValues = newPersistedValues;
+    isModified = false;
+  }
+
+  /**
+    Indicates whether or not an associate or dependent property has been loaded from the data source.
+    @param propertyName - Property name.
+    @return boolean - Loaded status.
+  */
+  public boolean isLoaded(String propertyName) {
+    return unloadedProperties == null || !unloadedProperties.contains(propertyName);
+  }
+
+  /**
+    Indicates whether or not any associate or dependent properties have not been loaded from the data source.
+    @return boolean - Unloaded properties indicator.
+  */
+  public boolean hasUnloadedProperties() {
+    return unloadedProperties != null && !unloadedProperties.isEmpty();
+  }
+
+  /**
+    Marks an associate or dependent property as not loaded from the data source. Unloaded properties
+    are ignored when the data object is saved.
+    @param propertyName - Property name.
+  */
+  public void markUnloaded(String propertyName) {
+
+    // Create unloaded properties if not already created
+    if (unloadedProperties == null) {
+      unloadedProperties = new HashSet<String>();
+    }
+
+    unloadedProperties.add(propertyName);
+  }
+
+  /**
+    Marks an associate or dependent property as loaded using the values currently stored in the data source.
+    @param propertyName - Property name.
+    @param newPersistedValues - Persisted values of the property.
+  */
+  public void markLoaded(String propertyName, Collection<?> newPersistedValues) {
+
+    // Remove unloaded property
+    if (unloadedProperties != null) {
+      unloadedProperties.remove(propertyName);
+    }
+
+    // Store persisted values
+    if (persistedValues != null) {
+      persistedValues.put(propertyName, newPersistedValues);
+    }
+  }
+
   /**
     Clears all properties.
   */
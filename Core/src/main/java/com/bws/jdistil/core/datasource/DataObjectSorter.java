@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+  Static class used to order data objects based on a list of data object IDs. A map of ID positions
+  is built once and data objects are placed using a stable counting sort so ordering is linear in the
+  number of data objects and IDs. Data objects with IDs not found in the ID list are placed first
+  in their original order.
+  @author - Bryan Snipes
+*/
+public class DataObjectSorter {
+
+  /**
+    Creates a new DataObjectSorter object.
+  */
+  private DataObjectSorter() {
+    super();
+  }
+
+  /**
+    Sorts a list of data objects in place based on the order of a given list of data object IDs.
+    @param dataObjects List of data objects.
+    @param ids List of data object IDs.
+  */
+  public static <I, T extends DataObject<I>> void sort(List<T> dataObjects, List<I> ids) {
+
+    if (dataObjects != null && dataObjects.size() > 1 && ids != null && !ids.isEmpty()) {
+
+      // Build ID position map using first occurrence of each ID
+      Map<I, Integer> positions = new HashMap<I, Integer>((int)(ids.size() / 0.75f) + 1);
+
+      int position = 0;
+
+      for (I id : ids) {
+        positions.putIfAbsent(id, Integer.valueOf(position++));
+      }
+
+      // Get number of data objects
+      int size = dataObjects.size();
+
+      // Create data object slots and slot counts - Slot zero is reserved for unknown IDs
+      int[] slots = new int[size];
+      int[] counts = new int[ids.size() + 2];
+
+      for (int index = 0; index < size; index++) {
+
+        // Get data object
+        T dataObject = dataObjects.get(index);
+
+        // Lookup position
+        Integer idPosition = dataObject == null ? null : positions.get(dataObject.getId());
+
+        // Set slot and increment slot count
+        int slot = idPosition == null ? 0 : idPosition.intValue() + 1;
+        slots[index] = slot;
+        counts[slot + 1]++;
+      }
+
+      // Convert counts to starting offsets
+      for (int index = 1; index < counts.length; index++) {
+        counts[index] += counts[index - 1];
+      }
+
+      // Place data objects in sorted order
+      Object[] sorted = new Object[size];
+
+      for (int index = 0; index < size; index++) {
+        sorted[counts[slots[index]]++] = dataObjects.get(index);
+      }
+
+      // Copy sorted data objects back to list
+      for (int index = 0; index < size; index++) {
+
+        @SuppressWarnings("unchecked")
+        T dataObject = (T)sorted[index];
+
+        dataObjects.set(index, dataObject);
+      }
+    }
+  }
+
+}
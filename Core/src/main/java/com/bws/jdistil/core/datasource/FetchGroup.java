@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource;
+
+import com.bws.jdistil.core.util.StringUtil;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+  Named or ad hoc set of associate and dependent properties loaded when data objects are found.
+  Property paths are associate or dependent property names optionally followed by nested dependent
+  property names separated by periods (e.g. Items.Details). A dependent property included without
+  nested paths is loaded with all of its dependents. Properties not included are left unloaded and
+  may be loaded later using a data manager. Fetch groups are immutable and can be shared.
+  @author Bryan Snipes
+  @see com.bws.jdistil.core.datasource.FilterCriteria#setFetchGroup
+*/
+public class FetchGroup {
+
+  /**
+    Fetch group loading no associate or dependent properties.
+  */
+  public static final FetchGroup NONE = new FetchGroup("none");
+
+  /**
+    Property path separator.
+  */
+  private static final char SEPARATOR = '.';
+
+  /**
+    Fetch group name.
+  */
+  private String name = null;
+
+  /**
+    Set of property paths.
+  */
+  private Set<String> propertyPaths = null;
+
+  /**
+    Creates a new FetchGroup object using a name and list of property paths.
+    @param name Fetch group name.
+    @param propertyPaths Property paths.
+  */
+  public FetchGroup(String name, String... propertyPaths) {
+    super();
+
+    // Set name
+    this.name = name;
+
+    // Create property paths
+    Set<String> paths = new LinkedHashSet<String>();
+
+    if (propertyPaths != null) {
+
+      for (String propertyPath : propertyPaths) {
+
+        if (!StringUtil.isEmpty(propertyPath)) {
+          paths.add(propertyPath.trim());
+        }
+      }
+    }
+
+    // Set property paths
+    this.propertyPaths = Collections.unmodifiableSet(paths);
+  }
+
+  /**
+    Creates a new FetchGroup object using a name and set of property paths.
+    @param name Fetch group name.
+    @param propertyPaths Set of property paths.
+  */
+  private FetchGroup(String name, Set<String> propertyPaths) {
+    super();
+
+    // Set name and property paths
+    this.name = name;
+    this.propertyPaths = Collections.unmodifiableSet(propertyPaths);
+  }
+
+  /**
+    Returns the fetch group name.
+    @return String Fetch group name or null for ad hoc fetch groups.
+  */
+  public String getName() {
+    return name;
+  }
+
+  /**
+    Returns the property paths.
+    @return Set Set of property paths.
+  */
+  public Set<String> getPropertyPaths() {
+    return propertyPaths;
+  }
+
+  /**
+    Returns a new fetch group containing the property paths of this fetch group and a given property path.
+    The new fetch group is an ad hoc fetch group without a name since its property paths no longer match
+    the named fetch group. This fetch group is returned if the property path is already included.
+    @param propertyPath Property path.
+    @return FetchGroup Fetch group.
+  */
+  public FetchGroup add(String propertyPath) {
+
+    // Initialize return value
+    FetchGroup fetchGroup = this;
+
+    if (!StringUtil.isEmpty(propertyPath) && !propertyPaths.contains(propertyPath.trim())) {
+
+      // Copy property paths
+      Set<String> paths = new LinkedHashSet<String>(propertyPaths);
+      paths.add(propertyPath.trim());
+
+      // Create ad hoc fetch group
+      fetchGroup = new FetchGroup(null, paths);
+    }
+
+    return fetchGroup;
+  }
+
+  /**
+    Returns a value indicating whether or not a property is included in the fetch group.
+    @param propertyName Associate or dependent property name.
+    @return boolean Included indicator.
+  */
+  public boolean includes(String propertyName) {
+
+    // Initialize return value
+    boolean isIncluded = false;
+
+    if (propertyName != null) {
+
+      for (String propertyPath : propertyPaths) {
+
+        if (propertyPath.equals(propertyName) || isNestedPath(propertyPath, propertyName)) {
+          isIncluded = true;
+          break;
+        }
+      }
+    }
+
+    return isIncluded;
+  }
+
+  /**
+    Returns the fetch group applied to the data objects of an included dependent property. A null
+    value is returned if the property is included without nested paths indicating all nested
+    properties are loaded.
+    @param propertyName Dependent property name.
+    @return FetchGroup Nested fetch group or null if all nested properties are loaded.
+  */
+  public FetchGroup getNestedGroup(String propertyName) {
+
+    // Initialize return value
+    FetchGroup fetchGroup = null;
+
+    if (!propertyPaths.contains(propertyName)) {
+
+      // Create nested property paths
+      Set<String> paths = new LinkedHashSet<String>();
+
+      for (String propertyPath : propertyPaths) {
+
+        if (isNestedPath(propertyPath, propertyName)) {
+          paths.add(propertyPath.substring(propertyName.length() + 1));
+        }
+      }
+
+      // Create nested fetch group
+      fetchGroup = new FetchGroup(name, paths);
+    }
+
+    return fetchGroup;
+  }
+
+  /**
+    Returns a value indicating whether or not a property path refers to a nested property of a given property.
+    @param propertyPath Property path.
+    @param propertyName Property name.
+    @return boolean Nested path indicator.
+  */
+  private static boolean isNestedPath(String propertyPath, String propertyName) {
+    return propertyPath.length() > propertyName.length() + 1 && propertyPath.startsWith(propertyName) &&
+        propertyPath.charAt(propertyName.length()) == SEPARATOR;
+  }
+
+}
@@ -39,6 +39,11 @@ public class FilterCriteria {
     List of order criterion.
   */
   private List<OrderCriterion> orderCriteria = new ArrayList<OrderCriterion>();
+
+  /**
+    Fetch group identifying the associate and dependent properties to load.
+  */
+  private FetchGroup fetchGroup = null;
   
   /**
     Creates a new FilterCriteria object.
@@ -114,4 +119,48 @@ public class FilterCriteria {
     return Collections.unmodifiableList(orderCriteria);
   }
   
+  /**
+    Sets the fetch group identifying the associate and dependent properties to load. All associate and
+    dependent properties are loaded if no fetch group is set.
+    @param fetchGroup - Fetch group.
+  */
+  public void setFetchGroup(FetchGroup fetchGroup) {
+    this.fetchGroup = fetchGroup;
+  }
+
+  /**
+    Adds an associate or dependent property path to the fetch group. An ad hoc fetch group initially
+    loading no associate or dependent properties is created if no fetch group is set.
+    @param propertyPath - Property path.
+  */
+  public void addFetchProperty(String propertyPath) {
+
+    if (!StringUtil.isEmpty(propertyPath)) {
+
+      // Create ad hoc fetch group if not already set
+      if (fetchGroup == null) {
+        fetchGroup = FetchGroup.NONE;
+      }
+
+      // Add property path
+      fetchGroup = fetchGroup.add(propertyPath);
+    }
+  }
+
+  /**
+    Returns a value indicating whether or not a fetch group exists.
+    @return boolean - Fetch group indicator.
+  */
+  public boolean hasFetchGroup() {
+    return fetchGroup != null;
+  }
+
+  /**
+    Returns the fetch group.
+    @return FetchGroup - Fetch group or null if all properties are loaded.
+  */
+  public FetchGroup getFetchGroup() {
+    return fetchGroup;
+  }
+  
 }
\ No newline at end of file
@@ -134,12 +134,56 @@ public interface IDataManager<I, T extends DataObject<I>> {
   
   /**
     Returns a list of data objects from a specified domain based on specified filter criteria information.
+    Only the associate and dependent properties in the fetch group of the filter criteria are loaded when one is set.
     @param filterCriteria Filter criteria.
     @param domain Target domain.
     @return List List of data objects.
   */
   public List<T> find(FilterCriteria filterCriteria, IDomain domain) throws DataSourceException;
 
+  /**
+    Returns a single page of data objects from a specified domain based on specified filter criteria information.
+    Only the data objects on the requested page are retrieved from the database. Data objects are ordered by the
+    order criteria of the filter criteria followed by data object ID so pages are stable between requests.
+    Only the associate and dependent properties in the fetch group of the filter criteria are loaded when one is set.
+    @param filterCriteria Filter criteria or null to page through all data objects.
+    @param offset Number of data objects to skip.
+    @param limit Maximum number of data objects to return.
+    @param domain Target domain.
+    @return List List of data objects.
+  */
+  public List<T> find(FilterCriteria filterCriteria, int offset, int limit, IDomain domain) throws DataSourceException;
+
+  /**
+    Returns the number of data objects in a specified domain matching specified filter criteria information.
+    @param filterCriteria Filter criteria or null to count all data objects.
+    @param domain Target domain.
+    @return int Number of data objects.
+  */
+  public int count(FilterCriteria filterCriteria, IDomain domain) throws DataSourceException;
+
+  /**
+    Returns the number of data objects in the default domain matching specified filter criteria information.
+    @param filterCriteria Filter criteria or null to count all data objects.
+    @return int Number of data objects.
+  */
+  public int count(FilterCriteria filterCriteria) throws DataSourceException;
+
+  /**
+    Returns a value indicating whether or not any data objects in a specified domain match specified filter criteria information.
+    @param filterCriteria Filter criteria or null to check for any data objects.
+    @param domain Target domain.
+    @return boolean Exists indicator.
+  */
+  public boolean exists(FilterCriteria filterCriteria, IDomain domain) throws DataSourceException;
+
+  /**
+    Returns a value indicating whether or not any data objects in the default domain match specified filter criteria information.
+    @param filterCriteria Filter criteria or null to check for any data objects.
+    @return boolean Exists indicator.
+  */
+  public boolean exists(FilterCriteria filterCriteria) throws DataSourceException;
+
   /**
     Returns a list of data object IDs from the default domain based on specified search criteria information.
     @param filterCriteria Filter criteria.
@@ -155,4 +199,40 @@ public interface IDataManager<I, T extends DataObject<I>> {
   */
   public List<I> findIds(FilterCriteria filterCriteria, IDomain domain) throws DataSourceException;
 
+  /**
+    Streams data objects from the default domain based on specified filter criteria information to a data object handler.
+    Data objects are retrieved using a forward only cursor and hydrated in chunks so memory use does not depend on the
+    number of data objects found. All database resources are closed before this method returns.
+    @param filterCriteria Filter criteria or null to stream all data objects.
+    @param handler Data object handler.
+  */
+  public void stream(FilterCriteria filterCriteria, IDataObjectHandler<T> handler) throws DataSourceException;
+
+  /**
+    Streams data objects from a specified domain based on specified filter criteria information to a data object handler.
+    Data objects are retrieved using a forward only cursor and hydrated in chunks so memory use does not depend on the
+    number of data objects found. All database resources are closed before this method returns.
+    @param filterCriteria Filter criteria or null to stream all data objects.
+    @param domain Target domain.
+    @param handler Data object handler.
+  */
+  public void stream(FilterCriteria filterCriteria, IDomain domain, IDataObjectHandler<T> handler) throws DataSourceException;
+
+  /**
+    Loads associate and dependent properties of data objects from the default domain that were not loaded
+    when the data objects were found. Properties that are already loaded are not reloaded.
+    @param dataObjects List of data objects.
+    @param fetchGroup Fetch group or null to load all unloaded properties.
+  */
+  public void load(List<T> dataObjects, FetchGroup fetchGroup) throws DataSourceException;
+
+  /**
+    Loads associate and dependent properties of data objects from a specified domain that were not loaded
+    when the data objects were found. Properties that are already loaded are not reloaded.
+    @param dataObjects List of data objects.
+    @param fetchGroup Fetch group or null to load all unloaded properties.
+    @param domain Target domain.
+  */
+  public void load(List<T> dataObjects, FetchGroup fetchGroup, IDomain domain) throws DataSourceException;
+
 }
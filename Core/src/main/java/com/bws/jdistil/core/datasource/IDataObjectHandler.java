@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource;
+
+/**
+  Interface defining a handler used to process data objects one at a time as they are streamed
+  from a data manager.
+  @author Bryan Snipes
+  @see com.bws.jdistil.core.datasource.IDataManager
+*/
+public interface IDataObjectHandler<T extends DataObject<?>> {
+
+  /**
+    Processes a single data object and returns a value indicating whether or not streaming should continue.
+    @param dataObject Data object.
+    @return boolean Indicates whether or not to continue streaming data objects.
+  */
+  public boolean handle(T dataObject) throws DataSourceException;
+
+}
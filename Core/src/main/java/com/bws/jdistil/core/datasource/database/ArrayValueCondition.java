@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database;
+
+import com.bws.jdistil.core.util.StringUtil;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+  Class representing a SQL list condition where all values are bound as a single array parameter.
+  Generates "column = any(?)" SQL text which is supported by databases such as PostgreSQL and H2.
+  @author - Bryan Snipes
+*/
+public class ArrayValueCondition implements IValueCondition {
+
+  /**
+    Table name.
+  */
+  private String tableName = null;
+
+  /**
+    Column name.
+  */
+  private String columnName = null;
+
+  /**
+    Parameter value type.
+  */
+  private int type = DbUtil.STRING;
+
+  /**
+    Collection of parameter values.
+  */
+  private Collection<?> values = null;
+
+  /**
+    Creates a new ArrayValueCondition object.
+    @param tableName - Table name.
+    @param columnName - Column name.
+    @param type - Parameter type.
+    @param values - Collection of parameter values.
+  */
+  public ArrayValueCondition(String tableName, String columnName, int type, Collection<?> values) {
+    super();
+
+    // Validate properties
+    if (StringUtil.isEmpty(tableName)) {
+      throw new IllegalArgumentException("Invalid null table name.");
+    }
+    if (StringUtil.isEmpty(columnName)) {
+      throw new IllegalArgumentException("Invalid null column name.");
+    }
+    if (values == null || values.isEmpty()) {
+      throw new IllegalArgumentException("Invalid empty list value.");
+    }
+
+    // Set properties
+    this.tableName = tableName;
+    this.columnName = columnName;
+    this.type = type;
+    this.values = values;
+  }
+
+  /**
+    Returns the SQL text represented by the value condition using a map of aliases.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#generateSql
+  */
+  public String generateSql(Map<String, String> aliases) {
+
+    // Initialize alias to table name
+    String alias = tableName;
+
+    // Attempt to get alias
+    if (aliases != null && aliases.containsKey(tableName)) {
+      alias = aliases.get(tableName);
+    }
+
+    return alias + "." + columnName + " = any(?)";
+  }
+
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases or parameter values.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    // Append column and array operator
+    shape.append(tableName).append(".").append(columnName).append(" = any");
+  }
+
+  /**
+    Sets parameter values using a given prepared statement.
+    @see com.bws.jdistil.core.datasource.database.IValueCondition#setParameters
+  */
+  public int setParameters(PreparedStatement sqlStatement, int index) throws SQLException {
+
+    // Create array using the statement's connection
+    Array array = sqlStatement.getConnection().createArrayOf(getTypeName(type), values.toArray());
+
+    // Set parameter
+    sqlStatement.setArray(index++, array);
+
+    // Return next parameter index
+    return index;
+  }
+
+  /**
+    Returns the SQL type name used to create arrays for a given parameter type.
+    @param type Parameter type.
+    @return String SQL type name.
+  */
+  private static String getTypeName(int type) {
+
+    // Initialize return value
+    String typeName = null;
+
+    switch (type) {
+      case DbUtil.BOOLEAN:
+        typeName = "boolean";
+        break;
+      case DbUtil.DATE:
+        typeName = "date";
+        break;
+      case DbUtil.TIME:
+        typeName = "time";
+        break;
+      case DbUtil.TIMESTAMP:
+        typeName = "timestamp";
+        break;
+      case DbUtil.BYTE:
+      case DbUtil.SHORT:
+        typeName = "smallint";
+        break;
+      case DbUtil.INTEGER:
+        typeName = "integer";
+        break;
+      case DbUtil.LONG:
+        typeName = "bigint";
+        break;
+      case DbUtil.FLOAT:
+        typeName = "real";
+        break;
+      case DbUtil.DOUBLE:
+        typeName = "double precision";
+        break;
+      default:
+        typeName = "varchar";
+        break;
+    }
+
+    return typeName;
+  }
+
+  /**
+ 		Returns a value indicating whether or not the value condition references a given table name.
+	  @param tableName Table name.
+	  @return boolean Referenced table indicator.
+	*/
+	public boolean isTableReferenced(String tableName) {
+		return tableName != null && tableName.equalsIgnoreCase(this.tableName);
+	}
+
+  /**
+   	Returns a value indicating whether or not the value condition references a given column name.
+    @param tableName Table name.
+    @param columnName Column name.
+    @return boolean Referenced column indicator.
+  */
+  public boolean isColumnReferenced(String tableName, String columnName) {
+  	return columnName != null && columnName.equalsIgnoreCase(this.columnName) && isTableReferenced(tableName);
+  }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+  List of prepared statements supporting JDBC batch execution. Consecutive parameter sets using identical
+  SQL text share a single batch statement, and a new batch statement is started whenever the SQL text
+  changes, so statements are executed in the order they were requested. Statements added directly to the
+  list are executed individually. Batch statements can require every parameter set to update at least one
+  row, which is used to detect rows changed or removed by other transactions.
+  @author Bryan Snipes
+*/
+public class BatchStatementList extends ArrayList<PreparedStatement> {
+
+  /**
+    Serial version UID.
+  */
+  private static final long serialVersionUID = -2918406529315246641L;
+
+  /**
+    Row required indicators keyed by batch statement used to identify statements requiring batch execution.
+  */
+  private Map<PreparedStatement, Boolean> batchStatements = new IdentityHashMap<PreparedStatement, Boolean>();
+
+  /**
+    SQL text of the last batch statement.
+  */
+  private String lastSql = null;
+
+  /**
+    Creates a new BatchStatementList object.
+  */
+  public BatchStatementList() {
+    super();
+  }
+
+  /**
+    Returns a batch statement for the given SQL text not requiring updated rows.
+    @see #getBatchStatement(Connection, String, boolean)
+  */
+  public PreparedStatement getBatchStatement(Connection connection, String sql) throws SQLException {
+    return getBatchStatement(connection, sql, false);
+  }
+
+  /**
+    Returns a batch statement for the given SQL text. The last statement in the list is returned if it
+    is a batch statement prepared for identical SQL text with the same row requirement. Otherwise a new
+    statement is prepared and appended to the list. Callers set parameters and call addBatch on the
+    returned statement.
+    @param connection Database connection.
+    @param sql SQL text.
+    @param isRowRequired Indicates whether or not each parameter set must update at least one row.
+    @return PreparedStatement Batch statement.
+  */
+  public PreparedStatement getBatchStatement(Connection connection, String sql, boolean isRowRequired) throws SQLException {
+
+    // Initialize return value
+    PreparedStatement statement = null;
+
+    // Get last statement
+    PreparedStatement lastStatement = isEmpty() ? null : get(size() - 1);
+
+    // Reuse last statement if it is a matching batch statement
+    if (lastStatement != null && sql.equals(lastSql) && 
+        Boolean.valueOf(isRowRequired).equals(batchStatements.get(lastStatement))) {
+
+      statement = lastStatement;
+    }
+    else {
+
+      // Create SQL statement
+      statement = connection.prepareStatement(sql);
+
+      // Register batch statement
+      batchStatements.put(statement, Boolean.valueOf(isRowRequired));
+      lastSql = sql;
+
+      // Add statement to list
+      add(statement);
+    }
+
+    return statement;
+  }
+
+  /**
+    Returns a value indicating whether or not a statement is a batch statement.
+    @param statement Prepared statement.
+    @return boolean Batch statement indicator.
+  */
+  public boolean isBatchStatement(PreparedStatement statement) {
+    return batchStatements.containsKey(statement);
+  }
+
+  /**
+    Executes all statements in list order using batch execution for batch statements. Execution stops
+    when a batch statement requiring updated rows does not update a row.
+    @return boolean Indicates whether or not every batch statement requiring updated rows updated a row.
+  */
+  public boolean execute() throws SQLException {
+
+    // Initialize return value
+    boolean isComplete = true;
+
+    for (PreparedStatement statement : this) {
+
+      // Get row required indicator
+      Boolean isRowRequired = batchStatements.get(statement);
+
+      if (isRowRequired != null) {
+
+        // Execute batch
+        int[] updateCounts = statement.executeBatch();
+
+        for (int updateCount : updateCounts) {
+
+          if (updateCount == Statement.EXECUTE_FAILED) {
+            throw new SQLException("Batch statement execution failed.");
+          }
+          else if (updateCount == 0 && isRowRequired.booleanValue()) {
+            isComplete = false;
+          }
+        }
+      }
+      else {
+        statement.executeUpdate();
+      }
+
+      // Stop processing when a required row was not updated
+      if (!isComplete) {
+        break;
+      }
+    }
+
+    return isComplete;
+  }
+
+}
@@ -19,17 +19,26 @@
 package com.bws.jdistil.core.datasource.database;
 
 import com.bws.jdistil.core.CoreException;
+import com.bws.jdistil.core.configuration.Constants;
 import com.bws.jdistil.core.datasource.DataObject;
+import com.bws.jdistil.core.datasource.DataObjectSorter;
 import com.bws.jdistil.core.datasource.DataSourceException;
+import com.bws.jdistil.core.datasource.FetchGroup;
 import com.bws.jdistil.core.datasource.FilterCriteria;
 import com.bws.jdistil.core.datasource.OrderCriterion;
 import com.bws.jdistil.core.datasource.ValueCriterion;
+import com.bws.jdistil.core.datasource.database.dialect.ISqlDialect;
+import com.bws.jdistil.core.datasource.database.dialect.SqlDialectFactory;
+import com.bws.jdistil.core.datasource.database.sequence.ILongSequenceProvider;
 import com.bws.jdistil.core.datasource.database.sequence.ISequenceProvider;
 import com.bws.jdistil.core.datasource.database.sequence.SequenceProviderFactory;
 import com.bws.jdistil.core.factory.IFactory;
+import com.bws.jdistil.core.resource.ResourceUtil;
 import com.bws.jdistil.core.security.IDomain;
 import com.bws.jdistil.core.util.Instantiator;
 import com.bws.jdistil.core.util.Introspector;
+import com.bws.jdistil.core.util.PropertyAccessor;
+import com.bws.jdistil.core.util.StringUtil;
 
 import java.io.IOException;
 import java.sql.Connection;
@@ -38,10 +47,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,10 +67,52 @@ import java.util.logging.Logger;
 */
 public abstract class BoundDatabaseDataManager<I, T extends DataObject<I>> extends DatabaseDataManager<I, T> {
 
+  /**
+    Find plan type selecting primary, associate and dependent data.
+  */
+  private static final String FIND_PLAN = "find";
+
+  /**
+    Find plan type selecting primary data only. Associates and dependents are loaded by key.
+  */
+  private static final String FIND_PRIMARY_PLAN = "findPrimary";
+
+  /**
+    Find plan type selecting primary IDs.
+  */
+  private static final String FIND_ID_PLAN = "findId";
+
+  /**
+    Find plan type selecting a single page of primary IDs.
+  */
+  private static final String FIND_PAGE_PLAN = "findPage";
+
+  /**
+    Plan type counting primary rows.
+  */
+  private static final String COUNT_PLAN = "count";
+
+  /**
+    Plan type checking for the existence of primary rows.
+  */
+  private static final String EXISTS_PLAN = "exists";
+
+  /**
+    Default data object cache time to live in seconds.
+  */
+  private static final long DEFAULT_CACHE_TTL = 300;
+
+  /**
+    Indicates whether or not cached data objects are validated against the persisted version. Validation
+    costs one version query per find, so a cached single data object only saves the associate and dependent
+    queries. Without validation cached data objects are trusted until they expire.
+  */
+  private static final boolean validateCachedVersion = !"false".equalsIgnoreCase(ResourceUtil.getString(Constants.DATA_OBJECT_CACHE_VALIDATE));
+
   /**
     Property binding registry keyed by class name.
   */
-  private static final Map<String, DataObjectBinding> bindingRegistry = new HashMap<String, DataObjectBinding>();
+  private static final Map<String, DataObjectBinding> bindingRegistry = new ConcurrentHashMap<String, DataObjectBinding>();
 
   /**
     Data object binding.
@@ -94,9 +152,20 @@ public abstract class BoundDatabaseDataManager<I, T extends DataObject<I>> exten
       // Create data object binding
       dataObjectBinding = createDataObjectBinding();
 
-      // Register data object binding
       if (dataObjectBinding != null) {
-        bindingRegistry.put(targetClassName, dataObjectBinding);
+
+        // Create data object cache if enabled for the binding
+        dataObjectBinding.setDataObjectCache(createDataObjectCache(dataObjectBinding));
+
+        // Apply configured fetch strategy
+        applyFetchStrategy(dataObjectBinding);
+
+        // Register data object binding unless registered concurrently
+        DataObjectBinding existingDataObjectBinding = bindingRegistry.putIfAbsent(targetClassName, dataObjectBinding);
+
+        if (existingDataObjectBinding != null) {
+          dataObjectBinding = existingDataObjectBinding;
+        }
       }
     }
 
@@ -104,1394 +173,3474 @@ public abstract class BoundDatabaseDataManager<I, T extends DataObject<I>> exten
   }
 
   /**
-    Validates a given data object for use with the data object manager.
-    @see DatabaseDataManager#isValidDataObject(DataObject)
+    Creates a data object cache for a data object binding if caching is enabled. Cache size and time to live
+    are configured globally and may be overridden for a single binding by appending the table name to the
+    property keys.
+    @param dataObjectBinding Data object binding.
+    @return DataObjectCache Data object cache or null if caching is disabled.
   */
-  @Override
-  protected boolean isValidDataObject(T dataObject) {
+  private static DataObjectCache createDataObjectCache(DataObjectBinding dataObjectBinding) {
 
     // Initialize return value
-    boolean isValid = false;
-
-    if (dataObject != null) {
+    DataObjectCache dataObjectCache = null;
 
-      // Get data object class name
-      String className = dataObject.getClass().getName();
+    // Get table name
+    String tableName = dataObjectBinding.getTableName();
 
-      // Get binding class name
-      String bindingClassName = dataObjectBinding.getDataObjectClass().getName();
+    // Get cache size and time to live
+    long cacheSize = loadCacheValue(Constants.DATA_OBJECT_CACHE_SIZE, tableName, 0);
+    long timeToLive = loadCacheValue(Constants.DATA_OBJECT_CACHE_TTL, tableName, DEFAULT_CACHE_TTL);
 
-      // Set valid indicator
-      isValid = className.equals(bindingClassName);
+    // Create cache
+    if (cacheSize > 0 && timeToLive > 0) {
+      dataObjectCache = new DataObjectCache(dataObjectBinding.getDataObjectClass(), (int)Math.min(cacheSize, Integer.MAX_VALUE), timeToLive);
     }
 
-    return isValid;
+    return dataObjectCache;
   }
 
   /**
-    Populates the ID using the database sequencer which deals only with integer type IDs.
-    This method must be overridden to handle data objects with non-integer IDs.
-    @see DatabaseDataManager#initializeId(DataObject, IDomain)
+    Returns a configured data object cache value for a table name, the global value if none is configured
+    for the table name or a default value if neither is configured.
+    @param key Property key.
+    @param tableName Table name.
+    @param defaultValue Default value.
+    @return long Cache value.
   */
-  @Override
-  protected void initializeId(DataObject<?> dataObject, IDomain domain) throws DataSourceException {
-
-    // Get table name
-    String tableName = dataObjectBinding.getTableName();
+  private static long loadCacheValue(String key, String tableName, long defaultValue) {
 
-    // Get ID column binding
-    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+    // Initialize return value
+    long cacheValue = defaultValue;
 
-    // Get column and property names
-    String columnName = idColumnBinding.getColumnName();
-    String propertyName = idColumnBinding.getPropertyName();
+    // Attempt to retrieve table specific value followed by global value
+    String value = ResourceUtil.getString(key + "." + tableName);
 
-    // Check for existing value
-    Object propertyValue = Introspector.getPropertyValue(dataObject, propertyName);
+    if (StringUtil.isEmpty(value)) {
+      value = ResourceUtil.getString(key);
+    }
 
-    // Only set values that haven't already been set
-    if (propertyValue == null) {
+    if (!StringUtil.isEmpty(value)) {
 
-    	// Get sequence provider factory
-    	IFactory sequenceProviderFactory = SequenceProviderFactory.getInstance();
-    	
-    	// Create sequence provider
-    	ISequenceProvider sequenceProvider = (ISequenceProvider)sequenceProviderFactory.create();
-    	
-    	try {
-        // Get next sequence value
-        int value = sequenceProvider.nextValue(tableName, columnName, domain);
+      try {
+        // Parse configured value
+        cacheValue = Long.parseLong(value.trim());
+      }
+      catch (NumberFormatException numberFormatException) {
 
-        // Set property value
-        Introspector.setPropertyValue(dataObject, propertyName, Integer.valueOf(value));
-    	}
-    	finally {
-    		
-    		// Recycle sequence provider
-    		sequenceProviderFactory.recycle(sequenceProvider);
-    	}
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.WARNING, BoundDatabaseDataManager.class.getName(), "loadCacheValue", "Invalid cache value for " + key, numberFormatException);
+      }
     }
+
+    return cacheValue;
   }
 
   /**
-    Returns a prepared statement used to check for duplicate data objects.
-    @see DatabaseDataManager#getDuplicateSql(DataObject, Connection, IDomain)
+    Applies the configured fetch strategy to a data object binding. A strategy configured for the binding's
+    table by appending the table name to the property key always applies. The global strategy only applies
+    to bindings that have not set their own strategy.
+    @param dataObjectBinding Data object binding.
   */
-  @Override
-  protected PreparedStatement getDuplicateSql(T dataObject, Connection connection, IDomain domain)
-      throws DataSourceException {
+  private static void applyFetchStrategy(DataObjectBinding dataObjectBinding) {
 
-    // Create SQL statements starting with current data object and binding
-    return getDuplicateSql(dataObject, dataObjectBinding, connection, domain);
+    // Attempt to retrieve table specific value
+    String value = ResourceUtil.getString(Constants.DATA_OBJECT_FETCH_STRATEGY + "." + dataObjectBinding.getTableName());
+
+    // Retrieve global value if binding has not set a strategy
+    if (StringUtil.isEmpty(value) && !dataObjectBinding.isFetchStrategyDefined()) {
+      value = ResourceUtil.getString(Constants.DATA_OBJECT_FETCH_STRATEGY);
+    }
+
+    if (!StringUtil.isEmpty(value)) {
+
+      // Get fetch strategy
+      String fetchStrategy = value.trim().toLowerCase();
+
+      if (fetchStrategy.equals(DataObjectBinding.JOIN_FETCH) || fetchStrategy.equals(DataObjectBinding.KEY_FETCH)) {
+        dataObjectBinding.setFetchStrategy(fetchStrategy);
+      }
+      else {
+
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.WARNING, BoundDatabaseDataManager.class.getName(), "applyFetchStrategy", "Invalid fetch strategy: " + value);
+      }
+    }
   }
 
   /**
-    Populates a list of prepared statements used to create a given data object.
-    @see DatabaseDataManager#getCreateSql(DataObject, Connection, IDomain, List)
+    Returns the data object cache used by this data manager.
+    @return DataObjectCache Data object cache or null if caching is disabled.
   */
-  @Override
-  protected void getCreateSql(T dataObject, Connection connection, IDomain domain,
-      List<PreparedStatement> sqlStatements) throws DataSourceException {
-
-    // Create SQL statements starting with current data object and binding
-    getCreateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+  public DataObjectCache getDataObjectCache() {
+    return dataObjectBinding.getDataObjectCache();
   }
 
   /**
-    Populates a list of prepared statements used to update a given data object.
-    @see DatabaseDataManager#getUpdateSql(DataObject, Connection, IDomain, List)
+    Returns the persisted data object bypassing the data object cache so dirty checks always compare
+    against the database.
+    @see DatabaseDataManager#findPersisted(Object, IDomain)
   */
   @Override
-  protected void getUpdateSql(T dataObject, Connection connection, IDomain domain,
-      List<PreparedStatement> sqlStatements) throws DataSourceException {
-
-    // Create SQL statements starting with current data object and binding
-    getUpdateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+  protected T findPersisted(I id, IDomain domain) throws DataSourceException {
+    return super.find(id, domain);
   }
 
   /**
-    Populates a list of prepared statements used to delete a given data object.
-    @see DatabaseDataManager#getDeleteSql(DataObject, Connection, IDomain, List)
+    Returns a data object using a given data object ID. A copy of a cached data object is returned if the
+    data object is cached and its version matches the persisted version, or if version validation is disabled.
+    Otherwise the data object is retrieved from the database and cached.
+		@see IDataManager#find(Object, IDomain)
   */
   @Override
-  protected void getDeleteSql(T dataObject, Connection connection, IDomain domain,
-      List<PreparedStatement> sqlStatements) throws DataSourceException {
+  public T find(I id, IDomain domain) throws DataSourceException {
 
-    // Create SQL statements starting with current data object and binding
-    getDeleteSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+    // Initialize return value
+    T dataObject = null;
+
+    // Get data object cache
+    DataObjectCache dataObjectCache = dataObjectBinding.getDataObjectCache();
+
+    if (dataObjectCache == null || id == null) {
+
+      // Retrieve data object
+      dataObject = super.find(id, domain);
+    }
+    else {
+
+      // Attempt to get current cached data object
+      dataObject = getCachedDataObjects(Collections.singletonList(id), domain).get(id);
+
+      if (dataObject == null) {
+
+        // Get generation before any data is read
+        long generation = dataObjectCache.getGeneration();
+
+        // Retrieve data object
+        dataObject = super.find(id, domain);
+
+        // Cache data object
+        if (dataObject != null) {
+          dataObjectCache.put(getCacheKey(id, domain), dataObject, generation);
+        }
+      }
+    }
+
+    return dataObject;
   }
 
   /**
-    Populates a list of prepared statements used to find a given data object.
-    @see DatabaseDataManager#getFindSql(Object, Connection, IDomain, List)
+    Returns a list of data objects using a list of data object IDs. Copies of cached data objects are
+    returned for IDs whose cached versions match the persisted versions, which are validated using a single
+    query unless version validation is disabled. All other data objects are retrieved from the database
+    together and cached.
+		@see IDataManager#find(List, IDomain)
   */
   @Override
-  protected void getFindSql(I id, Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) 
-  		throws DataSourceException {
+  public List<T> find(List<I> ids, IDomain domain) throws DataSourceException {
 
-    // Get table name
-    String tableName = dataObjectBinding.getTableName();
+    // Initialize return value
+    List<T> dataObjects = null;
 
-    // Get ID column binding
-    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+    // Get data object cache
+    DataObjectCache dataObjectCache = dataObjectBinding.getDataObjectCache();
 
-    // Get binding data
-    String columnName = idColumnBinding.getColumnName();
-    int columnType = idColumnBinding.getColumnType();
+    if (dataObjectCache == null || ids == null || ids.isEmpty()) {
 
-    // Create value condition
-    ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, columnType, id);
+      // Retrieve data objects
+      dataObjects = super.find(ids, domain);
+    }
+    else {
 
-    // Get SQL statements
-    getFindSql(valueCondition, null, connection, domain, sqlStatements);
+      // Get current cached data objects
+      Map<I, T> cachedDataObjects = getCachedDataObjects(ids, domain);
+
+      // Add cached data objects
+      dataObjects = new ArrayList<T>(cachedDataObjects.values());
+
+      // Get IDs of data objects not cached
+      List<I> missingIds = new ArrayList<I>();
+
+      for (I id : ids) {
+
+        if (id != null && !cachedDataObjects.containsKey(id)) {
+          missingIds.add(id);
+        }
+      }
+
+      if (!missingIds.isEmpty()) {
+
+        // Get generation before any data is read
+        long generation = dataObjectCache.getGeneration();
+
+        // Retrieve data objects
+        List<T> missingDataObjects = super.find(missingIds, domain);
+
+        if (missingDataObjects != null) {
+
+          for (T dataObject : missingDataObjects) {
+
+            // Cache data object
+            dataObjectCache.put(getCacheKey(dataObject.getId(), domain), dataObject, generation);
+
+            // Add data object
+            dataObjects.add(dataObject);
+          }
+        }
+      }
+
+      // Order data objects based on requested ID order
+      DataObjectSorter.sort(dataObjects, ids);
+    }
+
+    return dataObjects;
   }
 
   /**
-    Populates a list of prepared statements used to find all data objects.
-    @see DatabaseDataManager#getFindSql(Connection, IDomain, List)
+    Saves a data object and removes it from the data object cache.
+		@see IDataManager#save(DataObject, boolean, IDomain)
   */
   @Override
-  protected void getFindSql(Connection connection, IDomain domain, List<PreparedStatement> sqlStatements)
-      throws DataSourceException {
+  public void save(T dataObject, boolean checkDirty, IDomain domain) throws DataSourceException {
 
-    // Get SQL statements
-    this.getFindSql(null, null, connection, domain, sqlStatements);
+    try {
+      // Save data object
+      super.save(dataObject, checkDirty, domain);
+    }
+    finally {
+
+      // Remove cached data object
+      invalidate(dataObject, domain);
+    }
   }
 
   /**
-    Populates a list of prepared statements used to find a list of data objects.
-    @see DatabaseDataManager#getFindSql(List, Connection, IDomain, List)
+    Deletes a data object and removes it from the data object cache. Unloaded associates and dependents
+    are loaded first so they are deleted with the data object.
+		@see IDataManager#delete(DataObject, IDomain)
   */
   @Override
-  protected void getFindSql(List<I> ids, Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) 
-  		throws DataSourceException {
+  public void delete(T dataObject, IDomain domain) throws DataSourceException {
 
-    // Get table name
-    String tableName = dataObjectBinding.getTableName();
+    // Load unloaded associates and dependents
+    if (dataObject != null && !isLoaded(dataObject, dataObjectBinding)) {
+      load(Collections.singletonList(dataObject), null, domain);
+    }
 
-    // Get ID column binding
-    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+    try {
+      // Delete data object
+      super.delete(dataObject, domain);
+    }
+    finally {
 
-    // Get binding data
-    String columnName = idColumnBinding.getColumnName();
-    int columnType = idColumnBinding.getColumnType();
+      // Remove cached data object
+      invalidate(dataObject, domain);
+    }
+  }
 
-    // Initialize value conditions
-    ValueConditions valueConditions = null;
+  /**
+    Returns a value indicating whether or not all associate and dependent properties of a data object
+    and its dependents have been loaded.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @return boolean Loaded indicator.
+  */
+  private boolean isLoaded(DataObject<?> dataObject, DataObjectBinding dataObjectBinding) {
 
-    for (I id : ids) {
+    // Initialize return value
+    boolean isLoaded = !dataObject.hasUnloadedProperties();
 
-      // Create value condition
-      ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, columnType, id);
+    if (isLoaded) {
 
-      // Build value conditions
-      if (valueConditions == null) {
-        valueConditions = new ValueConditions(valueCondition);
-      }
-      else {
-        valueConditions.add(Operators.OR, valueCondition);
+      for (DependentBinding dependentBinding : dataObjectBinding.getDependentBindings()) {
+
+        // Get dependent data object binding
+        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+
+        for (DataObject<?> dependentDataObject : getDependentDataObjects(dataObject, dependentBinding)) {
+
+          if (isLoaded && !isLoaded(dependentDataObject, dependentDataObjectBinding)) {
+            isLoaded = false;
+          }
+        }
       }
     }
 
-    // Get SQL statements
-    getFindSql(valueConditions, null, connection, domain, sqlStatements);
+    return isLoaded;
   }
 
   /**
-    Returns a list of prepared statements used to find a list of data objects using search criteria.
-    @see DatabaseDataManager#getFindSql(FilterCriteria, Connection, IDomain, List)
+    Removes a data object from the data object cache if caching is enabled.
+    @param dataObject Data object.
+    @param domain Target domain.
   */
-  @Override
-  protected void getFindSql(FilterCriteria filterCriteria, Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) 
-  		throws DataSourceException {
-    
-  	// Set method name
-  	String methodName = "getFindSql";
-  	
-    // Initialize value conditions
-    ValueConditions valueConditions = null;
+  private void invalidate(T dataObject, IDomain domain) {
 
-    // Initialize order conditions
-    OrderConditions orderConditions = null;
+    // Get data object cache
+    DataObjectCache dataObjectCache = dataObjectBinding.getDataObjectCache();
 
-    if (filterCriteria != null) {
-      
-      // Get search conditions
-      List<ValueCriterion> valueCriteria = filterCriteria.getValueCriteria();
-  
-      for (ValueCriterion valueCriterion : valueCriteria) {
-      	
-	      // Create value condition
-	      ValueCondition valueCondition = getValueCondition(dataObjectBinding, valueCriterion);
-	      
-	      if (valueCondition != null) {
-	      	
-		      // Build value conditions
-		      if (valueConditions == null) {
-		        valueConditions = new ValueConditions(valueCondition);
-		      }
-		      else {
-		        valueConditions.add(Operators.AND, valueCondition);
-		      }
-	      }
-	      else {
-	      	
-	        // Post warning message
-	        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-	        logger.logp(Level.WARNING, getClass().getName(), methodName, "Value condition could not be created.");
-	      }
-      }
-  
-      // Get order criteria
-      List<OrderCriterion> orderCriteria = filterCriteria.getOrderCriteria();
+    if (dataObjectCache != null && dataObject != null && dataObject.getId() != null) {
+      dataObjectCache.remove(getCacheKey(dataObject.getId(), domain));
+    }
+  }
 
-      for (OrderCriterion orderCriterion : orderCriteria) {
+  /**
+    Returns a data object cache key using a data object ID and domain.
+    @param id Data object ID.
+    @param domain Target domain.
+    @return Object Cache key.
+  */
+  private Object getCacheKey(I id, IDomain domain) {
 
-        // Create order condition
-        OrderCondition orderCondition = getOrderCondition(dataObjectBinding, orderCriterion);
+    // Initialize return value
+    Object cacheKey = id;
 
-        if (orderCondition != null) {
-        	
-          // Build order conditions
-          if (orderConditions == null) {
-            orderConditions = new OrderConditions(orderCondition);
-          }
-          else {
-            orderConditions.add(orderCondition);
-          }
-        }
-	      else {
-	      	
-	        // Post warning message
-	        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-	        logger.logp(Level.WARNING, getClass().getName(), methodName, "Order condition could not be created.");
-	      }
-      }
+    if (isDomainAware()) {
+
+      // Get domain ID
+      Integer domainId = domain == null ? IDomain.DEFAULT_ID : domain.getId();
+
+      // Combine domain ID and data object ID
+      cacheKey = domainId + ":" + id;
     }
-    
-    // Retrieve find SQL
-    getFindSql(valueConditions, orderConditions, connection, domain, sqlStatements);
+
+    return cacheKey;
   }
-  
+
   /**
-    Returns a prepared statement used to find data object IDs using search criteria.
-    @see DatabaseDataManager#getFindIdSql(FilterCriteria, Connection, IDomain)
+    Returns copies of cached data objects whose cached versions match their persisted versions. Cached
+    versions are validated using a single query for all IDs and stale data objects are removed from the
+    cache before any snapshots are restored. Data objects without a bound version column are always
+    considered current.
+    @param ids List of data object IDs.
+    @param domain Target domain.
+    @return Map Current cached data objects keyed by data object ID.
   */
-  @Override
-  protected PreparedStatement getFindIdSql(FilterCriteria filterCriteria, Connection connection, IDomain domain)
-      throws DataSourceException {
-    
-  	// Set method name
-  	String methodName = "getFindIdSql";
-  	
-    // Initialize value conditions
-    ValueConditions valueConditions = null;
+  @SuppressWarnings("unchecked")
+  private Map<I, T> getCachedDataObjects(List<I> ids, IDomain domain) throws DataSourceException {
 
-    // Initialize order conditions
-    OrderConditions orderConditions = null;
+    // Initialize return value
+    Map<I, T> dataObjects = new HashMap<I, T>();
 
-    if (filterCriteria != null) {
-  
-      // Get search conditions
-      List<ValueCriterion> valueCriteria = filterCriteria.getValueCriteria();
-  
-      for (ValueCriterion valueCriterion : valueCriteria) {
-      	
-	      // Create value condition
-	      ValueCondition valueCondition = getValueCondition(dataObjectBinding, valueCriterion);
-	      
-	      if (valueCondition != null) {
-	      	
-		      // Build value conditions
-		      if (valueConditions == null) {
-		        valueConditions = new ValueConditions(valueCondition);
-		      }
-		      else {
-		        valueConditions.add(Operators.AND, valueCondition);
-		      }
-	      }
-	      else {
-	      	
-	        // Post warning message
-	        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-	        logger.logp(Level.WARNING, getClass().getName(), methodName, "Value condition could not be created.");
-	      }
-      }
-  
-      // Get order criteria
-      List<OrderCriterion> orderCriteria = filterCriteria.getOrderCriteria();
+    // Get data object cache
+    DataObjectCache dataObjectCache = dataObjectBinding.getDataObjectCache();
 
-      for (OrderCriterion orderCriterion : orderCriteria) {
+    // Create cache keys
+    Map<Object, I> cacheKeys = new LinkedHashMap<Object, I>();
 
-        // Create order condition
-        OrderCondition orderCondition = getOrderCondition(dataObjectBinding, orderCriterion);
+    for (I id : ids) {
 
-        if (orderCondition != null) {
-        	
-          // Build order conditions
-          if (orderConditions == null) {
-            orderConditions = new OrderConditions(orderCondition);
-          }
-          else {
-            orderConditions.add(orderCondition);
-          }
-        }
-	      else {
-	      	
-	        // Post warning message
-	        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-	        logger.logp(Level.WARNING, getClass().getName(), methodName, "Order condition could not be created.");
-	      }
+      if (id != null) {
+        cacheKeys.put(getCacheKey(id, domain), id);
       }
     }
-  
-    return getFindIdSql(valueConditions, orderConditions, connection, domain);
-  }
-  
-  /**
-   * Returns a value condition using a data object binding and value criterion. Initially processes
-   * the column and associate bindings of the given data object binding before recursively checking
-   * the data object binding of each dependent binding. Processing continues until a value condition 
-   * is created.
-   * @param dataObjectBinding Data object binding.
-   * @param valueCriterion Value criterion.
-   * @return ValueCondition Value condition created from the value criterion.
-   */
-  private ValueCondition getValueCondition(DataObjectBinding dataObjectBinding, ValueCriterion valueCriterion) {
 
-  	// Initialize return value
-  	ValueCondition valueCondition = null;
-  	
-    // Get property name
-    String propertyName = valueCriterion.getPropertyName();
+    // Get cached versions
+    Map<Object, Long> cachedVersions = dataObjectCache.getVersions(cacheKeys.keySet());
 
-    if (propertyName != null) {
+    if (!cachedVersions.isEmpty()) {
 
-    	// Get operator and field value
-      String operator = valueCriterion.getOperator();
-      Object fieldValue = valueCriterion.getPropertyValue();
-    	
-    	// Get column binding by property name
-      ColumnBinding columnBinding = dataObjectBinding.getColumnBindingByPropertyName(propertyName);
+      // Initialize persisted versions
+      Map<I, Long> persistedVersions = null;
 
-      if (columnBinding != null) {
-      	
-      	// Get table name
-      	String tableName = dataObjectBinding.getTableName();
-      	
-        // Get column name and type
-        String columnName = columnBinding.getColumnName();
-        int type = columnBinding.getColumnType();
+      // Get persisted versions if validating cached versions
+      if (validateCachedVersion && dataObjectBinding.getVersionBinding() != null) {
 
-        // Create value condition
-        valueCondition = new ValueCondition(tableName, columnName, operator, type, fieldValue);
+        // Get IDs of cached data objects
+        List<I> cachedIds = new ArrayList<I>();
+
+        for (Object cacheKey : cachedVersions.keySet()) {
+          cachedIds.add(cacheKeys.get(cacheKey));
+        }
+
+        persistedVersions = getPersistedVersions(cachedIds, domain);
       }
-      else {
-      	
-        // Get associate binding by property name
-        AssociateBinding associateBinding = dataObjectBinding.getAssociateBindingByPropertyName(propertyName);
 
-        if (associateBinding != null) {
-        	
-        	// Get table name
-        	String tableName = associateBinding.getTableName();
-        	
-        	// Get associate ID column binding
-        	IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
-        	
-          // Get column name and type
-          String columnName = associateIdColumnBinding.getColumnName();
-          int type = associateIdColumnBinding.getColumnType();
+      for (Map.Entry<Object, Long> cachedVersion : cachedVersions.entrySet()) {
 
-          // Create value condition
-          valueCondition = new ValueCondition(tableName, columnName, operator, type, fieldValue);
+        // Get cache key and ID
+        Object cacheKey = cachedVersion.getKey();
+        I id = cacheKeys.get(cacheKey);
+
+        // Initialize current indicator
+        boolean isCurrent = true;
+
+        if (persistedVersions != null) {
+
+          // Get persisted version
+          Long version = persistedVersions.get(id);
+          Long cachedValue = cachedVersion.getValue();
+
+          // Data objects no longer persisted are not current
+          isCurrent = persistedVersions.containsKey(id) && (version == null ? cachedValue == null : version.equals(cachedValue));
+        }
+
+        if (isCurrent) {
+
+          // Restore copy of cached data object
+          T dataObject = (T)dataObjectCache.get(cacheKey);
+
+          if (dataObject != null) {
+            dataObjects.put(id, dataObject);
+          }
         }
         else {
-        	
-        	// Get dependent bindings
-        	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
-        	
-        	if (dependentBindings != null) {
-        		
-        		for (DependentBinding dependentBinding : dependentBindings) {
-        			
-        			// Get dependent data object binding
-        			DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
-        			
-        			// Use dependent bindings to recursively attempt to obtain value condition 
-        			valueCondition = getValueCondition(dependentDataObjectBinding, valueCriterion);
-        			
-        			if (valueCondition != null) {
-        				break;
-        			}
-        		}
-        	}
+
+          // Discard stale data object
+          dataObjectCache.removeStale(cacheKey);
         }
       }
     }
 
-  	return valueCondition;
+    return dataObjects;
   }
-  
-  private OrderCondition getOrderCondition(DataObjectBinding dataObjectBinding, OrderCriterion orderCriterion) {
 
-  	// Initialize return value
-  	OrderCondition orderCondition = null;
-  	
-    // Get property name
-    String propertyName = orderCriterion.getPropertyName();
+  /**
+    Returns the persisted versions of data objects that are not virtually deleted using a single query.
+    @param ids List of data object IDs.
+    @param domain Target domain.
+    @return Map Persisted versions keyed by data object ID.
+  */
+  @SuppressWarnings("unchecked")
+  private Map<I, Long> getPersistedVersions(List<I> ids, IDomain domain) throws DataSourceException {
 
-    if (propertyName != null) {
+    // Set method name
+    String methodName = "getPersistedVersions";
 
-      // Get order criterion properties
-      String direction = orderCriterion.getDirection();
-    	
-    	// Get column binding by property name
-      ColumnBinding columnBinding = dataObjectBinding.getColumnBindingByPropertyName(propertyName);
+    // Initialize return value
+    Map<I, Long> versions = new HashMap<I, Long>();
 
-      if (columnBinding != null) {
-      	
-      	// Initialize table name and column name
-      	String tableName = null;
-      	String columnName = null;
-      	
-      	if (columnBinding.useReferenceOrdering()) {
-      		
-        	// Use reference table name and column name
-        	tableName = columnBinding.getReferenceTableName();
-        	columnName = columnBinding.getReferenceColumnName();
-      	}
-      	else {
-      		
-        	// Use binding table name and column name
-        	tableName = dataObjectBinding.getTableName();
-        	columnName = columnBinding.getColumnName();
-      	}
-      	
-        // Create order condition
-        orderCondition = new OrderCondition(tableName, columnName, direction);
-      }
-      else {
-      	
-        // Get associate binding by property name
-        AssociateBinding associateBinding = dataObjectBinding.getAssociateBindingByPropertyName(propertyName);
+    // Get table name, ID column binding and version binding
+    String tableName = dataObjectBinding.getTableName();
+    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+    ColumnBinding versionBinding = dataObjectBinding.getVersionBinding();
 
-        if (associateBinding != null) {
+    // Create ID condition excluding virtually deleted data objects
+    IValueCondition valueCondition = InListConditions.create(tableName, idColumnBinding.getColumnName(), 
+        idColumnBinding.getColumnType(), ids);
+    valueCondition = appendVirtualDeleteCondition(valueCondition);
 
-        	// Initialize table name and column name
-        	String tableName = null;
-        	String columnName = null;
+    // Get SQL plan cache and statement key using condition structure
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    StringBuffer shape = new StringBuffer(getStatementKey("version")).append("|");
+    valueCondition.appendShape(shape);
+    String statementKey = shape.toString();
 
-        	if (associateBinding.useReferenceOrdering()) {
-        		
-          	// Use reference table name and column name
-          	tableName = associateBinding.getReferenceTableName();
-          	columnName = associateBinding.getReferenceColumnName();
-        	}
-        	else {
-        		
-          	// Use associate binding table name
-          	tableName = associateBinding.getTableName();
-          	
-          	// Get associate ID column binding
-          	IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
-          	
-            // Use associate binding column name
-          	columnName = associateIdColumnBinding.getColumnName();
-        	}
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
 
-          // Create order condition
-          orderCondition = new OrderCondition(tableName, columnName, direction);
-        }
-        else {
-        	
-        	// Get dependent bindings
-        	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
-        	
-        	if (dependentBindings != null) {
-        		
-        		for (DependentBinding dependentBinding : dependentBindings) {
-        			
-        			// Get dependent data object binding
-        			DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
-        			
-        			// Use dependent bindings to recursively attempt to obtain order condition 
-        			orderCondition = getOrderCondition(dependentDataObjectBinding, orderCriterion);
-        			
-        			if (orderCondition != null) {
-        				break;
-        			}
-        		}
-        	}
-        }
-      }
-    }
+    if (sql == null) {
 
-  	return orderCondition;
-  }
-  
-  /**
-    Populates a list of prepared statements used to find all data object IDs.
-    @see DatabaseDataManager#getFindIdSql(Connection, IDomain)
-  */
-  @Override
-  protected PreparedStatement getFindIdSql(Connection connection, IDomain domain) throws DataSourceException {
-  
-    // Get SQL statement
-    return getFindIdSql(null, null, connection, domain);
-  }
-  
-  /**
-    Returns a prepared statement used to check for duplicate data objects.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
-    @param connection Database connection.
-    @param domain Target domain.
-    @return PreparedStatement Prepared statement.
-  */
-  private PreparedStatement getDuplicateSql(T dataObject, DataObjectBinding dataObjectBinding, Connection connection, IDomain domain)
-  		throws DataSourceException {
+      // Create aliases map
+      Map<String, String> aliases = new HashMap<String, String>();
+      aliases.put(tableName, "x");
 
-    // Initialize return value
+      // Build and cache SQL text
+      sql = "select x." + idColumnBinding.getColumnName() + ", x." + versionBinding.getColumnName() + 
+          " from " + tableName + " x where " + valueCondition.generateSql(aliases);
+      sql = sqlPlanCache.putStatement(statementKey, sql);
+    }
+
+    // Initialize processing variables
+    Connection connection = null;
     PreparedStatement sqlStatement = null;
+    ResultSet resultSet = null;
 
-    // Get table name
-    String tableName = dataObjectBinding.getTableName();
+    try {
+      // Retrieve database connection
+      connection = openConnection(domain);
 
-    // Initialize unique member processed indicator
-    boolean isUniqueMemberProcessed = false;
+      // Create SQL statement and set parameters
+      sqlStatement = connection.prepareStatement(sql);
+      valueCondition.setParameters(sqlStatement, 1);
 
-    // Initialize value conditions
-    ValueConditions valueConditions = null;
+      // Execute SQL statement
+      resultSet = sqlStatement.executeQuery();
 
-    // Get column bindings
-    Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+      while (resultSet.next()) {
 
-    // Process unique members first
-    for (ColumnBinding columnBinding : columnBindings) {
+        // Get ID
+        I id = (I)DbUtil.getObject(resultSet, 1, idColumnBinding.getColumnType());
 
-      if (columnBinding.getIsUniqueMember()) {
+        // Get persisted version
+        long value = resultSet.getLong(2);
+        Long version = resultSet.wasNull() ? null : Long.valueOf(value);
 
-        // Set unique member processed indicator
-        isUniqueMemberProcessed = true;
+        versions.put(id, version);
+      }
+    }
+    catch (IOException ioException) {
 
-        // Get binding data
-        String propertyName = columnBinding.getPropertyName();
-        String columnName = columnBinding.getColumnName();
-        int columnType = columnBinding.getColumnType();
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Checking Data Object Versions", ioException);
 
-        // Get property value
-        Object propertyValue = Introspector.getPropertyValue(dataObject, propertyName);
+      throw new DataSourceException(methodName + ": " + ioException.getMessage());
+    }
+    catch (SQLException sqlException) {
 
-        // Create value condition
-        ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, columnType, propertyValue);
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Checking Data Object Versions", sqlException);
 
-        // Build value condition
-        if (valueConditions == null) {
-          valueConditions = new ValueConditions(valueCondition);
-        }
-        else {
-          valueConditions.add(Operators.AND, valueCondition);
-        }
-      }
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
     }
+    finally {
 
-    // Only proceed if a unique member was processed
-    if (isUniqueMemberProcessed) {
+      // Close SQL statement and result set
+      DbUtil.closeResultSet(resultSet);
+      DbUtil.closeStatement(sqlStatement);
 
-      // Get data object ID
-      Object id = dataObject.getId();
+      // Close connnection
+      DbUtil.closeConnection(connection);
+    }
 
-      if (id != null) {
-        
-        // Get ID column binding
-        IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+    return versions;
+  }
 
-        // Get binding data
-        String columnName = idColumnBinding.getColumnName();
-        int columnType = idColumnBinding.getColumnType();
+  /**
+    Validates a given data object for use with the data object manager.
+    @see DatabaseDataManager#isValidDataObject(DataObject)
+  */
+  @Override
+  protected boolean isValidDataObject(T dataObject) {
 
-        // Create value condition
-        ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.NOT_EQUALS, columnType, id);
+    // Initialize return value
+    boolean isValid = false;
 
-        // Build value condition
-        if (valueConditions == null) {
-          valueConditions = new ValueConditions(valueCondition);
-        }
-        else {
-          valueConditions.add(Operators.AND, valueCondition);
-        }
-      }
+    if (dataObject != null) {
 
-      // Append domain condition
-      appendDomainCondition(tableName, domain, valueConditions);
-      
-      // Create list of SQL statements
-      List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
+      // Get data object class name
+      String className = dataObject.getClass().getName();
 
-      // Get SQL statements
-      getFindSql(valueConditions, null, connection, domain, sqlStatements);
+      // Get binding class name
+      String bindingClassName = dataObjectBinding.getDataObjectClass().getName();
 
-      // Only need the first statement directed at primary table
-      sqlStatement = sqlStatements.get(0);
+      // Set valid indicator
+      isValid = className.equals(bindingClassName);
     }
 
-    return sqlStatement;
+    return isValid;
   }
 
   /**
-    Populates a list of prepared statements used to create a given data object using
-    a data object, data object binding, database connection and list of SQL statements.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
-    @param connection Database connection.
-    @param domain Target domain.
-    @param sqlStatements List of SQL statements.
+    Populates the ID using the database sequencer which deals only with integer type IDs.
+    This method must be overridden to handle data objects with non-integer IDs.
+    @see DatabaseDataManager#initializeId(DataObject, IDomain)
   */
-  private void getCreateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+  @Override
+  protected void initializeId(DataObject<?> dataObject, IDomain domain) throws DataSourceException {
 
-    // Set method name
-    String methodName = "getCreateSql";
+    // Get table name
+    String tableName = dataObjectBinding.getTableName();
 
     // Get ID column binding
     IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
 
-    // Get column bindings
-    Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+    // Get column and property names
+    String columnName = idColumnBinding.getColumnName();
+    String propertyName = idColumnBinding.getPropertyName();
 
-    // Get columns and parameters
-    String columns = getInsertColumns(idColumnBinding, columnBindings);
-    String parameters = getInsertParameters(idColumnBinding, columnBindings);
+    // Check for existing value
+    Object propertyValue = Introspector.getPropertyValue(dataObject, propertyName);
 
-    // Get table name
-    String tableName = dataObjectBinding.getTableName();
+    // Only set values that haven't already been set
+    if (propertyValue == null) {
 
-    // Build SQL text
-    String sql = "insert into " + tableName + "(" + columns + ") values (" + parameters + ")";
+    	// Get sequence provider factory
+    	IFactory sequenceProviderFactory = SequenceProviderFactory.getInstance();
+    	
+    	// Create sequence provider
+    	ISequenceProvider sequenceProvider = (ISequenceProvider)sequenceProviderFactory.create();
+    	
+    	try {
+        // Initialize sequence value
+        Object value = null;
 
-    // Initialize SQL statement
-    PreparedStatement statement = null;
+        // Get next sequence value using long values for long ID columns
+        if (idColumnBinding.getColumnType() == DbUtil.LONG && sequenceProvider instanceof ILongSequenceProvider) {
+          value = Long.valueOf(((ILongSequenceProvider)sequenceProvider).nextLongValue(tableName, columnName, domain));
+        }
+        else {
+          value = Integer.valueOf(sequenceProvider.nextValue(tableName, columnName, domain));
+        }
 
-    try {
-      // Create SQL statement
-      statement = connection.prepareStatement(sql);
+        // Set property value
+        Introspector.setPropertyValue(dataObject, propertyName, value);
+    	}
+    	finally {
+    		
+    		// Recycle sequence provider
+    		sequenceProviderFactory.recycle(sequenceProvider);
+    	}
     }
-    catch (SQLException sqlException) {
+  }
 
-        // Post error message
-        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Create SQL", sqlException);
+  /**
+    Returns a prepared statement used to check for duplicate data objects.
+    @see DatabaseDataManager#getDuplicateSql(DataObject, Connection, IDomain)
+  */
+  @Override
+  protected PreparedStatement getDuplicateSql(T dataObject, Connection connection, IDomain domain)
+      throws DataSourceException {
 
-        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-    }
+    // Create SQL statements starting with current data object and binding
+    return getDuplicateSql(dataObject, dataObjectBinding, connection, domain);
+  }
 
-    // Initialize parameter index
-    int parameterIndex = 1;
+  /**
+    Populates a list of prepared statements used to create a given data object.
+    @see DatabaseDataManager#getCreateSql(DataObject, Connection, IDomain, List)
+  */
+  @Override
+  protected void getCreateSql(T dataObject, Connection connection, IDomain domain,
+      List<PreparedStatement> sqlStatements) throws DataSourceException {
 
-    // Set parameter values
-    parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
-    parameterIndex = setParameters(statement, dataObject, columnBindings, parameterIndex);
-    parameterIndex = setParameter(statement, domain, parameterIndex);
+    // Create SQL statements starting with current data object and binding
+    getCreateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+  }
+
+  /**
+    Populates a list of prepared statements used to update a given data object.
+    @see DatabaseDataManager#getUpdateSql(DataObject, Connection, IDomain, List)
+  */
+  @Override
+  protected void getUpdateSql(T dataObject, Connection connection, IDomain domain,
+      List<PreparedStatement> sqlStatements) throws DataSourceException {
 
-    // Add statement to list
-    sqlStatements.add(statement);
+    // Get current statement count
+    int statementCount = sqlStatements.size();
 
-    // Get create associate SQL
-    getCreateAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+    // Create SQL statements starting with current data object and binding
+    getUpdateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
 
-    // Get create dependent SQL
-    getCreateDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+    // Write incremented version when only associates or dependents changed
+    if (!dataObject.isModified() && sqlStatements.size() > statementCount) {
+      getUpdateVersionSql(dataObject, connection, domain, sqlStatements);
+    }
   }
 
   /**
-    Populates a list of prepared statements used to create associate data objects
-    using a data object, data object binding, database connection and list of SQL statements.
+    Populates a list of prepared statements with a statement used to write the incremented version
+    of an unmodified data object whose associates or dependents changed. The statement only matches
+    the row holding the previous version and requires a row to be updated, so a concurrent update is
+    detected as a dirty update when statements are executed using batch execution.
     @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
     @param connection Database connection.
     @param domain Target domain.
     @param sqlStatements List of SQL statements.
   */
-  private void getCreateAssociateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+  private void getUpdateVersionSql(T dataObject, Connection connection, IDomain domain,
+      List<PreparedStatement> sqlStatements) throws DataSourceException {
 
     // Set method name
-    String methodName = "getCreateAssociateSql";
+    String methodName = "getUpdateVersionSql";
 
-    // Get data object ID
-    Object id = dataObject.getId();
-
-    // Get associate bindings
-    Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
-
-    for (AssociateBinding associateBinding : associateBindings) {
-
-      // Get table name and property name
-      String tableName = associateBinding.getTableName();
-      String propertyName = associateBinding.getPropertyName();
-
-      // Get parent ID and associate ID column bindings
-      IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
-      IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
-
-      // Get columns and parameters
-      String columns = getInsertColumns(parentIdColumnBinding, associateIdColumnBinding);
-      String parameters = getInsertParameters(parentIdColumnBinding, associateIdColumnBinding);
-
-      // Build SQL text
-      String sql = "insert into " + tableName + "(" + columns + ") values (" + parameters + ")";
-
-      if (associateBinding.isCollection()) {
-
-        // Retrieve associate IDs
-        Collection<?> associateIds = (Collection<?>)Introspector.getPropertyValue(dataObject, propertyName);
-
-        if (associateIds != null) {
-
-          // Create value iterator
-          Iterator<?> values = associateIds.iterator();
-
-          while (values.hasNext()) {
-
-            // Get next associate ID
-            Object associateId = values.next();
+    // Get version binding
+    ColumnBinding versionBinding = dataObjectBinding.getVersionBinding();
 
-            // Initialize SQL statement
-            PreparedStatement statement = null;
+    if (versionBinding != null && dataObject.getVersion() != null) {
 
-            try {
-              // Create SQL statement
-              statement = connection.prepareStatement(sql);
-            }
-            catch (SQLException sqlException) {
+      // Get SQL plan cache and statement key
+      SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+      String statementKey = getStatementKey("updateVersion");
 
-                // Post error message
-                Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-                logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Create Associate SQL", sqlException);
-  
-                throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-            }
+      // Attempt to get cached SQL text
+      String sql = sqlPlanCache.getStatement(statementKey);
 
-            // Initialize parameter index
-            int parameterIndex = 1;
+      if (sql == null) {
 
-            // Set parameter values
-            parameterIndex = setParameter(statement, id, parentIdColumnBinding, parameterIndex);
-            parameterIndex = setParameter(statement, associateId, associateIdColumnBinding, parameterIndex);
+        // Get version column name and ID condition
+        String versionColumnName = versionBinding.getColumnName();
+        String condition = getCondition(dataObjectBinding.getIdColumnBinding(), null);
 
-            // Add statement to list
-            sqlStatements.add(statement);
-          }
-        }
+        // Build and cache SQL text
+        sql = "update " + dataObjectBinding.getTableName() + " set " + versionColumnName + " = ? where " + condition + 
+            " and coalesce(" + versionColumnName + ", 0) = ?";
+        sql = sqlPlanCache.putStatement(statementKey, sql);
       }
-      else {
 
-        // Retrieve associate ID
-        Object associateId = Introspector.getPropertyValue(dataObject, propertyName);
+      // Initialize SQL statement
+      PreparedStatement statement = null;
 
-        // Initialize SQL statement
-        PreparedStatement statement = null;
+      try {
+        // Get batch SQL statement requiring an updated row
+        statement = prepareBatchStatement(sql, true, connection, sqlStatements);
+      }
+      catch (SQLException sqlException) {
 
-        try {
-          // Create SQL statement
-          statement = connection.prepareStatement(sql);
-        }
-        catch (SQLException sqlException) {
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Update Version SQL", sqlException);
 
-            // Post error message
-            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Create Associate SQL", sqlException);
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
 
-            throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-        }
+      // Get current and previous versions
+      Long version = dataObject.getVersion();
+      Long previousVersion = Long.valueOf(version.longValue() - 1);
 
-        // Initialize parameter index
-        int parameterIndex = 1;
+      // Initialize parameter index
+      int parameterIndex = 1;
 
-        // Set parameter values
-        parameterIndex = setParameter(statement, id, parentIdColumnBinding, parameterIndex);
-        parameterIndex = setParameter(statement, associateId, associateIdColumnBinding, parameterIndex);
+      // Set parameter values
+      parameterIndex = setParameter(statement, version, versionBinding, parameterIndex);
+      parameterIndex = setParameter(statement, dataObject.getId(), dataObjectBinding.getIdColumnBinding(), parameterIndex);
+      parameterIndex = setParameter(statement, domain, parameterIndex);
+      parameterIndex = setParameter(statement, previousVersion, versionBinding, parameterIndex);
 
-        // Add statement to list
-        sqlStatements.add(statement);
-      }
+      // Add parameter values to batch
+      addBatch(statement, sqlStatements);
     }
   }
 
   /**
-    Populates a list of prepared statements used to create dependent data objects
-    using a data object, data object binding, database connection and list of SQL statements.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
-    @param connection Database connection.
-    @param domain Target domain.
-    @param sqlStatements List of SQL statements.
+    Populates a list of prepared statements used to delete a given data object.
+    @see DatabaseDataManager#getDeleteSql(DataObject, Connection, IDomain, List)
   */
-  private void getCreateDependentSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
-
-    // Get dependent bindings
-    Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
+  @Override
+  protected void getDeleteSql(T dataObject, Connection connection, IDomain domain,
+      List<PreparedStatement> sqlStatements) throws DataSourceException {
 
-    for (DependentBinding dependentBinding : dependentBindings) {
+    // Create SQL statements starting with current data object and binding
+    getDeleteSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+  }
 
-      // Get property name
-      String propertyName = dependentBinding.getPropertyName();
+  /**
+    Populates a list of prepared statements used to find a given data object.
+    @see DatabaseDataManager#getFindSql(Object, Connection, IDomain, List)
+  */
+  @Override
+  protected void getFindSql(I id, Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) 
+  		throws DataSourceException {
 
-      // Get dependent binding
-      DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+    // Get table name
+    String tableName = dataObjectBinding.getTableName();
 
-      // Get parent ID column binding
-      IdColumnBinding parentIdcolumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
+    // Get ID column binding
+    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
 
-      if (dependentBinding.isCollection()) {
+    // Get binding data
+    String columnName = idColumnBinding.getColumnName();
+    int columnType = idColumnBinding.getColumnType();
 
-        // Retrieve dependent data objects
-    		@SuppressWarnings("unchecked")
-    		Collection<DataObject<?>> dependentDataObjects = (Collection<DataObject<?>>)Introspector.getPropertyValue(dataObject, propertyName);
+    // Create value condition
+    ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, columnType, id);
 
-        if (dependentDataObjects != null) {
+    // Get SQL statements
+    getFindSql(valueCondition, null, connection, domain, sqlStatements);
+  }
 
-          // Create value iterator
-          Iterator<DataObject<?>> values = dependentDataObjects.iterator();
+  /**
+    Populates a list of prepared statements used to find all data objects.
+    @see DatabaseDataManager#getFindSql(Connection, IDomain, List)
+  */
+  @Override
+  protected void getFindSql(Connection connection, IDomain domain, List<PreparedStatement> sqlStatements)
+      throws DataSourceException {
 
-          while (values.hasNext()) {
+    // Get SQL statements
+    this.getFindSql((IValueCondition)null, null, connection, domain, sqlStatements);
+  }
 
-            // Get next dependent data object
-          	DataObject<?> dependentDataObject = values.next();
+  /**
+    Populates a list of prepared statements used to find a list of data objects.
+    @see DatabaseDataManager#getFindSql(List, Connection, IDomain, List)
+  */
+  @Override
+  protected void getFindSql(List<I> ids, Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) 
+  		throws DataSourceException {
 
-            // Initialize ID
-            initializeId(dependentDataObject, domain);
+    // Get SQL statements
+    getFindSql(ids, null, connection, domain, sqlStatements);
+  }
 
-            // Get parent ID property name
-            String parentIdPropertyName = parentIdcolumnBinding.getPropertyName();
+  /**
+    Populates a list of prepared statements used to find a list of data objects loading only the associate
+    and dependent properties in a fetch group.
+    @see DatabaseDataManager#getFindSql(List, FetchGroup, Connection, IDomain, List)
+  */
+  @Override
+  protected void getFindSql(List<I> ids, FetchGroup fetchGroup, Connection connection, IDomain domain,
+      List<PreparedStatement> sqlStatements) throws DataSourceException {
 
-            // Set parent ID
-            Introspector.setPropertyValue(dependentDataObject, parentIdPropertyName, dataObject.getId());
-            
-            // Get create SQL data object
-            getCreateSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
-          }
-        }
-      }
-      else {
+    // Get table name
+    String tableName = dataObjectBinding.getTableName();
 
-        // Get dependent data object
-        DataObject<?> dependentDataObject = (DataObject<?>)Introspector.getPropertyValue(dataObject, propertyName);
+    // Get ID column binding
+    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
 
-        if (dependentDataObject != null) {
+    // Get binding data
+    String columnName = idColumnBinding.getColumnName();
+    int columnType = idColumnBinding.getColumnType();
 
-          // Initialize ID
-          initializeId(dependentDataObject, domain);
-          
-          // Get parent ID property name
-          String parentIdPropertyName = parentIdcolumnBinding.getPropertyName();
+    // Create in list value condition
+    IValueCondition valueCondition = InListConditions.create(tableName, columnName, columnType, ids);
 
-          // Set parent ID
-          Introspector.setPropertyValue(dependentDataObject, parentIdPropertyName, dataObject.getId());
-            
-          // Get create SQL data object
-          getCreateSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
-        }
-      }
-    }
+    // Get SQL statements
+    getFindSql(getFindPlanType(fetchGroup), null, valueCondition, null, connection, domain, sqlStatements);
   }
 
   /**
-    Populates a list of prepared statements used to update a given data object using
-    a data object, data object binding, database connection and list of SQL statements.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
-    @param connection Database connection.
-    @param domain Target domain.
-    @param sqlStatements List of SQL statements.
+    Returns a list of prepared statements used to find a list of data objects using search criteria.
+    @see DatabaseDataManager#getFindSql(FilterCriteria, Connection, IDomain, List)
   */
-  private void getUpdateSql(T dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
-
-    // Set method name
-    String methodName = "getUpdateSql";
-
-    if (dataObject.isModified()) {
-
-      // Get ID column binding
-      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
-
-      // Get column bindings
-      Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
-
-      // Get columns and condition
-      String columns = getUpdateColumns(columnBindings);
-      String condition = getCondition(idColumnBinding, domain);
+  @Override
+  protected void getFindSql(FilterCriteria filterCriteria, Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) 
+  		throws DataSourceException {
+    
+    // Create value and order conditions
+    ValueConditions valueConditions = createValueConditions(filterCriteria, "getFindSql");
+    OrderConditions orderConditions = createOrderConditions(filterCriteria, "getFindSql");
 
-      // Get table name
-      String tableName = dataObjectBinding.getTableName();
+    // Get fetch group
+    FetchGroup fetchGroup = filterCriteria == null ? null : filterCriteria.getFetchGroup();
 
-      // Build SQL text
-      String sql = "update " + tableName + " set " + columns + " where " + condition;
+    // Retrieve find SQL
+    getFindSql(getFindPlanType(fetchGroup), null, valueConditions, orderConditions, connection, domain, sqlStatements);
+  }
 
-      // Initialize SQL statement
-      PreparedStatement statement = null;
+  /**
+    Returns the find plan type used to find data objects with a given fetch group. Only primary data is
+    selected when a fetch group is used since included associates and dependents are loaded by key.
+    @param fetchGroup Fetch group.
+    @return String Find plan type.
+  */
+  private static String getFindPlanType(FetchGroup fetchGroup) {
+    return fetchGroup == null ? FIND_PLAN : FIND_PRIMARY_PLAN;
+  }
+  
+  /**
+    Returns a prepared statement used to find data object IDs using search criteria.
+    @see DatabaseDataManager#getFindIdSql(FilterCriteria, Connection, IDomain)
+  */
+  @Override
+  protected PreparedStatement getFindIdSql(FilterCriteria filterCriteria, Connection connection, IDomain domain)
+      throws DataSourceException {
+    
+    // Create value and order conditions
+    ValueConditions valueConditions = createValueConditions(filterCriteria, "getFindIdSql");
+    OrderConditions orderConditions = createOrderConditions(filterCriteria, "getFindIdSql");
+  
+    return getFindIdSql(valueConditions, orderConditions, connection, domain);
+  }
+  
+  /**
+    Returns a prepared statement used to find a single page of data object IDs using search criteria.
+    Data object IDs are always ordered by ID after any requested ordering so page boundaries are stable.
+    @see DatabaseDataManager#getFindIdSql(FilterCriteria, int, int, Connection, IDomain)
+  */
+  @Override
+  protected PreparedStatement getFindIdSql(FilterCriteria filterCriteria, int offset, int limit, Connection connection, IDomain domain)
+      throws DataSourceException {
+    
+    // Create value and order conditions
+    ValueConditions valueConditions = createValueConditions(filterCriteria, "getFindIdSql");
+    OrderConditions orderConditions = createOrderConditions(filterCriteria, "getFindIdSql");
 
-      try {
-        // Create SQL statement
-        statement = connection.prepareStatement(sql);
-      }
-      catch (SQLException sqlException) {
+    // Create ID order condition
+    String idColumnName = dataObjectBinding.getIdColumnBinding().getColumnName();
+    OrderCondition idOrderCondition = new OrderCondition(dataObjectBinding.getTableName(), idColumnName);
 
-          // Post error message
-          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Update SQL", sqlException);
+    // Append ID order condition
+    if (orderConditions == null) {
+      orderConditions = new OrderConditions(idOrderCondition);
+    }
+    else {
+      orderConditions.add(idOrderCondition);
+    }
+  
+    return getFindIdSql(null, valueConditions, orderConditions, offset, limit, connection, domain);
+  }
+  
+  /**
+    Returns a prepared statement used to count data objects using search criteria.
+    @see DatabaseDataManager#getCountSql(FilterCriteria, Connection, IDomain)
+  */
+  @Override
+  protected PreparedStatement getCountSql(FilterCriteria filterCriteria, Connection connection, IDomain domain)
+      throws DataSourceException {
     
-          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    // Create value conditions
+    ValueConditions valueConditions = createValueConditions(filterCriteria, "getCountSql");
+  
+    return getCountSql(null, valueConditions, connection, domain);
+  }
+  
+  /**
+    Returns a prepared statement used to check for the existence of data objects using search criteria.
+    @see DatabaseDataManager#getExistsSql(FilterCriteria, Connection, IDomain)
+  */
+  @Override
+  protected PreparedStatement getExistsSql(FilterCriteria filterCriteria, Connection connection, IDomain domain)
+      throws DataSourceException {
+    
+    // Create value conditions
+    ValueConditions valueConditions = createValueConditions(filterCriteria, "getExistsSql");
+  
+    return getExistsSql(null, valueConditions, connection, domain);
+  }
+  
+  /**
+    Returns value conditions created from the value criteria of a filter criteria object.
+    @param filterCriteria Filter criteria.
+    @param methodName Calling method name used for logging.
+    @return ValueConditions Value conditions or null if no value conditions were created.
+  */
+  private ValueConditions createValueConditions(FilterCriteria filterCriteria, String methodName) {
+  	
+    // Initialize return value
+    ValueConditions valueConditions = null;
+
+    if (filterCriteria != null) {
+      
+      // Get search conditions
+      List<ValueCriterion> valueCriteria = filterCriteria.getValueCriteria();
+  
+      for (ValueCriterion valueCriterion : valueCriteria) {
+      	
+	      // Create value condition
+	      ValueCondition valueCondition = getValueCondition(dataObjectBinding, valueCriterion);
+	      
+	      if (valueCondition != null) {
+	      	
+		      // Build value conditions
+		      if (valueConditions == null) {
+		        valueConditions = new ValueConditions(valueCondition);
+		      }
+		      else {
+		        valueConditions.add(Operators.AND, valueCondition);
+		      }
+	      }
+	      else {
+	      	
+	        // Post warning message
+	        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+	        logger.logp(Level.WARNING, getClass().getName(), methodName, "Value condition could not be created.");
+	      }
+      }
+    }
+    
+    return valueConditions;
+  }
+  
+  /**
+    Returns order conditions created from the order criteria of a filter criteria object.
+    @param filterCriteria Filter criteria.
+    @param methodName Calling method name used for logging.
+    @return OrderConditions Order conditions or null if no order conditions were created.
+  */
+  private OrderConditions createOrderConditions(FilterCriteria filterCriteria, String methodName) {
+  	
+    // Initialize return value
+    OrderConditions orderConditions = null;
+
+    if (filterCriteria != null) {
+  
+      // Get order criteria
+      List<OrderCriterion> orderCriteria = filterCriteria.getOrderCriteria();
+
+      for (OrderCriterion orderCriterion : orderCriteria) {
+
+        // Create order condition
+        OrderCondition orderCondition = getOrderCondition(dataObjectBinding, orderCriterion);
+
+        if (orderCondition != null) {
+        	
+          // Build order conditions
+          if (orderConditions == null) {
+            orderConditions = new OrderConditions(orderCondition);
+          }
+          else {
+            orderConditions.add(orderCondition);
+          }
+        }
+	      else {
+	      	
+	        // Post warning message
+	        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+	        logger.logp(Level.WARNING, getClass().getName(), methodName, "Order condition could not be created.");
+	      }
+      }
+    }
+    
+    return orderConditions;
+  }
+  
+  /**
+   * Returns a value condition using a data object binding and value criterion. Initially processes
+   * the column and associate bindings of the given data object binding before recursively checking
+   * the data object binding of each dependent binding. Processing continues until a value condition 
+   * is created.
+   * @param dataObjectBinding Data object binding.
+   * @param valueCriterion Value criterion.
+   * @return ValueCondition Value condition created from the value criterion.
+   */
+  private ValueCondition getValueCondition(DataObjectBinding dataObjectBinding, ValueCriterion valueCriterion) {
+
+  	// Initialize return value
+  	ValueCondition valueCondition = null;
+  	
+    // Get property name
+    String propertyName = valueCriterion.getPropertyName();
+
+    if (propertyName != null) {
+
+    	// Get operator and field value
+      String operator = valueCriterion.getOperator();
+      Object fieldValue = valueCriterion.getPropertyValue();
+    	
+    	// Get column binding by property name
+      ColumnBinding columnBinding = dataObjectBinding.getColumnBindingByPropertyName(propertyName);
+
+      if (columnBinding != null) {
+      	
+      	// Get table name
+      	String tableName = dataObjectBinding.getTableName();
+      	
+        // Get column name and type
+        String columnName = columnBinding.getColumnName();
+        int type = columnBinding.getColumnType();
+
+        // Create value condition
+        valueCondition = new ValueCondition(tableName, columnName, operator, type, fieldValue);
+      }
+      else {
+      	
+        // Get associate binding by property name
+        AssociateBinding associateBinding = dataObjectBinding.getAssociateBindingByPropertyName(propertyName);
+
+        if (associateBinding != null) {
+        	
+        	// Get table name
+        	String tableName = associateBinding.getTableName();
+        	
+        	// Get associate ID column binding
+        	IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
+        	
+          // Get column name and type
+          String columnName = associateIdColumnBinding.getColumnName();
+          int type = associateIdColumnBinding.getColumnType();
+
+          // Create value condition
+          valueCondition = new ValueCondition(tableName, columnName, operator, type, fieldValue);
+        }
+        else {
+        	
+        	// Get dependent bindings
+        	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
+        	
+        	if (dependentBindings != null) {
+        		
+        		for (DependentBinding dependentBinding : dependentBindings) {
+        			
+        			// Get dependent data object binding
+        			DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+        			
+        			// Use dependent bindings to recursively attempt to obtain value condition 
+        			valueCondition = getValueCondition(dependentDataObjectBinding, valueCriterion);
+        			
+        			if (valueCondition != null) {
+        				break;
+        			}
+        		}
+        	}
+        }
+      }
+    }
+
+  	return valueCondition;
+  }
+  
+  private OrderCondition getOrderCondition(DataObjectBinding dataObjectBinding, OrderCriterion orderCriterion) {
+
+  	// Initialize return value
+  	OrderCondition orderCondition = null;
+  	
+    // Get property name
+    String propertyName = orderCriterion.getPropertyName();
+
+    if (propertyName != null) {
+
+      // Get order criterion properties
+      String direction = orderCriterion.getDirection();
+    	
+    	// Get column binding by property name
+      ColumnBinding columnBinding = dataObjectBinding.getColumnBindingByPropertyName(propertyName);
+
+      if (columnBinding != null) {
+      	
+      	// Initialize table name and column name
+      	String tableName = null;
+      	String columnName = null;
+      	
+      	if (columnBinding.useReferenceOrdering()) {
+      		
+        	// Use reference table name and column name
+        	tableName = columnBinding.getReferenceTableName();
+        	columnName = columnBinding.getReferenceColumnName();
+      	}
+      	else {
+      		
+        	// Use binding table name and column name
+        	tableName = dataObjectBinding.getTableName();
+        	columnName = columnBinding.getColumnName();
+      	}
+      	
+        // Create order condition
+        orderCondition = new OrderCondition(tableName, columnName, direction);
+      }
+      else {
+      	
+        // Get associate binding by property name
+        AssociateBinding associateBinding = dataObjectBinding.getAssociateBindingByPropertyName(propertyName);
+
+        if (associateBinding != null) {
+
+        	// Initialize table name and column name
+        	String tableName = null;
+        	String columnName = null;
+
+        	if (associateBinding.useReferenceOrdering()) {
+        		
+          	// Use reference table name and column name
+          	tableName = associateBinding.getReferenceTableName();
+          	columnName = associateBinding.getReferenceColumnName();
+        	}
+        	else {
+        		
+          	// Use associate binding table name
+          	tableName = associateBinding.getTableName();
+          	
+          	// Get associate ID column binding
+          	IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
+          	
+            // Use associate binding column name
+          	columnName = associateIdColumnBinding.getColumnName();
+        	}
+
+          // Create order condition
+          orderCondition = new OrderCondition(tableName, columnName, direction);
+        }
+        else {
+        	
+        	// Get dependent bindings
+        	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
+        	
+        	if (dependentBindings != null) {
+        		
+        		for (DependentBinding dependentBinding : dependentBindings) {
+        			
+        			// Get dependent data object binding
+        			DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+        			
+        			// Use dependent bindings to recursively attempt to obtain order condition 
+        			orderCondition = getOrderCondition(dependentDataObjectBinding, orderCriterion);
+        			
+        			if (orderCondition != null) {
+        				break;
+        			}
+        		}
+        	}
+        }
+      }
+    }
+
+  	return orderCondition;
+  }
+  
+  /**
+    Populates a list of prepared statements used to find all data object IDs.
+    @see DatabaseDataManager#getFindIdSql(Connection, IDomain)
+  */
+  @Override
+  protected PreparedStatement getFindIdSql(Connection connection, IDomain domain) throws DataSourceException {
+  
+    // Get SQL statement
+    return getFindIdSql(null, null, connection, domain);
+  }
+  
+  /**
+    Returns a prepared statement used to check for duplicate data objects.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @return PreparedStatement Prepared statement.
+  */
+  private PreparedStatement getDuplicateSql(T dataObject, DataObjectBinding dataObjectBinding, Connection connection, IDomain domain)
+  		throws DataSourceException {
+
+    // Initialize return value
+    PreparedStatement sqlStatement = null;
+
+    // Get table name
+    String tableName = dataObjectBinding.getTableName();
+
+    // Initialize unique member processed indicator
+    boolean isUniqueMemberProcessed = false;
+
+    // Initialize value conditions
+    ValueConditions valueConditions = null;
+
+    // Get column bindings
+    Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+
+    // Process unique members first
+    for (ColumnBinding columnBinding : columnBindings) {
+
+      if (columnBinding.getIsUniqueMember()) {
+
+        // Set unique member processed indicator
+        isUniqueMemberProcessed = true;
+
+        // Get binding data
+        String propertyName = columnBinding.getPropertyName();
+        String columnName = columnBinding.getColumnName();
+        int columnType = columnBinding.getColumnType();
+
+        // Get property value
+        Object propertyValue = Introspector.getPropertyValue(dataObject, propertyName);
+
+        // Create value condition
+        ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, columnType, propertyValue);
+
+        // Build value condition
+        if (valueConditions == null) {
+          valueConditions = new ValueConditions(valueCondition);
+        }
+        else {
+          valueConditions.add(Operators.AND, valueCondition);
+        }
+      }
+    }
+
+    // Only proceed if a unique member was processed
+    if (isUniqueMemberProcessed) {
+
+      // Get data object ID
+      Object id = dataObject.getId();
+
+      if (id != null) {
+        
+        // Get ID column binding
+        IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+        // Get binding data
+        String columnName = idColumnBinding.getColumnName();
+        int columnType = idColumnBinding.getColumnType();
+
+        // Create value condition
+        ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.NOT_EQUALS, columnType, id);
+
+        // Build value condition
+        if (valueConditions == null) {
+          valueConditions = new ValueConditions(valueCondition);
+        }
+        else {
+          valueConditions.add(Operators.AND, valueCondition);
+        }
+      }
+
+      // Get exists SQL - Virtual delete and domain conditions are appended
+      sqlStatement = getExistsSql(null, valueConditions, connection, domain);
+    }
+
+    return sqlStatement;
+  }
+
+  /**
+    Returns a prepared statement for a given SQL text. When the list of SQL statements supports
+    batch execution a single statement is shared by consecutive parameter sets using identical SQL text.
+    Otherwise a new statement is prepared and added to the list.
+    @param sql SQL text.
+    @param connection Database connection.
+    @param sqlStatements List of SQL statements.
+    @return PreparedStatement Prepared statement.
+  */
+  private PreparedStatement prepareBatchStatement(String sql, Connection connection,
+      List<PreparedStatement> sqlStatements) throws SQLException {
+
+    return prepareBatchStatement(sql, false, connection, sqlStatements);
+  }
+
+  /**
+    Returns a prepared statement for a given SQL text and row requirement. The row requirement is only
+    enforced when the list of SQL statements supports batch execution.
+    @param sql SQL text.
+    @param isRowRequired Indicates whether or not each parameter set must update at least one row.
+    @param connection Database connection.
+    @param sqlStatements List of SQL statements.
+    @return PreparedStatement Prepared statement.
+  */
+  private PreparedStatement prepareBatchStatement(String sql, boolean isRowRequired, Connection connection,
+      List<PreparedStatement> sqlStatements) throws SQLException {
+
+    // Initialize return value
+    PreparedStatement statement = null;
+
+    if (sqlStatements instanceof BatchStatementList) {
+
+      // Get shared batch statement
+      statement = ((BatchStatementList)sqlStatements).getBatchStatement(connection, sql, isRowRequired);
+    }
+    else {
+
+      // Create SQL statement
+      statement = connection.prepareStatement(sql);
+
+      // Add statement to list
+      sqlStatements.add(statement);
+    }
+
+    return statement;
+  }
+
+  /**
+    Adds the current parameter values of a prepared statement to its batch when the
+    list of SQL statements supports batch execution.
+    @param statement Prepared statement.
+    @param sqlStatements List of SQL statements.
+  */
+  private void addBatch(PreparedStatement statement, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "addBatch";
+
+    if (sqlStatements instanceof BatchStatementList) {
+
+      try {
+        // Add parameter values to batch
+        statement.addBatch();
+      }
+      catch (SQLException sqlException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Adding Batch Parameters", sqlException);
+
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to create a given data object using
+    a data object, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getCreateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getCreateSql";
+
+    // Get ID column binding
+    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+    // Get column bindings
+    Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+
+    // Get SQL text
+    String sql = getCreateText(dataObjectBinding);
+
+    // Initialize SQL statement
+    PreparedStatement statement = null;
+
+    try {
+      // Get batch SQL statement
+      statement = prepareBatchStatement(sql, connection, sqlStatements);
+    }
+    catch (SQLException sqlException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Create SQL", sqlException);
+
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+
+    // Initialize parameter index
+    int parameterIndex = 1;
+
+    // Set parameter values
+    parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
+    parameterIndex = setParameters(statement, dataObject, columnBindings, parameterIndex);
+    parameterIndex = setParameter(statement, domain, parameterIndex);
+
+    // Add parameter values to batch
+    addBatch(statement, sqlStatements);
+
+    // Get create associate SQL
+    getCreateAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+    // Get create dependent SQL
+    getCreateDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+  }
+
+  /**
+    Populates a list of prepared statements used to create associate data objects
+    using a data object, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getCreateAssociateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getCreateAssociateSql";
+
+    // Get data object ID
+    Object id = dataObject.getId();
+
+    // Get associate bindings
+    Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
+
+    for (AssociateBinding associateBinding : associateBindings) {
+
+      // Get property name
+      String propertyName = associateBinding.getPropertyName();
+
+      // Get parent ID and associate ID column bindings
+      IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+      IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
+
+      // Get SQL text
+      String sql = getCreateAssociateText(associateBinding, dataObjectBinding);
+
+      if (associateBinding.isCollection()) {
+
+        // Retrieve associate IDs
+        Collection<?> associateIds = (Collection<?>)Introspector.getPropertyValue(dataObject, propertyName);
+
+        if (associateIds != null) {
+
+          // Create value iterator
+          Iterator<?> values = associateIds.iterator();
+
+          while (values.hasNext()) {
+
+            // Get next associate ID
+            Object associateId = values.next();
+
+            // Initialize SQL statement
+            PreparedStatement statement = null;
+
+            try {
+              // Get batch SQL statement
+              statement = prepareBatchStatement(sql, connection, sqlStatements);
+            }
+            catch (SQLException sqlException) {
+
+                // Post error message
+                Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+                logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Create Associate SQL", sqlException);
+  
+                throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+            }
+
+            // Initialize parameter index
+            int parameterIndex = 1;
+
+            // Set parameter values
+            parameterIndex = setParameter(statement, id, parentIdColumnBinding, parameterIndex);
+            parameterIndex = setParameter(statement, associateId, associateIdColumnBinding, parameterIndex);
+
+            // Add parameter values to batch
+            addBatch(statement, sqlStatements);
+          }
+        }
+      }
+      else {
+
+        // Retrieve associate ID
+        Object associateId = Introspector.getPropertyValue(dataObject, propertyName);
+
+        // Initialize SQL statement
+        PreparedStatement statement = null;
+
+        try {
+          // Get batch SQL statement
+          statement = prepareBatchStatement(sql, connection, sqlStatements);
+        }
+        catch (SQLException sqlException) {
+
+            // Post error message
+            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Create Associate SQL", sqlException);
+
+            throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+        }
+
+        // Initialize parameter index
+        int parameterIndex = 1;
+
+        // Set parameter values
+        parameterIndex = setParameter(statement, id, parentIdColumnBinding, parameterIndex);
+        parameterIndex = setParameter(statement, associateId, associateIdColumnBinding, parameterIndex);
+
+        // Add parameter values to batch
+        addBatch(statement, sqlStatements);
+      }
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to create dependent data objects
+    using a data object, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getCreateDependentSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Get dependent bindings
+    Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
+
+    for (DependentBinding dependentBinding : dependentBindings) {
+
+      // Get property name
+      String propertyName = dependentBinding.getPropertyName();
+
+      // Get dependent binding
+      DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+
+      // Get parent ID column binding
+      IdColumnBinding parentIdcolumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
+
+      if (dependentBinding.isCollection()) {
+
+        // Retrieve dependent data objects
+    		@SuppressWarnings("unchecked")
+    		Collection<DataObject<?>> dependentDataObjects = (Collection<DataObject<?>>)Introspector.getPropertyValue(dataObject, propertyName);
+
+        if (dependentDataObjects != null) {
+
+          // Create value iterator
+          Iterator<DataObject<?>> values = dependentDataObjects.iterator();
+
+          while (values.hasNext()) {
+
+            // Get next dependent data object
+          	DataObject<?> dependentDataObject = values.next();
+
+            // Initialize ID
+            initializeId(dependentDataObject, domain);
+
+            // Get parent ID property name
+            String parentIdPropertyName = parentIdcolumnBinding.getPropertyName();
+
+            // Set parent ID
+            Introspector.setPropertyValue(dependentDataObject, parentIdPropertyName, dataObject.getId());
+            
+            // Get create SQL data object
+            getCreateSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
+          }
+        }
+      }
+      else {
+
+        // Get dependent data object
+        DataObject<?> dependentDataObject = (DataObject<?>)Introspector.getPropertyValue(dataObject, propertyName);
+
+        if (dependentDataObject != null) {
+
+          // Initialize ID
+          initializeId(dependentDataObject, domain);
+          
+          // Get parent ID property name
+          String parentIdPropertyName = parentIdcolumnBinding.getPropertyName();
+
+          // Set parent ID
+          Introspector.setPropertyValue(dependentDataObject, parentIdPropertyName, dataObject.getId());
+            
+          // Get create SQL data object
+          getCreateSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
+        }
+      }
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to update a given data object using
+    a data object, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getUpdateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getUpdateSql";
+
+    if (dataObject.isModified()) {
+
+      // Get ID column binding
+      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+      // Get column bindings
+      Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+
+      // Get SQL text
+      String sql = getUpdateText(dataObjectBinding);
+
+      // Initialize SQL statement
+      PreparedStatement statement = null;
+
+      try {
+        // Get batch SQL statement
+        statement = prepareBatchStatement(sql, connection, sqlStatements);
+      }
+      catch (SQLException sqlException) {
+
+          // Post error message
+          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Update SQL", sqlException);
+    
+          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
+
+      // Initialize parameter index
+      int parameterIndex = 1;
+
+      // Set parameter values
+      parameterIndex = setParameters(statement, dataObject, columnBindings, parameterIndex);
+      parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
+      parameterIndex = setParameter(statement, domain, parameterIndex);
+
+      // Add parameter values to batch
+      addBatch(statement, sqlStatements);
+    }
+
+    if (dataObject.isPersisted()) {
+
+      // Get SQL for changed associates
+      getUpdateAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+      // Get SQL for changed dependents
+      getUpdateDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+    }
+    else {
+
+      // Get delete associate SQL
+      getDeleteAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+      // Get delete dependent SQL
+      getDeleteDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+      // Get create associate SQL
+      getCreateAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+      // Get create dependent SQL
+      getCreateDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to insert added associate IDs and delete removed
+    associate IDs by comparing current associate IDs with the persisted associate IDs of a data object.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getUpdateAssociateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Get data object ID
+    Object id = dataObject.getId();
+
+    // Get associate bindings
+    Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
+
+    for (AssociateBinding associateBinding : associateBindings) {
+
+      // Unloaded associates are not changed
+      if (dataObject.isLoaded(associateBinding.getPropertyName())) {
+
+        // Get current and persisted associate IDs
+        Set<Object> associateIds = new LinkedHashSet<Object>(getAssociateIds(dataObject, associateBinding));
+        Set<Object> persistedIds = new LinkedHashSet<Object>();
+
+        // Get persisted associate IDs
+        Collection<?> persistedValues = dataObject.getPersistedValues(associateBinding.getPropertyName());
+
+        if (persistedValues != null) {
+          persistedIds.addAll(persistedValues);
+        }
+
+        // Delete removed associate IDs
+        for (Object persistedId : persistedIds) {
+
+          if (!associateIds.contains(persistedId)) {
+            getAssociateSql(false, id, persistedId, associateBinding, dataObjectBinding, connection, sqlStatements);
+          }
+        }
+
+        // Insert added associate IDs
+        for (Object associateId : associateIds) {
+
+          if (!persistedIds.contains(associateId)) {
+            getAssociateSql(true, id, associateId, associateBinding, dataObjectBinding, connection, sqlStatements);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to insert or delete a single associate ID
+    using a parent ID, associate ID, associate binding, database connection and list of SQL statements.
+    @param isInsert Indicates whether to insert or delete the associate ID.
+    @param id Parent data object ID.
+    @param associateId Associate ID.
+    @param associateBinding Associate binding.
+    @param dataObjectBinding Parent data object binding.
+    @param connection Database connection.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getAssociateSql(boolean isInsert, Object id, Object associateId, AssociateBinding associateBinding,
+      DataObjectBinding dataObjectBinding, Connection connection, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getAssociateSql";
+
+    // Get parent ID and associate ID column bindings
+    IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+    IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
+
+    // Get insert or delete SQL text
+    String sql = isInsert ? getCreateAssociateText(associateBinding, dataObjectBinding) :
+        getDeleteAssociateText(associateBinding, dataObjectBinding);
+
+    // Initialize SQL statement
+    PreparedStatement statement = null;
+
+    try {
+      // Get batch SQL statement
+      statement = prepareBatchStatement(sql, connection, sqlStatements);
+    }
+    catch (SQLException sqlException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Associate SQL", sqlException);
+
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+
+    // Initialize parameter index
+    int parameterIndex = 1;
+
+    // Set parameter values
+    parameterIndex = setParameter(statement, id, parentIdColumnBinding, parameterIndex);
+    parameterIndex = setParameter(statement, associateId, associateIdColumnBinding, parameterIndex);
+
+    // Add parameter values to batch
+    addBatch(statement, sqlStatements);
+  }
+
+  /**
+    Populates a list of prepared statements used to delete removed dependents, update existing
+    dependents and create new dependents by comparing current dependent data objects with the
+    persisted dependent data objects of a data object.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getUpdateDependentSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Get dependent bindings
+    Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
+
+    for (DependentBinding dependentBinding : dependentBindings) {
+
+      // Unloaded dependents are not changed
+      if (dataObject.isLoaded(dependentBinding.getPropertyName())) {
+
+        // Get dependent data object binding
+        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+
+        // Get parent ID property name
+        String parentIdPropertyName = dependentDataObjectBinding.getParentIdColumnBinding().getPropertyName();
+
+        // Get current dependent data objects
+        List<DataObject<?>> dependentDataObjects = getDependentDataObjects(dataObject, dependentBinding);
+
+        // Build current dependent IDs
+        Set<Object> dependentIds = new HashSet<Object>();
+
+        for (DataObject<?> dependentDataObject : dependentDataObjects) {
+
+          if (dependentDataObject.getId() != null) {
+            dependentIds.add(dependentDataObject.getId());
+          }
+        }
+
+        // Build persisted dependent IDs
+        Set<Object> persistedIds = new HashSet<Object>();
+
+        // Get persisted dependent data objects
+        Collection<?> persistedValues = dataObject.getPersistedValues(dependentBinding.getPropertyName());
+
+        if (persistedValues != null) {
+
+          for (Object persistedValue : persistedValues) {
+
+            // Get persisted dependent data object
+            DataObject<?> persistedDataObject = (DataObject<?>)persistedValue;
+
+            // Add persisted dependent ID
+            persistedIds.add(persistedDataObject.getId());
+
+            // Delete removed dependent data object
+            if (!dependentIds.contains(persistedDataObject.getId())) {
+              getDeleteSql(persistedDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
+            }
+          }
+        }
+
+        for (DataObject<?> dependentDataObject : dependentDataObjects) {
+
+          if (dependentDataObject.getId() != null && persistedIds.contains(dependentDataObject.getId())) {
+
+            // Set parent ID
+            Introspector.setPropertyValue(dependentDataObject, parentIdPropertyName, dataObject.getId());
+
+            // Get update SQL for existing dependent data object
+            getUpdateSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
+          }
+          else {
+
+            // Initialize ID
+            initializeId(dependentDataObject, domain);
+
+            // Set parent ID
+            Introspector.setPropertyValue(dependentDataObject, parentIdPropertyName, dataObject.getId());
+
+            // Get create SQL for new dependent data object
+            getCreateSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+    Returns the current associate IDs of a data object for a given associate binding.
+    Single valued associates are returned as a list containing the associate ID.
+    @param dataObject Data object.
+    @param associateBinding Associate binding.
+    @return Collection Associate IDs.
+  */
+  private Collection<?> getAssociateIds(DataObject<?> dataObject, AssociateBinding associateBinding) {
+
+    // Initialize return value
+    Collection<?> associateIds = null;
+
+    // Retrieve property value
+    Object propertyValue = Introspector.getPropertyValue(dataObject, associateBinding.getPropertyName());
+
+    if (associateBinding.isCollection()) {
+
+      // Use associate ID collection
+      if (propertyValue != null) {
+        associateIds = (Collection<?>)propertyValue;
+      }
+      else {
+        associateIds = Collections.emptyList();
+      }
+    }
+    else {
+
+      // Create list containing single associate ID
+      associateIds = Collections.singletonList(propertyValue);
+    }
+
+    return associateIds;
+  }
+
+  /**
+    Returns the current dependent data objects of a data object for a given dependent binding.
+    @param dataObject Data object.
+    @param dependentBinding Dependent binding.
+    @return List Dependent data objects.
+  */
+  private List<DataObject<?>> getDependentDataObjects(DataObject<?> dataObject, DependentBinding dependentBinding) {
+
+    // Initialize return value
+    List<DataObject<?>> dependentDataObjects = new ArrayList<DataObject<?>>();
+
+    // Retrieve property value
+    Object propertyValue = Introspector.getPropertyValue(dataObject, dependentBinding.getPropertyName());
+
+    if (propertyValue != null) {
+
+      if (dependentBinding.isCollection()) {
+
+        // Add all dependent data objects
+        for (Object value : (Collection<?>)propertyValue) {
+
+          if (value != null) {
+            dependentDataObjects.add((DataObject<?>)value);
+          }
+        }
+      }
+      else {
+
+        // Add single dependent data object
+        dependentDataObjects.add((DataObject<?>)propertyValue);
+      }
+    }
+
+    return dependentDataObjects;
+  }
+
+  /**
+    Marks a data object as persisted after it has been loaded or successfully saved.
+    @see DatabaseDataManager#markPersisted(DataObject)
+  */
+  @Override
+  protected void markPersisted(T dataObject) {
+
+    if (dataObject != null) {
+      markPersisted(dataObject, dataObjectBinding);
+    }
+  }
+
+  /**
+    Recursively captures the persisted associate IDs and dependent data objects of a data object
+    using a data object binding and marks the data object and its dependents as persisted.
+    Values of unloaded properties are not captured.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+  */
+  private void markPersisted(DataObject<?> dataObject, DataObjectBinding dataObjectBinding) {
+
+    // Create persisted values
+    Map<String, Collection<?>> persistedValues = new HashMap<String, Collection<?>>();
+
+    // Capture loaded associate IDs
+    for (AssociateBinding associateBinding : dataObjectBinding.getAssociateBindings()) {
+
+      if (dataObject.isLoaded(associateBinding.getPropertyName())) {
+
+        // Get associate IDs
+        Collection<?> associateIds = getAssociateIds(dataObject, associateBinding);
+
+        // Add copy of associate IDs
+        persistedValues.put(associateBinding.getPropertyName(), new ArrayList<Object>(associateIds));
+      }
+    }
+
+    // Capture loaded dependent data objects
+    for (DependentBinding dependentBinding : dataObjectBinding.getDependentBindings()) {
+
+      if (dataObject.isLoaded(dependentBinding.getPropertyName())) {
+
+        // Get dependent data object binding
+        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+
+        // Get dependent data objects
+        List<DataObject<?>> dependentDataObjects = getDependentDataObjects(dataObject, dependentBinding);
+
+        // Mark dependent data objects as persisted
+        for (DataObject<?> dependentDataObject : dependentDataObjects) {
+          markPersisted(dependentDataObject, dependentDataObjectBinding);
+        }
+
+        // Add dependent data objects
+        persistedValues.put(dependentBinding.getPropertyName(), dependentDataObjects);
+      }
+    }
+
+    // Mark data object as persisted
+    dataObject.markPersisted(persistedValues);
+  }
+
+  /**
+    Populates a list of prepared statements used to delete a given data object using
+    a data object ID, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getDeleteSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getDeleteSql";
+
+    // Attempt to apply virtual delete SQL first
+    boolean isVirtualDelete = getVirtualDeleteSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+    // Perform hard delete if no SQL was added during virtual delete
+    if (!isVirtualDelete) {
+
+      // Get delete associate SQL
+      getDeleteAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+      // Get delete dependent SQL
+      getDeleteDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+
+      // Get ID column binding
+      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+      // Get SQL text
+      String sql = getDeleteText(dataObjectBinding);
+
+      // Initialize SQL statement
+      PreparedStatement statement = null;
+
+      try {
+        // Get batch SQL statement
+        statement = prepareBatchStatement(sql, connection, sqlStatements);
+      }
+      catch (SQLException sqlException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Delete SQL", sqlException);
+
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
+
+      // Initialize parameter index
+      int parameterIndex = 1;
+
+      // Set parameter values
+      parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
+      parameterIndex = setParameter(statement, domain, parameterIndex);
+
+      // Add parameter values to batch
+      addBatch(statement, sqlStatements);
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to virtually delete a given data object using
+    a data object, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+    @return boolean Indicates whether or not virtual delete SQL was added.
+  */
+  private boolean getVirtualDeleteSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getVirtualDeleteSql";
+
+    // Initialize return value
+    boolean isVirtualDelete = false;
+
+    // Get virtual delete column binding
+    ColumnBinding columnBinding = dataObjectBinding.getVirtualDeleteBinding();
+
+    if (columnBinding != null) {
+
+      // Get ID column binding
+      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+      // Get SQL text
+      String sql = getVirtualDeleteText(dataObjectBinding);
+
+      // Initialize SQL statement
+      PreparedStatement statement = null;
+
+      // Initialize parameter index
+      int parameterIndex = 1;
+
+      try {
+        // Get batch SQL statement
+        statement = prepareBatchStatement(sql, connection, sqlStatements);
+      }
+      catch (SQLException sqlException) {
+
+          // Post error message
+          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Virtual Delete SQL", sqlException);
+
+          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
+
+      // Set parameter values
+      parameterIndex = setParameter(statement, Boolean.TRUE, columnBinding, parameterIndex);
+      parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
+      parameterIndex = setParameter(statement, domain, parameterIndex);
+
+      // Add parameter values to batch
+      addBatch(statement, sqlStatements);
+
+      isVirtualDelete = true;
+    }
+
+    return isVirtualDelete;
+  }
+
+  /**
+    Returns a value condition including a condition to avoid virtual deletes.
+    @param originalValueCondition Original value condition.
+    @return IValueCondition Original value condition or a new value condition
+    including the virtual delete condition.
+  */
+  private IValueCondition appendVirtualDeleteCondition(IValueCondition originalValueCondition) {
+
+    // Initialize return value
+    IValueCondition modifiedValueCondition = originalValueCondition;
+
+    // Attempt to get virtual delete binding
+    ColumnBinding columnBinding = dataObjectBinding.getVirtualDeleteBinding();
+
+    if (columnBinding != null) {
+
+      // Get table name and column name
+      String tableName = dataObjectBinding.getTableName();
+      String columnName = columnBinding.getColumnName();
+
+      if (originalValueCondition == null) {
+
+        // Create virtual delete condition
+        IValueCondition virtualDeleteCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.BOOLEAN, Boolean.FALSE);
+
+        // Set return value to virtual delete condition
+        modifiedValueCondition = virtualDeleteCondition;
+      }
+      else if (!originalValueCondition.isColumnReferenced(tableName, columnName)) {
+      	
+        // Create virtual delete condition
+        IValueCondition virtualDeleteCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.BOOLEAN, Boolean.FALSE);
+
+        // Create value conditions using original condition and append virtual delete condition
+        ValueConditions valueConditions = new ValueConditions(originalValueCondition);
+        valueConditions.add(Operators.AND, virtualDeleteCondition);
+
+        // Set return value to value conditions
+        modifiedValueCondition = valueConditions;
+      }
+    }
+
+    return modifiedValueCondition;
+  }
+
+  /**
+    Returns a value condition including a domain specific condition.
+    @param domain Target domain.
+    @param originalValueCondition Original value condition.
+    @return IValueCondition Original value condition or a new value condition
+  */
+  private IValueCondition appendDomainCondition(String tableName, IDomain domain, IValueCondition originalValueCondition) {
+  
+    // Initialize return value
+    IValueCondition modifiedValueCondition = originalValueCondition;
+
+    if (isDomainAware()) {
+      
+    	// Get domain ID column name
+    	String columnName = getDomainIdColumnName();
+    	
+    	// Initialize domain ID
+    	Integer domainId = IDomain.DEFAULT_ID;
+    	
+    	// Use specified domain ID if provided
+    	if (domain != null) {
+    		domainId = domain.getId();
+    	}
+
+      if (originalValueCondition == null) {
+
+        // Create domain condition
+        IValueCondition domainCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.INTEGER, domainId);
+
+        // Set return value to domain condition
+        modifiedValueCondition = domainCondition;
+      }
+      else if (!originalValueCondition.isColumnReferenced(tableName, columnName)) {
+      	
+        // Create domain condition
+        IValueCondition domainCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.INTEGER, domainId);
+
+        // Create value conditions using original condition and append domain condition
+        ValueConditions valueConditions = new ValueConditions(originalValueCondition);
+        valueConditions.add(Operators.AND, domainCondition);
+
+        // Set return value to value conditions
+        modifiedValueCondition = valueConditions;
+      }
+    }
+
+    return modifiedValueCondition;
+  }
+
+  /**
+    Populates a list of prepared statements used to delete associate data objects
+    using a data object, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getDeleteAssociateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getDeleteAssociateSql";
+
+    // Get associate bindings
+    Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
+
+    for (AssociateBinding associateBinding : associateBindings) {
+
+      // Get parent ID column binding
+      IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+
+      // Get SQL text
+      String sql = getDeleteAllAssociateText(associateBinding, dataObjectBinding);
+
+      // Initialize SQL statement
+      PreparedStatement statement = null;
+
+      try {
+        // Get batch SQL statement
+        statement = prepareBatchStatement(sql, connection, sqlStatements);
+      }
+      catch (SQLException sqlException) {
+
+          // Post error message
+          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Delete Associate SQL", sqlException);
+    
+          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
+
+      // Initialize parameter index
+      int parameterIndex = 1;
+
+      // Set parameter values
+      parameterIndex = setParameter(statement, dataObject.getId(), parentIdColumnBinding, parameterIndex);
+
+      // Add parameter values to batch
+      addBatch(statement, sqlStatements);
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to delete dependent data objects
+    using a data object, data object binding, database connection and list of SQL statements.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getDeleteDependentSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Get dependent bindings
+  	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
+
+    for (DependentBinding dependentBinding : dependentBindings) {
+
+      // Get property name
+      String propertyName = dependentBinding.getPropertyName();
+
+      // Get dependent data object binding
+      DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+
+      if (dependentBinding.isCollection()) {
+
+        // Retrieve dependent data objects
+        @SuppressWarnings("unchecked")
+				Collection<DataObject<?>> dependentDataObjects = (Collection<DataObject<?>>)Introspector.getPropertyValue(dataObject, propertyName);
+
+        if (dependentDataObjects != null) {
+
+          // Create value iterator
+          Iterator<DataObject<?>> values = dependentDataObjects.iterator();
+
+          while (values.hasNext()) {
+
+            // Get next dependent data object
+          	DataObject<?> dependentDataObject = values.next(); 
+
+            // Get delete SQL data object
+            getDeleteSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
+          }
+        }
+      }
+      else {
+
+        // Get dependent data object
+        DataObject<?> dependentDataObject = (DataObject<?>)Introspector.getPropertyValue(dataObject, propertyName);
+
+        // Get delete SQL data object
+        if (dependentDataObject != null) {
+          getDeleteSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
+        }
+      }
+    }
+  }
+
+  /**
+    Populates a list of prepared statements used to find a list of data objects
+    using a value condition, database connection and list of SQL statements.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  protected void getFindSql(IValueCondition valueCondition, IOrderCondition orderCondition,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Get find SQL with no external joins
+    getFindSql(null, valueCondition, orderCondition, connection, domain, sqlStatements);
+  }
+
+  /**
+    Populates a list of prepared statements used to find a list of data objects
+    using a list of joins, value condition, database connection and list of SQL statements.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  protected void getFindSql(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Get find SQL selecting primary, associate and dependent data
+    getFindSql(FIND_PLAN, joins, valueCondition, orderCondition, connection, domain, sqlStatements);
+  }
+
+  /**
+    Populates a list of prepared statements used to find a list of data objects using a find plan type,
+    list of joins, value condition, database connection and list of SQL statements.
+    @param planType Find plan type.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of SQL statements.
+  */
+  private void getFindSql(String planType, List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition,
+      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    // Set method name
+    String methodName = "getFindSql";
+
+    // Get query shape using original joins and conditions
+    String shape = getQueryShape(planType, joins, valueCondition, orderCondition);
+
+    // Attempt to get cached find plan
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    List<String> findPlan = sqlPlanCache.getFindPlan(shape);
+
+    // Get primary table name
+    String primaryTableName = dataObjectBinding.getTableName();
+
+    // Append virtual delete condition if one exists
+    valueCondition = appendVirtualDeleteCondition(valueCondition);
+
+    // Append domain condition
+    valueCondition = appendDomainCondition(primaryTableName, domain, valueCondition);
+
+    // Create and cache find plan
+    if (findPlan == null) {
+      findPlan = sqlPlanCache.putFindPlan(shape, createFindPlan(planType, joins, valueCondition, orderCondition));
+    }
+
+    try {
+
+      for (String sql : findPlan) {
+
+        // Create SQL statement
+        PreparedStatement sqlStatement = connection.prepareStatement(sql);
+
+        // Add statement to list
+        sqlStatements.add(sqlStatement);
+
+        // Set finder specific SQL parameters
+        if (valueCondition != null) {
+          valueCondition.setParameters(sqlStatement, 1);
+        }
+      }
+    }
+    catch (SQLException sqlException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Find SQL", sqlException);
+
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+  }
+
+  /**
+    Returns a query shape used to cache find plans. The shape is built from the structural keys of the joins
+    and conditions, such as columns, operators and list sizes, without generating any SQL text.
+    @param planType Plan type.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @return String Query shape.
+  */
+  private String getQueryShape(String planType, List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition) {
+
+    // Initialize shape using plan type and domain mode
+    StringBuffer shape = new StringBuffer(getStatementKey(planType));
+
+    // Append join structure
+    if (joins != null) {
+
+      for (Join join : joins) {
+        shape.append("|");
+        join.appendShape(shape);
+      }
+    }
+
+    // Append value condition structure
+    shape.append("|where ");
+
+    if (valueCondition != null) {
+      valueCondition.appendShape(shape);
+    }
+
+    // Append order condition structure
+    shape.append("|order by ");
+
+    if (orderCondition != null) {
+      orderCondition.appendShape(shape);
+    }
+
+    return shape.toString();
+  }
+
+  /**
+    Creates and returns a find plan consisting of the SQL text for each find statement. Find plans
+    contain primary, associate and dependent statements in that order unless associates and
+    dependents are loaded by key, while ID, page, count and exists plans contain a single statement
+    against the primary table. Value conditions are expected to already include virtual delete and
+    domain conditions.
+    @param planType Plan type.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @return List List of SQL text.
+  */
+  private List<String> createFindPlan(String planType, List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition) {
+
+    // Initialize return value
+    List<String> sqlTexts = new ArrayList<String>();
+
+    // Get primary table name
+    String primaryTableName = dataObjectBinding.getTableName();
+
+    // Create aliases map
+    Map<String, String> aliases = new HashMap<String, String>();
+
+    // Add primary table alias
+    aliases.put(primaryTableName, "x");
+
+    // Copy joins so required joins are not appended to the original list
+    List<Join> findJoins = new ArrayList<Join>();
+
+    if (joins != null) {
+      findJoins.addAll(joins);
+    }
+
+    // Append required associate and dependent join
+    appendRequiredJoins(dataObjectBinding, orderCondition, findJoins);
+    appendRequiredAssociateJoins(dataObjectBinding, valueCondition, orderCondition, findJoins);
+    appendRequiredDependentJoins(dataObjectBinding, valueCondition, orderCondition, findJoins);
+
+    // Create join SQL
+    String joinSql = createJoinSql(findJoins, aliases);
+
+    // Initialize condition SQL
+    String valueConditionSql = "";
+    String orderConditionSql = "";
+
+    // Get finder specific value condition SQL
+    if (valueCondition != null) {
+      valueConditionSql = " where " + valueCondition.generateSql(aliases);
+    }
+
+    // Get finder specific order condition SQL
+    if (orderCondition != null) {
+      orderConditionSql = " order by " + orderCondition.generateSql(aliases);
+    }
+
+    if (planType.equals(COUNT_PLAN)) {
+
+      // Get ID column binding
+      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+      // Count distinct IDs only when joins could produce duplicate rows
+      String countSql = joinSql.length() == 0 ? "count(*)" : "count(distinct x." + idColumnBinding.getColumnName() + ")";
+
+      // Build SQL for primary table
+      StringBuffer sql = new StringBuffer();
+      sql.append("select ").append(countSql);
+      sql.append(" from ").append(primaryTableName).append(" x ");
+      sql.append(joinSql).append(valueConditionSql);
+
+      sqlTexts.add(sql.toString());
+    }
+    else if (planType.equals(EXISTS_PLAN)) {
+
+      // Build SQL for primary table
+      StringBuffer sql = new StringBuffer();
+      sql.append("select 1");
+      sql.append(" from ").append(primaryTableName).append(" x ");
+      sql.append(joinSql).append(valueConditionSql);
+
+      // Exists clauses are applied by the caller
+      sqlTexts.add(sql.toString());
+    }
+    else if (!planType.equals(FIND_PLAN) && !planType.equals(FIND_PRIMARY_PLAN)) {
+
+      // Get ID column binding
+      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+      // Get primary column name
+      String primaryColumnName = "x." + idColumnBinding.getColumnName();
+
+      // Build SQL for primary table - Paging clauses are applied by the caller
+      StringBuffer sql = new StringBuffer();
+      sql.append("select ").append(primaryColumnName);
+      sql.append(" from ").append(primaryTableName).append(" x ");
+      sql.append(joinSql).append(valueConditionSql);
+
+      if (joinSql.length() == 0) {
+
+        // Each row represents a distinct ID when there are no joins
+        sql.append(orderConditionSql);
+      }
+      else {
+
+        // Group joined rows by ID ordering by aggregated order columns so each ID is returned once
+        sql.append(" group by ").append(primaryColumnName);
+
+        if (orderCondition != null) {
+          sql.append(" order by ").append(orderCondition.generateAggregateSql(aliases));
+        }
+      }
+
+      sqlTexts.add(sql.toString());
+    }
+    else {
+
+      // Create primary SQL text
+      getFindPrimarySql(primaryTableName, joinSql, valueConditionSql, orderConditionSql, sqlTexts);
+
+      // Associates and dependents are loaded by key after the primary query when using key fetching
+      if (planType.equals(FIND_PLAN) && !dataObjectBinding.isKeyFetch()) {
+
+        // Create associate SQL text
+        getFindAssociateSql(primaryTableName, joinSql, valueConditionSql, aliases, sqlTexts);
+
+        // Create dependent SQL text
+        getFindDependentSql(1, dataObjectBinding, aliases, primaryTableName, joinSql, valueConditionSql, sqlTexts);
+      }
+    }
+
+    return sqlTexts;
+  }
+
+  /**
+   * Creates and appends joins to a list of joins if column binding use associative ordering and 
+   * the associative table is referenced by an order condition.
+   * @param dataObjectBinding Data object binding.
+   * @param orderCondition Order condition.
+   * @param joins List of joins to populate.
+   */
+  private void appendRequiredJoins(DataObjectBinding dataObjectBinding, IOrderCondition orderCondition, List<Join> joins) {
+  	
+  	if (orderCondition != null) {
+  		
+      // Get associate bindings
+    	Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+
+    	if (columnBindings != null && !columnBindings.isEmpty()) {
+    		
+        // Get source table name
+        String sourceTableName = dataObjectBinding.getTableName();
+
+        for (ColumnBinding columnBinding : columnBindings) {
+
+        	if (columnBinding.useReferenceOrdering()) {
+        		
+            // Get reference table name
+            String referenceTableName = columnBinding.getReferenceTableName();
+        		
+      			if (orderCondition.isTableReferenced(referenceTableName)) {
+      				
+      				// Get source column name
+      				String sourceColumnName = columnBinding.getColumnName();
+      				
+      				// Get reference ID column name
+      				String referenceIdColumnName = columnBinding.getReferenceIdColumnName();
+      				
+              // Create reference join condition
+              JoinCondition referenceJoinCondition = new JoinCondition(sourceTableName, sourceColumnName, Operators.EQUALS, referenceTableName, referenceIdColumnName);
+            	
+              // Create reference join
+              Join referenceJoin = new Join(Join.LEFT_OUTER_JOIN, sourceTableName, referenceTableName, referenceJoinCondition);
+
+              // Add join to list
+              joins.add(referenceJoin);
+      			}
+        	}
+        }
+    	}
+  	}
+  }
+  
+  /**
+   * Creates and appends associate joins to a list of joins if their associated target table
+   * is referenced by a value condition or order condition.
+   * @param dataObjectBinding Data object binding.
+   * @param valueCondition Value condition.
+   * @param orderCondition Order condition.
+   * @param joins List of joins to populate.
+   */
+  private void appendRequiredAssociateJoins(DataObjectBinding dataObjectBinding, IValueCondition valueCondition, IOrderCondition orderCondition, List<Join> joins) {
+  	
+    // Get associate bindings
+  	Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
+
+  	if (associateBindings != null && !associateBindings.isEmpty()) {
+  		
+      // Get source table name
+      String sourceTableName = dataObjectBinding.getTableName();
+
+      // Get ID column binding
+      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+
+      // Set source column name
+      String sourceColumnName = idColumnBinding.getColumnName();
+
+      for (AssociateBinding associateBinding : associateBindings) {
+
+        // Get target table name
+        String targetTableName = associateBinding.getTableName();
+
+        // Initialize reference table name
+        String referenceTableName = null;
+        
+        // Set reference table name if reference ordering is enabled
+        if (associateBinding.useReferenceOrdering()) {
+        	referenceTableName = associateBinding.getReferenceTableName();
+        }
+        
+        // Set join type indicators
+        boolean isValueConditionJoin = valueCondition != null && valueCondition.isTableReferenced(targetTableName);
+        boolean isOrderConditionJoin = orderCondition != null && orderCondition.isTableReferenced(targetTableName);
+        boolean isReferenceOrderConditionJoin = orderCondition != null && orderCondition.isTableReferenced(referenceTableName);
+        
+  			if (isValueConditionJoin || isOrderConditionJoin || isReferenceOrderConditionJoin) {
+  				
+          // Get parent ID column binding
+          IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+
+          // Default target column name to source column name
+          String targetColumnName = parentIdColumnBinding.getColumnName();
+
+          // Create join condition
+          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName, Operators.EQUALS, targetTableName, targetColumnName);
+
+          // Set join type
+          String joinType = isValueConditionJoin ? Join.INNER_JOIN : Join.LEFT_OUTER_JOIN;
+          
+          // Create associate join
+          Join associateJoin = new Join(joinType, sourceTableName, targetTableName, joinCondition);
+
+          // Add join to list
+          joins.add(associateJoin);
+          
+          if (isReferenceOrderConditionJoin) {
+          	
+          	// Get reference ID column name
+          	String referenceIdColumnName = associateBinding.getReferenceIdColumnName();
+          	
+            // Create reference join condition
+            JoinCondition referenceJoinCondition = new JoinCondition(targetTableName, targetColumnName, Operators.EQUALS, referenceTableName, referenceIdColumnName);
+          	
+            // Create reference join
+            Join referenceJoin = new Join(Join.LEFT_OUTER_JOIN, targetTableName, referenceTableName, referenceJoinCondition);
+
+            // Add join to list
+            joins.add(referenceJoin);
+          }
+  			}
       }
+  	}
+  }
+  
+  /**
+   * Recursively creates and appends dependent joins to a list of joins if their associated target table
+   * is referenced by a value condition or order condition.
+   * @param dataObjectBinding Data object binding.
+   * @param valueCondition Value condition.
+   * @param orderCondition Order condition.
+   * @param joins List of joins to populate.
+   */
+  private void appendRequiredDependentJoins(DataObjectBinding dataObjectBinding, IValueCondition valueCondition, IOrderCondition orderCondition, List<Join> joins) {
+  	
+    // Get dependent bindings
+  	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
 
-      // Initialize parameter index
-      int parameterIndex = 1;
+    if (dependentBindings != null && !dependentBindings.isEmpty()) {
+    	
+      // Get source table name
+      String sourceTableName = dataObjectBinding.getTableName();
 
-      // Set parameter values
-      parameterIndex = setParameters(statement, dataObject, columnBindings, parameterIndex);
-      parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
-      parameterIndex = setParameter(statement, domain, parameterIndex);
+      // Initialize associate joins
+      List<Join> dependentJoins = new ArrayList<Join>();
+      
+      for (DependentBinding dependentBinding : dependentBindings) {
 
-      // Add statement to list
-      sqlStatements.add(statement);
-    }
+        // Get dependent data object binding
+        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+      	
+        // Recursively append required dependent joins
+        appendRequiredDependentJoins(dependentDataObjectBinding, valueCondition, orderCondition, dependentJoins);
+        
+        // Get target table name
+        String targetTableName = dependentDataObjectBinding.getTableName();
 
-    // Get delete associate SQL
-    getDeleteAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+        if (!dependentJoins.isEmpty() || 
+        	  (valueCondition != null && valueCondition.isTableReferenced(targetTableName)) || 
+      			(orderCondition != null && orderCondition.isTableReferenced(targetTableName))) {
 
-    // Get delete dependent SQL
-    getDeleteDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+          // Get parent ID column binding
+          IdColumnBinding parentIdColumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
 
-    // Get create associate SQL
-    getCreateAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+          // Get source column name
+          String sourceColumnName = parentIdColumnBinding.getColumnName();
 
-    // Get create dependent SQL
-    getCreateDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
-  }
+          // Get ID column binding
+          IdColumnBinding idColumnBinding = dependentDataObjectBinding.getIdColumnBinding();
 
+          // Get target column name
+          String targetColumnName = idColumnBinding.getColumnName();
+
+          // Create join condition
+          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName,
+              Operators.EQUALS, targetTableName, targetColumnName);
+
+          // Create dependent join
+          Join dependentJoin = new Join(Join.INNER_JOIN, sourceTableName, targetTableName, joinCondition);
+        	
+        	// Append dependent join 
+        	joins.add(dependentJoin);
+        	
+        	// Append recursively obtained dependent joins
+        	joins.addAll(dependentJoins);
+        }
+        
+      	// Clear existing associate joins
+      	dependentJoins.clear();
+      }  	
+    }
+  }
+  
   /**
-    Populates a list of prepared statements used to delete a given data object using
-    a data object ID, data object binding, database connection and list of SQL statements.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
-    @param connection Database connection.
-    @param domain Target domain.
-    @param sqlStatements List of SQL statements.
-  */
-  private void getDeleteSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+   * Creates and returns join SQL using a list of joins and a map of aliases keyed by table name.
+   * @param joins List of joins.
+   * @param aliases Map of aliases keyed by table name.
+   * @return String Join SQL.
+   */
+  private String createJoinSql(List<Join> joins, Map<String, String> aliases) {
+  	
+    // Initialize return value
+    StringBuffer joinSql = new StringBuffer();
 
-    // Set method name
-    String methodName = "getDeleteSql";
+    // Initialize join table count
+    int joinTableCount = 1;
 
-    // Attempt to apply virtual delete SQL first
-    getVirtualDeleteSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+    if (joins != null) {
 
-    // Perform hard delete if no SQL was added during virtual delete
-    if (sqlStatements.size() == 0) {
+      // Append finder specific joins
+      for (Join join : joins) {
 
-      // Get delete associate SQL
-      getDeleteAssociateSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+        // Get source and target table names
+        String sourceTableName = join.getSourceTableName().toLowerCase();
+        String targetTableName = join.getTargetTableName().toLowerCase();
 
-      // Get delete dependent SQL
-      getDeleteDependentSql(dataObject, dataObjectBinding, connection, domain, sqlStatements);
+        // Add aliases
+        if (!aliases.containsKey(sourceTableName)) {
+          aliases.put(sourceTableName, "j" + String.valueOf(joinTableCount++));
+        }
+        if (!aliases.containsKey(targetTableName)) {
+          aliases.put(targetTableName, "j" + String.valueOf(joinTableCount++));
+        }
+
+        // Append spacing
+        if (joinSql.length() > 0) {
+          joinSql.append(" ");
+        }
+
+        // Append join SQL
+        joinSql.append(join.generateSql(aliases));
+      }
+    }
+    
+    return joinSql.toString();
+  }
+
+  /**
+   * Creates primary SQL text and adds it to a given list of SQL text. 
+   * @param primaryTableName Primary table name.
+   * @param joinSql Join SQL.
+   * @param valueConditionSql Value condition SQL.
+   * @param orderConditionSql Order condition SQL.
+   * @param sqlTexts List of SQL text to populate.
+   */
+  private void getFindPrimarySql(String primaryTableName, String joinSql, String valueConditionSql, String orderConditionSql, 
+  		List<String> sqlTexts) {
+  	
+    // Build SQL for primary table
+    StringBuffer sql = new StringBuffer();
+    sql.append("select distinct x.* from ").append(primaryTableName).append(" x ");
+    sql.append(joinSql).append(valueConditionSql).append(orderConditionSql);
+
+    // Add SQL text to list
+    sqlTexts.add(sql.toString());
+  }
+  
+  /**
+   * Creates associate SQL text for each associated join and adds it to a given list of SQL text. 
+   * @param primaryTableName Primary table name.
+   * @param joinSql Join SQL.
+   * @param valueConditionSql Value condition SQL.
+   * @param aliases Map of aliases keyed by table name. 
+   * @param sqlTexts List of SQL text to populate.
+   */
+  private void getFindAssociateSql(String primaryTableName, String joinSql, String valueConditionSql,  
+  		Map<String, String> aliases, List<String> sqlTexts) {
+  	
+    // Get associate bindings
+    Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
+    
+    if (associateBindings != null && !associateBindings.isEmpty()) {
+    	
+      // Get source table name
+      String sourceTableName = dataObjectBinding.getTableName().toLowerCase();
 
       // Get ID column binding
       IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
 
-      // Get condition
-      String condition = getCondition(idColumnBinding, domain);
+      // Set source column name
+      String sourceColumnName = idColumnBinding.getColumnName();
 
-      // Get table name
-      String tableName = dataObjectBinding.getTableName();
+      // Create associate aliases map
+      Map<String, String> associateAliases = new HashMap<String, String>();
+      
+      for (AssociateBinding associateBinding : associateBindings) {
 
-      // Build SQL text
-      String sql = "delete from " + tableName + " where " + condition;
+      	// Reset associate aliases
+      	associateAliases.clear();
+      	associateAliases.putAll(aliases);
 
-      // Initialize SQL statement
-      PreparedStatement statement = null;
+      	// Get target table name
+        String targetTableName = associateBinding.getTableName().toLowerCase();
 
-      try {
-        // Create SQL statement
-        statement = connection.prepareStatement(sql);
-      }
-      catch (SQLException sqlException) {
+        // Initialize associate join SQL
+        String associateJoinSql = "";
+        
+        if (!associateAliases.containsKey(targetTableName)) {
+        	
+          // Add target aliases if undefined
+        	associateAliases.put(targetTableName, "a2");
+        	
+          // Add source aliases if undefined
+          if (!associateAliases.containsKey(sourceTableName)) {
+          	associateAliases.put(sourceTableName, "a1");
+          }
+        	
+          // Get parent ID column binding
+          IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
 
-        // Post error message
-        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Delete SQL", sqlException);
+          // Default target column name to source column name
+          String targetColumnName = parentIdColumnBinding.getColumnName();
 
-        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-      }
+          // Create join condition
+          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName,
+              Operators.EQUALS, targetTableName, targetColumnName);
 
-      // Initialize parameter index
-      int parameterIndex = 1;
+          // Create associate join
+          Join associateJoin = new Join(Join.INNER_JOIN, sourceTableName, targetTableName, joinCondition);
+          
+          // Create associate join SQL
+          associateJoinSql = associateJoin.generateSql(associateAliases);
+        }
+
+        // Get target aliases
+        String targetAlias = associateAliases.get(targetTableName);
 
-      // Set parameter values
-      parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
-      parameterIndex = setParameter(statement, domain, parameterIndex);
+        // Build associate SQL
+        StringBuffer sql = new StringBuffer();
+        sql.append("select distinct ").append(targetAlias).append(".*");
+        sql.append(" from ").append(primaryTableName).append(" x ");
+        sql.append(joinSql).append(" ").append(associateJoinSql);
+        sql.append(valueConditionSql);
 
-      // Add statement to list
-      sqlStatements.add(statement);
+        // Add SQL text to list
+        sqlTexts.add(sql.toString());
+      }
     }
   }
-
+  
   /**
-    Populates a list of prepared statements used to virtually delete a given data object using
-    a data object, data object binding, database connection and list of SQL statements.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
-    @param connection Database connection.
-    @param domain Target domain.
-    @param sqlStatements List of SQL statements.
-  */
-  private void getVirtualDeleteSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
-
-    // Set method name
-    String methodName = "getVirtualDeleteSql";
-
-    // Get column bindings
-    Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
-
-    // Get virtual delete column binding
-    ColumnBinding columnBinding = getVirtualDeleteBinding(columnBindings);
+   * Recursively creates dependent SQL text for each dependent binding and adds it to a given list of SQL text. 
+   * @param startIndex Starting dependent alias index.
+   * @param parentDataObjectBinding Parent data object binding.
+   * @param parentAliases Map of parent aliases keyed by table name. 
+   * @param primaryTableName Primary table name.
+   * @param joinSql Join SQL.
+   * @param valueConditionSql Value condition SQL.
+   * @param sqlTexts List of SQL text to populate.
+   * @return int Next dependent alias index.
+   */
+  private int getFindDependentSql(int startIndex, DataObjectBinding parentDataObjectBinding, Map<String, String> parentAliases, 
+  		String primaryTableName, String joinSql, String valueConditionSql, List<String> sqlTexts) {
+  	
+    // Get dependent bindings
+    Collection<DependentBinding> dependentBindings = parentDataObjectBinding.getDependentBindings();
 
-    if (columnBinding != null) {
+    if (dependentBindings != null && !dependentBindings.isEmpty()) {
 
-      // Build virtual delete column
-      String column = getUpdateColumn(columnBinding);
+      // Get source table name
+      String sourceTableName = parentDataObjectBinding.getTableName().toLowerCase();
 
-      // Get ID column binding
-      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+      // Create dependent aliases map
+      Map<String, String> dependentAliases = new HashMap<String, String>();
 
-      // Get column and condition
-      String condition = getCondition(idColumnBinding, domain);
+      for (DependentBinding dependentBinding : dependentBindings) {
+      
+      	// Reset dependent aliases
+      	dependentAliases.clear();
+      	dependentAliases.putAll(parentAliases);
 
-      // Get table name
-      String tableName = dataObjectBinding.getTableName();
+        // Add source aliases if undefined
+        if (!dependentAliases.containsKey(sourceTableName)) {
+        	dependentAliases.put(sourceTableName, "d" + String.valueOf(startIndex++));
+        }
+      	
+        // Get dependent data object binding
+        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+      	
+        // Get target table name
+        String targetTableName = dependentDataObjectBinding.getTableName().toLowerCase();
+        
+        // Initialize defined dependent join indicator
+        boolean isDependentJoinDefined = false;
+        
+        if (!dependentAliases.containsKey(targetTableName)) {
+        	
+          // Add target aliases if undefined
+        	dependentAliases.put(targetTableName, "d" + String.valueOf(startIndex++));
+        	
+        	// Set defined dependent join indicator
+        	isDependentJoinDefined = true;
+        }
+        
+      	// Initialize dependent join SQL
+      	String dependentJoinSql = "";
+      	
+        if (!isDependentJoinDefined) {
+        	
+          // Get parent ID column binding
+          IdColumnBinding parentIdColumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
 
-      // Build SQL text
-      String sql = "update " + tableName + " set " + column + " where " + condition;
+          // Get source column name
+          String sourceColumnName = parentIdColumnBinding.getColumnName();
 
-      // Initialize SQL statement
-      PreparedStatement statement = null;
+          // Get ID column binding
+          IdColumnBinding idColumnBinding = dependentDataObjectBinding.getIdColumnBinding();
 
-      // Initialize parameter index
-      int parameterIndex = 1;
+          // Get target column name
+          String targetColumnName = idColumnBinding.getColumnName();
 
-      try {
-        // Create SQL statement
-        statement = connection.prepareStatement(sql);
-      }
-      catch (SQLException sqlException) {
+          // Create join condition
+          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName,
+              Operators.EQUALS, targetTableName, targetColumnName);
 
-          // Post error message
-          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Virtual Delete SQL", sqlException);
+          // Create dependent join
+          Join dependentJoin = new Join(Join.INNER_JOIN, sourceTableName, targetTableName, joinCondition);
+          
+          // Append dependent join SQL
+          dependentJoinSql = dependentJoin.generateSql(dependentAliases);
+        }
+        
+        // Get target aliases
+        String targetAlias = dependentAliases.get(targetTableName);
+        
+        // Build dependent SQL
+        StringBuffer sql = new StringBuffer();
+        sql.append("select distinct ").append(targetAlias).append(".*");
+        sql.append(" from ").append(primaryTableName).append(" x ");
+        sql.append(joinSql).append(" ").append(dependentJoinSql);
+        sql.append(valueConditionSql);
 
-          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+        // Add SQL text to list
+        sqlTexts.add(sql.toString());
+        
+        // Recursively find dependent SQL
+        startIndex = getFindDependentSql(startIndex, dependentDataObjectBinding, dependentAliases, primaryTableName, dependentJoinSql, valueConditionSql, sqlTexts);
       }
-
-      // Set parameter values
-      parameterIndex = setParameter(statement, Boolean.TRUE, columnBinding, parameterIndex);
-      parameterIndex = setParameter(statement, dataObject.getId(), idColumnBinding, parameterIndex);
-      parameterIndex = setParameter(statement, domain, parameterIndex);
-
-      // Add statement to list
-      sqlStatements.add(statement);
     }
+    
+    return startIndex;
   }
-
+  
   /**
-    Returns a virtual delete column binding if one exists.
-    @param columnBindings Collection of column bindings.
-    @return ColumnBinding Column binding.
+    Returns a list of data objects from the default domain using a list joins and value condition.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @return List List of data objects.
   */
-  private ColumnBinding getVirtualDeleteBinding(Collection<ColumnBinding> columnBindings) {
-
-    // Initialize return value
-    ColumnBinding virtualDeleteBinding = null;
-
-    if (columnBindings != null) {
-
-      // Build delimited columns
-      for (ColumnBinding columnBinding : columnBindings) {
-
-        // Check for virtual delete column binding
-        if (columnBinding.getIsVirtualDelete()) {
-          virtualDeleteBinding = columnBinding;
-          break;
-        }
-      }
-    }
-
-    return virtualDeleteBinding;
+  protected List<T> find(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition) 
+  		throws DataSourceException {
+  	
+  	return find(joins, valueCondition, orderCondition, null);
   }
 
   /**
-    Returns a value condition including a condition to avoid virtual deletes.
-    @param originalValueCondition Original value condition.
-    @return IValueCondition Original value condition or a new value condition
-    including the virtual delete condition.
+    Returns a list of data objects from a specified domain using a list joins and value condition.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @param domain Target domain.
+    @return List List of data objects.
   */
-  private IValueCondition appendVirtualDeleteCondition(IValueCondition originalValueCondition) {
+  protected List<T> find(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition, IDomain domain) 
+  		throws DataSourceException {
+
+  	// Set method name variable
+    String methodName = "find";
 
     // Initialize return value
-    IValueCondition modifiedValueCondition = originalValueCondition;
+    List<T> dataObjects = null;
 
-    // Attempt to get virtual delete binding
-    ColumnBinding columnBinding = getVirtualDeleteBinding(dataObjectBinding.getColumnBindings());
+    // Initialize processing variables
+    Connection connection = null;
 
-    if (columnBinding != null) {
+    // Create SQL statement list
+    List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
+    
+    // Create result set list
+    List<ResultSet> resultSets = new ArrayList<ResultSet>();
+    
+    try {
+      // Retrieve database connection
+      connection = openConnection(domain);
 
-      // Get table name and column name
-      String tableName = dataObjectBinding.getTableName();
-      String columnName = columnBinding.getColumnName();
+      // Retrieve find SQL
+      getFindSql(joins, valueCondition, orderCondition, connection, domain, sqlStatements);
 
-      if (originalValueCondition == null) {
+      // Validate find SQL
+      if (sqlStatements.size() <= 0) {
+        throw new DataSourceException(methodName + ": No SQL returned from getFindSql method.");
+      }
 
-        // Create virtual delete condition
-        IValueCondition virtualDeleteCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.BOOLEAN, Boolean.FALSE);
+      // Execute all SQL statements
+      for (PreparedStatement sqlStatement : sqlStatements) {
+        resultSets.add(sqlStatement.executeQuery());
+      }
 
-        // Set return value to virtual delete condition
-        modifiedValueCondition = virtualDeleteCondition;
+      // Create data object list
+      if (resultSets.size() > 0) {
+        dataObjects = createDataObjects(resultSets, null, connection);
       }
-      else if (!originalValueCondition.isColumnReferenced(tableName, columnName)) {
-      	
-        // Create virtual delete condition
-        IValueCondition virtualDeleteCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.BOOLEAN, Boolean.FALSE);
+    }
+    catch (CoreException coreException) {
 
-        // Create value conditions using original condition and append virtual delete condition
-        ValueConditions valueConditions = new ValueConditions(originalValueCondition);
-        valueConditions.add(Operators.AND, virtualDeleteCondition);
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Objects", coreException);
 
-        // Set return value to value conditions
-        modifiedValueCondition = valueConditions;
-      }
+      throw new DataSourceException(methodName + ": " + coreException.getMessage());
     }
+    catch (SQLException sqlException) {
 
-    return modifiedValueCondition;
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Objects", sqlException);
+
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    finally {
+
+      // Close all statements and result sets
+      DbUtil.closeStatements(sqlStatements);
+      DbUtil.closeResultSets(resultSets);
+
+      // Close connnection
+      DbUtil.closeConnection(connection);
+    }
+
+    return dataObjects;
   }
 
   /**
-    Returns a value condition including a domain specific condition.
+    Returns a list of data object IDs from the default domain using a list joins and value condition.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @return List List of data object IDs.
+  */
+  protected List<I> findIds(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition)
+      throws DataSourceException {
+  	
+  	return findIds(joins, valueCondition, orderCondition, null);
+  }
+  
+  /**
+    Returns a list of data object IDs from a specified domain using a list joins and value condition.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
     @param domain Target domain.
-    @param originalValueCondition Original value condition.
-    @return IValueCondition Original value condition or a new value condition
+    @return List List of data object IDs.
   */
-  private IValueCondition appendDomainCondition(String tableName, IDomain domain, IValueCondition originalValueCondition) {
+  protected List<I> findIds(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition, IDomain domain)
+      throws DataSourceException {
+
+  	// Set method name variable
+    String methodName = "findIds";
   
     // Initialize return value
-    IValueCondition modifiedValueCondition = originalValueCondition;
-
-    if (isDomainAware()) {
-      
-    	// Get domain ID column name
-    	String columnName = getDomainIdColumnName();
-    	
-    	// Initialize domain ID
-    	Integer domainId = IDomain.DEFAULT_ID;
-    	
-    	// Use specified domain ID if provided
-    	if (domain != null) {
-    		domainId = domain.getId();
-    	}
-
-      if (originalValueCondition == null) {
-
-        // Create domain condition
-        IValueCondition domainCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.INTEGER, domainId);
-
-        // Set return value to domain condition
-        modifiedValueCondition = domainCondition;
-      }
-      else if (!originalValueCondition.isColumnReferenced(tableName, columnName)) {
-      	
-        // Create domain condition
-        IValueCondition domainCondition = new ValueCondition(tableName, columnName, Operators.EQUALS, DbUtil.INTEGER, domainId);
-
-        // Create value conditions using original condition and append domain condition
-        ValueConditions valueConditions = new ValueConditions(originalValueCondition);
-        valueConditions.add(Operators.AND, domainCondition);
-
-        // Set return value to value conditions
-        modifiedValueCondition = valueConditions;
+    List<I> dataObjectIds = null;
+  
+    // Initialize processing variables
+    Connection connection = null;
+    PreparedStatement sqlStatement = null;
+    ResultSet resultSet = null;
+    
+    try {
+      // Retrieve database connection
+      connection = openConnection(domain);
+  
+      // Retrieve find SQL
+      sqlStatement = getFindIdSql(joins, valueCondition, orderCondition, connection, domain);
+  
+      // Validate find SQL
+      if (sqlStatement == null) {
+        throw new DataSourceException(methodName + ": No SQL returned from getFindIdSql method.");
       }
+  
+      // Execute SQL statement
+      resultSet = sqlStatement.executeQuery();
+  
+      // Create data object ID list
+      dataObjectIds = createIds(resultSet);
+    }
+    catch (CoreException coreException) {
+  
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Object IDs", coreException);
+  
+      throw new DataSourceException(methodName + ": " + coreException.getMessage());
+    }
+    catch (SQLException sqlException) {
+  
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Object IDs", sqlException);
+  
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    finally {
+  
+      // Close all statements and result sets
+      DbUtil.closeStatement(sqlStatement);
+      DbUtil.closeResultSet(resultSet);
+  
+      // Close connnection
+      DbUtil.closeConnection(connection);
     }
+  
+    return dataObjectIds;
+  }
+  
+  /**
+    Returns a prepared statement used to find a list of data object IDs
+    using a value condition and database connection.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @param connection Database connection.
+    @param domain Target domain.
+    @return PreparedStatement Prepared statement.
+  */
+  protected PreparedStatement getFindIdSql(IValueCondition valueCondition, IOrderCondition orderCondition, Connection connection, IDomain domain)
+      throws DataSourceException {
 
-    return modifiedValueCondition;
+    // Get find SQL with no external joins
+    return getFindIdSql(null, valueCondition, orderCondition, connection, domain);
   }
 
   /**
-    Populates a list of prepared statements used to delete associate data objects
-    using a data object, data object binding, database connection and list of SQL statements.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
+    Returns a prepared statement used to find a list of data object IDs
+    using a list of joins, value condition, and database connection.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
     @param connection Database connection.
     @param domain Target domain.
-    @param sqlStatements List of SQL statements.
+    @return PreparedStatement Prepared statement.
   */
-  private void getDeleteAssociateSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+  protected PreparedStatement getFindIdSql(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition,
+      Connection connection, IDomain domain) throws DataSourceException {
 
     // Set method name
-    String methodName = "getDeleteAssociateSql";
-
-    // Get associate bindings
-    Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
-
-    for (AssociateBinding associateBinding : associateBindings) {
-
-      // Get table name
-      String tableName = associateBinding.getTableName();
-
-      // Get parent ID column binding
-      IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+    String methodName = "getFindIdSql";
 
-      // Get condition
-      String condition = getCondition(parentIdColumnBinding);
+    // Initialize return value
+    PreparedStatement sqlStatement = null;
+    
+    // Get query shape using original joins and conditions
+    String shape = getQueryShape(FIND_ID_PLAN, joins, valueCondition, orderCondition);
 
-      // Build SQL text
-      String sql = "delete from " + tableName + " where " + condition;
+    // Attempt to get cached find plan
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    List<String> findPlan = sqlPlanCache.getFindPlan(shape);
 
-      // Initialize SQL statement
-      PreparedStatement statement = null;
+    // Get primary table name
+    String primaryTableName = dataObjectBinding.getTableName();
 
-      try {
-        // Create SQL statement
-        statement = connection.prepareStatement(sql);
-      }
-      catch (SQLException sqlException) {
+    // Append virtual delete condition if one exists
+    valueCondition = appendVirtualDeleteCondition(valueCondition);
 
-          // Post error message
-          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Delete Associate SQL", sqlException);
+    // Append domain condition
+    valueCondition = appendDomainCondition(primaryTableName, domain, valueCondition);
     
-          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-      }
+    // Create and cache find plan
+    if (findPlan == null) {
+      findPlan = sqlPlanCache.putFindPlan(shape, createFindPlan(FIND_ID_PLAN, joins, valueCondition, orderCondition));
+    }
 
-      // Initialize parameter index
-      int parameterIndex = 1;
+    try {
+      // Create SQL statement
+      sqlStatement = connection.prepareStatement(findPlan.get(0));
 
-      // Set parameter values
-      parameterIndex = setParameter(statement, dataObject.getId(), parentIdColumnBinding, parameterIndex);
+      // Set finder specific SQL parameters
+      if (valueCondition != null) {
+        valueCondition.setParameters(sqlStatement, 1);
+      }
+    }
+    catch (SQLException sqlException) {
 
-      // Add statement to list
-      sqlStatements.add(statement);
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Find ID SQL", sqlException);
+  
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
     }
+    
+    return sqlStatement;
   }
-
+  
   /**
-    Populates a list of prepared statements used to delete dependent data objects
-    using a data object, data object binding, database connection and list of SQL statements.
-    @param dataObject Data object.
-    @param dataObjectBinding Data object binding.
+    Returns a prepared statement used to find a single page of data object IDs
+    using a list of joins, value condition, order condition and database connection.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param orderCondition Order condition.
+    @param offset Number of data object IDs to skip.
+    @param limit Maximum number of data object IDs to return.
     @param connection Database connection.
     @param domain Target domain.
-    @param sqlStatements List of SQL statements.
+    @return PreparedStatement Prepared statement.
   */
-  private void getDeleteDependentSql(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+  protected PreparedStatement getFindIdSql(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition,
+      int offset, int limit, Connection connection, IDomain domain) throws DataSourceException {
 
-    // Get dependent bindings
-  	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
+    // Set method name
+    String methodName = "getFindIdSql";
 
-    for (DependentBinding dependentBinding : dependentBindings) {
+    // Initialize return value
+    PreparedStatement sqlStatement = null;
 
-      // Get property name
-      String propertyName = dependentBinding.getPropertyName();
+    // Initialize SQL dialect
+    ISqlDialect sqlDialect = null;
 
-      // Get dependent data object binding
-      DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+    try {
+      // Get SQL dialect used with connection
+      sqlDialect = SqlDialectFactory.getDialect(connection);
+    }
+    catch (SQLException sqlException) {
 
-      if (dependentBinding.isCollection()) {
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting SQL Dialect", sqlException);
+  
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    
+    // Get query shape using original joins and conditions and SQL dialect
+    String shape = getQueryShape(FIND_PAGE_PLAN, joins, valueCondition, orderCondition) + "|" + sqlDialect.getClass().getName();
 
-        // Retrieve dependent data objects
-        @SuppressWarnings("unchecked")
-				Collection<DataObject<?>> dependentDataObjects = (Collection<DataObject<?>>)Introspector.getPropertyValue(dataObject, propertyName);
+    // Attempt to get cached find plan
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    List<String> findPlan = sqlPlanCache.getFindPlan(shape);
 
-        if (dependentDataObjects != null) {
+    // Get primary table name
+    String primaryTableName = dataObjectBinding.getTableName();
 
-          // Create value iterator
-          Iterator<DataObject<?>> values = dependentDataObjects.iterator();
+    // Append virtual delete condition if one exists
+    valueCondition = appendVirtualDeleteCondition(valueCondition);
 
-          while (values.hasNext()) {
+    // Append domain condition
+    valueCondition = appendDomainCondition(primaryTableName, domain, valueCondition);
+    
+    // Create and cache find plan
+    if (findPlan == null) {
 
-            // Get next dependent data object
-          	DataObject<?> dependentDataObject = values.next(); 
+      // Create ordered ID plan
+      List<String> orderedPlan = createFindPlan(FIND_PAGE_PLAN, joins, valueCondition, orderCondition);
 
-            // Get delete SQL data object
-            getDeleteSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
-          }
-        }
-      }
-      else {
+      // Apply paging clause
+      findPlan = sqlPlanCache.putFindPlan(shape, Collections.singletonList(sqlDialect.getPageSql(orderedPlan.get(0))));
+    }
 
-        // Get dependent data object
-        DataObject<?> dependentDataObject = (DataObject<?>)Introspector.getPropertyValue(dataObject, propertyName);
+    try {
+      // Create SQL statement
+      sqlStatement = connection.prepareStatement(findPlan.get(0));
 
-        // Get delete SQL data object
-        if (dependentDataObject != null) {
-          getDeleteSql(dependentDataObject, dependentDataObjectBinding, connection, domain, sqlStatements);
-        }
+      // Initialize parameter index
+      int index = 1;
+      
+      // Set finder specific SQL parameters
+      if (valueCondition != null) {
+        index = valueCondition.setParameters(sqlStatement, index);
       }
+      
+      // Set paging parameters
+      sqlDialect.setPageParameters(sqlStatement, index, offset, limit);
+    }
+    catch (SQLException sqlException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Find ID SQL", sqlException);
+  
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
     }
+    
+    return sqlStatement;
   }
-
+  
   /**
-    Populates a list of prepared statements used to find a list of data objects
-    using a value condition, database connection and list of SQL statements.
+    Returns a prepared statement used to count data objects using a list of joins,
+    value condition and database connection.
+    @param joins List of joins.
     @param valueCondition Value condition.
-    @param orderCondition Order condition.
     @param connection Database connection.
     @param domain Target domain.
-    @param sqlStatements List of SQL statements.
+    @return PreparedStatement Prepared statement.
   */
-  protected void getFindSql(IValueCondition valueCondition, IOrderCondition orderCondition,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+  protected PreparedStatement getCountSql(List<Join> joins, IValueCondition valueCondition, Connection connection, IDomain domain)
+      throws DataSourceException {
 
-    // Get find SQL with no external joins
-    getFindSql(null, valueCondition, orderCondition, connection, domain, sqlStatements);
+    return getPrimarySql(COUNT_PLAN, "getCountSql", joins, valueCondition, connection, domain);
   }
+  
+  /**
+    Returns a prepared statement used to check for the existence of data objects using a list of joins,
+    value condition and database connection.
+    @param joins List of joins.
+    @param valueCondition Value condition.
+    @param connection Database connection.
+    @param domain Target domain.
+    @return PreparedStatement Prepared statement.
+  */
+  protected PreparedStatement getExistsSql(List<Join> joins, IValueCondition valueCondition, Connection connection, IDomain domain)
+      throws DataSourceException {
 
+    return getPrimarySql(EXISTS_PLAN, "getExistsSql", joins, valueCondition, connection, domain);
+  }
+  
   /**
-    Populates a list of prepared statements used to find a list of data objects
-    using a list of joins, value condition, database connection and list of SQL statements.
+    Returns a prepared statement for an unordered single statement plan against the primary table using
+    a plan type, list of joins, value condition and database connection.
+    @param planType Plan type.
+    @param methodName Calling method name used for error reporting.
     @param joins List of joins.
     @param valueCondition Value condition.
-    @param orderCondition Order condition.
     @param connection Database connection.
     @param domain Target domain.
-    @param sqlStatements List of SQL statements.
+    @return PreparedStatement Prepared statement.
   */
-  protected void getFindSql(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition,
-      Connection connection, IDomain domain, List<PreparedStatement> sqlStatements) throws DataSourceException {
+  private PreparedStatement getPrimarySql(String planType, String methodName, List<Join> joins, IValueCondition valueCondition, 
+      Connection connection, IDomain domain) throws DataSourceException {
 
-    // Get primary table name
-    String primaryTableName = dataObjectBinding.getTableName();
+    // Initialize return value
+    PreparedStatement sqlStatement = null;
+    
+    // Get exists indicator
+    boolean isExists = planType.equals(EXISTS_PLAN);
 
-    // Create aliases map
-    Map<String, String> aliases = new HashMap<String, String>();
+    // Initialize SQL dialect
+    ISqlDialect sqlDialect = null;
 
-    // Add primary table alias
-    aliases.put(primaryTableName, "x");
+    // Get query shape using original joins and conditions
+    String shape = getQueryShape(planType, joins, valueCondition, null);
 
-    // Ensure joins is not null
-    if (joins == null) {
-    	joins = new ArrayList<Join>();
-    }
-    
-    // Append required associate and dependent join
-    appendRequiredJoins(dataObjectBinding, orderCondition, joins);
-    appendRequiredAssociateJoins(dataObjectBinding, valueCondition, orderCondition, joins);
-    appendRequiredDependentJoins(dataObjectBinding, valueCondition, orderCondition, joins);
+    if (isExists) {
+
+      try {
+        // Get SQL dialect used with connection
+        sqlDialect = SqlDialectFactory.getDialect(connection);
+      }
+      catch (SQLException sqlException) {
+
+          // Post error message
+          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting SQL Dialect", sqlException);
     
-    // Create join SQL
-    String joinSql = createJoinSql(joins, aliases);
+          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
+
+      // Append SQL dialect to query shape
+      shape = shape + "|" + sqlDialect.getClass().getName();
+    }
+
+    // Attempt to get cached plan
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    List<String> plan = sqlPlanCache.getFindPlan(shape);
+
+    // Get primary table name
+    String primaryTableName = dataObjectBinding.getTableName();
 
     // Append virtual delete condition if one exists
     valueCondition = appendVirtualDeleteCondition(valueCondition);
@@ -1499,1261 +3648,1084 @@ public abstract class BoundDatabaseDataManager<I, T extends DataObject<I>> exten
     // Append domain condition
     valueCondition = appendDomainCondition(primaryTableName, domain, valueCondition);
     
-    // Initialize condition SQL
-    String valueConditionSql = "";
-    String orderConditionSql = "";
-
-    // Get finder specific value condition SQL
-    if (valueCondition != null) {
-      valueConditionSql = " where " + valueCondition.generateSql(aliases);
-    }
-
-    // Get finder specific order condition SQL
-    if (orderCondition != null) {
-      orderConditionSql = " order by " + orderCondition.generateSql(aliases);
-    }
-
-    // Create primary SQL statement
-    getFindPrimarySql(connection, primaryTableName, joinSql, valueConditionSql, orderConditionSql, valueCondition, sqlStatements);
+    // Create and cache plan
+    if (plan == null) {
 
-    // Create associate SQL statements
-    getFindAssociateSql(connection, primaryTableName, joinSql, valueConditionSql, valueCondition, aliases, sqlStatements);
+      // Create plan
+      plan = createFindPlan(planType, joins, valueCondition, null);
 
-    // Create dependent SQL statements
-    getFindDependentSql(1, dataObjectBinding, aliases, connection, primaryTableName, joinSql, valueConditionSql, valueCondition, sqlStatements);
-  }
+      // Apply exists clause
+      if (isExists) {
+        plan = Collections.singletonList(sqlDialect.getExistsSql(plan.get(0)));
+      }
 
-  /**
-   * Creates and appends joins to a list of joins if column binding use associative ordering and 
-   * the associative table is referenced by an order condition.
-   * @param dataObjectBinding Data object binding.
-   * @param orderCondition Order condition.
-   * @param joins List of joins to populate.
-   */
-  private void appendRequiredJoins(DataObjectBinding dataObjectBinding, IOrderCondition orderCondition, List<Join> joins) {
-  	
-  	if (orderCondition != null) {
-  		
-      // Get associate bindings
-    	Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+      plan = sqlPlanCache.putFindPlan(shape, plan);
+    }
 
-    	if (columnBindings != null && !columnBindings.isEmpty()) {
-    		
-        // Get source table name
-        String sourceTableName = dataObjectBinding.getTableName();
+    try {
+      // Create SQL statement
+      sqlStatement = connection.prepareStatement(plan.get(0));
 
-        for (ColumnBinding columnBinding : columnBindings) {
+      // Only the first row is needed to check for existence
+      if (isExists) {
+        sqlStatement.setMaxRows(1);
+        sqlStatement.setFetchSize(1);
+      }
 
-        	if (columnBinding.useReferenceOrdering()) {
-        		
-            // Get reference table name
-            String referenceTableName = columnBinding.getReferenceTableName();
-        		
-      			if (orderCondition.isTableReferenced(referenceTableName)) {
-      				
-      				// Get source column name
-      				String sourceColumnName = columnBinding.getColumnName();
-      				
-      				// Get reference ID column name
-      				String referenceIdColumnName = columnBinding.getReferenceIdColumnName();
-      				
-              // Create reference join condition
-              JoinCondition referenceJoinCondition = new JoinCondition(sourceTableName, sourceColumnName, Operators.EQUALS, referenceTableName, referenceIdColumnName);
-            	
-              // Create reference join
-              Join referenceJoin = new Join(Join.LEFT_OUTER_JOIN, sourceTableName, referenceTableName, referenceJoinCondition);
+      // Set plan specific SQL parameters
+      if (valueCondition != null) {
+        valueCondition.setParameters(sqlStatement, 1);
+      }
+    }
+    catch (SQLException sqlException) {
 
-              // Add join to list
-              joins.add(referenceJoin);
-      			}
-        	}
-        }
-    	}
-  	}
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting SQL", sqlException);
+  
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    
+    return sqlStatement;
   }
   
   /**
-   * Creates and appends associate joins to a list of joins if their associated target table
-   * is referenced by a value condition or order condition.
-   * @param dataObjectBinding Data object binding.
-   * @param valueCondition Value condition.
-   * @param orderCondition Order condition.
-   * @param joins List of joins to populate.
-   */
-  private void appendRequiredAssociateJoins(DataObjectBinding dataObjectBinding, IValueCondition valueCondition, IOrderCondition orderCondition, List<Join> joins) {
-  	
-    // Get associate bindings
-  	Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
+    Returns a list of data object IDs using data from a result set object.
+    @see DatabaseDataManager#createIds(ResultSet)
+  */
+  @Override
+  protected List<I> createIds(ResultSet resultSet) throws DataSourceException {
+    
+    // Set method name
+    String methodName = "createIds";
 
-  	if (associateBindings != null && !associateBindings.isEmpty()) {
-  		
-      // Get source table name
-      String sourceTableName = dataObjectBinding.getTableName();
+    // Initialize return value
+    List<I> ids = null;
 
-      // Get ID column binding
-      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+    if (resultSet != null) {
 
-      // Set source column name
-      String sourceColumnName = idColumnBinding.getColumnName();
+      // Create ID list
+      ids = new ArrayList<I>();
 
-      for (AssociateBinding associateBinding : associateBindings) {
+      try {
 
-        // Get target table name
-        String targetTableName = associateBinding.getTableName();
+        while (resultSet.next()) {
 
-        // Initialize reference table name
-        String referenceTableName = null;
-        
-        // Set reference table name if reference ordering is enabled
-        if (associateBinding.useReferenceOrdering()) {
-        	referenceTableName = associateBinding.getReferenceTableName();
+          // Add next ID to list
+          ids.add(createId(resultSet));
         }
-        
-        // Set join type indicators
-        boolean isValueConditionJoin = valueCondition != null && valueCondition.isTableReferenced(targetTableName);
-        boolean isOrderConditionJoin = orderCondition != null && orderCondition.isTableReferenced(targetTableName);
-        boolean isReferenceOrderConditionJoin = orderCondition != null && orderCondition.isTableReferenced(referenceTableName);
-        
-  			if (isValueConditionJoin || isOrderConditionJoin || isReferenceOrderConditionJoin) {
-  				
-          // Get parent ID column binding
-          IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
-
-          // Default target column name to source column name
-          String targetColumnName = parentIdColumnBinding.getColumnName();
-
-          // Create join condition
-          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName, Operators.EQUALS, targetTableName, targetColumnName);
-
-          // Set join type
-          String joinType = isValueConditionJoin ? Join.INNER_JOIN : Join.LEFT_OUTER_JOIN;
-          
-          // Create associate join
-          Join associateJoin = new Join(joinType, sourceTableName, targetTableName, joinCondition);
-
-          // Add join to list
-          joins.add(associateJoin);
-          
-          if (isReferenceOrderConditionJoin) {
-          	
-          	// Get reference ID column name
-          	String referenceIdColumnName = associateBinding.getReferenceIdColumnName();
-          	
-            // Create reference join condition
-            JoinCondition referenceJoinCondition = new JoinCondition(targetTableName, targetColumnName, Operators.EQUALS, referenceTableName, referenceIdColumnName);
-          	
-            // Create reference join
-            Join referenceJoin = new Join(Join.LEFT_OUTER_JOIN, targetTableName, referenceTableName, referenceJoinCondition);
+      }
+      catch (SQLException sqlException) {
 
-            // Add join to list
-            joins.add(referenceJoin);
-          }
-  			}
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating IDs", sqlException);
+  
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
       }
-  	}
+    }
+
+    return ids;
   }
-  
-  /**
-   * Recursively creates and appends dependent joins to a list of joins if their associated target table
-   * is referenced by a value condition or order condition.
-   * @param dataObjectBinding Data object binding.
-   * @param valueCondition Value condition.
-   * @param orderCondition Order condition.
-   * @param joins List of joins to populate.
-   */
-  private void appendRequiredDependentJoins(DataObjectBinding dataObjectBinding, IValueCondition valueCondition, IOrderCondition orderCondition, List<Join> joins) {
-  	
-    // Get dependent bindings
-  	Collection<DependentBinding> dependentBindings = dataObjectBinding.getDependentBindings();
 
-    if (dependentBindings != null && !dependentBindings.isEmpty()) {
-    	
-      // Get source table name
-      String sourceTableName = dataObjectBinding.getTableName();
+  /**
+    Returns a data object ID using data from the current row of a result set object.
+    @see DatabaseDataManager#createId(ResultSet)
+  */
+  @Override
+  @SuppressWarnings("unchecked")
+  protected I createId(ResultSet resultSet) throws DataSourceException {
 
-      // Initialize associate joins
-      List<Join> dependentJoins = new ArrayList<Join>();
-      
-      for (DependentBinding dependentBinding : dependentBindings) {
+    // Set method name
+    String methodName = "createId";
 
-        // Get dependent data object binding
-        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
-      	
-        // Recursively append required dependent joins
-        appendRequiredDependentJoins(dependentDataObjectBinding, valueCondition, orderCondition, dependentJoins);
-        
-        // Get target table name
-        String targetTableName = dependentDataObjectBinding.getTableName();
+    // Initialize return value
+    I id = null;
 
-        if (!dependentJoins.isEmpty() || 
-        	  (valueCondition != null && valueCondition.isTableReferenced(targetTableName)) || 
-      			(orderCondition != null && orderCondition.isTableReferenced(targetTableName))) {
+    // Get data object ID column binding
+    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
 
-          // Get parent ID column binding
-          IdColumnBinding parentIdColumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
+    // Get column type and column name
+    int columnType = idColumnBinding.getColumnType();
+    String columnName = idColumnBinding.getColumnName();
 
-          // Get source column name
-          String sourceColumnName = parentIdColumnBinding.getColumnName();
+    try {
+      // Get ID
+      id = (I)DbUtil.getObject(resultSet, columnName, columnType);
+    }
+    catch (IOException ioException) {
 
-          // Get ID column binding
-          IdColumnBinding idColumnBinding = dependentDataObjectBinding.getIdColumnBinding();
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating ID", ioException);
 
-          // Get target column name
-          String targetColumnName = idColumnBinding.getColumnName();
+      throw new DataSourceException(methodName + ": " + ioException.getMessage());
+    }
+    catch (SQLException sqlException) {
 
-          // Create join condition
-          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName,
-              Operators.EQUALS, targetTableName, targetColumnName);
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating ID", sqlException);
 
-          // Create dependent join
-          Join dependentJoin = new Join(Join.INNER_JOIN, sourceTableName, targetTableName, joinCondition);
-        	
-        	// Append dependent join 
-        	joins.add(dependentJoin);
-        	
-        	// Append recursively obtained dependent joins
-        	joins.addAll(dependentJoins);
-        }
-        
-      	// Clear existing associate joins
-      	dependentJoins.clear();
-      }  	
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
     }
+
+    return id;
   }
-  
+
   /**
-   * Creates and returns join SQL using a list of joins and a map of aliases keyed by table name.
-   * @param joins List of joins.
-   * @param aliases Map of aliases keyed by table name.
-   * @return String Join SQL.
-   */
-  private String createJoinSql(List<Join> joins, Map<String, String> aliases) {
-  	
+    Returns a data object using data from a list of result set objects.
+    @see DatabaseDataManager#createDataObject(List)
+  */
+  @Override
+  protected T createDataObject(List<ResultSet> resultSets) throws DataSourceException {
+    return createDataObject(resultSets, null);
+  }
+
+  /**
+    Returns a data object using data from a list of result set objects and the connection used to execute them.
+    @see DatabaseDataManager#createDataObject(List, Connection)
+  */
+  @Override
+  protected T createDataObject(List<ResultSet> resultSets, Connection connection) throws DataSourceException {
+
     // Initialize return value
-    StringBuffer joinSql = new StringBuffer();
+    T dataObject = null;
 
-    // Initialize join table count
-    int joinTableCount = 1;
+    // Create data objects - Only one is created
+    List<T> dataObjects = createDataObjects(resultSets, null, connection);
 
-    if (joins != null) {
+    // Get first data object if one exists
+    if (dataObjects != null && dataObjects.size() > 0) {
+      dataObject = dataObjects.get(0);
+    }
 
-      // Append finder specific joins
-      for (Join join : joins) {
+    return dataObject;
+  }
 
-        // Get source and target table names
-        String sourceTableName = join.getSourceTableName().toLowerCase();
-        String targetTableName = join.getTargetTableName().toLowerCase();
+  /**
+    Returns a list of data objects using data from a list of result set objects.
+    @see DatabaseDataManager#createDataObjects
+  */
+  @Override
+  protected List<T> createDataObjects(List<ResultSet> resultSets) throws DataSourceException {
+    return createDataObjects(resultSets, null);
+  }
 
-        // Add aliases
-        if (!aliases.containsKey(sourceTableName)) {
-          aliases.put(sourceTableName, "j" + String.valueOf(joinTableCount++));
-        }
-        if (!aliases.containsKey(targetTableName)) {
-          aliases.put(targetTableName, "j" + String.valueOf(joinTableCount++));
-        }
+  /**
+    Returns a list of data objects using data from a list of result set objects loading only the associate
+    and dependent properties in a fetch group. Properties excluded by the fetch group are marked as unloaded.
+    @see DatabaseDataManager#createDataObjects(List, FetchGroup)
+  */
+  @Override
+  protected List<T> createDataObjects(List<ResultSet> resultSets, FetchGroup fetchGroup) throws DataSourceException {
+    return createDataObjects(resultSets, fetchGroup, null);
+  }
 
-        // Append spacing
-        if (joinSql.length() > 0) {
-          joinSql.append(" ");
-        }
+  /**
+    Returns a list of data objects using data from a list of result set objects loading only the associate
+    and dependent properties in a fetch group. Associates and dependents fetched by key are loaded using
+    the connection that executed the result sets.
+    @see DatabaseDataManager#createDataObjects(List, FetchGroup, Connection)
+  */
+  @Override
+  protected List<T> createDataObjects(List<ResultSet> resultSets, FetchGroup fetchGroup, Connection connection)
+      throws DataSourceException {
 
-        // Append join SQL
-        joinSql.append(join.generateSql(aliases));
+    // Initialize return value
+    List<T> dataObjects = null;
+
+    // Create data objects
+    if (resultSets != null) {
+      dataObjects = createDataObjects(dataObjectBinding, resultSets.iterator(), fetchGroup, connection);
+    }
+
+    // Mark data objects as persisted
+    if (dataObjects != null) {
+
+      for (T dataObject : dataObjects) {
+        markPersisted(dataObject, dataObjectBinding);
       }
     }
-    
-    return joinSql.toString();
+
+    return dataObjects;
   }
 
   /**
-   * Creates a primary SQL statement and adds it to a given list of SQL statements. 
-   * @param connection Database connection.
-   * @param primaryTableName Primary table name.
-   * @param joinSql Join SQL.
-   * @param valueConditionSql Value condition SQL.
-   * @param orderConditionSql Order condition SQL.
-   * @param valueCondition Value condition.
-   * @param sqlStatements List of SQL statements to populate.
-   * @throws DataSourceException
-   */
-  private void getFindPrimarySql(Connection connection, String primaryTableName, String joinSql, String valueConditionSql, String orderConditionSql, 
-  		IValueCondition valueCondition, List<PreparedStatement> sqlStatements)
-  		throws DataSourceException {
-  	
+    Populates a list of data objects using a data object binding and data from a
+    list of result set objects.
+    @param dataObjectBinding Data object binding.
+    @param resultSets Result set iterator.
+    @param fetchGroup Fetch group or null to load all properties.
+    @param queryConnection Connection used to execute the result sets or null if not known.
+    @return List Data objects.
+  */
+  private List<T> createDataObjects(DataObjectBinding dataObjectBinding, Iterator<ResultSet> resultSets,
+      FetchGroup fetchGroup, Connection queryConnection) throws DataSourceException {
+
     // Set method name
-    String methodName = "getFindPrimarySql";
+    String methodName = "createDataObjects";
 
-    // Build SQL for primary table
-    StringBuffer sql = new StringBuffer();
-    sql.append("select distinct x.* from ").append(primaryTableName).append(" x ");
-    sql.append(joinSql).append(valueConditionSql).append(orderConditionSql);
+    // Initialize return value
+    List<T> dataObjects = null;
 
-    // Initialize SQL statement
-    PreparedStatement sqlStatement = null;
+    if (resultSets != null && resultSets.hasNext()) {
 
-    try {
-      // Create SQL statement
-      sqlStatement = connection.prepareStatement(sql.toString());
+      // Create data objects list
+      dataObjects = new ArrayList<T>();
 
-      // Set finder specific SQL parameters
-      if (valueCondition != null) {
-        valueCondition.setParameters(sqlStatement, 1);
-      }
+      // Get data object class
+      Class<?> dataObjectClass = dataObjectBinding.getDataObjectClass();
 
-      // Add statement to list
-      sqlStatements.add(sqlStatement);
-    }
-    catch (SQLException sqlException) {
+      // Get key fetch indicator - Fetch groups are always loaded by key
+      boolean isKeyFetch = dataObjectBinding.isKeyFetch() || fetchGroup != null;
 
-        // Post error message
-        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Find Primary SQL", sqlException);
+      // Create data object lookup used by associates and dependents
+      Map<Object, DataObject<?>> dataObjectLookup = null;
+      ParentLookup parentLookup = null;
 
-        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-    }
-  }
-  
-  /**
-   * Creates an associate SQL statement for each associated join and adds it to a given list of SQL statements. 
-   * @param connection Database connection.
-   * @param primaryTableName Primary table name.
-   * @param joinSql Join SQL.
-   * @param valueConditionSql Value condition SQL.
-   * @param valueCondition Value condition.
-   * @param aliases Map of aliases keyed by table name. 
-   * @param sqlStatements List of SQL statements to populate.
-   * @throws DataSourceException
-   */
-  private void getFindAssociateSql(Connection connection, String primaryTableName, String joinSql, String valueConditionSql,  
-  		IValueCondition valueCondition, Map<String, String> aliases, List<PreparedStatement> sqlStatements) 
-  		throws DataSourceException {
-  	
-    // Set method name
-    String methodName = "getFindAssociateSql";
+      if (isKeyFetch) {
+        parentLookup = new ParentLookup(dataObjectBinding.getIdColumnBinding().getColumnType());
+      }
+      else {
+        dataObjectLookup = new HashMap<Object, DataObject<?>>();
+      }
 
-    // Get associate bindings
-    Collection<AssociateBinding> associateBindings = dataObjectBinding.getAssociateBindings();
-    
-    if (associateBindings != null && !associateBindings.isEmpty()) {
-    	
-      // Get source table name
-      String sourceTableName = dataObjectBinding.getTableName().toLowerCase();
+      // Get next result set
+      ResultSet resultSet = resultSets.next();
 
-      // Get ID column binding
-      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+      // Initialize connection used to load associates and dependents by key
+      Connection connection = queryConnection;
 
-      // Set source column name
-      String sourceColumnName = idColumnBinding.getColumnName();
+      // Initialize row mapper
+      RowMapper rowMapper = null;
 
-      // Create associate aliases map
-      Map<String, String> associateAliases = new HashMap<String, String>();
-      
-      for (AssociateBinding associateBinding : associateBindings) {
+      try {
 
-      	// Reset associate aliases
-      	associateAliases.clear();
-      	associateAliases.putAll(aliases);
+        while (resultSet.next()) {
 
-      	// Get target table name
-        String targetTableName = associateBinding.getTableName().toLowerCase();
+          // Create new data object
+          @SuppressWarnings("unchecked")
+					T dataObject = (T)Instantiator.create(dataObjectClass);
 
-        // Initialize associate join SQL
-        String associateJoinSql = "";
-        
-        if (!associateAliases.containsKey(targetTableName)) {
-        	
-          // Add target aliases if undefined
-        	associateAliases.put(targetTableName, "a2");
-        	
-          // Add source aliases if undefined
-          if (!associateAliases.containsKey(sourceTableName)) {
-          	associateAliases.put(sourceTableName, "a1");
+          // Get row mapper for result set shape
+          if (rowMapper == null) {
+            rowMapper = dataObjectBinding.getRowMapper(resultSet, false);
           }
-        	
-          // Get parent ID column binding
-          IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
 
-          // Default target column name to source column name
-          String targetColumnName = parentIdColumnBinding.getColumnName();
+          // Populate data object
+          rowMapper.populate(dataObject, resultSet);
 
-          // Create join condition
-          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName,
-              Operators.EQUALS, targetTableName, targetColumnName);
+          // Mark associates and dependents excluded by fetch group as unloaded
+          markUnloaded(dataObject, dataObjectBinding, fetchGroup, true);
 
-          // Create associate join
-          Join associateJoin = new Join(Join.INNER_JOIN, sourceTableName, targetTableName, joinCondition);
-          
-          // Create associate join SQL
-          associateJoinSql = associateJoin.generateSql(associateAliases);
+          // Add data object to list
+          dataObjects.add(dataObject);
+
+          // Add to data object lookup
+          if (isKeyFetch) {
+            parentLookup.put(dataObject);
+          }
+          else {
+            dataObjectLookup.put(dataObject.getId(), dataObject);
+          }
         }
 
-        // Get target aliases
-        String targetAlias = associateAliases.get(targetTableName);
+        // Get connection used to execute the primary query when not provided by the caller
+        if (isKeyFetch && !parentLookup.isEmpty() && connection == null) {
+          connection = resultSet.getStatement().getConnection();
+        }
+      }
+      catch (IOException ioException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Data Objects", ioException);
+  
+        throw new DataSourceException(methodName + ": " + ioException.getMessage());
+      }
+      catch (SQLException sqlException) {
 
-        // Build associate SQL
-        StringBuffer sql = new StringBuffer();
-        sql.append("select distinct ").append(targetAlias).append(".*");
-        sql.append(" from ").append(primaryTableName).append(" x ");
-        sql.append(joinSql).append(" ").append(associateJoinSql);
-        sql.append(valueConditionSql);
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Data Objects", sqlException);
+  
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
 
-        try {
-          // Create SQL statement
-        	PreparedStatement sqlStatement = connection.prepareStatement(sql.toString());
+      if (!isKeyFetch) {
 
-          // Set finder specific SQL parameters
-          if (valueCondition != null) {
-            valueCondition.setParameters(sqlStatement, 1);
-          }
+        // Create associates
+        createAssociates(dataObjectBinding, resultSets, dataObjectLookup);
 
-          // Add statement to list
-          sqlStatements.add(sqlStatement);
-        }
-        catch (SQLException sqlException) {
+        // Create dependents
+        createDependents(dataObjectBinding, resultSets, dataObjectLookup);
+      }
+      else if (connection != null && !parentLookup.isEmpty()) {
 
-            // Post error message
-            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Find Associate SQL", sqlException);
+        // Load associates by parent ID
+        loadAssociates(dataObjectBinding, connection, parentLookup, fetchGroup);
 
-            throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-        }
+        // Load dependents by parent ID
+        loadDependents(dataObjectBinding, connection, parentLookup, fetchGroup);
       }
     }
+
+    return dataObjects;
   }
-  
-  private int getFindDependentSql(int startIndex, DataObjectBinding parentDataObjectBinding, Map<String, String> parentAliases, Connection connection, 
-  		String primaryTableName, String joinSql, String valueConditionSql, IValueCondition valueCondition, List<PreparedStatement> sqlStatements) 
+
+  /**
+    Recursively creates associate data objects and assigns them to their parent's
+    associated property using a parent data object binding, an iterator of result
+    sets, and a parent data object lookup.
+    @param parentBinding Parent data object binding.
+    @param resultSets Result set iterator.
+    @param parentLookup Parent data object lookup.
+  */
+  private void createAssociates(DataObjectBinding parentBinding, Iterator<ResultSet> resultSets, Map<Object, DataObject<?>> parentLookup) 
   		throws DataSourceException {
-  	
+
     // Set method name
-    String methodName = "getFindDependentSql";
+    String methodName = "createAssociates";
+    
+    // Get associate bindings
+    Collection<AssociateBinding> associateBindings = parentBinding.getAssociateBindings();
 
-    // Get dependent bindings
-    Collection<DependentBinding> dependentBindings = parentDataObjectBinding.getDependentBindings();
+    // Check to see if associate bindings are defined
+    if (associateBindings.size() > 0) {
 
-    if (dependentBindings != null && !dependentBindings.isEmpty()) {
+      // Create parent values lookup used to store parent associate values
+      Map<Object, List<Object>> parentValueLookup = new HashMap<Object, List<Object>>();
 
-      // Get source table name
-      String sourceTableName = parentDataObjectBinding.getTableName().toLowerCase();
+      for (AssociateBinding associateBinding : associateBindings) {
 
-      // Create dependent aliases map
-      Map<String, String> dependentAliases = new HashMap<String, String>();
+        // Get parent ID and associate ID column binding
+        IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+        IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
 
-      for (DependentBinding dependentBinding : dependentBindings) {
-      
-      	// Reset dependent aliases
-      	dependentAliases.clear();
-      	dependentAliases.putAll(parentAliases);
+        // Clear parent value lookup for each associate binding
+        parentValueLookup.clear();
 
-        // Add source aliases if undefined
-        if (!dependentAliases.containsKey(sourceTableName)) {
-        	dependentAliases.put(sourceTableName, "d" + String.valueOf(startIndex++));
-        }
-      	
-        // Get dependent data object binding
-        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
-      	
-        // Get target table name
-        String targetTableName = dependentDataObjectBinding.getTableName().toLowerCase();
-        
-        // Initialize defined dependent join indicator
-        boolean isDependentJoinDefined = false;
-        
-        if (!dependentAliases.containsKey(targetTableName)) {
-        	
-          // Add target aliases if undefined
-        	dependentAliases.put(targetTableName, "d" + String.valueOf(startIndex++));
-        	
-        	// Set defined dependent join indicator
-        	isDependentJoinDefined = true;
-        }
-        
-      	// Initialize dependent join SQL
-      	String dependentJoinSql = "";
-      	
-        if (!isDependentJoinDefined) {
-        	
-          // Get parent ID column binding
-          IdColumnBinding parentIdColumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
+        if (resultSets != null && resultSets.hasNext()) {
 
-          // Get source column name
-          String sourceColumnName = parentIdColumnBinding.getColumnName();
+          // Get next result set
+          ResultSet resultSet = resultSets.next();
 
-          // Get ID column binding
-          IdColumnBinding idColumnBinding = dependentDataObjectBinding.getIdColumnBinding();
+          try {
+            
+            while (resultSet.next()) {
 
-          // Get target column name
-          String targetColumnName = idColumnBinding.getColumnName();
+              // Retrieve parent ID and associate ID
+              Object parentId = getColumnValue(parentIdColumnBinding, resultSet);
+              Object associateId = getColumnValue(associateIdColumnBinding, resultSet);
 
-          // Create join condition
-          JoinCondition joinCondition = new JoinCondition(sourceTableName, sourceColumnName,
-              Operators.EQUALS, targetTableName, targetColumnName);
+              if (parentId != null && associateId != null) {
 
-          // Create dependent join
-          Join dependentJoin = new Join(Join.INNER_JOIN, sourceTableName, targetTableName, joinCondition);
-          
-          // Append dependent join SQL
-          dependentJoinSql = dependentJoin.generateSql(dependentAliases);
-        }
-        
-        // Get target aliases
-        String targetAlias = dependentAliases.get(targetTableName);
-        
-        // Build dependent SQL
-        StringBuffer sql = new StringBuffer();
-        sql.append("select distinct ").append(targetAlias).append(".*");
-        sql.append(" from ").append(primaryTableName).append(" x ");
-        sql.append(joinSql).append(" ").append(dependentJoinSql);
-        sql.append(valueConditionSql);
+                // Attempt to get existing parent values
+                List<Object> parentValues = parentValueLookup.get(parentId);
 
-        try {
-          // Create SQL statement
-        	PreparedStatement sqlStatement = connection.prepareStatement(sql.toString());
+                // Create parent values if not already present
+                if (parentValues == null) {
+                  parentValues = new ArrayList<Object>();
+                  parentValueLookup.put(parentId, parentValues);
+                }
 
-          // Set finder specific SQL parameters
-          if (valueCondition != null) {
-            valueCondition.setParameters(sqlStatement, 1);
+                // Add associate ID to parent values
+                parentValues.add(associateId);
+              }
+            }
           }
-
-          // Add statement to list
-          sqlStatements.add(sqlStatement);
-        }
-        catch (SQLException sqlException) {
-
+          catch (SQLException sqlException) {
+  
             // Post error message
             Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Find Dependent SQL", sqlException);
-
+            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Associates", sqlException);
+      
             throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+          }
+
+          if (parentValueLookup.size() > 0) {
+
+            // Get parent ID iterator
+            Iterator<Object> parentIds = parentValueLookup.keySet().iterator();
+
+            while (parentIds.hasNext()) {
+
+              // Get next parent ID
+              Object parentId = parentIds.next();
+
+              // Get parent data object
+              DataObject<?> parentDataObject = parentLookup.get(parentId);
+
+              if (parentDataObject != null) {
+
+                // Get property name
+                String propertyName = associateBinding.getPropertyName();
+
+                // Get parent values
+                List<Object> parentValues = parentValueLookup.get(parentId);
+
+                // Set parent data object's associate property
+                if (associateBinding.isCollection()) {
+                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues);
+                }
+                else {
+                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues.get(0));
+                }
+              }
+            }
+          }
         }
-        
-        // Recursively find dependent SQL
-        startIndex = getFindDependentSql(startIndex, dependentDataObjectBinding, dependentAliases, connection, primaryTableName, dependentJoinSql, valueConditionSql, valueCondition, sqlStatements);
       }
     }
-    
-    return startIndex;
-  }
-  
-  /**
-    Returns a list of data objects from the default domain using a list joins and value condition.
-    @param joins List of joins.
-    @param valueCondition Value condition.
-    @param orderCondition Order condition.
-    @return List List of data objects.
-  */
-  protected List<T> find(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition) 
-  		throws DataSourceException {
-  	
-  	return find(joins, valueCondition, orderCondition, null);
   }
 
   /**
-    Returns a list of data objects from a specified domain using a list joins and value condition.
-    @param joins List of joins.
-    @param valueCondition Value condition.
-    @param orderCondition Order condition.
-    @param domain Target domain.
-    @return List List of data objects.
+    Recursively creates dependent data objects and assigns them to their parent's
+    associated property using a parent data object binding, an iterator of result
+    sets, and a parent data object lookup.
+    @param parentBinding Parent data object binding.
+    @param resultSets Result set iterator.
+    @param parentLookup Parent data object lookup.
   */
-  protected List<T> find(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition, IDomain domain) 
+  private void createDependents(DataObjectBinding parentBinding, Iterator<ResultSet> resultSets, Map<Object, DataObject<?>> parentLookup) 
   		throws DataSourceException {
 
-  	// Set method name variable
-    String methodName = "find";
+    // Set method name
+    String methodName = "createDependents";
+    
+    // Get dependent bindings
+    Collection<DependentBinding> dependentBindings = parentBinding.getDependentBindings();
 
-    // Initialize return value
-    List<T> dataObjects = null;
+    // Check to see if dependent bindings are defined
+    if (dependentBindings.size() > 0) {
 
-    // Initialize processing variables
-    Connection connection = null;
+      // Create parent values lookup used to set parent dependent properties
+      Map<Object, List<DataObject<?>>> parentValueLookup = new HashMap<Object, List<DataObject<?>>>();
 
-    // Create SQL statement list
-    List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
-    
-    // Create result set list
-    List<ResultSet> resultSets = new ArrayList<ResultSet>();
-    
-    try {
-      // Retrieve database connection
-      connection = openConnection(domain);
+      // Create data object lookup used by next level of descendants
+      Map<Object, DataObject<?>> dataObjectLookup = new HashMap<Object, DataObject<?>>();
 
-      // Retrieve find SQL
-      getFindSql(joins, valueCondition, orderCondition, connection, domain, sqlStatements);
+      for (DependentBinding dependentBinding : dependentBindings) {
 
-      // Validate find SQL
-      if (sqlStatements.size() <= 0) {
-        throw new DataSourceException(methodName + ": No SQL returned from getFindSql method.");
-      }
+        // Get dependent data object binding
+        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+
+        // Get dependent data object class
+        Class<?> dependentDataObjectClass = dependentDataObjectBinding.getDataObjectClass();
+
+        // Get parent ID column binding
+        IdColumnBinding parentIdColumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
 
-      // Execute all SQL statements
-      for (PreparedStatement sqlStatement : sqlStatements) {
-        resultSets.add(sqlStatement.executeQuery());
-      }
+        // Clear parent value and data object lookups
+        parentValueLookup.clear();
+        dataObjectLookup.clear();
 
-      // Create data object list
-      if (resultSets.size() > 0) {
-        dataObjects = createDataObjects(resultSets);
-      }
-    }
-    catch (CoreException coreException) {
+        if (resultSets != null && resultSets.hasNext()) {
 
-      // Post error message
-      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Objects", coreException);
+          // Get next result set
+          ResultSet resultSet = resultSets.next();
 
-      throw new DataSourceException(methodName + ": " + coreException.getMessage());
-    }
-    catch (SQLException sqlException) {
+          // Initialize row mapper
+          RowMapper rowMapper = null;
 
-      // Post error message
-      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Objects", sqlException);
+          try {
+            
+            while (resultSet.next()) {
 
-      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-    }
-    finally {
+              // Create dependent data object
+							DataObject<?> dependentDataObject = (DataObject<?>)Instantiator.create(dependentDataObjectClass);
 
-      // Close all statements and result sets
-      DbUtil.closeStatements(sqlStatements);
-      DbUtil.closeResultSets(resultSets);
+              // Get row mapper for result set shape
+              if (rowMapper == null) {
+                rowMapper = dependentDataObjectBinding.getRowMapper(resultSet, true);
+              }
 
-      // Close connnection
-      DbUtil.closeConnection(connection);
-    }
+              // Populate dependent data object
+              rowMapper.populate(dependentDataObject, resultSet);
 
-    return dataObjects;
-  }
+              // Get parent ID
+              String parentIdPropertyName = parentIdColumnBinding.getPropertyName();
+              Object parentId = Introspector.getPropertyValue(dependentDataObject, parentIdPropertyName);
 
-  /**
-    Returns a list of data object IDs from the default domain using a list joins and value condition.
-    @param joins List of joins.
-    @param valueCondition Value condition.
-    @param orderCondition Order condition.
-    @return List List of data object IDs.
-  */
-  protected List<I> findIds(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition)
-      throws DataSourceException {
-  	
-  	return findIds(joins, valueCondition, orderCondition, null);
-  }
-  
-  /**
-    Returns a list of data object IDs from a specified domain using a list joins and value condition.
-    @param joins List of joins.
-    @param valueCondition Value condition.
-    @param orderCondition Order condition.
-    @param domain Target domain.
-    @return List List of data object IDs.
-  */
-  protected List<I> findIds(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition, IDomain domain)
-      throws DataSourceException {
+              // Attempt to get existing parent values
+              List<DataObject<?>> parentValues = parentValueLookup.get(parentId);
 
-  	// Set method name variable
-    String methodName = "findIds";
-  
-    // Initialize return value
-    List<I> dataObjectIds = null;
-  
-    // Initialize processing variables
-    Connection connection = null;
-    PreparedStatement sqlStatement = null;
-    ResultSet resultSet = null;
-    
-    try {
-      // Retrieve database connection
-      connection = openConnection(domain);
-  
-      // Retrieve find SQL
-      sqlStatement = getFindIdSql(joins, valueCondition, orderCondition, connection, domain);
-  
-      // Validate find SQL
-      if (sqlStatement == null) {
-        throw new DataSourceException(methodName + ": No SQL returned from getFindIdSql method.");
-      }
-  
-      // Execute SQL statement
-      resultSet = sqlStatement.executeQuery();
-  
-      // Create data object ID list
-      dataObjectIds = createIds(resultSet);
-    }
-    catch (CoreException coreException) {
-  
-      // Post error message
-      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Object IDs", coreException);
-  
-      throw new DataSourceException(methodName + ": " + coreException.getMessage());
-    }
-    catch (SQLException sqlException) {
-  
-      // Post error message
-      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Data Object IDs", sqlException);
-  
-      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-    }
-    finally {
-  
-      // Close all statements and result sets
-      DbUtil.closeStatement(sqlStatement);
-      DbUtil.closeResultSet(resultSet);
-  
-      // Close connnection
-      DbUtil.closeConnection(connection);
-    }
-  
-    return dataObjectIds;
-  }
-  
-  /**
-    Returns a prepared statement used to find a list of data object IDs
-    using a value condition and database connection.
-    @param valueCondition Value condition.
-    @param orderCondition Order condition.
-    @param connection Database connection.
-    @param domain Target domain.
-    @return PreparedStatement Prepared statement.
-  */
-  protected PreparedStatement getFindIdSql(IValueCondition valueCondition, IOrderCondition orderCondition, Connection connection, IDomain domain)
-      throws DataSourceException {
+              // Create parent values if not already present
+              if (parentValues == null) {
+                parentValues = new ArrayList<DataObject<?>>();
+                parentValueLookup.put(parentId, parentValues);
+              }
 
-    // Get find SQL with no external joins
-    return getFindIdSql(null, valueCondition, orderCondition, connection, domain);
-  }
+              // Add descendent to parent values
+              parentValues.add(dependentDataObject);
 
-  /**
-    Returns a prepared statement used to find a list of data object IDs
-    using a list of joins, value condition, and database connection.
-    @param joins List of joins.
-    @param valueCondition Value condition.
-    @param orderCondition Order condition.
-    @param connection Database connection.
-    @param domain Target domain.
-    @return PreparedStatement Prepared statement.
-  */
-  protected PreparedStatement getFindIdSql(List<Join> joins, IValueCondition valueCondition, IOrderCondition orderCondition,
-      Connection connection, IDomain domain) throws DataSourceException {
+              // Add to data object lookup
+              dataObjectLookup.put(dependentDataObject.getId(), dependentDataObject);
+            }
+          }
+          catch (IOException ioException) {
+            
+            // Post error message
+            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Dependents", ioException);
+      
+            throw new DataSourceException(methodName + ": " + ioException.getMessage());
+          }
+          catch (SQLException sqlException) {
+            
+            // Post error message
+            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Dependents", sqlException);
+      
+            throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+          }
 
-    // Set method name
-    String methodName = "getFindIdSql";
+          if (parentValueLookup.size() > 0) {
 
-    // Initialize return value
-    PreparedStatement sqlStatement = null;
-    
-    // Get primary table name
-    String primaryTableName = dataObjectBinding.getTableName();
+            // Get parent ID iterator
+            Iterator<Object> parentIds = parentValueLookup.keySet().iterator();
 
-    // Create aliases map
-    Map<String, String> aliases = new HashMap<String, String>();
+            while (parentIds.hasNext()) {
 
-    // Add primary table alias
-    aliases.put(primaryTableName, "x");
+              // Get next parent ID
+            	Object parentId = parentIds.next();
 
-    // Ensure joins is not null
-    if (joins == null) {
-    	joins = new ArrayList<Join>();
-    }
-    
-    // Append required associate and dependent join
-    appendRequiredJoins(dataObjectBinding, orderCondition, joins);
-    appendRequiredAssociateJoins(dataObjectBinding, valueCondition, orderCondition, joins);
-    appendRequiredDependentJoins(dataObjectBinding, valueCondition, orderCondition, joins);
-    
-    // Create join SQL
-    String joinSql = createJoinSql(joins, aliases);
+              // Get parent data object
+              DataObject<?> parentDataObject = parentLookup.get(parentId);
 
-    // Append virtual delete condition if one exists
-    valueCondition = appendVirtualDeleteCondition(valueCondition);
+              if (parentDataObject != null) {
 
-    // Append domain condition
-    valueCondition = appendDomainCondition(primaryTableName, domain, valueCondition);
-    
-    // Initialize condition SQL
-    String valueConditionSql = "";
-    String orderConditionSql = "";
+                // Get property name
+                String propertyName = dependentBinding.getPropertyName();
 
-    // Get finder specific value condition SQL
-    if (valueCondition != null) {
-      valueConditionSql = " where " + valueCondition.generateSql(aliases);
-    }
+                // Get parent values
+                List<DataObject<?>> parentValues = parentValueLookup.get(parentId);
 
-    // Get finder specific order condition SQL
-    if (orderCondition != null) {
-      orderConditionSql = " order by " + orderCondition.generateSql(aliases);
-    }
+                // Set parent data object's dependent property
+                if (dependentBinding.isCollection()) {
+                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues);
+                }
+                else {
+                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues.get(0));
+                }
+              }
+            }
+          }
 
-    // Get ID column binding
-    IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+          // Create dependents
+          if (dataObjectLookup.size() > 0) {
+            createDependents(dependentDataObjectBinding, resultSets, dataObjectLookup);
+          }
+        }
+      }
+    }
+  }
 
-    // Get primary column name
-    String primaryColumnName = "x." + idColumnBinding.getColumnName();
+  /**
+    Loads the associate IDs of each associate binding included in a fetch group using the IDs of their
+    parent data objects.
+    @param parentBinding Parent data object binding.
+    @param connection Database connection.
+    @param parentLookup Parent data object lookup.
+    @param fetchGroup Fetch group or null to load all associates.
+  */
+  private void loadAssociates(DataObjectBinding parentBinding, Connection connection, ParentLookup parentLookup,
+      FetchGroup fetchGroup) throws DataSourceException {
 
-    // Build SQL for primary table
-    StringBuffer sql = new StringBuffer();
-    sql.append("select distinct ").append(primaryColumnName);
-    sql.append(" from ").append(primaryTableName).append(" x ");
-    sql.append(joinSql).append(valueConditionSql).append(orderConditionSql);
+    // Get associate bindings
+    Collection<AssociateBinding> associateBindings = parentBinding.getAssociateBindings();
 
-    try {
-      // Create SQL statement
-      sqlStatement = connection.prepareStatement(sql.toString());
+    for (AssociateBinding associateBinding : associateBindings) {
 
-      // Set finder specific SQL parameters
-      if (valueCondition != null) {
-        valueCondition.setParameters(sqlStatement, 1);
+      // Load associates included in fetch group
+      if (fetchGroup == null || fetchGroup.includes(associateBinding.getPropertyName())) {
+        loadAssociates(associateBinding, connection, parentLookup);
       }
     }
-    catch (SQLException sqlException) {
-
-        // Post error message
-        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Getting Find ID SQL", sqlException);
-  
-        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-    }
-    
-    return sqlStatement;
   }
-  
+
   /**
-    Returns a list of data object IDs using data from a result set object.
-    @see DatabaseDataManager#createIds(ResultSet)
+    Loads associate IDs using the IDs of their parent data objects and assigns them to their parent's
+    associated property. Parent IDs are bound using in lists no larger than the configured maximum list size.
+    @param associateBinding Associate binding.
+    @param connection Database connection.
+    @param parentLookup Parent data object lookup.
   */
-  @Override
-  protected List<I> createIds(ResultSet resultSet) throws DataSourceException {
-    
+  private void loadAssociates(AssociateBinding associateBinding, Connection connection, ParentLookup parentLookup)
+      throws DataSourceException {
+
     // Set method name
-    String methodName = "createIds";
+    String methodName = "loadAssociates";
 
-    // Initialize return value
-    List<I> ids = null;
+    // Get table name, parent ID and associate ID column bindings
+    String tableName = associateBinding.getTableName();
+    IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+    IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
 
-    if (resultSet != null) {
+    // Get associate ID column type
+    int associateIdColumnType = associateIdColumnBinding.getColumnType();
 
-      // Create ID list
-      ids = new ArrayList<I>();
+    // Build select SQL
+    String selectSql = "select " + parentIdColumnBinding.getColumnName() + ", " + associateIdColumnBinding.getColumnName() +
+        " from " + tableName + " where ";
+
+    // Create parent values lookup used to store associate IDs
+    Map<DataObject<?>, List<Object>> parentValueLookup = new IdentityHashMap<DataObject<?>, List<Object>>();
+
+    for (List<Object> parentIds : getKeyBatches(parentLookup)) {
+
+      // Initialize processing variables
+      PreparedStatement statement = null;
+      ResultSet resultSet = null;
 
       try {
 
+        // Create in list value condition
+        IValueCondition valueCondition = InListConditions.create(tableName, parentIdColumnBinding.getColumnName(),
+            parentIdColumnBinding.getColumnType(), parentIds);
+
+        // Create statement and set parameters
+        statement = connection.prepareStatement(selectSql + valueCondition.generateSql(null));
+        valueCondition.setParameters(statement, 1);
+
+        // Execute query
+        resultSet = statement.executeQuery();
+
         while (resultSet.next()) {
 
-          // Get data object ID column binding
-          IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+          // Get parent data object and associate ID
+          DataObject<?> parentDataObject = parentLookup.get(resultSet, 1);
+          Object associateId = DbUtil.getObject(resultSet, 2, associateIdColumnType);
 
-          // Get column type and column name
-          int columnType = idColumnBinding.getColumnType();
-          String columnName = idColumnBinding.getColumnName();
-          
-          // Get next ID
-          @SuppressWarnings("unchecked")
-					I id = (I)DbUtil.getObject(resultSet, columnName, columnType);
-          
-          // Add ID to list
-          ids.add(id);
+          if (parentDataObject != null && associateId != null) {
+
+            // Attempt to get existing parent values
+            List<Object> parentValues = parentValueLookup.get(parentDataObject);
+
+            // Create parent values if not already present
+            if (parentValues == null) {
+              parentValues = new ArrayList<Object>();
+              parentValueLookup.put(parentDataObject, parentValues);
+            }
+
+            // Add associate ID to parent values
+            parentValues.add(associateId);
+          }
         }
       }
       catch (IOException ioException) {
 
         // Post error message
         Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating IDs", ioException);
-  
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Loading Associates", ioException);
+
         throw new DataSourceException(methodName + ": " + ioException.getMessage());
       }
       catch (SQLException sqlException) {
 
         // Post error message
         Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating IDs", sqlException);
-  
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Loading Associates", sqlException);
+
         throw new DataSourceException(methodName + ": " + sqlException.getMessage());
       }
+      finally {
+
+        // Close result set and statement
+        DbUtil.closeResultSet(resultSet);
+        DbUtil.closeStatement(statement);
+      }
     }
 
-    return ids;
+    // Get property name
+    String propertyName = associateBinding.getPropertyName();
+
+    for (Map.Entry<DataObject<?>, List<Object>> entry : parentValueLookup.entrySet()) {
+
+      // Set parent data object's associate property
+      if (associateBinding.isCollection()) {
+        Introspector.setPropertyValue(entry.getKey(), propertyName, entry.getValue());
+      }
+      else {
+        Introspector.setPropertyValue(entry.getKey(), propertyName, entry.getValue().get(0));
+      }
+    }
   }
 
   /**
-    Returns a data object using data from a list of result set objects.
-    @see DatabaseDataManager#createDataObject(List)
+    Recursively loads the dependent data objects of each dependent binding included in a fetch group
+    using the IDs of their parent data objects.
+    @param parentBinding Parent data object binding.
+    @param connection Database connection.
+    @param parentLookup Parent data object lookup.
+    @param fetchGroup Fetch group or null to load all dependents.
   */
-  @Override
-  protected T createDataObject(List<ResultSet> resultSets) throws DataSourceException {
-
-    // Initialize return value
-    T dataObject = null;
+  private void loadDependents(DataObjectBinding parentBinding, Connection connection, ParentLookup parentLookup,
+      FetchGroup fetchGroup) throws DataSourceException {
 
-    // Create data objects - Only one is created
-    List<T> dataObjects = createDataObjects(resultSets);
+    // Get dependent bindings
+    Collection<DependentBinding> dependentBindings = parentBinding.getDependentBindings();
 
-    // Get first data object if one exists
-    if (dataObjects != null && dataObjects.size() > 0) {
-      dataObject = dataObjects.get(0);
-    }
+    for (DependentBinding dependentBinding : dependentBindings) {
 
-    return dataObject;
-  }
+      // Get property name
+      String propertyName = dependentBinding.getPropertyName();
 
-  /**
-    Returns a list of data objects using data from a list of result set objects.
-    @see DatabaseDataManager#createDataObjects
-  */
-  @Override
-  protected List<T> createDataObjects(List<ResultSet> resultSets) throws DataSourceException {
+      if (fetchGroup == null || fetchGroup.includes(propertyName)) {
 
-    // Initialize return value
-    List<T> dataObjects = null;
+        // Get fetch group applied to dependent data objects
+        FetchGroup dependentFetchGroup = fetchGroup == null ? null : fetchGroup.getNestedGroup(propertyName);
 
-    // Create data objects
-    if (resultSets != null) {
-      dataObjects = createDataObjects(dataObjectBinding, resultSets.iterator());
+        // Load dependents included in fetch group
+        loadDependents(dependentBinding, connection, parentLookup, dependentFetchGroup);
+      }
     }
-
-    return dataObjects;
   }
 
   /**
-    Populates a list of data objects using a data object binding and data from a
-    list of result set objects.
-    @param dataObjectBinding Data object binding.
-    @param resultSets Result set iterator.
-    @return List Data objects.
+    Recursively loads dependent data objects using the IDs of their parent data objects and assigns them
+    to their parent's dependent property. Parent IDs are bound using in lists no larger than the configured
+    maximum list size.
+    @param dependentBinding Dependent binding.
+    @param connection Database connection.
+    @param parentLookup Parent data object lookup.
+    @param fetchGroup Fetch group applied to dependent data objects or null to load all of their dependents.
   */
-  private List<T> createDataObjects(DataObjectBinding dataObjectBinding, Iterator<ResultSet> resultSets) throws DataSourceException {
+  private void loadDependents(DependentBinding dependentBinding, Connection connection, ParentLookup parentLookup,
+      FetchGroup fetchGroup) throws DataSourceException {
 
     // Set method name
-    String methodName = "createDataObjects";
-
-    // Initialize return value
-    List<T> dataObjects = null;
+    String methodName = "loadDependents";
 
-    if (resultSets != null && resultSets.hasNext()) {
-
-      // Create data objects list
-      dataObjects = new ArrayList<T>();
+    // Get dependent data object binding
+    DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
 
-      // Get data object class
-      Class<?> dataObjectClass = dataObjectBinding.getDataObjectClass();
+    // Get dependent data object class and table name
+    Class<?> dependentDataObjectClass = dependentDataObjectBinding.getDataObjectClass();
+    String tableName = dependentDataObjectBinding.getTableName();
 
-      // Create data object lookup used by associates and dependents
-      Map<Object, DataObject<?>> dataObjectLookup = new HashMap<Object, DataObject<?>>();
+    // Get parent ID column binding
+    IdColumnBinding parentIdColumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
 
-      // Get next result set
-      ResultSet resultSet = resultSets.next();
+    // Build select SQL
+    String selectSql = "select * from " + tableName + " where ";
 
-      try {
+    // Create parent values lookup used to set parent dependent properties
+    Map<DataObject<?>, List<DataObject<?>>> parentValueLookup = new IdentityHashMap<DataObject<?>, List<DataObject<?>>>();
 
-        while (resultSet.next()) {
+    // Create data object lookup used by next level of descendants
+    ParentLookup dataObjectLookup = new ParentLookup(dependentDataObjectBinding.getIdColumnBinding().getColumnType());
 
-          // Create new data object
-          @SuppressWarnings("unchecked")
-					T dataObject = (T)Instantiator.create(dataObjectClass);
+    for (List<Object> parentIds : getKeyBatches(parentLookup)) {
 
-          // Get data object ID and data object column bindings
-          IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
-          Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
+      // Initialize processing variables
+      PreparedStatement statement = null;
+      ResultSet resultSet = null;
 
-          // Populate data object
-          populate(dataObject, idColumnBinding, resultSet);
-          populate(dataObject, columnBindings, resultSet);
+      try {
 
-          // Add data object to list
-          dataObjects.add(dataObject);
+        // Create in list value condition
+        IValueCondition valueCondition = InListConditions.create(tableName, parentIdColumnBinding.getColumnName(),
+            parentIdColumnBinding.getColumnType(), parentIds);
 
-          // Add to data object lookup
-          dataObjectLookup.put(dataObject.getId(), dataObject);
-        }
-      }
-      catch (SQLException sqlException) {
+        // Create statement and set parameters
+        statement = connection.prepareStatement(selectSql + valueCondition.generateSql(null));
+        valueCondition.setParameters(statement, 1);
 
-        // Post error message
-        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Data Objects", sqlException);
-  
-        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-      }
+        // Execute query
+        resultSet = statement.executeQuery();
 
-      // Create associates
-      createAssociates(dataObjectBinding, resultSets, dataObjectLookup);
+        // Initialize row mapper and parent ID column index
+        RowMapper rowMapper = null;
+        int parentIdColumnIndex = 0;
 
-      // Create dependents
-      createDependents(dataObjectBinding, resultSets, dataObjectLookup);
-    }
+        while (resultSet.next()) {
 
-    return dataObjects;
-  }
+          // Get row mapper and parent ID column index for result set shape
+          if (rowMapper == null) {
+            rowMapper = dependentDataObjectBinding.getRowMapper(resultSet, true);
+            parentIdColumnIndex = resultSet.findColumn(parentIdColumnBinding.getColumnName());
+          }
 
-  /**
-    Recursively creates associate data objects and assigns them to their parent's
-    associated property using a parent data object binding, an iterator of result
-    sets, and a parent data object lookup.
-    @param parentBinding Parent data object binding.
-    @param resultSets Result set iterator.
-    @param parentLookup Parent data object lookup.
-  */
-  private void createAssociates(DataObjectBinding parentBinding, Iterator<ResultSet> resultSets, Map<Object, DataObject<?>> parentLookup) 
-  		throws DataSourceException {
+          // Create and populate dependent data object
+          DataObject<?> dependentDataObject = (DataObject<?>)Instantiator.create(dependentDataObjectClass);
+          rowMapper.populate(dependentDataObject, resultSet);
 
-    // Set method name
-    String methodName = "createAssociates";
-    
-    // Get associate bindings
-    Collection<AssociateBinding> associateBindings = parentBinding.getAssociateBindings();
+          // Mark dependents excluded by fetch group as unloaded
+          markUnloaded(dependentDataObject, dependentDataObjectBinding, fetchGroup, false);
 
-    // Check to see if associate bindings are defined
-    if (associateBindings.size() > 0) {
+          // Get parent data object
+          DataObject<?> parentDataObject = parentLookup.get(resultSet, parentIdColumnIndex);
 
-      // Create parent values lookup used to store parent associate values
-      Map<Object, List<Object>> parentValueLookup = new HashMap<Object, List<Object>>();
+          if (parentDataObject != null) {
 
-      for (AssociateBinding associateBinding : associateBindings) {
+            // Attempt to get existing parent values
+            List<DataObject<?>> parentValues = parentValueLookup.get(parentDataObject);
 
-        // Get parent ID and associate ID column binding
-        IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
-        IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
+            // Create parent values if not already present
+            if (parentValues == null) {
+              parentValues = new ArrayList<DataObject<?>>();
+              parentValueLookup.put(parentDataObject, parentValues);
+            }
 
-        // Clear parent value lookup for each associate binding
-        parentValueLookup.clear();
+            // Add dependent to parent values
+            parentValues.add(dependentDataObject);
 
-        if (resultSets != null && resultSets.hasNext()) {
+            // Add to data object lookup
+            dataObjectLookup.put(dependentDataObject);
+          }
+        }
+      }
+      catch (IOException ioException) {
 
-          // Get next result set
-          ResultSet resultSet = resultSets.next();
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Loading Dependents", ioException);
 
-          try {
-            
-            while (resultSet.next()) {
+        throw new DataSourceException(methodName + ": " + ioException.getMessage());
+      }
+      catch (SQLException sqlException) {
 
-              // Retrieve parent ID and associate ID
-              Object parentId = getColumnValue(parentIdColumnBinding, resultSet);
-              Object associateId = getColumnValue(associateIdColumnBinding, resultSet);
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Loading Dependents", sqlException);
 
-              if (parentId != null && associateId != null) {
+        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+      }
+      finally {
 
-                // Attempt to get existing parent values
-                List<Object> parentValues = parentValueLookup.get(parentId);
+        // Close result set and statement
+        DbUtil.closeResultSet(resultSet);
+        DbUtil.closeStatement(statement);
+      }
+    }
 
-                // Create parent values if not already present
-                if (parentValues == null) {
-                  parentValues = new ArrayList<Object>();
-                  parentValueLookup.put(parentId, parentValues);
-                }
+    // Get property name
+    String propertyName = dependentBinding.getPropertyName();
 
-                // Add associate ID to parent values
-                parentValues.add(associateId);
-              }
-            }
-          }
-          catch (SQLException sqlException) {
-  
-            // Post error message
-            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Associates", sqlException);
-      
-            throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-          }
+    for (Map.Entry<DataObject<?>, List<DataObject<?>>> entry : parentValueLookup.entrySet()) {
 
-          if (parentValueLookup.size() > 0) {
+      // Set parent data object's dependent property
+      if (dependentBinding.isCollection()) {
+        Introspector.setPropertyValue(entry.getKey(), propertyName, entry.getValue());
+      }
+      else {
+        Introspector.setPropertyValue(entry.getKey(), propertyName, entry.getValue().get(0));
+      }
+    }
 
-            // Get parent ID iterator
-            Iterator<Object> parentIds = parentValueLookup.keySet().iterator();
+    // Load dependents of dependents
+    if (!dataObjectLookup.isEmpty()) {
+      loadDependents(dependentDataObjectBinding, connection, dataObjectLookup, fetchGroup);
+    }
+  }
 
-            while (parentIds.hasNext()) {
+  /**
+    Marks the associate and dependent properties of a data object excluded by a fetch group as unloaded.
+    @param dataObject Data object.
+    @param dataObjectBinding Data object binding.
+    @param fetchGroup Fetch group or null if all properties are loaded.
+    @param isAssociateIncluded Indicates whether or not associate properties are loaded for the data object.
+  */
+  private static void markUnloaded(DataObject<?> dataObject, DataObjectBinding dataObjectBinding,
+      FetchGroup fetchGroup, boolean isAssociateIncluded) {
 
-              // Get next parent ID
-              Object parentId = parentIds.next();
+    if (fetchGroup != null) {
 
-              // Get parent data object
-              DataObject<?> parentDataObject = parentLookup.get(parentId);
+      if (isAssociateIncluded) {
 
-              if (parentDataObject != null) {
+        // Mark excluded associates
+        for (AssociateBinding associateBinding : dataObjectBinding.getAssociateBindings()) {
 
-                // Get property name
-                String propertyName = associateBinding.getPropertyName();
+          if (!fetchGroup.includes(associateBinding.getPropertyName())) {
+            dataObject.markUnloaded(associateBinding.getPropertyName());
+          }
+        }
+      }
 
-                // Get parent values
-                List<Object> parentValues = parentValueLookup.get(parentId);
+      // Mark excluded dependents
+      for (DependentBinding dependentBinding : dataObjectBinding.getDependentBindings()) {
 
-                // Set parent data object's associate property
-                if (associateBinding.isCollection()) {
-                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues);
-                }
-                else {
-                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues.get(0));
-                }
-              }
-            }
-          }
+        if (!fetchGroup.includes(dependentBinding.getPropertyName())) {
+          dataObject.markUnloaded(dependentBinding.getPropertyName());
         }
       }
     }
   }
 
   /**
-    Recursively creates dependent data objects and assigns them to their parent's
-    associated property using a parent data object binding, an iterator of result
-    sets, and a parent data object lookup.
-    @param parentBinding Parent data object binding.
-    @param resultSets Result set iterator.
-    @param parentLookup Parent data object lookup.
+    Loads associate and dependent properties in a fetch group that were not loaded when data objects were found.
+    @see DatabaseDataManager#loadProperties(List, FetchGroup, Connection)
+  */
+  @Override
+  protected void loadProperties(List<T> dataObjects, FetchGroup fetchGroup, Connection connection) throws DataSourceException {
+
+    if (dataObjects != null && !dataObjects.isEmpty()) {
+      load(dataObjectBinding, dataObjects, fetchGroup, connection, true);
+    }
+  }
+
+  /**
+    Recursively loads associate and dependent properties in a fetch group that were not loaded when data
+    objects were found. Loaded properties are marked as loaded using their current values as persisted values.
+    @param dataObjectBinding Data object binding.
+    @param dataObjects Data objects.
+    @param fetchGroup Fetch group or null to load all unloaded properties.
+    @param connection Database connection.
+    @param isAssociateIncluded Indicates whether or not associate properties are loaded for the data objects.
   */
-  private void createDependents(DataObjectBinding parentBinding, Iterator<ResultSet> resultSets, Map<Object, DataObject<?>> parentLookup) 
-  		throws DataSourceException {
+  private void load(DataObjectBinding dataObjectBinding, Collection<? extends DataObject<?>> dataObjects,
+      FetchGroup fetchGroup, Connection connection, boolean isAssociateIncluded) throws DataSourceException {
 
-    // Set method name
-    String methodName = "createDependents";
-    
-    // Get dependent bindings
-    Collection<DependentBinding> dependentBindings = parentBinding.getDependentBindings();
+    // Get ID column type
+    int idColumnType = dataObjectBinding.getIdColumnBinding().getColumnType();
 
-    // Check to see if dependent bindings are defined
-    if (dependentBindings.size() > 0) {
+    if (isAssociateIncluded) {
 
-      // Create parent values lookup used to set parent dependent properties
-      Map<Object, List<DataObject<?>>> parentValueLookup = new HashMap<Object, List<DataObject<?>>>();
+      for (AssociateBinding associateBinding : dataObjectBinding.getAssociateBindings()) {
 
-      // Create data object lookup used by next level of descendants
-      Map<Object, DataObject<?>> dataObjectLookup = new HashMap<Object, DataObject<?>>();
+        // Get property name
+        String propertyName = associateBinding.getPropertyName();
 
-      for (DependentBinding dependentBinding : dependentBindings) {
+        if (fetchGroup == null || fetchGroup.includes(propertyName)) {
 
-        // Get dependent data object binding
-        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
+          // Create lookup of data objects with unloaded associates
+          ParentLookup parentLookup = new ParentLookup(idColumnType);
+          List<DataObject<?>> unloadedDataObjects = new ArrayList<DataObject<?>>();
 
-        // Get dependent data object class
-        Class<?> dependentDataObjectClass = dependentDataObjectBinding.getDataObjectClass();
+          for (DataObject<?> dataObject : dataObjects) {
 
-        // Get parent ID and associate ID column bindings
-        IdColumnBinding parentIdColumnBinding = dependentDataObjectBinding.getParentIdColumnBinding();
-        IdColumnBinding dependentIdColumnBinding = dependentDataObjectBinding.getIdColumnBinding();
+            if (!dataObject.isLoaded(propertyName) && dataObject.getId() != null) {
+              parentLookup.put(dataObject);
+              unloadedDataObjects.add(dataObject);
+            }
+          }
 
-        // Get column bindings
-        Collection<ColumnBinding> columnBindings = dependentDataObjectBinding.getColumnBindings();
+          if (!parentLookup.isEmpty()) {
 
-        // Clear parent value and data object lookups
-        parentValueLookup.clear();
-        dataObjectLookup.clear();
+            // Load associates
+            loadAssociates(associateBinding, connection, parentLookup);
 
-        if (resultSets != null && resultSets.hasNext()) {
+            // Mark associates as loaded
+            for (DataObject<?> dataObject : unloadedDataObjects) {
+              dataObject.markLoaded(propertyName, new ArrayList<Object>(getAssociateIds(dataObject, associateBinding)));
+            }
+          }
+        }
+      }
+    }
 
-          // Get next result set
-          ResultSet resultSet = resultSets.next();
+    for (DependentBinding dependentBinding : dataObjectBinding.getDependentBindings()) {
 
-          try {
-            
-            while (resultSet.next()) {
+      // Get property name
+      String propertyName = dependentBinding.getPropertyName();
 
-              // Create dependent data object
-							DataObject<?> dependentDataObject = (DataObject<?>)Instantiator.create(dependentDataObjectClass);
+      if (fetchGroup == null || fetchGroup.includes(propertyName)) {
 
-              // Populate dependent data object
-              populate(dependentDataObject, dependentIdColumnBinding, resultSet);
-              populate(dependentDataObject, parentIdColumnBinding, resultSet);
-              populate(dependentDataObject, columnBindings, resultSet);
+        // Get dependent data object binding
+        DataObjectBinding dependentDataObjectBinding = dependentBinding.getDataObjectBinding();
 
-              // Get parent ID
-              String parentIdPropertyName = parentIdColumnBinding.getPropertyName();
-              Object parentId = Introspector.getPropertyValue(dependentDataObject, parentIdPropertyName);
+        // Get fetch group applied to dependent data objects
+        FetchGroup dependentFetchGroup = fetchGroup == null ? null : fetchGroup.getNestedGroup(propertyName);
 
-              // Attempt to get existing parent values
-              List<DataObject<?>> parentValues = parentValueLookup.get(parentId);
+        // Create lookup of data objects with unloaded dependents
+        ParentLookup parentLookup = new ParentLookup(idColumnType);
+        List<DataObject<?>> unloadedDataObjects = new ArrayList<DataObject<?>>();
 
-              // Create parent values if not already present
-              if (parentValues == null) {
-                parentValues = new ArrayList<DataObject<?>>();
-                parentValueLookup.put(parentId, parentValues);
-              }
+        // Create list of previously loaded dependent data objects
+        List<DataObject<?>> dependentDataObjects = new ArrayList<DataObject<?>>();
 
-              // Add descendent to parent values
-              parentValues.add(dependentDataObject);
+        for (DataObject<?> dataObject : dataObjects) {
 
-              // Add to data object lookup
-              dataObjectLookup.put(dependentDataObject.getId(), dependentDataObject);
-            }
+          if (dataObject.isLoaded(propertyName)) {
+            dependentDataObjects.addAll(getDependentDataObjects(dataObject, dependentBinding));
           }
-          catch (SQLException sqlException) {
-            
-            // Post error message
-            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-            logger.logp(Level.SEVERE, getClass().getName(), methodName, "Creating Dependents", sqlException);
-      
-            throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+          else if (dataObject.getId() != null) {
+            parentLookup.put(dataObject);
+            unloadedDataObjects.add(dataObject);
           }
+        }
 
-          if (parentValueLookup.size() > 0) {
-
-            // Get parent ID iterator
-            Iterator<Object> parentIds = parentValueLookup.keySet().iterator();
-
-            while (parentIds.hasNext()) {
-
-              // Get next parent ID
-            	Object parentId = parentIds.next();
-
-              // Get parent data object
-              DataObject<?> parentDataObject = parentLookup.get(parentId);
+        if (!parentLookup.isEmpty()) {
 
-              if (parentDataObject != null) {
+          // Load dependents
+          loadDependents(dependentBinding, connection, parentLookup, dependentFetchGroup);
 
-                // Get property name
-                String propertyName = dependentBinding.getPropertyName();
+          for (DataObject<?> dataObject : unloadedDataObjects) {
 
-                // Get parent values
-                List<DataObject<?>> parentValues = parentValueLookup.get(parentId);
+            // Get loaded dependent data objects
+            List<DataObject<?>> loadedDataObjects = getDependentDataObjects(dataObject, dependentBinding);
 
-                // Set parent data object's dependent property
-                if (dependentBinding.isCollection()) {
-                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues);
-                }
-                else {
-                  Introspector.setPropertyValue(parentDataObject, propertyName, parentValues.get(0));
-                }
-              }
+            // Mark loaded dependent data objects as persisted
+            for (DataObject<?> loadedDataObject : loadedDataObjects) {
+              markPersisted(loadedDataObject, dependentDataObjectBinding);
             }
-          }
 
-          // Create dependents
-          if (dataObjectLookup.size() > 0) {
-            createDependents(dependentDataObjectBinding, resultSets, dataObjectLookup);
+            // Mark dependents as loaded
+            dataObject.markLoaded(propertyName, loadedDataObjects);
           }
         }
+
+        // Load unloaded properties of previously loaded dependent data objects
+        if (!dependentDataObjects.isEmpty()) {
+          load(dependentDataObjectBinding, dependentDataObjects, dependentFetchGroup, connection, false);
+        }
       }
     }
   }
 
   /**
-    Populates a property accessible object using an ID column binding
-    and a result set object.
-    @param object Target object.
+    Returns the IDs of a parent lookup split into batches no larger than the configured maximum in list size.
+    @param parentLookup Parent data object lookup.
+    @return List List of parent ID batches.
+  */
+  private List<List<Object>> getKeyBatches(ParentLookup parentLookup) {
+
+    // Initialize return value
+    List<List<Object>> batches = new ArrayList<List<Object>>();
+
+    // Get parent IDs and batch size
+    List<Object> ids = parentLookup.getIds();
+    int batchSize = InListConditions.getMaxListSize();
+
+    // Create batches
+    for (int index = 0; index < ids.size(); index += batchSize) {
+      batches.add(ids.subList(index, Math.min(index + batchSize, ids.size())));
+    }
+
+    return batches;
+  }
+
+  /**
+    Returns a column value using an ID column binding and a result set object.
     @param idColumnBinding ID column binding.
     @param resultSet Result set.
+    @return Object Insert column name string.
   */
-  private void populate(Object object, IdColumnBinding idColumnBinding, ResultSet resultSet) throws DataSourceException {
+  private Object getColumnValue(IdColumnBinding idColumnBinding, ResultSet resultSet) throws DataSourceException {
 
     // Set method name
-    String methodName = "populate";
+    String methodName = "getColumnValue";
+
+    // Initialize return value
+    Object columnValue = null;
 
     if (resultSet != null) {
 
       // Get column binding information
-      String propertyName = idColumnBinding.getPropertyName();
       String columnName = idColumnBinding.getColumnName();
       int columnType = idColumnBinding.getColumnType();
 
       try {
-        // Get column value
-        Object columnValue = DbUtil.getObject(resultSet, columnName, columnType);
-
-        // Set property value
-        Introspector.setPropertyValue(object, propertyName, columnValue);
+        // Get value
+        columnValue = DbUtil.getObject(resultSet, columnName, columnType);
       }
       catch (IOException ioException) {
 
         // Post error message
         Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Populating Object", ioException);
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Retrieving Column Value", ioException);
 
         throw new DataSourceException(methodName + ": " + ioException.getMessage());
       }
@@ -2761,105 +4733,228 @@ public abstract class BoundDatabaseDataManager<I, T extends DataObject<I>> exten
 
         // Post error message
         Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Populating Object", sqlException);
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Retrieving Column Value", sqlException);
 
         throw new DataSourceException(methodName + ": " + sqlException.getMessage());
       }
     }
+
+    return columnValue;
   }
 
   /**
-    Populates a property accessible object using a list of column bindings and a result set object.
-    @param object Target object.
-    @param columnBindings Collection of data object column bindings.
-    @param resultSet Result set.
+    Returns a statement key used to cache SQL text for a given statement type. Keys include the
+    domain mode since domain aware statements include a domain condition.
+    @param statementType Statement type.
+    @return String Statement key.
   */
-  private void populate(Object object, Collection<ColumnBinding> columnBindings, ResultSet resultSet)
-      throws DataSourceException {
+  private String getStatementKey(String statementType) {
+    return isDomainAware() ? statementType + ":" + getDomainIdColumnName() : statementType;
+  }
 
-    // Set method name
-    String methodName = "populate";
+  /**
+    Returns cached SQL text used to insert a data object.
+    @param dataObjectBinding Data object binding.
+    @return String SQL text.
+  */
+  private String getCreateText(DataObjectBinding dataObjectBinding) {
 
-    if (resultSet != null) {
+    // Get SQL plan cache and statement key
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    String statementKey = getStatementKey("insert");
 
-      // Populate data object
-      for (ColumnBinding columnBinding : columnBindings) {
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
 
-        // Get column binding information
-        String propertyName = columnBinding.getPropertyName();
-        String columnName = columnBinding.getColumnName();
-        int columnType = columnBinding.getColumnType();
+    if (sql == null) {
 
-        try {
-          // Get column value
-          Object columnValue = DbUtil.getObject(resultSet, columnName, columnType);
+      // Get ID column binding and column bindings
+      IdColumnBinding idColumnBinding = dataObjectBinding.getIdColumnBinding();
+      Collection<ColumnBinding> columnBindings = dataObjectBinding.getColumnBindings();
 
-          // Set property value
-          Introspector.setPropertyValue(object, propertyName, columnValue);
-        }
-        catch (IOException ioException) {
+      // Get columns and parameters
+      String columns = getInsertColumns(idColumnBinding, columnBindings);
+      String parameters = getInsertParameters(idColumnBinding, columnBindings);
 
-          // Post error message
-          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Populating Object", ioException);
+      // Build and cache SQL text
+      sql = "insert into " + dataObjectBinding.getTableName() + "(" + columns + ") values (" + parameters + ")";
+      sql = sqlPlanCache.putStatement(statementKey, sql);
+    }
 
-          throw new DataSourceException(methodName + ": " + ioException.getMessage());
-        }
-        catch (SQLException sqlException) {
+    return sql;
+  }
 
-          // Post error message
-          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-          logger.logp(Level.SEVERE, getClass().getName(), methodName, "Populating Object", sqlException);
+  /**
+    Returns cached SQL text used to update a data object.
+    @param dataObjectBinding Data object binding.
+    @return String SQL text.
+  */
+  private String getUpdateText(DataObjectBinding dataObjectBinding) {
 
-          throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-        }
-      }
+    // Get SQL plan cache and statement key
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    String statementKey = getStatementKey("update");
+
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
+
+    if (sql == null) {
+
+      // Get columns and condition
+      String columns = getUpdateColumns(dataObjectBinding.getColumnBindings());
+      String condition = getCondition(dataObjectBinding.getIdColumnBinding(), null);
+
+      // Build and cache SQL text
+      sql = "update " + dataObjectBinding.getTableName() + " set " + columns + " where " + condition;
+      sql = sqlPlanCache.putStatement(statementKey, sql);
     }
+
+    return sql;
   }
 
   /**
-    Returns a column value using an ID column binding and a result set object.
-    @param idColumnBinding ID column binding.
-    @param resultSet Result set.
-    @return Object Insert column name string.
+    Returns cached SQL text used to delete a data object.
+    @param dataObjectBinding Data object binding.
+    @return String SQL text.
   */
-  private Object getColumnValue(IdColumnBinding idColumnBinding, ResultSet resultSet) throws DataSourceException {
+  private String getDeleteText(DataObjectBinding dataObjectBinding) {
 
-    // Set method name
-    String methodName = "getColumnValue";
+    // Get SQL plan cache and statement key
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    String statementKey = getStatementKey("delete");
 
-    // Initialize return value
-    Object columnValue = null;
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
 
-    if (resultSet != null) {
+    if (sql == null) {
 
-      // Get column binding information
-      String columnName = idColumnBinding.getColumnName();
-      int columnType = idColumnBinding.getColumnType();
+      // Get condition
+      String condition = getCondition(dataObjectBinding.getIdColumnBinding(), null);
 
-      try {
-        // Get value
-        columnValue = DbUtil.getObject(resultSet, columnName, columnType);
-      }
-      catch (IOException ioException) {
+      // Build and cache SQL text
+      sql = "delete from " + dataObjectBinding.getTableName() + " where " + condition;
+      sql = sqlPlanCache.putStatement(statementKey, sql);
+    }
 
-        // Post error message
-        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Retrieving Column Value", ioException);
+    return sql;
+  }
 
-        throw new DataSourceException(methodName + ": " + ioException.getMessage());
-      }
-      catch (SQLException sqlException) {
+  /**
+    Returns cached SQL text used to virtually delete a data object.
+    @param dataObjectBinding Data object binding.
+    @return String SQL text.
+  */
+  private String getVirtualDeleteText(DataObjectBinding dataObjectBinding) {
 
-        // Post error message
-        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
-        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Retrieving Column Value", sqlException);
+    // Get SQL plan cache and statement key
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    String statementKey = getStatementKey("virtualDelete");
 
-        throw new DataSourceException(methodName + ": " + sqlException.getMessage());
-      }
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
+
+    if (sql == null) {
+
+      // Get virtual delete column and condition
+      String column = getUpdateColumn(dataObjectBinding.getVirtualDeleteBinding());
+      String condition = getCondition(dataObjectBinding.getIdColumnBinding(), null);
+
+      // Build and cache SQL text
+      sql = "update " + dataObjectBinding.getTableName() + " set " + column + " where " + condition;
+      sql = sqlPlanCache.putStatement(statementKey, sql);
     }
 
-    return columnValue;
+    return sql;
+  }
+
+  /**
+    Returns cached SQL text used to insert a single associate ID.
+    @param associateBinding Associate binding.
+    @param dataObjectBinding Parent data object binding.
+    @return String SQL text.
+  */
+  private String getCreateAssociateText(AssociateBinding associateBinding, DataObjectBinding dataObjectBinding) {
+
+    // Get SQL plan cache and statement key
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    String statementKey = "associateInsert:" + associateBinding.getPropertyName();
+
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
+
+    if (sql == null) {
+
+      // Get parent ID and associate ID column bindings
+      IdColumnBinding parentIdColumnBinding = associateBinding.getParentIdColumnBinding();
+      IdColumnBinding associateIdColumnBinding = associateBinding.getAssociateIdColumnBinding();
+
+      // Get columns and parameters
+      String columns = getInsertColumns(parentIdColumnBinding, associateIdColumnBinding);
+      String parameters = getInsertParameters(parentIdColumnBinding, associateIdColumnBinding);
+
+      // Build and cache SQL text
+      sql = "insert into " + associateBinding.getTableName() + "(" + columns + ") values (" + parameters + ")";
+      sql = sqlPlanCache.putStatement(statementKey, sql);
+    }
+
+    return sql;
+  }
+
+  /**
+    Returns cached SQL text used to delete a single associate ID.
+    @param associateBinding Associate binding.
+    @param dataObjectBinding Parent data object binding.
+    @return String SQL text.
+  */
+  private String getDeleteAssociateText(AssociateBinding associateBinding, DataObjectBinding dataObjectBinding) {
+
+    // Get SQL plan cache and statement key
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    String statementKey = "associateDelete:" + associateBinding.getPropertyName();
+
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
+
+    if (sql == null) {
+
+      // Get conditions
+      String parentCondition = getCondition(associateBinding.getParentIdColumnBinding());
+      String associateCondition = getCondition(associateBinding.getAssociateIdColumnBinding());
+
+      // Build and cache SQL text
+      sql = "delete from " + associateBinding.getTableName() + " where " + parentCondition + " and " + associateCondition;
+      sql = sqlPlanCache.putStatement(statementKey, sql);
+    }
+
+    return sql;
+  }
+
+  /**
+    Returns cached SQL text used to delete all associate IDs of a parent data object.
+    @param associateBinding Associate binding.
+    @param dataObjectBinding Parent data object binding.
+    @return String SQL text.
+  */
+  private String getDeleteAllAssociateText(AssociateBinding associateBinding, DataObjectBinding dataObjectBinding) {
+
+    // Get SQL plan cache and statement key
+    SqlPlanCache sqlPlanCache = dataObjectBinding.getSqlPlanCache();
+    String statementKey = "associateDeleteAll:" + associateBinding.getPropertyName();
+
+    // Attempt to get cached SQL text
+    String sql = sqlPlanCache.getStatement(statementKey);
+
+    if (sql == null) {
+
+      // Get condition
+      String condition = getCondition(associateBinding.getParentIdColumnBinding());
+
+      // Build and cache SQL text
+      sql = "delete from " + associateBinding.getTableName() + " where " + condition;
+      sql = sqlPlanCache.putStatement(statementKey, sql);
+    }
+
+    return sql;
   }
 
   /**
@@ -3133,15 +5228,21 @@ public abstract class BoundDatabaseDataManager<I, T extends DataObject<I>> exten
 
     if (statement != null && object != null && columnBindings != null) {
 
+      // Get object class
+      Class<?> objectClass = object.getClass();
+
       // Set parameters
       for (ColumnBinding columnBinding : columnBindings) {
 
         // Get column type
         int columnType = columnBinding.getColumnType();
 
+        // Get property accessor
+        PropertyAccessor propertyAccessor = Introspector.getPropertyAccessor(objectClass, columnBinding.getPropertyName());
+
         try {
           // Retrieve property value
-          Object propertyValue = Introspector.getPropertyValue(object, columnBinding.getPropertyName());
+          Object propertyValue = propertyAccessor.getValue(object);
 
           // Set SQL parameter
           DbUtil.setObject(statement, nextIndex++, columnType, propertyValue);
@@ -20,11 +20,15 @@ package com.bws.jdistil.core.datasource.database;
 
 import com.bws.jdistil.core.util.StringUtil;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
   Defines binding information for a data object. This includes a data object class,
@@ -34,6 +38,16 @@ import java.util.Map;
 */
 public class DataObjectBinding {
 
+  /**
+    Fetch strategy loading associates and dependents by joining to the primary query.
+  */
+  public static final String JOIN_FETCH = "join";
+
+  /**
+    Fetch strategy loading associates and dependents by the IDs of their parents.
+  */
+  public static final String KEY_FETCH = "key";
+
   /**
     Data object class.
   */
@@ -79,6 +93,36 @@ public class DataObjectBinding {
   */
   private Map<String, ColumnBinding> propertyLookup = new HashMap<String, ColumnBinding>();
 
+  /**
+    Virtual delete column binding.
+  */
+  private ColumnBinding virtualDeleteBinding = null;
+
+  /**
+    Version column binding.
+  */
+  private ColumnBinding versionBinding = null;
+
+  /**
+    SQL plan cache.
+  */
+  private SqlPlanCache sqlPlanCache = new SqlPlanCache();
+
+  /**
+    Data object cache.
+  */
+  private DataObjectCache dataObjectCache = null;
+
+  /**
+    Fetch strategy used to load associates and dependents.
+  */
+  private String fetchStrategy = null;
+
+  /**
+    Map of row mappers keyed by result set shape.
+  */
+  private ConcurrentMap<String, RowMapper> rowMappers = new ConcurrentHashMap<String, RowMapper>();
+
   /**
     Creates a new DataObjectBinding object.
     @param dataObjectClass Data object class.
@@ -152,6 +196,16 @@ public class DataObjectBinding {
     for (ColumnBinding columnBinding : columnBindings) {
       columnLookup.put(columnBinding.getColumnName(), columnBinding);
       propertyLookup.put(columnBinding.getPropertyName(), columnBinding);
+
+      // Set first virtual delete column binding
+      if (virtualDeleteBinding == null && columnBinding.getIsVirtualDelete()) {
+        virtualDeleteBinding = columnBinding;
+      }
+
+      // Set version column binding
+      if (columnBinding.getPropertyName().equals("Version")) {
+        versionBinding = columnBinding;
+      }
     }
   }
 
@@ -195,6 +249,121 @@ public class DataObjectBinding {
     return columnBindings;
   }
 
+  /**
+    Returns the virtual delete column binding if one exists.
+    @return ColumnBinding Virtual delete column binding.
+  */
+  public ColumnBinding getVirtualDeleteBinding() {
+    return virtualDeleteBinding;
+  }
+
+  /**
+    Returns the column binding used to persist the data object version if one exists.
+    @return ColumnBinding Version column binding.
+  */
+  public ColumnBinding getVersionBinding() {
+    return versionBinding;
+  }
+
+  /**
+    Returns the SQL plan cache.
+    @return SqlPlanCache SQL plan cache.
+  */
+  SqlPlanCache getSqlPlanCache() {
+    return sqlPlanCache;
+  }
+
+  /**
+    Returns the fetch strategy used to load associates and dependents.
+    @return String Fetch strategy.
+  */
+  public String getFetchStrategy() {
+    return fetchStrategy == null ? JOIN_FETCH : fetchStrategy;
+  }
+
+  /**
+    Sets the fetch strategy used to load associates and dependents. The join strategy selects associates
+    and dependents using the primary query joined to their tables. The key strategy selects them using
+    the IDs of the parent data objects returned by the primary query.
+    @param fetchStrategy Fetch strategy.
+  */
+  public void setFetchStrategy(String fetchStrategy) {
+
+    // Validate fetch strategy
+    if (!JOIN_FETCH.equals(fetchStrategy) && !KEY_FETCH.equals(fetchStrategy)) {
+      throw new IllegalArgumentException("Invalid fetch strategy: " + fetchStrategy);
+    }
+
+    this.fetchStrategy = fetchStrategy;
+  }
+
+  /**
+    Returns a value indicating whether or not a fetch strategy has been explicitly set.
+    @return boolean Fetch strategy defined indicator.
+  */
+  boolean isFetchStrategyDefined() {
+    return fetchStrategy != null;
+  }
+
+  /**
+    Returns a value indicating whether or not associates and dependents are loaded by parent ID.
+    @return boolean Key fetch indicator.
+  */
+  public boolean isKeyFetch() {
+    return KEY_FETCH.equals(fetchStrategy);
+  }
+
+  /**
+    Returns a row mapper for the shape of a given result set. Row mappers are created the first
+    time a result set shape is encountered and cached for subsequent queries.
+    @param resultSet Result set.
+    @param isParentIdIncluded Indicates whether or not the parent ID column is populated.
+    @return RowMapper Row mapper.
+  */
+  RowMapper getRowMapper(ResultSet resultSet, boolean isParentIdIncluded) throws SQLException {
+
+    // Get column labels and shape key
+    String[] columnLabels = RowMapper.getColumnLabels(resultSet.getMetaData());
+    String shapeKey = RowMapper.getShapeKey(columnLabels, isParentIdIncluded);
+
+    // Lookup row mapper
+    RowMapper rowMapper = rowMappers.get(shapeKey);
+
+    if (rowMapper == null) {
+
+      // Create row mapper
+      rowMapper = new RowMapper(this, isParentIdIncluded, columnLabels);
+
+      // Cache row mapper using any row mapper cached by a concurrent thread
+      if (rowMappers.size() < RowMapper.MAX_ROW_MAPPERS) {
+
+        RowMapper cachedRowMapper = rowMappers.putIfAbsent(shapeKey, rowMapper);
+
+        if (cachedRowMapper != null) {
+          rowMapper = cachedRowMapper;
+        }
+      }
+    }
+
+    return rowMapper;
+  }
+
+  /**
+    Returns the data object cache.
+    @return DataObjectCache Data object cache or null if caching is disabled.
+  */
+  public DataObjectCache getDataObjectCache() {
+    return dataObjectCache;
+  }
+
+  /**
+    Sets the data object cache.
+    @param dataObjectCache Data object cache.
+  */
+  void setDataObjectCache(DataObjectCache dataObjectCache) {
+    this.dataObjectCache = dataObjectCache;
+  }
+
   /**
     Returns a collection of dependent bindings.
     @return Collection Collection of dependent bindings.
@@ -0,0 +1,524 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database;
+
+import com.bws.jdistil.core.datasource.DataObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+  Least recently used cache of data objects for a single data object binding. Data objects are stored
+  as serialized snapshots so callers always receive a private copy that can be modified without
+  corrupting the cached data. Entries expire after a configurable time to live and the least recently
+  used entry is evicted once the maximum size is reached. Every removal advances a generation counter
+  so data objects loaded before an invalidation are never cached after it.
+  <p>
+  Snapshots use Java serialization because data objects are arbitrary serializable graphs including
+  dependent data objects and collections, and serialization is the only deep copy every data object
+  supports. The version of each data object is kept outside its snapshot so callers can validate
+  cached versions for many keys at once and only restore snapshots that are still current.
+  @author Bryan Snipes
+*/
+public class DataObjectCache {
+
+  /**
+    Maximum number of cached data objects.
+  */
+  private int maxSize = 0;
+
+  /**
+    Time to live in nanoseconds.
+  */
+  private long timeToLive = 0;
+
+  /**
+    Class loader used to resolve data object classes.
+  */
+  private ClassLoader classLoader = null;
+
+  /**
+    Map of cache entries keyed by cache key in access order.
+  */
+  private Map<Object, Entry> entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true);
+
+  /**
+    Invalidation generation.
+  */
+  private AtomicLong generation = new AtomicLong();
+
+  /**
+    Number of cache hits.
+  */
+  private AtomicLong hitCount = new AtomicLong();
+
+  /**
+    Number of cache misses.
+  */
+  private AtomicLong missCount = new AtomicLong();
+
+  /**
+    Number of entries evicted due to size or expiration.
+  */
+  private AtomicLong evictionCount = new AtomicLong();
+
+  /**
+    Number of cache hits rejected as stale.
+  */
+  private AtomicLong staleCount = new AtomicLong();
+
+  /**
+    Creates a new DataObjectCache object.
+    @param dataObjectClass Data object class.
+    @param maxSize Maximum number of cached data objects.
+    @param timeToLive Time to live in seconds.
+  */
+  public DataObjectCache(Class<?> dataObjectClass, int maxSize, long timeToLive) {
+    super();
+
+    // Validate parameters
+    if (dataObjectClass == null) {
+      throw new IllegalArgumentException("Invalid null data object class.");
+    }
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Maximum size must be greater than zero.");
+    }
+    if (timeToLive <= 0) {
+      throw new IllegalArgumentException("Time to live must be greater than zero.");
+    }
+
+    // Set properties
+    this.classLoader = dataObjectClass.getClassLoader();
+    this.maxSize = maxSize;
+    this.timeToLive = timeToLive * 1000000000L;
+  }
+
+  /**
+    Returns the current invalidation generation. The generation should be retrieved before a data
+    object is loaded and passed to the put method when the loaded data object is cached.
+    @return long Invalidation generation.
+  */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+    Returns the versions of cached data objects for a collection of keys. Keys without a cached entry
+    are not included in the returned map and are counted as cache misses. Snapshots are not restored.
+    @param keys Cache keys.
+    @return Map Versions keyed by cache key. Versions are null for data objects without a version.
+  */
+  public Map<Object, Long> getVersions(Collection<?> keys) {
+
+    // Initialize return value
+    Map<Object, Long> versions = new HashMap<Object, Long>();
+
+    // Get current time
+    long currentTime = System.nanoTime();
+
+    synchronized (entries) {
+
+      for (Object key : keys) {
+
+        // Lookup entry
+        Entry entry = entries.get(key);
+
+        if (entry != null && entry.isExpired(currentTime)) {
+
+          // Remove expired entry
+          entries.remove(key);
+          evictionCount.incrementAndGet();
+
+          entry = null;
+        }
+
+        if (entry != null) {
+          versions.put(key, entry.version);
+        }
+        else {
+          missCount.incrementAndGet();
+        }
+      }
+    }
+
+    return versions;
+  }
+
+  /**
+    Returns a copy of a cached data object.
+    @param key Cache key.
+    @return DataObject Copy of cached data object or null if not cached or expired.
+  */
+  public DataObject<?> get(Object key) {
+
+    // Initialize return value
+    DataObject<?> dataObject = null;
+
+    // Initialize snapshot
+    byte[] snapshot = null;
+
+    synchronized (entries) {
+
+      // Lookup entry
+      Entry entry = entries.get(key);
+
+      if (entry != null) {
+
+        if (entry.isExpired(System.nanoTime())) {
+
+          // Remove expired entry
+          entries.remove(key);
+          evictionCount.incrementAndGet();
+        }
+        else {
+          snapshot = entry.snapshot;
+        }
+      }
+    }
+
+    if (snapshot != null) {
+
+      // Create copy from snapshot
+      dataObject = restore(snapshot);
+    }
+
+    // Update statistics
+    if (dataObject != null) {
+      hitCount.incrementAndGet();
+    }
+    else {
+      missCount.incrementAndGet();
+    }
+
+    return dataObject;
+  }
+
+  /**
+    Caches a snapshot of a data object unless the cache was invalidated after the given generation.
+    @param key Cache key.
+    @param dataObject Data object.
+    @param loadGeneration Generation retrieved before the data object was loaded.
+  */
+  public void put(Object key, DataObject<?> dataObject, long loadGeneration) {
+
+    // Create snapshot outside of lock
+    byte[] snapshot = dataObject == null ? null : capture(dataObject);
+
+    if (snapshot != null) {
+
+      synchronized (entries) {
+
+        // Only cache data loaded after the most recent invalidation
+        if (loadGeneration == generation.get()) {
+
+          // Add entry
+          entries.put(key, new Entry(snapshot, dataObject.getVersion(), System.nanoTime() + timeToLive));
+
+          // Evict least recently used entries
+          Iterator<Object> iterator = entries.keySet().iterator();
+
+          while (entries.size() > maxSize && iterator.hasNext()) {
+
+            iterator.next();
+            iterator.remove();
+
+            evictionCount.incrementAndGet();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+    Removes a cached data object.
+    @param key Cache key.
+  */
+  public void remove(Object key) {
+
+    synchronized (entries) {
+
+      // Advance generation and remove entry
+      generation.incrementAndGet();
+      entries.remove(key);
+    }
+  }
+
+  /**
+    Removes a cached data object after a cache hit was found to be stale.
+    @param key Cache key.
+  */
+  public void removeStale(Object key) {
+
+    // Update statistics
+    staleCount.incrementAndGet();
+
+    // Remove entry
+    remove(key);
+  }
+
+  /**
+    Removes all cached data objects.
+  */
+  public void clear() {
+
+    synchronized (entries) {
+
+      // Advance generation and remove all entries
+      generation.incrementAndGet();
+      entries.clear();
+    }
+  }
+
+  /**
+    Returns the number of cached data objects.
+    @return int Number of cached data objects.
+  */
+  public int getSize() {
+
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+    Returns the maximum number of cached data objects.
+    @return int Maximum number of cached data objects.
+  */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+    Returns the number of cache hits.
+    @return long Number of cache hits.
+  */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+    Returns the number of cache misses.
+    @return long Number of cache misses.
+  */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+    Returns the number of entries evicted due to size or expiration.
+    @return long Number of evicted entries.
+  */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+    Returns the number of cache hits rejected as stale. Stale hits are included in the number of cache hits.
+    @return long Number of stale cache hits.
+  */
+  public long getStaleCount() {
+    return staleCount.get();
+  }
+
+  /**
+    Returns the string representation of the cache statistics.
+    @return String Cache statistics.
+  */
+  public String toString() {
+
+    // Initialize return value
+    StringBuffer text = new StringBuffer();
+
+    text.append("Size: ").append(getSize()).append("/").append(maxSize);
+    text.append(", Hits: ").append(getHitCount());
+    text.append(", Misses: ").append(getMissCount());
+    text.append(", Evictions: ").append(getEvictionCount());
+    text.append(", Stale: ").append(getStaleCount());
+
+    return text.toString();
+  }
+
+  /**
+    Returns a serialized snapshot of a data object.
+    @param dataObject Data object.
+    @return byte[] Serialized snapshot or null if the data object could not be serialized.
+  */
+  private byte[] capture(DataObject<?> dataObject) {
+
+    // Initialize return value
+    byte[] snapshot = null;
+
+    try {
+      // Serialize data object
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream(512);
+      ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream);
+      objectOutputStream.writeObject(dataObject);
+      objectOutputStream.close();
+
+      snapshot = outputStream.toByteArray();
+    }
+    catch (IOException ioException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.WARNING, getClass().getName(), "capture", "Data object could not be cached.", ioException);
+    }
+
+    return snapshot;
+  }
+
+  /**
+    Returns a data object restored from a serialized snapshot.
+    @param snapshot Serialized snapshot.
+    @return DataObject Data object or null if the snapshot could not be restored.
+  */
+  private DataObject<?> restore(byte[] snapshot) {
+
+    // Initialize return value
+    DataObject<?> dataObject = null;
+
+    try {
+      // Deserialize data object
+      ObjectInputStream objectInputStream = new SnapshotInputStream(new ByteArrayInputStream(snapshot), classLoader);
+      dataObject = (DataObject<?>)objectInputStream.readObject();
+      objectInputStream.close();
+    }
+    catch (IOException ioException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.WARNING, getClass().getName(), "restore", "Data object could not be restored.", ioException);
+    }
+    catch (ClassNotFoundException classNotFoundException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.WARNING, getClass().getName(), "restore", "Data object could not be restored.", classNotFoundException);
+    }
+
+    return dataObject;
+  }
+
+/**
+  Cache entry containing a serialized data object, its version and its expiration time.
+*/
+private static class Entry {
+
+  /**
+    Serialized data object.
+  */
+  private byte[] snapshot = null;
+
+  /**
+    Data object version.
+  */
+  private Long version = null;
+
+  /**
+    Expiration time in nanoseconds.
+  */
+  private long expirationTime = 0;
+
+  /**
+    Creates a new Entry object.
+    @param snapshot Serialized data object.
+    @param version Data object version.
+    @param expirationTime Expiration time in nanoseconds.
+  */
+  public Entry(byte[] snapshot, Long version, long expirationTime) {
+    this.snapshot = snapshot;
+    this.version = version;
+    this.expirationTime = expirationTime;
+  }
+
+  /**
+    Returns a value indicating whether or not the entry has expired.
+    @param currentTime Current time in nanoseconds.
+    @return boolean Expired indicator.
+  */
+  public boolean isExpired(long currentTime) {
+    return currentTime - expirationTime >= 0;
+  }
+
+}
+
+/**
+  Object input stream resolving classes using the data object class loader.
+*/
+private static class SnapshotInputStream extends ObjectInputStream {
+
+  /**
+    Class loader used to resolve classes.
+  */
+  private ClassLoader classLoader = null;
+
+  /**
+    Creates a new SnapshotInputStream object.
+    @param inputStream Input stream.
+    @param classLoader Class loader used to resolve classes.
+  */
+  public SnapshotInputStream(InputStream inputStream, ClassLoader classLoader) throws IOException {
+    super(inputStream);
+    this.classLoader = classLoader;
+  }
+
+  /**
+    Resolves classes using the data object class loader before the default class loader.
+    @see java.io.ObjectInputStream#resolveClass
+  */
+  protected Class<?> resolveClass(ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException {
+
+    // Initialize return value
+    Class<?> resolvedClass = null;
+
+    if (classLoader != null) {
+
+      try {
+        resolvedClass = Class.forName(objectStreamClass.getName(), false, classLoader);
+      }
+      catch (ClassNotFoundException classNotFoundException) {
+
+        // Use default resolution
+        resolvedClass = null;
+      }
+    }
+
+    if (resolvedClass == null) {
+      resolvedClass = super.resolveClass(objectStreamClass);
+    }
+
+    return resolvedClass;
+  }
+
+}
+
+}
@@ -19,21 +19,25 @@
 package com.bws.jdistil.core.datasource.database;
 
 import com.bws.jdistil.core.CoreException;
+import com.bws.jdistil.core.configuration.Constants;
 import com.bws.jdistil.core.datasource.DataObject;
+import com.bws.jdistil.core.datasource.DataObjectSorter;
 import com.bws.jdistil.core.datasource.DataSourceException;
 import com.bws.jdistil.core.datasource.DirtyUpdateException;
 import com.bws.jdistil.core.datasource.DuplicateException;
+import com.bws.jdistil.core.datasource.FetchGroup;
 import com.bws.jdistil.core.datasource.FilterCriteria;
 import com.bws.jdistil.core.datasource.IDataManager;
+import com.bws.jdistil.core.datasource.IDataObjectHandler;
+import com.bws.jdistil.core.resource.ResourceUtil;
 import com.bws.jdistil.core.security.IDomain;
+import com.bws.jdistil.core.util.StringUtil;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Comparator;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -46,6 +50,26 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
 
 	private static final String DEFAULT_DOMAIN_ID_COLUMN_NAME = "domain_id";
 	
+  /**
+    Default number of rows fetched per database round trip when streaming data objects.
+  */
+  public static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+
+  /**
+    Default number of data objects hydrated per chunk when streaming data objects.
+  */
+  public static final int DEFAULT_STREAM_CHUNK_SIZE = 500;
+
+  /**
+    Number of rows fetched per database round trip when streaming data objects.
+  */
+  private static final int streamFetchSize = loadStreamSize(Constants.STREAM_FETCH_SIZE, DEFAULT_STREAM_FETCH_SIZE);
+
+  /**
+    Number of data objects hydrated per chunk when streaming data objects.
+  */
+  private static final int streamChunkSize = loadStreamSize(Constants.STREAM_CHUNK_SIZE, DEFAULT_STREAM_CHUNK_SIZE);
+
   /**
     Creates a new DatabaseDataManager object.
   */
@@ -53,6 +77,42 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     super();
   }
 
+  /**
+    Returns a configured streaming size or a default size if none is configured.
+    @param key Property key.
+    @param defaultSize Default size.
+    @return int Streaming size.
+  */
+  private static int loadStreamSize(String key, int defaultSize) {
+
+    // Initialize return value
+    int size = defaultSize;
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(key);
+
+    if (!StringUtil.isEmpty(value)) {
+
+      try {
+        // Parse configured value
+        int configuredValue = Integer.parseInt(value.trim());
+
+        // Only use positive values
+        if (configuredValue > 0) {
+          size = configuredValue;
+        }
+      }
+      catch (NumberFormatException numberFormatException) {
+
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.WARNING, DatabaseDataManager.class.getName(), "loadStreamSize", "Invalid stream size for " + key, numberFormatException);
+      }
+    }
+
+    return size;
+  }
+
   /**
     Returns a value indicating whether or not the data manager is domain aware.
     A domain aware data manager will use the default or specified domain provided 
@@ -154,6 +214,21 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
   protected abstract void getFindSql(List<I> ids, Connection connection, IDomain domain,
       List<PreparedStatement> sqlStatements) throws DataSourceException;
 
+  /**
+    Returns a list of prepared statements used to find a list of data objects loading only the associate
+    and dependent properties in a fetch group. All properties are loaded by default.
+    @param ids List of data object IDs.
+    @param fetchGroup Fetch group or null to load all properties.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param sqlStatements List of prepared statements.
+  */
+  protected void getFindSql(List<I> ids, FetchGroup fetchGroup, Connection connection, IDomain domain,
+      List<PreparedStatement> sqlStatements) throws DataSourceException {
+
+    getFindSql(ids, connection, domain, sqlStatements);
+  }
+
   /**
     Returns a list of prepared statements used to find a list of data objects using search criteria.
     @param filterCriteria Filter criteria.
@@ -174,6 +249,39 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
   protected abstract PreparedStatement getFindIdSql(FilterCriteria filterCriteria, Connection connection, IDomain domain)
       throws DataSourceException;
   
+  /**
+    Returns a prepared statement used to find a single page of data object IDs using filter criteria.
+    @param filterCriteria Filter criteria.
+    @param offset Number of data object IDs to skip.
+    @param limit Maximum number of data object IDs to return.
+    @param connection Database connection.
+    @param domain Target domain.
+    @return PreparedStatement Prepared statement.
+  */
+  protected abstract PreparedStatement getFindIdSql(FilterCriteria filterCriteria, int offset, int limit, Connection connection, IDomain domain)
+      throws DataSourceException;
+
+  /**
+    Returns a prepared statement used to count data objects using filter criteria.
+    @param filterCriteria Filter criteria.
+    @param connection Database connection.
+    @param domain Target domain.
+    @return PreparedStatement Prepared statement.
+  */
+  protected abstract PreparedStatement getCountSql(FilterCriteria filterCriteria, Connection connection, IDomain domain)
+      throws DataSourceException;
+
+  /**
+    Returns a prepared statement used to check for the existence of data objects using filter criteria.
+    The statement returns one or more rows if any data objects exist and no rows otherwise.
+    @param filterCriteria Filter criteria.
+    @param connection Database connection.
+    @param domain Target domain.
+    @return PreparedStatement Prepared statement.
+  */
+  protected abstract PreparedStatement getExistsSql(FilterCriteria filterCriteria, Connection connection, IDomain domain)
+      throws DataSourceException;
+
   /**
     Returns a data object using data from a list of result set objects.&nbsp;
     Used in conjunction with the find method.
@@ -190,12 +298,67 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
   */
   protected abstract List<T> createDataObjects(List<ResultSet> resultSets) throws DataSourceException;
 
+  /**
+    Returns a list of data objects using data from a list of result set objects loading only the associate
+    and dependent properties in a fetch group. All properties are loaded by default.
+    @param resultSets List of result set objects.
+    @param fetchGroup Fetch group or null to load all properties.
+    @return List List of data objects.
+  */
+  protected List<T> createDataObjects(List<ResultSet> resultSets, FetchGroup fetchGroup) throws DataSourceException {
+    return createDataObjects(resultSets);
+  }
+
+  /**
+    Returns a data object using data from a list of result set objects and the connection used to
+    execute them. The connection can be used to load related data. Used in conjunction with the find method.
+    @param resultSets List of result set objects.
+    @param connection Database connection.
+    @return DataObject Data object.
+  */
+  protected T createDataObject(List<ResultSet> resultSets, Connection connection) throws DataSourceException {
+    return createDataObject(resultSets);
+  }
+
+  /**
+    Returns a list of data objects using data from a list of result set objects and the connection used to
+    execute them loading only the associate and dependent properties in a fetch group. The connection can be
+    used to load related data. All properties are loaded by default.
+    @param resultSets List of result set objects.
+    @param fetchGroup Fetch group or null to load all properties.
+    @param connection Database connection.
+    @return List List of data objects.
+  */
+  protected List<T> createDataObjects(List<ResultSet> resultSets, FetchGroup fetchGroup, Connection connection)
+      throws DataSourceException {
+
+    return createDataObjects(resultSets, fetchGroup);
+  }
+
+  /**
+    Loads associate and dependent properties in a fetch group that were not loaded when data objects
+    were found. Data objects are always fully loaded by default so nothing is loaded.
+    @param dataObjects List of data objects.
+    @param fetchGroup Fetch group or null to load all unloaded properties.
+    @param connection Database connection.
+  */
+  protected void loadProperties(List<T> dataObjects, FetchGroup fetchGroup, Connection connection) throws DataSourceException {
+    // Nothing to load
+  }
+
   /**
     Returns a list of data object IDs using data from a result set object.
     @param resultSet Result set object.
     @return List List of data object IDs.
   */
   protected abstract List<I> createIds(ResultSet resultSet) throws DataSourceException;
+
+  /**
+    Returns a data object ID using data from the current row of a result set object.
+    @param resultSet Result set positioned on a row.
+    @return Object Data object ID.
+  */
+  protected abstract I createId(ResultSet resultSet) throws DataSourceException;
   
   /**
     Creates and eturns a database connection.
@@ -274,6 +437,16 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     return null;
   }
 
+  /**
+    Marks a data object as persisted after it has been loaded or successfully saved.
+    Default implementation does nothing.
+    @param dataObject Data object.
+  */
+  protected void markPersisted(T dataObject) {
+
+    // Do not capture persisted values by default
+  }
+
   /**
     Saves a new data object using a specified domain.
     @param dataObject Data object to save.
@@ -295,8 +468,8 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     // Initialize processing variables
     Connection connection = null;
 
-    // Create SQL statement list
-    List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
+    // Create SQL statement list supporting batch execution
+    BatchStatementList sqlStatements = new BatchStatementList();
     
     try {
       // Open connection
@@ -314,12 +487,13 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
       }
 
       // Execute all SQL statements
-      for (PreparedStatement sqlStatement : sqlStatements) {
-        sqlStatement.executeUpdate();
-      }
+      sqlStatements.execute();
 
       // Commit all SQL statements
       DbUtil.commit(connection);
+
+      // Mark data object as persisted
+      markPersisted(dataObject);
     }
     catch (CoreException coreException) {
 
@@ -353,6 +527,17 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     }
   }
 
+  /**
+    Returns the persisted data object for a given ID. Used by dirty update checks so subclasses caching
+    data objects can bypass their cache.
+    @param id Data object ID.
+    @param domain Target domain.
+    @return T Persisted data object or null if none exists.
+  */
+  protected T findPersisted(I id, IDomain domain) throws DataSourceException {
+    return find(id, domain);
+  }
+
   /**
     Saves an existing data object using a specified domain.
     @param dataObject Data object to save.
@@ -369,8 +554,8 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
 
     if (checkDirty) {
 
-      // Find data object
-      T currentDataObject = find(id, domain);
+      // Find persisted data object
+      T currentDataObject = findPersisted(id, domain);
 
       // Only update data if same version
       if (!isSameVersion(dataObject, currentDataObject)) {
@@ -396,9 +581,10 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     
     // Initialize processing variables
     Connection connection = null;
+    boolean isComplete = false;
 
-    // Create SQL statement list
-    List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
+    // Create SQL statement list supporting batch execution
+    BatchStatementList sqlStatements = new BatchStatementList();
     
     try {
       // Open connection
@@ -407,18 +593,30 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
       // Retrieve update SQL
       getUpdateSql(dataObject, connection, domain, sqlStatements);
 
-      // Validate create SQL
-      if (sqlStatements.size() <= 0) {
-        throw new DataSourceException(methodName + ": No SQL returned from getUpdateSql method.");
+      // Keep persisted version when nothing has changed
+      if (sqlStatements.isEmpty()) {
+        dataObject.setVersion(currentVersion);
       }
 
-      // Execute all SQL statements
-      for (PreparedStatement sqlStatement : sqlStatements) {
-        sqlStatement.executeUpdate();
+      // Execute all SQL statements - No SQL is returned when nothing has changed
+      isComplete = sqlStatements.execute();
+
+      if (isComplete) {
+
+        // Commit all SQL statements
+        DbUtil.commit(connection);
+
+        // Mark data object as persisted
+        markPersisted(dataObject);
       }
+      else {
 
-      // Commit all SQL statements
-      DbUtil.commit(connection);
+        // Rollback SQL statements since a required row was changed by another transaction
+        DbUtil.rollback(connection);
+
+        // Restore version
+        dataObject.setVersion(currentVersion);
+      }
     }
     catch (CoreException coreException) {
 
@@ -450,6 +648,11 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
       // Close connection
       DbUtil.closeConnection(connection);
     }
+
+    // Report dirty update using the most recent data
+    if (!isComplete) {
+      throw new DirtyUpdateException(findPersisted(id, domain));
+    }
   }
 
   /**
@@ -533,8 +736,8 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     // Initialize processing variables
     Connection connection = null;
 
-    // Create SQL statement list
-    List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
+    // Create SQL statement list supporting batch execution
+    BatchStatementList sqlStatements = new BatchStatementList();
     
     try {
       // Open connection
@@ -549,9 +752,7 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
       }
 
       // Execute all SQL statements
-      for (PreparedStatement sqlStatement : sqlStatements) {
-        sqlStatement.executeUpdate();
-      }
+      sqlStatements.execute();
 
       // Commit all SQL statements
       DbUtil.commit(connection);
@@ -638,7 +839,7 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
 
       // Create data object list
       if (resultSets.size() > 0) {
-        dataObjects = createDataObjects(resultSets);
+        dataObjects = createDataObjects(resultSets, null, connection);
       }
     }
     catch (CoreException coreException) {
@@ -798,7 +999,7 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
 
       // Create data object
       if (resultSets.size() > 0) {
-        dataObject = createDataObject(resultSets);
+        dataObject = createDataObject(resultSets, connection);
       }
     }
     catch (CoreException coreException) {
@@ -885,12 +1086,13 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
 
       // Create data object list
       if (resultSets.size() > 0) {
-        dataObjects = createDataObjects(resultSets);
+        dataObjects = createDataObjects(resultSets, null, connection);
       }
       
       if (dataObjects != null) {
         
-        Collections.sort(dataObjects, new DataObjectComparator(ids));
+        // Order data objects based on requested ID order
+        DataObjectSorter.sort(dataObjects, ids);
       }
     }
     catch (CoreException coreException) {
@@ -972,7 +1174,7 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
 
       // Create data object list
       if (resultSets.size() > 0) {
-        dataObjects = createDataObjects(resultSets);
+        dataObjects = createDataObjects(resultSets, getFetchGroup(filterCriteria), connection);
       }
     }
     catch (CoreException coreException) {
@@ -1004,6 +1206,256 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     return dataObjects;
   }
   
+  /**
+    Returns a single page of data objects based on specified filter criteria information. A page of data object IDs
+    is found first and the data objects for those IDs are then retrieved using the same connection.
+		@see IDataManager#find(FilterCriteria, int, int, IDomain)
+  */
+  @Override
+  public List<T> find(FilterCriteria filterCriteria, int offset, int limit, IDomain domain) throws DataSourceException {
+
+    // Set method name variable
+    String methodName = "find";
+
+    // Initialize return value
+    List<T> dataObjects = null;
+
+    // Validate paging parameters
+    if (offset < 0 || limit <= 0) {
+      throw new DataSourceException(methodName + ": Invalid offset or limit.");
+    }
+
+    // Initialize processing variables
+    Connection connection = null;
+
+    // Initialize ID SQL statement and result set
+    PreparedStatement idStatement = null;
+    ResultSet idResultSet = null;
+
+    // Create SQL statement list
+    List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
+    
+    // Create result set list
+    List<ResultSet> resultSets = new ArrayList<ResultSet>();
+
+    try {
+      // Retrieve database connection
+      connection = openConnection(domain);
+
+      // Retrieve find ID SQL
+      idStatement = getFindIdSql(filterCriteria, offset, limit, connection, domain);
+
+      // Validate find ID SQL
+      if (idStatement == null) {
+        throw new DataSourceException(methodName + ": No SQL returned from getFindIdSql method.");
+      }
+
+      // Execute SQL statement and create page of IDs
+      idResultSet = idStatement.executeQuery();
+      List<I> ids = createIds(idResultSet);
+
+      if (ids != null && !ids.isEmpty()) {
+
+        // Get fetch group
+        FetchGroup fetchGroup = getFetchGroup(filterCriteria);
+
+        // Retrieve find SQL
+        getFindSql(ids, fetchGroup, connection, domain, sqlStatements);
+
+        // Validate find SQL
+        if (sqlStatements.size() <= 0) {
+          throw new DataSourceException(methodName + ": No SQL returned from getFindSql method.");
+        }
+
+        // Execute all SQL statements
+        for (PreparedStatement sqlStatement : sqlStatements) {
+          resultSets.add(sqlStatement.executeQuery());
+        }
+
+        // Create data object list
+        dataObjects = createDataObjects(resultSets, fetchGroup, connection);
+
+        if (dataObjects != null) {
+
+          // Order data objects based on page order
+          DataObjectSorter.sort(dataObjects, ids);
+        }
+      }
+      else {
+
+        // Return empty page
+        dataObjects = new ArrayList<T>();
+      }
+    }
+    catch (CoreException coreException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Page of Data Objects", coreException);
+
+      throw new DataSourceException(methodName + ": " + coreException.getMessage());
+    }
+    catch (SQLException sqlException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Finding Page of Data Objects", sqlException);
+
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    finally {
+
+      // Close all statements and result sets
+      DbUtil.closeResultSet(idResultSet);
+      DbUtil.closeStatement(idStatement);
+      DbUtil.closeStatements(sqlStatements);
+      DbUtil.closeResultSets(resultSets);
+
+      // Close connnection
+      DbUtil.closeConnection(connection);
+    }
+
+    return dataObjects;
+  }
+
+  /**
+    Returns the number of data objects matching specified filter criteria information.
+		@see IDataManager#count(FilterCriteria, IDomain)
+  */
+  @Override
+  public int count(FilterCriteria filterCriteria, IDomain domain) throws DataSourceException {
+
+    // Set method name variable
+    String methodName = "count";
+
+    // Initialize return value
+    int count = 0;
+
+    // Initialize processing variables
+    Connection connection = null;
+
+    // Initialize SQL statement and result set
+    PreparedStatement sqlStatement = null;
+    ResultSet resultSet = null;
+
+    try {
+      // Retrieve database connection
+      connection = openConnection(domain);
+
+      // Retrieve count SQL
+      sqlStatement = getCountSql(filterCriteria, connection, domain);
+
+      // Validate count SQL
+      if (sqlStatement == null) {
+        throw new DataSourceException(methodName + ": No SQL returned from getCountSql method.");
+      }
+
+      // Execute SQL statement
+      resultSet = sqlStatement.executeQuery();
+
+      // Get count
+      if (resultSet.next()) {
+        count = resultSet.getInt(1);
+      }
+    }
+    catch (SQLException sqlException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Counting Data Objects", sqlException);
+
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    finally {
+
+      // Close statement and result set
+      DbUtil.closeResultSet(resultSet);
+      DbUtil.closeStatement(sqlStatement);
+
+      // Close connnection
+      DbUtil.closeConnection(connection);
+    }
+
+    return count;
+  }
+
+  /**
+    Returns the number of data objects in the default domain matching specified filter criteria information.
+		@see IDataManager#count(FilterCriteria)
+  */
+  @Override
+  public int count(FilterCriteria filterCriteria) throws DataSourceException {
+  	return count(filterCriteria, null);
+  }
+
+  /**
+    Returns a value indicating whether or not any data objects in the default domain match specified filter criteria information.
+		@see IDataManager#exists(FilterCriteria)
+  */
+  @Override
+  public boolean exists(FilterCriteria filterCriteria) throws DataSourceException {
+  	return exists(filterCriteria, null);
+  }
+
+  /**
+    Returns a value indicating whether or not any data objects match specified filter criteria information.
+		@see IDataManager#exists(FilterCriteria, IDomain)
+  */
+  @Override
+  public boolean exists(FilterCriteria filterCriteria, IDomain domain) throws DataSourceException {
+
+    // Set method name variable
+    String methodName = "exists";
+
+    // Initialize return value
+    boolean exists = false;
+
+    // Initialize processing variables
+    Connection connection = null;
+
+    // Initialize SQL statement and result set
+    PreparedStatement sqlStatement = null;
+    ResultSet resultSet = null;
+
+    try {
+      // Retrieve database connection
+      connection = openConnection(domain);
+
+      // Retrieve exists SQL
+      sqlStatement = getExistsSql(filterCriteria, connection, domain);
+
+      // Validate exists SQL
+      if (sqlStatement == null) {
+        throw new DataSourceException(methodName + ": No SQL returned from getExistsSql method.");
+      }
+
+      // Execute SQL statement
+      resultSet = sqlStatement.executeQuery();
+
+      // Set exists indicator
+      exists = resultSet.next();
+    }
+    catch (SQLException sqlException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Checking for Data Objects", sqlException);
+
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    finally {
+
+      // Close statement and result set
+      DbUtil.closeResultSet(resultSet);
+      DbUtil.closeStatement(sqlStatement);
+
+      // Close connnection
+      DbUtil.closeConnection(connection);
+    }
+
+    return exists;
+  }
+
   /**
     Returns a list of data object IDs based on specified search criteria information.
 		@see IDataManager#findIds(FilterCriteria)
@@ -1082,6 +1534,259 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     return ids;
   }
   
+  /**
+    Streams data objects based on specified filter criteria information to a data object handler.
+		@see IDataManager#stream(FilterCriteria, IDataObjectHandler)
+  */
+  @Override
+  public void stream(FilterCriteria filterCriteria, IDataObjectHandler<T> handler) throws DataSourceException {
+  	stream(filterCriteria, null, handler);
+  }
+
+  /**
+    Streams data objects based on specified filter criteria information to a data object handler. Data object IDs
+    are read using a forward only cursor on a connection with auto commit turned off and data objects, including
+    associates and dependents, are hydrated one chunk of IDs at a time using a second connection. Drivers such as
+    MySQL do not allow other statements on a connection while a streaming result set is open.
+		@see IDataManager#stream(FilterCriteria, IDomain, IDataObjectHandler)
+  */
+  @Override
+  public void stream(FilterCriteria filterCriteria, IDomain domain, IDataObjectHandler<T> handler) throws DataSourceException {
+
+    // Set method name variable
+    String methodName = "stream";
+
+    // Validate handler
+    if (handler == null) {
+      throw new DataSourceException(methodName + ": Invalid null handler.");
+    }
+
+    // Initialize processing variables
+    Connection connection = null;
+    Connection chunkConnection = null;
+
+    // Initialize SQL statement and result set
+    PreparedStatement sqlStatement = null;
+    ResultSet resultSet = null;
+
+    try {
+      // Retrieve database connections used by the ID cursor and by chunk queries
+      connection = openConnection(domain);
+      chunkConnection = openConnection(domain);
+
+      // Retrieve find ID SQL
+      sqlStatement = getFindIdSql(filterCriteria, connection, domain);
+
+      // Validate find ID SQL
+      if (sqlStatement == null) {
+        throw new DataSourceException(methodName + ": No SQL returned from getFindIdSql method.");
+      }
+
+      // Fetch rows in batches using a forward only cursor
+      sqlStatement.setFetchSize(getStreamFetchSize(connection));
+
+      // Execute SQL statement
+      resultSet = sqlStatement.executeQuery();
+
+      // Create chunk of IDs
+      List<I> ids = new ArrayList<I>(streamChunkSize);
+
+      // Get fetch group
+      FetchGroup fetchGroup = getFetchGroup(filterCriteria);
+
+      // Initialize continue indicator
+      boolean isStreaming = true;
+
+      while (isStreaming && resultSet.next()) {
+
+        // Add next ID to chunk
+        ids.add(createId(resultSet));
+
+        if (ids.size() >= streamChunkSize) {
+
+          // Stream data objects in chunk
+          isStreaming = stream(ids, fetchGroup, chunkConnection, domain, handler);
+
+          // Reset chunk
+          ids.clear();
+        }
+      }
+
+      // Stream data objects in final chunk
+      if (isStreaming && !ids.isEmpty()) {
+        stream(ids, fetchGroup, chunkConnection, domain, handler);
+      }
+    }
+    catch (CoreException coreException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Streaming Data Objects", coreException);
+
+      throw new DataSourceException(methodName + ": " + coreException.getMessage());
+    }
+    catch (SQLException sqlException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Streaming Data Objects", sqlException);
+
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    finally {
+
+      // Close statement and result set
+      DbUtil.closeResultSet(resultSet);
+      DbUtil.closeStatement(sqlStatement);
+
+      // Close connnections
+      DbUtil.closeConnection(chunkConnection);
+      DbUtil.closeConnection(connection);
+    }
+  }
+
+  /**
+    Returns the fetch size used by the streaming ID cursor. MySQL drivers only stream rows when the fetch size
+    is Integer.MIN_VALUE; all other drivers use the configured stream fetch size.
+    @param connection Database connection.
+    @return int Fetch size.
+  */
+  protected int getStreamFetchSize(Connection connection) throws SQLException {
+
+    // Initialize return value
+    int fetchSize = streamFetchSize;
+
+    // Get database product name
+    String productName = connection.getMetaData().getDatabaseProductName();
+
+    // Use row by row streaming for MySQL
+    if (productName != null && productName.toLowerCase().indexOf("mysql") >= 0) {
+      fetchSize = Integer.MIN_VALUE;
+    }
+
+    return fetchSize;
+  }
+
+  /**
+    Hydrates data objects for a chunk of data object IDs and passes them to a data object handler in ID order.
+    @param ids List of data object IDs.
+    @param fetchGroup Fetch group or null to load all properties.
+    @param connection Database connection.
+    @param domain Target domain.
+    @param handler Data object handler.
+    @return boolean Indicates whether or not the handler requested streaming to continue.
+  */
+  private boolean stream(List<I> ids, FetchGroup fetchGroup, Connection connection, IDomain domain, IDataObjectHandler<T> handler)
+      throws DataSourceException, SQLException {
+
+    // Set method name variable
+    String methodName = "stream";
+
+    // Initialize return value
+    boolean isStreaming = true;
+
+    // Create SQL statement list
+    List<PreparedStatement> sqlStatements = new ArrayList<PreparedStatement>();
+    
+    // Create result set list
+    List<ResultSet> resultSets = new ArrayList<ResultSet>();
+
+    try {
+      // Retrieve find SQL
+      getFindSql(ids, fetchGroup, connection, domain, sqlStatements);
+
+      // Validate find SQL
+      if (sqlStatements.size() <= 0) {
+        throw new DataSourceException(methodName + ": No SQL returned from getFindSql method.");
+      }
+
+      // Execute all SQL statements
+      for (PreparedStatement sqlStatement : sqlStatements) {
+
+        sqlStatement.setFetchSize(streamFetchSize);
+        resultSets.add(sqlStatement.executeQuery());
+      }
+
+      // Create data objects for chunk
+      List<T> dataObjects = createDataObjects(resultSets, fetchGroup, connection);
+
+      if (dataObjects != null) {
+
+        // Order data objects based on cursor order
+        DataObjectSorter.sort(dataObjects, ids);
+
+        // Pass data objects to handler until handler stops streaming
+        for (int index = 0; isStreaming && index < dataObjects.size(); index++) {
+          isStreaming = handler.handle(dataObjects.get(index));
+        }
+      }
+    }
+    finally {
+
+      // Close all statements and result sets
+      DbUtil.closeResultSets(resultSets);
+      DbUtil.closeStatements(sqlStatements);
+    }
+
+    return isStreaming;
+  }
+
+  /**
+    Returns the fetch group of a given filter criteria.
+    @param filterCriteria Filter criteria.
+    @return FetchGroup Fetch group or null if all properties are loaded.
+  */
+  private static FetchGroup getFetchGroup(FilterCriteria filterCriteria) {
+    return filterCriteria == null ? null : filterCriteria.getFetchGroup();
+  }
+
+  /**
+    Loads unloaded associate and dependent properties of data objects from the default domain.
+		@see IDataManager#load(List, FetchGroup)
+  */
+  @Override
+  public void load(List<T> dataObjects, FetchGroup fetchGroup) throws DataSourceException {
+    load(dataObjects, fetchGroup, null);
+  }
+
+  /**
+    Loads unloaded associate and dependent properties of data objects from a specified domain.
+		@see IDataManager#load(List, FetchGroup, IDomain)
+  */
+  @Override
+  public void load(List<T> dataObjects, FetchGroup fetchGroup, IDomain domain) throws DataSourceException {
+
+    // Set method name variable
+    String methodName = "load";
+
+    if (dataObjects != null && !dataObjects.isEmpty()) {
+
+      // Initialize processing variables
+      Connection connection = null;
+
+      try {
+        // Retrieve database connection
+        connection = openConnection(domain);
+
+        // Load unloaded properties
+        loadProperties(dataObjects, fetchGroup, connection);
+      }
+      catch (CoreException coreException) {
+
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Loading Data Objects", coreException);
+
+        throw new DataSourceException(methodName + ": " + coreException.getMessage());
+      }
+      finally {
+
+        // Close connnection
+        DbUtil.closeConnection(connection);
+      }
+    }
+  }
+
   /**
     Returns a value indicating whether or not a given data object already exists.
     @param dataObject Data object.
@@ -1141,61 +1846,4 @@ public abstract class DatabaseDataManager<I, T extends DataObject<I>> implements
     return isDuplicate;
   }
 
-/**
-  Compares data objects for sorting based on a list of data object IDs.
-*/
-private class DataObjectComparator implements Comparator<T> {
- 
-  /**
-    List of data object IDs used for comparison.
-  */
-  private List<I> ids = null;
-  
-  /**
-    Creates a new DataObjectComparator using a list of data object IDs.
-    @param ids List of data object IDs.
-  */
-  public DataObjectComparator(List<I> ids) {
-    
-    // Validate parameters
-    if (ids == null || ids.isEmpty()) {
-      throw new IllegalArgumentException("Data object IDs are required.");
-    }
-    
-    // Set properties
-    this.ids = ids;
-  }
-  
-  /**
-    Compares two data objects for sorting based on an internal list of data object IDs.
-    @see java.util.Comparator#compare
-  */
-  public int compare(T dataObject1, T dataObject2) {
-    
-    // Initialize return value
-    int value = 0; 
-
-    if (dataObject1 != null && dataObject2 != null) {
-      
-      // Get indexes of data object IDs
-      Integer index1 = Integer.valueOf(ids.indexOf(dataObject1.getId()));
-      Integer index2 = Integer.valueOf(ids.indexOf(dataObject2.getId()));
-      
-      // Set value based on index comparison
-      value = index1.compareTo(index2);
-    }
-    
-    return value;
-  }
-
-  /**
-    Compares this comparator with another for equality.
-    @see java.util.Comparator#equals 
-  */
-  public boolean equals(Object object) {
-    return this.equals(object);
-  }
-  
-}
-
 }
@@ -876,29 +876,9 @@ public class DbUtil {
       // Retrieve column value as input stream
       InputStream inputStream = resultSet.getAsciiStream(columnName);
 
+      // Read column value
       if (inputStream != null) {
-
-        // Create buffer to store data
-        StringBuffer buffer = new StringBuffer();
-
-        // Create buffered reader
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-
-        // Read first line
-        String line = reader.readLine();
-
-        // Continue processing until all lines are read
-        while (line != null) {
-
-          // Append line to buffer
-          buffer.append(line);
-
-          // Read next line
-          line = reader.readLine();
-        }
-
-        // Set value
-        value = buffer.toString();
+        value = readText(new InputStreamReader(inputStream));
       }
     }
 
@@ -1023,29 +1003,9 @@ public class DbUtil {
       // Retrieve column value as reader
       Reader reader = resultSet.getCharacterStream(columnName);
 
+      // Read column value
       if (reader != null) {
-
-        // Create buffer to store data
-        StringBuffer buffer = new StringBuffer();
-
-        // Create buffered reader
-        BufferedReader bufferedReader = new BufferedReader(reader);
-
-        // Read first line
-        String line = bufferedReader.readLine();
-
-        // Continue processing until all lines are read
-        while (line != null) {
-
-          // Append line to buffer
-          buffer.append(line);
-
-          // Read next line
-          line = bufferedReader.readLine();
-        }
-
-        // Set value
-        value = buffer.toString();
+        value = readText(reader);
       }
     }
 
@@ -1144,6 +1104,110 @@ public class DbUtil {
     return value;
   }
 
+  /**
+    Returns a value using a given SQL result set, column index, and column type. Values are
+    converted the same way as when retrieved by column name but avoid resolving the column
+    name for each value.
+    @param resultSet - Result set.
+    @param columnIndex - Column index.
+    @param columnType - Column type.
+    @return Object - Column value.
+  */
+  public static Object getObject(ResultSet resultSet, int columnIndex, int columnType)
+      throws SQLException, IOException {
+
+    // Initialize return value
+    Object value = null;
+
+    if (resultSet != null) {
+
+      switch (columnType) {
+        case STRING:
+          value = resultSet.getString(columnIndex);
+          break;
+        case BOOLEAN:
+          String booleanValue = resultSet.getString(columnIndex);
+          value = Boolean.valueOf(booleanValue != null && booleanValue.equalsIgnoreCase(FieldValues.TRUE));
+          break;
+        case DATE:
+          value = resultSet.getDate(columnIndex);
+          break;
+        case TIME:
+        case TIMESTAMP:
+          value = resultSet.getTime(columnIndex);
+          break;
+        case BYTE:
+          byte byteValue = resultSet.getByte(columnIndex);
+          value = resultSet.wasNull() ? null : Byte.valueOf(byteValue);
+          break;
+        case SHORT:
+          short shortValue = resultSet.getShort(columnIndex);
+          value = resultSet.wasNull() ? null : Short.valueOf(shortValue);
+          break;
+        case INTEGER:
+          int intValue = resultSet.getInt(columnIndex);
+          value = resultSet.wasNull() ? null : Integer.valueOf(intValue);
+          break;
+        case LONG:
+          long longValue = resultSet.getLong(columnIndex);
+          value = resultSet.wasNull() ? null : Long.valueOf(longValue);
+          break;
+        case FLOAT:
+          float floatValue = resultSet.getFloat(columnIndex);
+          value = resultSet.wasNull() ? null : Float.valueOf(floatValue);
+          break;
+        case DOUBLE:
+          double doubleValue = resultSet.getDouble(columnIndex);
+          value = resultSet.wasNull() ? null : Double.valueOf(doubleValue);
+          break;
+        case ASCII_STREAM:
+          InputStream inputStream = resultSet.getAsciiStream(columnIndex);
+          value = inputStream == null ? null : readText(new InputStreamReader(inputStream));
+          break;
+        case CHARACTER_STREAM:
+          Reader reader = resultSet.getCharacterStream(columnIndex);
+          value = reader == null ? null : readText(reader);
+          break;
+        default:
+
+          // Allow JDBC driver handle conversion
+          value = resultSet.getObject(columnIndex);
+          break;
+      }
+    }
+
+    return value;
+  }
+
+  /**
+    Returns all text read from a given reader with line terminators removed.
+    @param reader - Reader.
+    @return String - Text.
+  */
+  private static String readText(Reader reader) throws IOException {
+
+    // Create buffer to store data
+    StringBuffer buffer = new StringBuffer();
+
+    // Create buffered reader
+    BufferedReader bufferedReader = new BufferedReader(reader);
+
+    // Read first line
+    String line = bufferedReader.readLine();
+
+    // Continue processing until all lines are read
+    while (line != null) {
+
+      // Append line to buffer
+      buffer.append(line);
+
+      // Read next line
+      line = bufferedReader.readLine();
+    }
+
+    return buffer.toString();
+  }
+
   /**
     Sets a SQL parameter of type string using a prepared SQL statement, an index
     and a value.
@@ -18,6 +18,8 @@
  */
 package com.bws.jdistil.core.datasource.database;
 
+import java.util.Map;
+
 /**
   Defines all order condition methods. Serves as a tag interface for
   OrderCondition and OrderConditions classes.
@@ -25,6 +27,14 @@ package com.bws.jdistil.core.datasource.database;
 */
 public interface IOrderCondition extends ISqlGenerator {
 
+  /**
+    Returns SQL text ordering by the minimum value of ascending columns and the maximum value of
+    descending columns using a map of aliases. Used to order queries grouped by data object ID.
+    @param aliases Map of table aliases keyed by table name.
+    @return String Aggregate order SQL text.
+  */
+  public String generateAggregateSql(Map<String, String> aliases);
+
   /**
 	 	Returns a value indicating whether or not the order condition references a given table name.
 	  @param tableName Table name.
@@ -33,5 +33,15 @@ public interface ISqlGenerator {
   */
   public String generateSql(Map<String, String> aliases);
 
+  /**
+    Appends a structural key identifying the SQL text generated by the instance without regard to
+    table aliases or parameter values. Used to key cached SQL plans without generating SQL text.
+    Defaults to the SQL text generated without aliases.
+    @param shape - Structural key buffer.
+  */
+  public default void appendShape(StringBuffer shape) {
+    shape.append(generateSql(null));
+  }
+
 }
 
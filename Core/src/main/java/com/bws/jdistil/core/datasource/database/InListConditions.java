@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database;
+
+import com.bws.jdistil.core.configuration.Constants;
+import com.bws.jdistil.core.resource.ResourceUtil;
+import com.bws.jdistil.core.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+  Static class used to create value conditions matching a column against a list of values.
+  By default values are split into chunks no larger than the configured maximum list size,
+  each chunk generating a single "in" condition and chunks being combined using the logical
+  'Or' operator. An array mode binding all values as a single array parameter can be enabled
+  for databases supporting "= any(?)" conditions. In lists are padded to the next power of two no larger
+  than the maximum list size by repeating the last value, so the number of distinct statements generated
+  for lists of varying sizes stays small.
+  @author - Bryan Snipes
+*/
+public class InListConditions {
+
+  /**
+    Chunked in list mode constant.
+  */
+  public static final String CHUNKED_MODE = "chunked";
+
+  /**
+    Array parameter in list mode constant.
+  */
+  public static final String ARRAY_MODE = "array";
+
+  /**
+    Default maximum number of values in a single in list.
+  */
+  public static final int DEFAULT_MAX_LIST_SIZE = 1000;
+
+  /**
+    Maximum number of values in a single in list.
+  */
+  private static final int maxListSize = loadMaxListSize();
+
+  /**
+    In list mode.
+  */
+  private static final String mode = loadMode();
+
+  /**
+    Creates a new InListConditions object.
+  */
+  private InListConditions() {
+    super();
+  }
+
+  /**
+    Returns the configured maximum list size or the default maximum list size if none is configured.
+    @return int Maximum list size.
+  */
+  private static int loadMaxListSize() {
+
+    // Initialize return value
+    int maxListSize = DEFAULT_MAX_LIST_SIZE;
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(Constants.IN_LIST_MAX_SIZE);
+
+    if (!StringUtil.isEmpty(value)) {
+
+      try {
+        // Parse configured value
+        int configuredValue = Integer.parseInt(value.trim());
+
+        // Only use positive values
+        if (configuredValue > 0) {
+          maxListSize = configuredValue;
+        }
+      }
+      catch (NumberFormatException numberFormatException) {
+
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database");
+        logger.logp(Level.WARNING, InListConditions.class.getName(), "loadMaxListSize", "Invalid in list maximum size", numberFormatException);
+      }
+    }
+
+    return maxListSize;
+  }
+
+  /**
+    Returns the configured in list mode or the chunked mode if none is configured.
+    @return String In list mode.
+  */
+  private static String loadMode() {
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(Constants.IN_LIST_MODE);
+
+    return value != null && value.trim().equalsIgnoreCase(ARRAY_MODE) ? ARRAY_MODE : CHUNKED_MODE;
+  }
+
+  /**
+    Returns the maximum number of values in a single in list.
+    @return int Maximum list size.
+  */
+  public static int getMaxListSize() {
+    return maxListSize;
+  }
+
+  /**
+    Returns the in list mode.
+    @return String In list mode.
+  */
+  public static String getMode() {
+    return mode;
+  }
+
+  /**
+    Returns a value condition matching a column against a collection of values using the configured mode.
+    @param tableName Table name.
+    @param columnName Column name.
+    @param type Parameter type.
+    @param values Collection of values.
+    @return IValueCondition Value condition.
+  */
+  public static IValueCondition create(String tableName, String columnName, int type, Collection<?> values) {
+    return create(tableName, columnName, type, values, mode, maxListSize);
+  }
+
+  /**
+    Returns a value condition matching a column against a collection of values using a specified mode and
+    maximum list size.
+    @param tableName Table name.
+    @param columnName Column name.
+    @param type Parameter type.
+    @param values Collection of values.
+    @param mode In list mode.
+    @param maxListSize Maximum number of values in a single in list.
+    @return IValueCondition Value condition.
+  */
+  public static IValueCondition create(String tableName, String columnName, int type, Collection<?> values,
+      String mode, int maxListSize) {
+
+    // Validate parameters
+    if (values == null || values.isEmpty()) {
+      throw new IllegalArgumentException("Invalid empty list value.");
+    }
+    if (maxListSize <= 0) {
+      throw new IllegalArgumentException("Invalid maximum list size.");
+    }
+
+    // Initialize return value
+    IValueCondition valueCondition = null;
+
+    if (ARRAY_MODE.equals(mode)) {
+
+      // Create array value condition
+      valueCondition = new ArrayValueCondition(tableName, columnName, type, values);
+    }
+    else if (values.size() <= maxListSize) {
+
+      // Create single in list value condition
+      valueCondition = new ValueCondition(tableName, columnName, Operators.IN, type, pad(values, maxListSize));
+    }
+    else {
+
+      // Initialize value conditions
+      ValueConditions valueConditions = null;
+
+      // Create chunk list
+      List<Object> chunk = new ArrayList<Object>(maxListSize);
+
+      for (Object value : values) {
+
+        // Add value to current chunk
+        chunk.add(value);
+
+        if (chunk.size() == maxListSize) {
+
+          // Add chunk condition
+          valueConditions = addChunk(valueConditions, tableName, columnName, type, chunk);
+
+          // Start next chunk
+          chunk = new ArrayList<Object>(maxListSize);
+        }
+      }
+
+      // Add remaining values
+      if (!chunk.isEmpty()) {
+        valueConditions = addChunk(valueConditions, tableName, columnName, type, chunk);
+      }
+
+      valueCondition = valueConditions;
+    }
+
+    return valueCondition;
+  }
+
+  /**
+    Adds an in list value condition for a chunk of values to a given set of value conditions.
+    @param valueConditions Value conditions or null if no chunks have been added.
+    @param tableName Table name.
+    @param columnName Column name.
+    @param type Parameter type.
+    @param chunk List of values.
+    @return ValueConditions Value conditions including the chunk condition.
+  */
+  private static ValueConditions addChunk(ValueConditions valueConditions, String tableName, String columnName,
+      int type, List<Object> chunk) {
+
+    // Create value condition
+    ValueCondition valueCondition = new ValueCondition(tableName, columnName, Operators.IN, type, pad(chunk, maxListSize));
+
+    // Build value conditions
+    if (valueConditions == null) {
+      valueConditions = new ValueConditions(valueCondition);
+    }
+    else {
+      valueConditions.add(Operators.OR, valueCondition);
+    }
+
+    return valueConditions;
+  }
+
+  /**
+    Returns a list of values padded to the next power of two no larger than a maximum list size by
+    repeating the last value. Repeated values do not change the result of an in list comparison.
+    @param values Collection of values.
+    @param maxListSize Maximum number of values in a single in list.
+    @return List Padded list of values.
+  */
+  static List<Object> pad(Collection<?> values, int maxListSize) {
+
+    // Get padded size
+    int size = values.size();
+    int paddedSize = Math.min(Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1, maxListSize);
+
+    // Copy values
+    List<Object> paddedValues = new ArrayList<Object>(paddedSize);
+    paddedValues.addAll(values);
+
+    // Repeat last value
+    Object lastValue = paddedValues.get(size - 1);
+
+    while (paddedValues.size() < paddedSize) {
+      paddedValues.add(lastValue);
+    }
+
+    return paddedValues;
+  }
+
+}
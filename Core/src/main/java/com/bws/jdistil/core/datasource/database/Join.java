@@ -157,6 +157,19 @@ public class Join implements ISqlGenerator {
     return sqlText.toString();
   }
 
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    // Append join type and target table
+    shape.append(type).append(" ").append(targetTableName).append(" on ");
+
+    // Append join conditions
+    joinCondition.appendShape(shape);
+  }
+
   /**
     Returns the source table name.
     @return String - Source table name.
@@ -125,6 +125,17 @@ public class JoinCondition implements IJoinCondition {
     return sqlText.toString();
   }
 
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    // Append source column, operator and target column
+    shape.append(sourceTableName).append(".").append(sourceColumnName).append(operator);
+    shape.append(targetTableName).append(".").append(targetColumnName);
+  }
+
   /**
     Returns a list of all table names defined in the join condition.
     @see com.bws.jdistil.core.datasource.database.IJoinCondition#getTableNames
@@ -96,6 +96,33 @@ public class JoinConditions implements IJoinCondition {
     return sqlText.toString();
   }
 
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    // Start grouping
+    shape.append("(");
+
+    for (int index = 0; index < groups.size(); index++) {
+
+      // Get next group
+      Group group = groups.get(index);
+
+      // Append logical operator if not first group
+      if (index != 0) {
+        shape.append(group.getOperator());
+      }
+
+      // Append condition
+      group.getJoinCondition().appendShape(shape);
+    }
+
+    // End grouping
+    shape.append(")");
+  }
+
   /**
     Returns a list of all table names defined in the join condition.
     @see com.bws.jdistil.core.datasource.database.IJoinCondition#getTableNames
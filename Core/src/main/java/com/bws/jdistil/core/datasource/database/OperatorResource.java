@@ -41,6 +41,7 @@ public class OperatorResource extends ListResourceBundle {
     {Operators.LESS_THAN_OR_EQUAL, "Less Than or Equal"},
     {Operators.IS_NULL, "Is Null"},
     {Operators.IS_NOT_NULL, "Is Not Null"},
+    {Operators.IN, "In"},
   };
 
   /**
@@ -90,6 +90,11 @@ public class Operators {
   */
   public static final String IS_NOT_NULL = " is not null ";
   
+  /**
+    In list operator constant. Requires a collection of values.
+  */
+  public static final String IN = " in ";
+  
   /**
     Logical 'And' operator constant.
   */
@@ -113,7 +118,7 @@ public class Operators {
     @return boolean Valid operator indicator.
   */
   public static boolean isValid(String operator) {
-    return isValidComparative(operator) || isValidLogical(operator);
+    return isValidValueComparative(operator) || isValidLogical(operator);
   }
 
   /**
@@ -131,6 +136,16 @@ public class Operators {
         operator.equalsIgnoreCase(IS_NULL) || operator.equalsIgnoreCase(IS_NOT_NULL));
   }
 
+  /**
+    Returns a value indicating whether or not a given operator is valid for value conditions. Value
+    conditions support all comparative operators as well as list comparative operators.
+    @param operator Operator.
+    @return boolean Valid value comparative operator indicator.
+  */
+  public static boolean isValidValueComparative(String operator) {
+    return isValidComparative(operator) || isListComparative(operator);
+  }
+
   /**
     Returns a value indicating whether or not a given operator is a valid logical operator.
     @param operator Operator.
@@ -149,6 +164,15 @@ public class Operators {
     return operator != null && operator.equalsIgnoreCase(IS_NULL) || operator.equalsIgnoreCase(IS_NOT_NULL);
   }
   
+  /**
+    Returns a value indicating whether or not a given operator is a list comparative operator.
+    @param operator Operator.
+    @return boolean List comparative operator indicator.
+  */
+  public static boolean isListComparative(String operator) {
+    return operator != null && operator.equalsIgnoreCase(IN);
+  }
+  
   /**
 	  Returns a locale specific description for a given operator type.
 	  @param type Operator type.
@@ -108,6 +108,44 @@ public class OrderCondition implements IOrderCondition {
     return sqlText.toString();
   }
 
+  /**
+    Returns the aggregate SQL text represented by the order condition using a map of aliases.
+    @see com.bws.jdistil.core.datasource.database.IOrderCondition#generateAggregateSql
+  */
+  public String generateAggregateSql(Map<String, String> aliases) {
+
+    // Initialize return value
+    StringBuffer sqlText = new StringBuffer();
+
+    // Initialize alias to table name
+    String alias = tableName;
+
+    // Attempt to get alias
+    if (aliases != null && aliases.containsKey(tableName)) {
+      alias = aliases.get(tableName);
+    }
+
+    // Build SQL text
+    if (direction.equals(FieldValues.SORT_ASCENDING)) {
+      sqlText.append("min(").append(alias).append(".").append(columnName).append(") ").append(" asc ");
+    }
+    else {
+      sqlText.append("max(").append(alias).append(".").append(columnName).append(") ").append(" desc ");
+    }
+
+    return sqlText.toString();
+  }
+
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    // Append column and direction
+    shape.append(tableName).append(".").append(columnName).append(" ").append(direction);
+  }
+
   /**
 		Returns a value indicating whether or not the order condition references a given table name.
 	  @param tableName Table name.
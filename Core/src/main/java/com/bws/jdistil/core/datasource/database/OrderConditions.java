@@ -78,6 +78,43 @@ public class OrderConditions implements IOrderCondition {
     return sqlText.toString();
   }
 
+  /**
+    Returns the aggregate SQL text represented by the order conditions using a map of aliases.
+    @see com.bws.jdistil.core.datasource.database.IOrderCondition#generateAggregateSql
+  */
+  public String generateAggregateSql(Map<String, String> aliases) {
+
+    // Initialize return value
+    StringBuffer sqlText = new StringBuffer();
+
+    for (OrderCondition orderCondition : values) {
+
+      // Append condition
+      if (sqlText.length() == 0) {
+        sqlText.append(orderCondition.generateAggregateSql(aliases));
+      }
+      else {
+        sqlText.append(", ").append(orderCondition.generateAggregateSql(aliases));
+      }
+    }
+
+    return sqlText.toString();
+  }
+
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    for (OrderCondition orderCondition : values) {
+
+      // Append condition
+      shape.append(",");
+      orderCondition.appendShape(shape);
+    }
+  }
+
   /**
 		Returns a value indicating whether or not the order condition references a given table name.
 	  @param tableName Table name.
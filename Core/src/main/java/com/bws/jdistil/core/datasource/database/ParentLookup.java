@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database;
+
+import com.bws.jdistil.core.datasource.DataObject;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+  Lookup of parent data objects keyed by ID used to merge associates and dependents loaded by key.
+  Integral IDs are stored in an open addressing table keyed by primitive long values so parent IDs
+  read from child rows are matched without creating wrapper objects. Other ID types are stored in a
+  hash map.
+  @author Bryan Snipes
+*/
+class ParentLookup {
+
+  /**
+    Initial capacity of the primitive key table.
+  */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+    ID column type.
+  */
+  private int columnType = DbUtil.INTEGER;
+
+  /**
+    Indicates whether or not IDs are stored using primitive keys.
+  */
+  private boolean isPrimitive = false;
+
+  /**
+    Primitive keys.
+  */
+  private long[] keys = null;
+
+  /**
+    Parent data objects stored using primitive keys. A null entry marks an unused slot.
+  */
+  private DataObject<?>[] values = null;
+
+  /**
+    Parent data objects keyed by ID when IDs are not integral.
+  */
+  private Map<Object, DataObject<?>> objectLookup = null;
+
+  /**
+    Parent IDs in the order they were added.
+  */
+  private List<Object> ids = new ArrayList<Object>();
+
+  /**
+    Creates a new ParentLookup object using an ID column type.
+    @param columnType ID column type.
+  */
+  ParentLookup(int columnType) {
+    super();
+
+    // Set column type
+    this.columnType = columnType;
+
+    // Use primitive keys for integral column types
+    isPrimitive = columnType == DbUtil.BYTE || columnType == DbUtil.SHORT ||
+        columnType == DbUtil.INTEGER || columnType == DbUtil.LONG;
+
+    if (isPrimitive) {
+      keys = new long[INITIAL_CAPACITY];
+      values = new DataObject<?>[INITIAL_CAPACITY];
+    }
+    else {
+      objectLookup = new HashMap<Object, DataObject<?>>();
+    }
+  }
+
+  /**
+    Returns the ID column type.
+    @return int ID column type.
+  */
+  int getColumnType() {
+    return columnType;
+  }
+
+  /**
+    Returns the parent IDs in the order they were added.
+    @return List Parent IDs.
+  */
+  List<Object> getIds() {
+    return ids;
+  }
+
+  /**
+    Returns a value indicating whether or not the lookup is empty.
+    @return boolean Empty indicator.
+  */
+  boolean isEmpty() {
+    return ids.isEmpty();
+  }
+
+  /**
+    Adds a parent data object using its ID. Data objects without an ID are ignored.
+    @param dataObject Parent data object.
+  */
+  void put(DataObject<?> dataObject) {
+
+    // Get ID
+    Object id = dataObject.getId();
+
+    if (id != null) {
+
+      if (!isPrimitive) {
+
+        // Add to object lookup
+        if (objectLookup.put(id, dataObject) == null) {
+          ids.add(id);
+        }
+      }
+      else {
+
+        // Resize when more than half the slots are used
+        if ((ids.size() + 1) * 2 > keys.length) {
+          resize();
+        }
+
+        // Add to primitive lookup
+        if (insert(((Number)id).longValue(), dataObject)) {
+          ids.add(id);
+        }
+      }
+    }
+  }
+
+  /**
+    Returns the parent data object identified by a column value in the current row of a result set.
+    @param resultSet Result set positioned on a row.
+    @param columnIndex Parent ID column index.
+    @return DataObject Parent data object or null if none is found.
+  */
+  DataObject<?> get(ResultSet resultSet, int columnIndex) throws SQLException, IOException {
+
+    // Initialize return value
+    DataObject<?> dataObject = null;
+
+    if (isPrimitive) {
+
+      // Get primitive parent ID
+      long key = resultSet.getLong(columnIndex);
+
+      // Lookup parent data object
+      if (!resultSet.wasNull()) {
+        dataObject = values[find(key)];
+      }
+    }
+    else {
+
+      // Get parent ID
+      Object id = DbUtil.getObject(resultSet, columnIndex, columnType);
+
+      // Lookup parent data object
+      if (id != null) {
+        dataObject = objectLookup.get(id);
+      }
+    }
+
+    return dataObject;
+  }
+
+  /**
+    Returns the slot holding a key or the empty slot where the key would be inserted.
+    @param key Primitive key.
+    @return int Slot index.
+  */
+  private int find(long key) {
+
+    // Get slot mask
+    int mask = keys.length - 1;
+
+    // Get initial slot using a mixed hash of the key
+    int slot = (int)((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+
+    // Probe linearly until the key or an empty slot is found
+    while (values[slot] != null && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+
+    return slot;
+  }
+
+  /**
+    Inserts a data object using a primitive key unless the key is already present.
+    @param key Primitive key.
+    @param dataObject Data object.
+    @return boolean Indicates whether or not the data object was inserted.
+  */
+  private boolean insert(long key, DataObject<?> dataObject) {
+
+    // Find slot
+    int slot = find(key);
+
+    // Initialize return value
+    boolean isInserted = values[slot] == null;
+
+    // Set key and value
+    keys[slot] = key;
+    values[slot] = dataObject;
+
+    return isInserted;
+  }
+
+  /**
+    Doubles the capacity of the primitive key table.
+  */
+  private void resize() {
+
+    // Get current keys and values
+    long[] oldKeys = keys;
+    DataObject<?>[] oldValues = values;
+
+    // Create larger table
+    keys = new long[oldKeys.length * 2];
+    values = new DataObject<?>[oldValues.length * 2];
+
+    // Reinsert existing entries
+    for (int index = 0; index < oldValues.length; index++) {
+
+      if (oldValues[index] != null) {
+        insert(oldKeys[index], oldValues[index]);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database;
+
+import com.bws.jdistil.core.util.Introspector;
+import com.bws.jdistil.core.util.PropertyAccessor;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+  Populates data objects from the current row of a result set using column indexes and property
+  accessors resolved once for a data object binding and result set shape. A result set shape is
+  the ordered list of column labels returned by a query. Row mappers are cached by the data object
+  binding so queries returning the same columns reuse the same row mapper.
+  @author Bryan Snipes
+  @see com.bws.jdistil.core.datasource.database.DataObjectBinding#getRowMapper
+*/
+class RowMapper {
+
+  /**
+    Maximum number of row mappers cached per binding. Additional result set shapes are mapped
+    using row mappers that are not cached.
+  */
+  static final int MAX_ROW_MAPPERS = 32;
+
+  /**
+    Property accessors in column binding order.
+  */
+  private PropertyAccessor[] propertyAccessors = null;
+
+  /**
+    Result set column indexes in column binding order.
+  */
+  private int[] columnIndexes = null;
+
+  /**
+    Column types in column binding order.
+  */
+  private int[] columnTypes = null;
+
+  /**
+    Creates a new RowMapper object using a data object binding, parent ID indicator and the column
+    labels of a result set. Column labels are matched to column names without regard to case and
+    the first matching column is used as done when retrieving values by column name.
+    @param dataObjectBinding Data object binding.
+    @param isParentIdIncluded Indicates whether or not the parent ID column is populated.
+    @param columnLabels Result set column labels.
+  */
+  RowMapper(DataObjectBinding dataObjectBinding, boolean isParentIdIncluded, String[] columnLabels) throws SQLException {
+    super();
+
+    // Create column index lookup keyed by upper case column label
+    Map<String, Integer> columnIndexLookup = new HashMap<String, Integer>((int)(columnLabels.length / 0.75f) + 1);
+
+    for (int index = 0; index < columnLabels.length; index++) {
+      columnIndexLookup.putIfAbsent(columnLabels[index].toUpperCase(), Integer.valueOf(index + 1));
+    }
+
+    // Get column bindings in population order
+    List<ColumnBinding> columnBindings = new ArrayList<ColumnBinding>();
+    columnBindings.add(dataObjectBinding.getIdColumnBinding());
+
+    if (isParentIdIncluded && dataObjectBinding.getParentIdColumnBinding() != null) {
+      columnBindings.add(dataObjectBinding.getParentIdColumnBinding());
+    }
+
+    columnBindings.addAll(dataObjectBinding.getColumnBindings());
+
+    // Get data object class
+    Class<?> dataObjectClass = dataObjectBinding.getDataObjectClass();
+
+    // Create mapping arrays
+    int size = columnBindings.size();
+
+    propertyAccessors = new PropertyAccessor[size];
+    columnIndexes = new int[size];
+    columnTypes = new int[size];
+
+    for (int index = 0; index < size; index++) {
+
+      // Get column binding
+      ColumnBinding columnBinding = columnBindings.get(index);
+
+      // Lookup column index
+      Integer columnIndex = columnIndexLookup.get(columnBinding.getColumnName().toUpperCase());
+
+      if (columnIndex == null) {
+        throw new SQLException("Column not found: " + columnBinding.getColumnName());
+      }
+
+      // Set property accessor, column index and column type
+      propertyAccessors[index] = Introspector.getPropertyAccessor(dataObjectClass, columnBinding.getPropertyName());
+      columnIndexes[index] = columnIndex.intValue();
+      columnTypes[index] = columnBinding.getColumnType();
+    }
+  }
+
+  /**
+    Returns the column labels of a result set.
+    @param metaData Result set meta data.
+    @return String[] Column labels.
+  */
+  static String[] getColumnLabels(ResultSetMetaData metaData) throws SQLException {
+
+    // Create column labels
+    String[] columnLabels = new String[metaData.getColumnCount()];
+
+    for (int index = 0; index < columnLabels.length; index++) {
+      columnLabels[index] = metaData.getColumnLabel(index + 1);
+    }
+
+    return columnLabels;
+  }
+
+  /**
+    Returns a key identifying a result set shape and parent ID indicator.
+    @param columnLabels Result set column labels.
+    @param isParentIdIncluded Indicates whether or not the parent ID column is populated.
+    @return String Shape key.
+  */
+  static String getShapeKey(String[] columnLabels, boolean isParentIdIncluded) {
+
+    // Create shape key
+    StringBuilder shapeKey = new StringBuilder(columnLabels.length * 16);
+    shapeKey.append(isParentIdIncluded ? 'P' : 'D');
+
+    for (String columnLabel : columnLabels) {
+      shapeKey.append(',').append(columnLabel);
+    }
+
+    return shapeKey.toString();
+  }
+
+  /**
+    Populates a data object using the current row of a result set.
+    @param dataObject Target data object.
+    @param resultSet Result set positioned on a row.
+  */
+  void populate(Object dataObject, ResultSet resultSet) throws SQLException, IOException {
+
+    for (int index = 0; index < columnIndexes.length; index++) {
+
+      // Get column value
+      Object columnValue = DbUtil.getObject(resultSet, columnIndexes[index], columnTypes[index]);
+
+      // Set property value
+      propertyAccessors[index].setValue(dataObject, columnValue);
+    }
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+  Cache of SQL text generated for a single data object binding. Statement text used to create, update
+  and delete data objects is keyed by statement type and generated once. Find statement text is keyed
+  by the shape of a query, meaning its joins, value conditions, order conditions and domain mode, so
+  only parameter values need to be bound when the same query shape is executed again. Find plans are
+  held in a size bounded cache evicting the least recently used plan when a new plan is added.
+  @author Bryan Snipes
+*/
+class SqlPlanCache {
+
+  /**
+    Maximum number of find plans cached per binding. The least recently used find plan is evicted
+    when this is exceeded.
+  */
+  static final int MAX_FIND_PLANS = 256;
+
+  /**
+    Map of statement SQL text keyed by statement key.
+  */
+  private ConcurrentMap<String, String> statements = new ConcurrentHashMap<String, String>();
+
+  /**
+    Map of find plans keyed by query shape in least recently used order.
+  */
+  private Map<String, List<String>> findPlans = new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+
+    private static final long serialVersionUID = 1L;
+
+    protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+      return size() > MAX_FIND_PLANS;
+    }
+  };
+
+  /**
+    Creates a new SqlPlanCache object.
+  */
+  SqlPlanCache() {
+    super();
+  }
+
+  /**
+    Returns cached statement SQL text using a given statement key.
+    @param key Statement key.
+    @return String Statement SQL text or null if not cached.
+  */
+  String getStatement(String key) {
+    return statements.get(key);
+  }
+
+  /**
+    Caches statement SQL text using a given statement key and returns the SQL text registered
+    for the key, which may have been registered concurrently by another thread.
+    @param key Statement key.
+    @param sql Statement SQL text.
+    @return String Registered statement SQL text.
+  */
+  String putStatement(String key, String sql) {
+
+    // Attempt to register SQL text
+    String existingSql = statements.putIfAbsent(key, sql);
+
+    return existingSql == null ? sql : existingSql;
+  }
+
+  /**
+    Returns a cached find plan using a given query shape.
+    @param shape Query shape.
+    @return List List of SQL text or null if not cached.
+  */
+  List<String> getFindPlan(String shape) {
+
+    synchronized (findPlans) {
+      return findPlans.get(shape);
+    }
+  }
+
+  /**
+    Caches a find plan using a given query shape and returns the find plan registered for the shape.
+    The least recently used find plan is evicted if the maximum number of find plans is exceeded.
+    @param shape Query shape.
+    @param sqlTexts List of SQL text.
+    @return List Registered list of SQL text.
+  */
+  List<String> putFindPlan(String shape, List<String> sqlTexts) {
+
+    // Create unmodifiable find plan
+    List<String> findPlan = Collections.unmodifiableList(new ArrayList<String>(sqlTexts));
+
+    synchronized (findPlans) {
+
+      // Attempt to register find plan
+      List<String> existingFindPlan = findPlans.get(shape);
+
+      if (existingFindPlan == null) {
+        findPlans.put(shape, findPlan);
+      }
+      else {
+        findPlan = existingFindPlan;
+      }
+    }
+
+    return findPlan;
+  }
+
+}
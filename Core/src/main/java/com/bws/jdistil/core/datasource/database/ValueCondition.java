@@ -22,6 +22,7 @@ import com.bws.jdistil.core.util.StringUtil;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -73,9 +74,12 @@ public class ValueCondition implements IValueCondition {
     if (StringUtil.isEmpty(columnName)) {
       throw new IllegalArgumentException("Invalid null column name.");
     }
-    if (!Operators.isValidComparative(operator)) {
+    if (!Operators.isValidValueComparative(operator)) {
       throw new IllegalArgumentException("Invalid operator.");
     }
+    if (Operators.isListComparative(operator) && (!(value instanceof Collection) || ((Collection<?>)value).isEmpty())) {
+      throw new IllegalArgumentException("Invalid empty list value.");
+    }
 
     // Set properties
     this.tableName = tableName;
@@ -114,21 +118,63 @@ public class ValueCondition implements IValueCondition {
     sqlText.append(alias).append(".").append(columnName);
     sqlText.append(translatedOperator);
     
-    // Append parameter place holder if needed
-    if (!Operators.isNullComparative(operator)) {
+    if (Operators.isListComparative(operator)) {
+
+      // Get number of list values
+      int size = ((Collection<?>)value).size();
+
+      // Append parameter place holder for each list value
+      sqlText.append("(");
+
+      for (int index = 0; index < size; index++) {
+
+        if (index > 0) {
+          sqlText.append(",");
+        }
+
+        sqlText.append("?");
+      }
+
+      sqlText.append(")");
+    }
+    else if (!Operators.isNullComparative(operator)) {
+
+      // Append parameter place holder
       sqlText.append("?");
     }
 
     return sqlText.toString();
   }
 
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases or parameter values.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    // Append column and operator
+    shape.append(tableName).append(".").append(columnName).append(operator);
+
+    // Append number of list values
+    if (Operators.isListComparative(operator)) {
+      shape.append("#").append(((Collection<?>)value).size());
+    }
+  }
+
   /**
     Sets parameter values using a given prepared statement.
     @see com.bws.jdistil.core.datasource.database.IValueCondition#setParameters
   */
   public int setParameters(PreparedStatement sqlStatement, int index) throws SQLException {
 
-    if (!Operators.isNullComparative(operator)) {
+    if (Operators.isListComparative(operator)) {
+
+      // Set parameter for each list value
+      for (Object listValue : (Collection<?>)value) {
+        DbUtil.setObject(sqlStatement, index++, type, listValue);
+      }
+    }
+    else if (!Operators.isNullComparative(operator)) {
     	
       // Initialize translated value
       Object translatedValue = value;
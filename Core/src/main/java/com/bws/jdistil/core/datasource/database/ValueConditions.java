@@ -98,6 +98,33 @@ public class ValueConditions implements IValueCondition {
     return sqlText.toString();
   }
 
+  /**
+    Appends a structural key identifying the generated SQL text without regard to aliases or parameter values.
+    @see com.bws.jdistil.core.datasource.database.ISqlGenerator#appendShape
+  */
+  public void appendShape(StringBuffer shape) {
+
+    // Start grouping
+    shape.append("(");
+
+    for (Group group : groups) {
+
+      // Get operator
+      String operator = group.getOperator();
+
+      // Append logical operator if not first group
+      if (operator != null) {
+        shape.append(operator);
+      }
+
+      // Append condition
+      group.getValueCondition().appendShape(shape);
+    }
+
+    // End grouping
+    shape.append(")");
+  }
+
   /**
     Sets parameter values using a given prepared statement.
     @see com.bws.jdistil.core.datasource.database.IValueCondition#setParameters
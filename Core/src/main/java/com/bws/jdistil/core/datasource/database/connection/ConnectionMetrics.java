@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection metrics maintained per data source by connection providers. Tracks open connections,
+ * connection acquisitions, failures, time spent waiting for connections and a histogram of
+ * acquisition latencies.
+ * @author - Bryan Snipes
+ */
+public class ConnectionMetrics {
+
+  /**
+   * Upper bounds in milliseconds of the acquisition time histogram buckets. An additional
+   * bucket counts acquisitions exceeding the last bound.
+   */
+  private static final long[] HISTOGRAM_BOUNDS = {1L, 5L, 10L, 50L, 100L, 500L, 1000L};
+  
+  /**
+   * Data source name.
+   */
+  private final String dataSourceName;
+  
+  /**
+   * Number of open connections.
+   */
+  private final AtomicInteger openConnections = new AtomicInteger();
+  
+  /**
+   * Number of successful acquisitions.
+   */
+  private final LongAdder acquisitionCount = new LongAdder();
+  
+  /**
+   * Number of failed acquisitions.
+   */
+  private final LongAdder failureCount = new LongAdder();
+  
+  /**
+   * Total acquisition time in nanoseconds.
+   */
+  private final LongAdder totalAcquisitionTime = new LongAdder();
+  
+  /**
+   * Maximum acquisition time in nanoseconds.
+   */
+  private final AtomicLong maxAcquisitionTime = new AtomicLong();
+  
+  /**
+   * Acquisition time histogram counts.
+   */
+  private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BOUNDS.length + 1);
+  
+  /**
+   * Creates a new ConnectionMetrics object using a data source name.
+   * @param dataSourceName - Data source name.
+   */
+  public ConnectionMetrics(String dataSourceName) {
+    super();
+    
+    // Set data source name
+    this.dataSourceName = dataSourceName;
+  }
+  
+  /**
+   * Records a successful connection acquisition and increments the number of open connections.
+   * @param acquisitionTime - Acquisition time in nanoseconds.
+   */
+  void connectionAcquired(long acquisitionTime) {
+    
+    // Increment counts
+    acquisitionCount.increment();
+    openConnections.incrementAndGet();
+    
+    // Record acquisition time
+    recordAcquisitionTime(acquisitionTime);
+  }
+  
+  /**
+   * Records a failed connection acquisition.
+   * @param acquisitionTime - Time spent attempting to acquire a connection in nanoseconds.
+   */
+  void acquisitionFailed(long acquisitionTime) {
+    
+    // Increment failure count
+    failureCount.increment();
+    
+    // Record acquisition time
+    recordAcquisitionTime(acquisitionTime);
+  }
+  
+  /**
+   * Decrements the number of open connections.
+   */
+  void connectionClosed() {
+    openConnections.decrementAndGet();
+  }
+  
+  /**
+   * Records an acquisition time in the total, maximum and histogram values.
+   * @param acquisitionTime - Acquisition time in nanoseconds.
+   */
+  private void recordAcquisitionTime(long acquisitionTime) {
+    
+    // Update total acquisition time
+    totalAcquisitionTime.add(acquisitionTime);
+    
+    // Update maximum acquisition time
+    long currentMax = maxAcquisitionTime.get();
+    
+    while (acquisitionTime > currentMax && !maxAcquisitionTime.compareAndSet(currentMax, acquisitionTime)) {
+      currentMax = maxAcquisitionTime.get();
+    }
+    
+    // Convert to milliseconds
+    long milliseconds = TimeUnit.NANOSECONDS.toMillis(acquisitionTime);
+    
+    // Find histogram bucket
+    int bucket = 0;
+    
+    while (bucket < HISTOGRAM_BOUNDS.length && milliseconds >= HISTOGRAM_BOUNDS[bucket]) {
+      bucket++;
+    }
+    
+    // Increment bucket count
+    histogram.incrementAndGet(bucket);
+  }
+  
+  /**
+   * Returns the data source name.
+   * @return String - Data source name.
+   */
+  public String getDataSourceName() {
+    return dataSourceName;
+  }
+  
+  /**
+   * Returns the number of open connections.
+   * @return int - Number of open connections.
+   */
+  public int getOpenConnections() {
+    return openConnections.get();
+  }
+  
+  /**
+   * Returns the number of successful acquisitions.
+   * @return long - Number of successful acquisitions.
+   */
+  public long getAcquisitionCount() {
+    return acquisitionCount.sum();
+  }
+  
+  /**
+   * Returns the number of failed acquisitions.
+   * @return long - Number of failed acquisitions.
+   */
+  public long getFailureCount() {
+    return failureCount.sum();
+  }
+  
+  /**
+   * Returns the total time in milliseconds spent waiting for connections.
+   * @return long - Total wait time in milliseconds.
+   */
+  public long getTotalWaitTime() {
+    return TimeUnit.NANOSECONDS.toMillis(totalAcquisitionTime.sum());
+  }
+  
+  /**
+   * Returns the average acquisition time in milliseconds.
+   * @return double - Average acquisition time in milliseconds.
+   */
+  public double getAverageAcquisitionTime() {
+    
+    // Get total number of acquisition attempts
+    long count = acquisitionCount.sum() + failureCount.sum();
+    
+    return count == 0L ? 0.0d : totalAcquisitionTime.sum() / (count * 1000000.0d);
+  }
+  
+  /**
+   * Returns the maximum acquisition time in milliseconds.
+   * @return long - Maximum acquisition time in milliseconds.
+   */
+  public long getMaxAcquisitionTime() {
+    return TimeUnit.NANOSECONDS.toMillis(maxAcquisitionTime.get());
+  }
+  
+  /**
+   * Returns the upper bounds in milliseconds of the acquisition time histogram buckets.
+   * @return long[] - Histogram bucket bounds.
+   */
+  public long[] getHistogramBounds() {
+    return HISTOGRAM_BOUNDS.clone();
+  }
+  
+  /**
+   * Returns a snapshot of the acquisition time histogram counts. The last count includes
+   * acquisitions exceeding the last histogram bound.
+   * @return long[] - Histogram counts.
+   */
+  public long[] getHistogram() {
+    
+    // Create snapshot
+    long[] counts = new long[histogram.length()];
+    
+    for (int index = 0; index < counts.length; index++) {
+      counts[index] = histogram.get(index);
+    }
+    
+    return counts;
+  }
+  
+  /**
+   * Returns the string representation of the connection metrics.
+   * @return String - Connection metrics string representation.
+   */
+  public String toString() {
+
+    // Initialize return value
+    StringBuffer text = new StringBuffer();
+
+    // Append metrics
+    text.append("Data Source: ").append(dataSourceName).append("\n");
+    text.append("Open Connections: ").append(getOpenConnections()).append("\n");
+    text.append("Acquisitions: ").append(getAcquisitionCount()).append("\n");
+    text.append("Failures: ").append(getFailureCount()).append("\n");
+    text.append("Total Wait Time (ms): ").append(getTotalWaitTime()).append("\n");
+    text.append("Average Acquisition Time (ms): ").append(getAverageAcquisitionTime()).append("\n");
+    text.append("Max Acquisition Time (ms): ").append(getMaxAcquisitionTime()).append("\n");
+
+    return text.toString();
+  }
+  
+}
@@ -0,0 +1,666 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.connection;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * Bounded pool of database connections for a single data source. Waiting borrowers are served
+ * in arrival order, idle connections are validated when borrowed and connections are retired
+ * when idle too long or when they exceed their maximum lifetime.
+ * @author - Bryan Snipes
+ */
+public class ConnectionPool {
+
+  /**
+   * Data source name.
+   */
+  private String dataSourceName = null;
+  
+  /**
+   * Data source used to create physical connections.
+   */
+  private DataSource dataSource = null;
+  
+  /**
+   * JDBC URL used to create physical connections when no data source is defined.
+   */
+  private String url = null;
+  
+  /**
+   * User name used to create physical connections.
+   */
+  private String user = null;
+  
+  /**
+   * Password used to create physical connections.
+   */
+  private String password = null;
+  
+  /**
+   * Maximum number of connections.
+   */
+  private int maxSize = 0;
+  
+  /**
+   * Maximum time in milliseconds to wait for a connection.
+   */
+  private long acquireTimeout = 0L;
+  
+  /**
+   * Maximum time in seconds to wait for connection validation.
+   */
+  private int validationTimeout = 0;
+  
+  /**
+   * Maximum time in milliseconds a connection can remain idle.
+   */
+  private long idleTimeout = 0L;
+  
+  /**
+   * Maximum lifetime in milliseconds of a connection.
+   */
+  private long maxLifetime = 0L;
+  
+  /**
+   * Fair semaphore limiting the number of borrowed connections.
+   */
+  private Semaphore permits = null;
+  
+  /**
+   * Idle connections ordered from most to least recently used.
+   */
+  private final Deque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<PooledConnection>();
+  
+  /**
+   * Total number of physical connections.
+   */
+  private final AtomicInteger totalConnections = new AtomicInteger();
+  
+  /**
+   * Connection metrics.
+   */
+  private ConnectionMetrics metrics = null;
+  
+  /**
+   * Indicates whether or not the pool has been closed.
+   */
+  private volatile boolean isClosed = false;
+  
+  /**
+   * Creates a new ConnectionPool object using a data source to create physical connections.
+   * @param dataSourceName - Data source name.
+   * @param dataSource - Data source.
+   * @param maxSize - Maximum number of connections.
+   * @param acquireTimeout - Maximum time in milliseconds to wait for a connection.
+   * @param validationTimeout - Maximum time in seconds to wait for connection validation.
+   * @param idleTimeout - Maximum time in milliseconds a connection can remain idle.
+   * @param maxLifetime - Maximum lifetime in milliseconds of a connection.
+   */
+  public ConnectionPool(String dataSourceName, DataSource dataSource, int maxSize, long acquireTimeout,
+      int validationTimeout, long idleTimeout, long maxLifetime) {
+    
+    this(dataSourceName, maxSize, acquireTimeout, validationTimeout, idleTimeout, maxLifetime);
+    
+    // Set data source
+    this.dataSource = dataSource;
+  }
+  
+  /**
+   * Creates a new ConnectionPool object using a JDBC URL, user and password to create physical connections.
+   * @param dataSourceName - Data source name.
+   * @param url - JDBC URL.
+   * @param user - User name.
+   * @param password - Password.
+   * @param maxSize - Maximum number of connections.
+   * @param acquireTimeout - Maximum time in milliseconds to wait for a connection.
+   * @param validationTimeout - Maximum time in seconds to wait for connection validation.
+   * @param idleTimeout - Maximum time in milliseconds a connection can remain idle.
+   * @param maxLifetime - Maximum lifetime in milliseconds of a connection.
+   */
+  public ConnectionPool(String dataSourceName, String url, String user, String password, int maxSize,
+      long acquireTimeout, int validationTimeout, long idleTimeout, long maxLifetime) {
+    
+    this(dataSourceName, maxSize, acquireTimeout, validationTimeout, idleTimeout, maxLifetime);
+    
+    // Set connection properties
+    this.url = url;
+    this.user = user;
+    this.password = password;
+  }
+  
+  /**
+   * Creates a new ConnectionPool object using pool settings.
+   * @param dataSourceName - Data source name.
+   * @param maxSize - Maximum number of connections.
+   * @param acquireTimeout - Maximum time in milliseconds to wait for a connection.
+   * @param validationTimeout - Maximum time in seconds to wait for connection validation.
+   * @param idleTimeout - Maximum time in milliseconds a connection can remain idle.
+   * @param maxLifetime - Maximum lifetime in milliseconds of a connection.
+   */
+  private ConnectionPool(String dataSourceName, int maxSize, long acquireTimeout, int validationTimeout,
+      long idleTimeout, long maxLifetime) {
+    super();
+    
+    // Set pool settings
+    this.dataSourceName = dataSourceName;
+    this.maxSize = maxSize;
+    this.acquireTimeout = acquireTimeout;
+    this.validationTimeout = validationTimeout;
+    this.idleTimeout = idleTimeout;
+    this.maxLifetime = maxLifetime;
+    
+    // Create fair semaphore and metrics
+    this.permits = new Semaphore(maxSize, true);
+    this.metrics = new ConnectionMetrics(dataSourceName);
+  }
+  
+  /**
+   * Borrows a connection from the pool waiting up to the acquire timeout for a connection to become
+   * available. The returned connection is returned to the pool when it is closed.
+   * @return Connection - Database connection.
+   * @throws SQLException
+   */
+  public Connection borrow() throws SQLException {
+    
+    // Check pool status
+    if (isClosed) {
+      throw new SQLException("Connection pool is closed: " + dataSourceName);
+    }
+    
+    // Get start time
+    long startTime = System.nanoTime();
+    
+    // Initialize acquired indicator
+    boolean isAcquired = false;
+    
+    try {
+      // Wait for permit
+      isAcquired = permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS);
+    }
+    catch (InterruptedException interruptedException) {
+      
+      // Restore interrupted status
+      Thread.currentThread().interrupt();
+    }
+    
+    if (!isAcquired) {
+      
+      // Record failure
+      metrics.acquisitionFailed(System.nanoTime() - startTime);
+      
+      throw new SQLException("Timed out waiting for connection: " + dataSourceName);
+    }
+    
+    // Initialize pooled connection
+    PooledConnection pooledConnection = null;
+    
+    try {
+      
+      // Reuse valid idle connections first
+      PooledConnection idleConnection = idleConnections.pollFirst();
+      
+      while (pooledConnection == null && idleConnection != null) {
+        
+        if (isValid(idleConnection)) {
+          pooledConnection = idleConnection;
+        }
+        else {
+          
+          // Get next idle connection
+          idleConnection = idleConnections.pollFirst();
+        }
+      }
+      
+      // Create new physical connection if no idle connection is available
+      if (pooledConnection == null) {
+        pooledConnection = createPooledConnection();
+      }
+    }
+    finally {
+      
+      if (pooledConnection == null) {
+        
+        // Release permit and record failure
+        permits.release();
+        metrics.acquisitionFailed(System.nanoTime() - startTime);
+      }
+    }
+    
+    // Record acquisition
+    metrics.connectionAcquired(System.nanoTime() - startTime);
+    
+    // Create connection returning the physical connection to the pool when closed
+    final PooledConnection borrowedConnection = pooledConnection;
+    
+    return new ConnectionProxy(borrowedConnection.getConnection()) {
+      
+      protected void release(Connection connection) {
+        giveBack(borrowedConnection);
+      }
+    };
+  }
+  
+  /**
+   * Returns a value indicating whether or not an idle connection can be borrowed. Connections
+   * exceeding their maximum lifetime or failing validation are retired.
+   * @param pooledConnection - Pooled connection.
+   * @return boolean - Valid indicator.
+   */
+  private boolean isValid(PooledConnection pooledConnection) {
+    
+    // Initialize return value
+    boolean isValid = false;
+    
+    try {
+      // Check lifetime and validate physical connection
+      isValid = isReusable(pooledConnection) && pooledConnection.getConnection().isValid(validationTimeout);
+    }
+    catch (SQLException sqlException) {
+      
+      // Post warning message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
+      logger.logp(Level.WARNING, getClass().getName(), "isValid", "Validating Pooled Connection", sqlException);
+    }
+    finally {
+      
+      // Retire invalid connection
+      if (!isValid) {
+        retire(pooledConnection);
+      }
+    }
+    
+    return isValid;
+  }
+  
+  /**
+   * Creates a pooled connection and records the connection defaults restored when it is returned.
+   * @return PooledConnection - Pooled connection.
+   * @throws SQLException
+   */
+  private PooledConnection createPooledConnection() throws SQLException {
+    
+    // Create physical connection
+    Connection connection = createConnection();
+    
+    // Initialize return value
+    PooledConnection pooledConnection = null;
+    
+    try {
+      // Create pooled connection using current connection defaults
+      pooledConnection = new PooledConnection(connection, connection.getAutoCommit(), connection.isReadOnly(),
+          connection.getTransactionIsolation());
+    }
+    finally {
+      
+      // Close physical connection if defaults could not be read
+      if (pooledConnection == null) {
+        connection.close();
+      }
+    }
+    
+    // Increment total connections
+    totalConnections.incrementAndGet();
+    
+    return pooledConnection;
+  }
+  
+  /**
+   * Returns a borrowed connection to the pool. Any uncommitted work is rolled back and
+   * the auto commit, read only and transaction isolation defaults are restored.
+   * @param pooledConnection - Pooled connection.
+   */
+  private void giveBack(PooledConnection pooledConnection) {
+    
+    try {
+      
+      // Get physical connection
+      Connection connection = pooledConnection.getConnection();
+      
+      if (!isClosed && isReusable(pooledConnection) && !connection.isClosed()) {
+        
+        // Discard uncommitted work
+        if (!connection.getAutoCommit()) {
+          connection.rollback();
+        }
+        
+        // Restore connection defaults
+        if (connection.getAutoCommit() != pooledConnection.getDefaultAutoCommit()) {
+          connection.setAutoCommit(pooledConnection.getDefaultAutoCommit());
+        }
+        
+        if (connection.isReadOnly() != pooledConnection.getDefaultReadOnly()) {
+          connection.setReadOnly(pooledConnection.getDefaultReadOnly());
+        }
+        
+        if (connection.getTransactionIsolation() != pooledConnection.getDefaultTransactionIsolation()) {
+          connection.setTransactionIsolation(pooledConnection.getDefaultTransactionIsolation());
+        }
+        
+        // Clear warnings
+        connection.clearWarnings();
+        
+        // Return connection to the front of the idle connections
+        pooledConnection.setLastUsedTime(System.currentTimeMillis());
+        idleConnections.offerFirst(pooledConnection);
+      }
+      else {
+        
+        // Retire connection
+        retire(pooledConnection);
+      }
+    }
+    catch (SQLException sqlException) {
+      
+      // Retire connection
+      retire(pooledConnection);
+    }
+    finally {
+      
+      // Record closed connection and release permit
+      metrics.connectionClosed();
+      permits.release();
+    }
+  }
+  
+  /**
+   * Creates a physical connection using the data source or JDBC URL.
+   * @return Connection - Physical connection.
+   * @throws SQLException
+   */
+  private Connection createConnection() throws SQLException {
+    
+    // Initialize return value
+    Connection connection = null;
+    
+    if (dataSource != null) {
+      connection = dataSource.getConnection();
+    }
+    else {
+      connection = DriverManager.getConnection(url, user, password);
+    }
+    
+    return connection;
+  }
+  
+  /**
+   * Returns a value indicating whether or not a pooled connection is within its maximum lifetime.
+   * @param pooledConnection - Pooled connection.
+   * @return boolean - Reusable indicator.
+   */
+  private boolean isReusable(PooledConnection pooledConnection) {
+    return maxLifetime <= 0L || System.currentTimeMillis() - pooledConnection.getCreatedTime() < maxLifetime;
+  }
+  
+  /**
+   * Closes a physical connection and removes it from the connection total.
+   * @param pooledConnection - Pooled connection.
+   */
+  private void retire(PooledConnection pooledConnection) {
+    
+    // Decrement total connections
+    totalConnections.decrementAndGet();
+    
+    try {
+      // Close physical connection
+      pooledConnection.getConnection().close();
+    }
+    catch (SQLException sqlException) {
+      
+      // Post warning message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
+      logger.logp(Level.WARNING, getClass().getName(), "retire", "Closing Pooled Connection", sqlException);
+    }
+  }
+  
+  /**
+   * Retires idle connections exceeding the idle timeout or maximum lifetime.
+   */
+  public void evictIdleConnections() {
+    
+    // Get current time
+    long currentTime = System.currentTimeMillis();
+    
+    // Check idle connections starting with least recently used
+    Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+    
+    while (iterator.hasNext()) {
+      
+      // Get next idle connection
+      PooledConnection pooledConnection = iterator.next();
+      
+      // Check idle time and lifetime
+      boolean isIdleExpired = idleTimeout > 0L && currentTime - pooledConnection.getLastUsedTime() >= idleTimeout;
+      
+      // Only retire connections not borrowed by a concurrent thread
+      if ((isIdleExpired || !isReusable(pooledConnection)) && idleConnections.remove(pooledConnection)) {
+        retire(pooledConnection);
+      }
+    }
+  }
+  
+  /**
+   * Closes the pool and all idle connections. Borrowed connections are closed when returned.
+   */
+  public void close() {
+    
+    // Set closed status
+    isClosed = true;
+    
+    // Retire idle connections
+    PooledConnection pooledConnection = idleConnections.pollFirst();
+    
+    while (pooledConnection != null) {
+      
+      retire(pooledConnection);
+      
+      pooledConnection = idleConnections.pollFirst();
+    }
+  }
+  
+  /**
+   * Returns the data source name.
+   * @return String - Data source name.
+   */
+  public String getDataSourceName() {
+    return dataSourceName;
+  }
+  
+  /**
+   * Returns the maximum number of connections.
+   * @return int - Maximum number of connections.
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+  
+  /**
+   * Returns the number of borrowed connections.
+   * @return int - Number of borrowed connections.
+   */
+  public int getInUseCount() {
+    return metrics.getOpenConnections();
+  }
+  
+  /**
+   * Returns the number of idle connections.
+   * @return int - Number of idle connections.
+   */
+  public int getIdleCount() {
+    return idleConnections.size();
+  }
+  
+  /**
+   * Returns the total number of physical connections.
+   * @return int - Total number of physical connections.
+   */
+  public int getTotalCount() {
+    return totalConnections.get();
+  }
+  
+  /**
+   * Returns the estimated number of threads waiting for a connection.
+   * @return int - Number of waiting threads.
+   */
+  public int getWaiterCount() {
+    return permits.getQueueLength();
+  }
+  
+  /**
+   * Returns the connection metrics including the acquisition time histogram.
+   * @return ConnectionMetrics - Connection metrics.
+   */
+  public ConnectionMetrics getMetrics() {
+    return metrics;
+  }
+  
+  /**
+   * Returns a value indicating whether or not the pool has been closed.
+   * @return boolean - Closed indicator.
+   */
+  public boolean isClosed() {
+    return isClosed;
+  }
+  
+/**
+ * Physical connection and usage times managed by the pool.
+ */
+private static class PooledConnection {
+
+  /**
+   * Physical connection.
+   */
+  private final Connection connection;
+  
+  /**
+   * Creation time in milliseconds.
+   */
+  private final long createdTime;
+  
+  /**
+   * Last used time in milliseconds.
+   */
+  private volatile long lastUsedTime;
+  
+  /**
+   * Default auto commit mode.
+   */
+  private final boolean defaultAutoCommit;
+  
+  /**
+   * Default read only mode.
+   */
+  private final boolean defaultReadOnly;
+  
+  /**
+   * Default transaction isolation level.
+   */
+  private final int defaultTransactionIsolation;
+  
+  /**
+   * Creates a new PooledConnection object using a physical connection and its defaults.
+   * @param connection - Physical connection.
+   * @param defaultAutoCommit - Default auto commit mode.
+   * @param defaultReadOnly - Default read only mode.
+   * @param defaultTransactionIsolation - Default transaction isolation level.
+   */
+  public PooledConnection(Connection connection, boolean defaultAutoCommit, boolean defaultReadOnly,
+      int defaultTransactionIsolation) {
+    super();
+    
+    // Set attributes
+    this.connection = connection;
+    this.createdTime = System.currentTimeMillis();
+    this.lastUsedTime = createdTime;
+    this.defaultAutoCommit = defaultAutoCommit;
+    this.defaultReadOnly = defaultReadOnly;
+    this.defaultTransactionIsolation = defaultTransactionIsolation;
+  }
+  
+  /**
+   * Returns the physical connection.
+   * @return Connection - Physical connection.
+   */
+  public Connection getConnection() {
+    return connection;
+  }
+  
+  /**
+   * Returns the creation time.
+   * @return long - Creation time in milliseconds.
+   */
+  public long getCreatedTime() {
+    return createdTime;
+  }
+  
+  /**
+   * Returns the last used time.
+   * @return long - Last used time in milliseconds.
+   */
+  public long getLastUsedTime() {
+    return lastUsedTime;
+  }
+  
+  /**
+   * Sets the last used time.
+   * @param lastUsedTime - Last used time in milliseconds.
+   */
+  public void setLastUsedTime(long lastUsedTime) {
+    this.lastUsedTime = lastUsedTime;
+  }
+  
+  /**
+   * Returns the default auto commit mode.
+   * @return boolean - Default auto commit mode.
+   */
+  public boolean getDefaultAutoCommit() {
+    return defaultAutoCommit;
+  }
+  
+  /**
+   * Returns the default read only mode.
+   * @return boolean - Default read only mode.
+   */
+  public boolean getDefaultReadOnly() {
+    return defaultReadOnly;
+  }
+  
+  /**
+   * Returns the default transaction isolation level.
+   * @return int - Default transaction isolation level.
+   */
+  public int getDefaultTransactionIsolation() {
+    return defaultTransactionIsolation;
+  }
+  
+}
+
+}
@@ -0,0 +1,601 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.connection;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connection that delegates directly to a physical connection and releases the physical
+ * connection exactly once when it is closed. Subclasses determine how physical connections
+ * are released.
+ * @author - Bryan Snipes
+ */
+abstract class ConnectionProxy implements Connection {
+
+  /**
+   * Physical connection.
+   */
+  private final Connection connection;
+  
+  /**
+   * Indicates whether or not the connection has been closed.
+   */
+  private final AtomicBoolean isClosed = new AtomicBoolean(false);
+  
+  /**
+   * Creates a new ConnectionProxy object using a physical connection.
+   * @param connection - Physical connection.
+   */
+  protected ConnectionProxy(Connection connection) {
+    super();
+    
+    // Set physical connection
+    this.connection = connection;
+  }
+  
+  /**
+   * Releases the physical connection when this connection is closed.
+   * @param connection - Physical connection.
+   * @throws SQLException
+   */
+  protected abstract void release(Connection connection) throws SQLException;
+  
+  /**
+   * Returns the physical connection if this connection has not been closed.
+   * @return Connection - Physical connection.
+   * @throws SQLException
+   */
+  private Connection getConnection() throws SQLException {
+    
+    // Check closed status
+    if (isClosed.get()) {
+      throw new SQLException("Connection is closed.");
+    }
+    
+    return connection;
+  }
+  
+  /**
+   * Releases the physical connection only once.
+   * @see java.sql.Connection#close()
+   */
+  @Override
+  public void close() throws SQLException {
+    
+    if (isClosed.compareAndSet(false, true)) {
+      release(connection);
+    }
+  }
+  
+  /**
+   * Returns a value indicating whether or not this or the physical connection is closed.
+   * @see java.sql.Connection#isClosed()
+   */
+  @Override
+  public boolean isClosed() throws SQLException {
+    return isClosed.get() || connection.isClosed();
+  }
+  
+  /**
+   * Returns this connection or an object implemented by the physical connection.
+   * @see java.sql.Wrapper#unwrap(Class)
+   */
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    
+    // Initialize return value
+    T result = null;
+    
+    if (iface.isInstance(this)) {
+      result = iface.cast(this);
+    }
+    else {
+      result = getConnection().unwrap(iface);
+    }
+    
+    return result;
+  }
+  
+  /**
+   * Returns a value indicating whether or not this or the physical connection implements an interface.
+   * @see java.sql.Wrapper#isWrapperFor(Class)
+   */
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this) || getConnection().isWrapperFor(iface);
+  }
+  
+  /**
+   * Describes the physical connection.
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "Proxy[" + connection.toString() + "]";
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createStatement()
+   */
+  @Override
+  public Statement createStatement() throws SQLException {
+    return getConnection().createStatement();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareStatement(String)
+   */
+  @Override
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    return getConnection().prepareStatement(sql);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareCall(String)
+   */
+  @Override
+  public CallableStatement prepareCall(String sql) throws SQLException {
+    return getConnection().prepareCall(sql);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#nativeSQL(String)
+   */
+  @Override
+  public String nativeSQL(String sql) throws SQLException {
+    return getConnection().nativeSQL(sql);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setAutoCommit(boolean)
+   */
+  @Override
+  public void setAutoCommit(boolean autoCommit) throws SQLException {
+    getConnection().setAutoCommit(autoCommit);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getAutoCommit()
+   */
+  @Override
+  public boolean getAutoCommit() throws SQLException {
+    return getConnection().getAutoCommit();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#commit()
+   */
+  @Override
+  public void commit() throws SQLException {
+    getConnection().commit();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#rollback()
+   */
+  @Override
+  public void rollback() throws SQLException {
+    getConnection().rollback();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getMetaData()
+   */
+  @Override
+  public DatabaseMetaData getMetaData() throws SQLException {
+    return getConnection().getMetaData();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setReadOnly(boolean)
+   */
+  @Override
+  public void setReadOnly(boolean readOnly) throws SQLException {
+    getConnection().setReadOnly(readOnly);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#isReadOnly()
+   */
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    return getConnection().isReadOnly();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setCatalog(String)
+   */
+  @Override
+  public void setCatalog(String catalog) throws SQLException {
+    getConnection().setCatalog(catalog);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getCatalog()
+   */
+  @Override
+  public String getCatalog() throws SQLException {
+    return getConnection().getCatalog();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setTransactionIsolation(int)
+   */
+  @Override
+  public void setTransactionIsolation(int level) throws SQLException {
+    getConnection().setTransactionIsolation(level);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getTransactionIsolation()
+   */
+  @Override
+  public int getTransactionIsolation() throws SQLException {
+    return getConnection().getTransactionIsolation();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getWarnings()
+   */
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    return getConnection().getWarnings();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#clearWarnings()
+   */
+  @Override
+  public void clearWarnings() throws SQLException {
+    getConnection().clearWarnings();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createStatement(int, int)
+   */
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+    return getConnection().createStatement(resultSetType, resultSetConcurrency);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareStatement(String, int, int)
+   */
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    return getConnection().prepareStatement(sql, resultSetType, resultSetConcurrency);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareCall(String, int, int)
+   */
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    return getConnection().prepareCall(sql, resultSetType, resultSetConcurrency);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getTypeMap()
+   */
+  @Override
+  public Map<String, Class<?>> getTypeMap() throws SQLException {
+    return getConnection().getTypeMap();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setTypeMap(Map)
+   */
+  @Override
+  public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+    getConnection().setTypeMap(map);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setHoldability(int)
+   */
+  @Override
+  public void setHoldability(int holdability) throws SQLException {
+    getConnection().setHoldability(holdability);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getHoldability()
+   */
+  @Override
+  public int getHoldability() throws SQLException {
+    return getConnection().getHoldability();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setSavepoint()
+   */
+  @Override
+  public Savepoint setSavepoint() throws SQLException {
+    return getConnection().setSavepoint();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setSavepoint(String)
+   */
+  @Override
+  public Savepoint setSavepoint(String name) throws SQLException {
+    return getConnection().setSavepoint(name);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#rollback(Savepoint)
+   */
+  @Override
+  public void rollback(Savepoint savepoint) throws SQLException {
+    getConnection().rollback(savepoint);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#releaseSavepoint(Savepoint)
+   */
+  @Override
+  public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+    getConnection().releaseSavepoint(savepoint);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createStatement(int, int, int)
+   */
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return getConnection().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareStatement(String, int, int, int)
+   */
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return getConnection().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareCall(String, int, int, int)
+   */
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return getConnection().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareStatement(String, int)
+   */
+  @Override
+  public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+    return getConnection().prepareStatement(sql, autoGeneratedKeys);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareStatement(String, int[])
+   */
+  @Override
+  public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+    return getConnection().prepareStatement(sql, columnIndexes);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#prepareStatement(String, String[])
+   */
+  @Override
+  public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+    return getConnection().prepareStatement(sql, columnNames);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createClob()
+   */
+  @Override
+  public Clob createClob() throws SQLException {
+    return getConnection().createClob();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createBlob()
+   */
+  @Override
+  public Blob createBlob() throws SQLException {
+    return getConnection().createBlob();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createNClob()
+   */
+  @Override
+  public NClob createNClob() throws SQLException {
+    return getConnection().createNClob();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createSQLXML()
+   */
+  @Override
+  public SQLXML createSQLXML() throws SQLException {
+    return getConnection().createSQLXML();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#isValid(int)
+   */
+  @Override
+  public boolean isValid(int timeout) throws SQLException {
+    return getConnection().isValid(timeout);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getClientInfo(String)
+   */
+  @Override
+  public String getClientInfo(String name) throws SQLException {
+    return getConnection().getClientInfo(name);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getClientInfo()
+   */
+  @Override
+  public Properties getClientInfo() throws SQLException {
+    return getConnection().getClientInfo();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createArrayOf(String, Object[])
+   */
+  @Override
+  public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+    return getConnection().createArrayOf(typeName, elements);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#createStruct(String, Object[])
+   */
+  @Override
+  public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+    return getConnection().createStruct(typeName, attributes);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setSchema(String)
+   */
+  @Override
+  public void setSchema(String schema) throws SQLException {
+    getConnection().setSchema(schema);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getSchema()
+   */
+  @Override
+  public String getSchema() throws SQLException {
+    return getConnection().getSchema();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#abort(Executor)
+   */
+  @Override
+  public void abort(Executor executor) throws SQLException {
+    getConnection().abort(executor);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setNetworkTimeout(Executor, int)
+   */
+  @Override
+  public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+    getConnection().setNetworkTimeout(executor, milliseconds);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#getNetworkTimeout()
+   */
+  @Override
+  public int getNetworkTimeout() throws SQLException {
+    return getConnection().getNetworkTimeout();
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setClientInfo(String, String)
+   */
+  @Override
+  public void setClientInfo(String name, String value) throws SQLClientInfoException {
+    connection.setClientInfo(name, value);
+  }
+  
+  /**
+   * Delegates to the physical connection.
+   * @see java.sql.Connection#setClientInfo(Properties)
+   */
+  @Override
+  public void setClientInfo(Properties properties) throws SQLClientInfoException {
+    connection.setClientInfo(properties);
+  }
+  
+}
@@ -20,7 +20,11 @@ package com.bws.jdistil.core.datasource.database.connection;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,10 +40,21 @@ import com.bws.jdistil.core.util.StringUtil;
 
 /**
  * Connection provider that provides database connections from a JNDI connection pool.
+ * Data sources are looked up once per data source name and cached until invalidated.
  * @author - Bryan Snipes
  */
 public class JndiConnectionProvider implements IConnectionProvider {
 
+  /**
+   * Cached data sources keyed by data source name.
+   */
+  private static final ConcurrentMap<String, DataSource> dataSources = new ConcurrentHashMap<String, DataSource>();
+  
+  /**
+   * Connection metrics keyed by data source name.
+   */
+  private static final ConcurrentMap<String, ConnectionMetrics> connectionMetrics = new ConcurrentHashMap<String, ConnectionMetrics>();
+  
 	/**
 	 * Returns a connection from a JNDI connection pool. 
 	 * @param dataSourceName JNDI data source name.
@@ -55,37 +70,49 @@ public class JndiConnectionProvider implements IConnectionProvider {
     // Initialize return value
     Connection connection = null;
 
-    // Retrieve context factory name from core property file
-    String contextFactory = ResourceUtil.getString(Constants.INITIAL_CONTEXT_FACTORY);
+    // Get cached data source
+    DataSource dataSource = getDataSource(dataSourceName);
 
-    // Create context properties
-    Properties properties = new Properties();
+    // Get connection metrics
+    final ConnectionMetrics metrics = getMetrics(dataSourceName);
+    
+    // Get start time
+    long startTime = System.nanoTime();
     
-    // Set context factory property
-    if (!StringUtil.isEmpty(contextFactory)) {
-      properties.put(Context.INITIAL_CONTEXT_FACTORY, contextFactory);
-    }
-
     try {
-      // Create initial context
-      InitialContext initialContext = new InitialContext(properties);
-
-      // Retrieve data source
-      DataSource dataSource = (DataSource)initialContext.lookup(dataSourceName);
-
       // Open connection
-      connection = dataSource.getConnection();
-    }
-    catch (NamingException namingException) {
+      Connection physicalConnection = dataSource.getConnection();
 
-      // Post error message
-      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
-      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Opening DB Connection", namingException);
-
-      throw new DataSourceException(methodName + ": " + namingException.getMessage());
+      // Record acquisition
+      metrics.connectionAcquired(System.nanoTime() - startTime);
+      
+      // Create connection used to track open connections
+      connection = new ConnectionProxy(physicalConnection) {
+        
+        protected void release(Connection connection) throws SQLException {
+          
+          try {
+            // Close physical connection
+            connection.close();
+          }
+          finally {
+            
+            // Record closed connection
+            metrics.connectionClosed();
+          }
+        }
+      };
     }
     catch (SQLException sqlException) {
 
+      // Record failure
+      metrics.acquisitionFailed(System.nanoTime() - startTime);
+      
+      // Invalidate data source only when the failure indicates it is no longer valid
+      if (isFatal(sqlException)) {
+        invalidate(dataSourceName);
+      }
+      
       // Post error message
       Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
       logger.logp(Level.SEVERE, getClass().getName(), methodName, "Opening DB Connection", sqlException);
@@ -96,4 +123,140 @@ public class JndiConnectionProvider implements IConnectionProvider {
     return connection;
 	}
 	
+	/**
+	 * Returns a value indicating whether or not a SQL exception or any chained SQL exception
+	 * reports a connection exception SQL state. Transient failures such as pool timeouts
+	 * do not cause a data source to be looked up again.
+	 * @param sqlException SQL exception.
+	 * @return boolean Fatal indicator.
+	 */
+	private boolean isFatal(SQLException sqlException) {
+	  
+	  // Initialize return value
+	  boolean isFatal = false;
+	  
+	  // Check SQL state of each chained exception
+	  SQLException currentException = sqlException;
+	  
+	  while (!isFatal && currentException != null) {
+	    
+	    // Get SQL state
+	    String sqlState = currentException.getSQLState();
+	    
+	    // Connection exception class
+	    isFatal = sqlState != null && sqlState.startsWith("08");
+	    
+	    // Get next exception
+	    currentException = currentException.getNextException();
+	  }
+	  
+	  return isFatal;
+	}
+	
+	/**
+	 * Returns a cached data source using a data source name. The data source is looked up
+	 * using JNDI and cached if it has not already been cached.
+	 * @param dataSourceName JNDI data source name.
+	 * @return DataSource Data source.
+	 * @throws DataSourceException
+	 */
+	private DataSource getDataSource(String dataSourceName) throws DataSourceException {
+	  
+    // Set method name
+    String methodName = "getDataSource";
+
+    // Get cached data source
+    DataSource dataSource = dataSources.get(dataSourceName);
+    
+    if (dataSource == null) {
+      
+      // Retrieve context factory name from core property file
+      String contextFactory = ResourceUtil.getString(Constants.INITIAL_CONTEXT_FACTORY);
+  
+      // Create context properties
+      Properties properties = new Properties();
+      
+      // Set context factory property
+      if (!StringUtil.isEmpty(contextFactory)) {
+        properties.put(Context.INITIAL_CONTEXT_FACTORY, contextFactory);
+      }
+  
+      try {
+        // Create initial context
+        InitialContext initialContext = new InitialContext(properties);
+  
+        // Retrieve data source
+        dataSource = (DataSource)initialContext.lookup(dataSourceName);
+        
+        // Cache data source using any data source cached by a concurrent thread
+        DataSource cachedDataSource = dataSources.putIfAbsent(dataSourceName, dataSource);
+        
+        if (cachedDataSource != null) {
+          dataSource = cachedDataSource;
+        }
+      }
+      catch (NamingException namingException) {
+  
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Looking Up Data Source", namingException);
+  
+        throw new DataSourceException(methodName + ": " + namingException.getMessage());
+      }
+    }
+    
+    return dataSource;
+	}
+	
+	/**
+	 * Removes a cached data source so it will be looked up again on the next connection request.
+	 * @param dataSourceName JNDI data source name.
+	 */
+	public static void invalidate(String dataSourceName) {
+	  
+	  if (dataSourceName != null) {
+	    dataSources.remove(dataSourceName);
+	  }
+	}
+	
+	/**
+	 * Removes all cached data sources.
+	 */
+	public static void invalidateAll() {
+	  dataSources.clear();
+	}
+	
+	/**
+	 * Returns connection metrics for a data source name.
+	 * @param dataSourceName JNDI data source name.
+	 * @return ConnectionMetrics Connection metrics.
+	 */
+	public static ConnectionMetrics getMetrics(String dataSourceName) {
+	  
+    // Get connection metrics
+    ConnectionMetrics metrics = connectionMetrics.get(dataSourceName);
+    
+    if (metrics == null) {
+      
+      // Create connection metrics using any metrics created by a concurrent thread
+      metrics = new ConnectionMetrics(dataSourceName);
+      
+      ConnectionMetrics currentMetrics = connectionMetrics.putIfAbsent(dataSourceName, metrics);
+      
+      if (currentMetrics != null) {
+        metrics = currentMetrics;
+      }
+    }
+    
+    return metrics;
+	}
+	
+	/**
+	 * Returns connection metrics for all data sources keyed by data source name.
+	 * @return Map Connection metrics.
+	 */
+	public static Map<String, ConnectionMetrics> getMetrics() {
+	  return Collections.unmodifiableMap(connectionMetrics);
+	}
+	
 }
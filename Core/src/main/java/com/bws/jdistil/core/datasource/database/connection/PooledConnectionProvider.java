@@ -0,0 +1,355 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import com.bws.jdistil.core.configuration.Constants;
+import com.bws.jdistil.core.datasource.DataSourceException;
+import com.bws.jdistil.core.resource.ResourceUtil;
+import com.bws.jdistil.core.util.StringUtil;
+
+/**
+ * Connection provider that provides database connections from embedded connection pools.
+ * A separate bounded pool is created for each data source name, so per tenant data sources
+ * returned by a domain are pooled independently. Pools are created using a data source
+ * registered with the provider or using the JDBC URL, user and password defined in the
+ * framework properties file with the data source name as a key suffix
+ * (e.g. connection.pool.url.jdbc/app).
+ * @author - Bryan Snipes
+ */
+public class PooledConnectionProvider implements IConnectionProvider {
+
+  /**
+   * Class name used in logging.
+   */
+  private static final String className = "com.bws.jdistil.core.datasource.database.connection.PooledConnectionProvider";
+  
+  /**
+   * Default maximum number of connections per pool.
+   */
+  private static final long DEFAULT_MAX_SIZE = 10L;
+  
+  /**
+   * Default maximum time in milliseconds to wait for a connection.
+   */
+  private static final long DEFAULT_ACQUIRE_TIMEOUT = 30000L;
+  
+  /**
+   * Default maximum time in seconds to wait for connection validation.
+   */
+  private static final long DEFAULT_VALIDATION_TIMEOUT = 5L;
+  
+  /**
+   * Default maximum time in milliseconds a connection can remain idle.
+   */
+  private static final long DEFAULT_IDLE_TIMEOUT = 600000L;
+  
+  /**
+   * Default maximum lifetime in milliseconds of a connection.
+   */
+  private static final long DEFAULT_MAX_LIFETIME = 1800000L;
+  
+  /**
+   * Maximum interval in milliseconds between idle connection evictions.
+   */
+  private static final long MAX_EVICTION_INTERVAL = 30000L;
+  
+  /**
+   * Maximum number of connections per pool.
+   */
+  private static final int maxSize = (int)loadSetting(Constants.CONNECTION_POOL_MAX_SIZE, DEFAULT_MAX_SIZE);
+  
+  /**
+   * Maximum time in milliseconds to wait for a connection.
+   */
+  private static final long acquireTimeout = loadSetting(Constants.CONNECTION_POOL_ACQUIRE_TIMEOUT, DEFAULT_ACQUIRE_TIMEOUT);
+  
+  /**
+   * Maximum time in seconds to wait for connection validation.
+   */
+  private static final int validationTimeout = (int)loadSetting(Constants.CONNECTION_POOL_VALIDATION_TIMEOUT, DEFAULT_VALIDATION_TIMEOUT);
+  
+  /**
+   * Maximum time in milliseconds a connection can remain idle.
+   */
+  private static final long idleTimeout = loadSetting(Constants.CONNECTION_POOL_IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT);
+  
+  /**
+   * Maximum lifetime in milliseconds of a connection.
+   */
+  private static final long maxLifetime = loadSetting(Constants.CONNECTION_POOL_MAX_LIFETIME, DEFAULT_MAX_LIFETIME);
+  
+  /**
+   * Connection pools keyed by data source name.
+   */
+  private static final ConcurrentMap<String, ConnectionPool> connectionPools = new ConcurrentHashMap<String, ConnectionPool>();
+  
+  /**
+   * Executor used to evict idle connections.
+   */
+  private static ScheduledExecutorService evictionExecutor = null;
+  
+  /**
+   * Creates a new PooledConnectionProvider object.
+   */
+  public PooledConnectionProvider() {
+    super();
+  }
+  
+  /**
+   * Returns the configured value of a positive pool setting or a default value if none is configured.
+   * @param key - Property key.
+   * @param defaultValue - Default value.
+   * @return long - Setting value.
+   */
+  private static long loadSetting(String key, long defaultValue) {
+    
+    // Initialize return value
+    long setting = defaultValue;
+    
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(key);
+    
+    if (!StringUtil.isEmpty(value)) {
+      
+      try {
+        // Parse configured value
+        long configuredValue = Long.parseLong(value.trim());
+        
+        // Only use positive values
+        if (configuredValue > 0L) {
+          setting = configuredValue;
+        }
+      }
+      catch (NumberFormatException numberFormatException) {
+        
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
+        logger.logp(Level.WARNING, className, "loadSetting", "Invalid connection pool setting: " + key, numberFormatException);
+      }
+    }
+    
+    return setting;
+  }
+  
+  /**
+   * Returns a connection borrowed from the connection pool associated with a data source name.
+   * The connection is returned to the pool when it is closed.
+   * @param dataSourceName - Data source name.
+   * @return Connection - Database connection.
+   * @throws DataSourceException
+   */
+  @Override
+  public Connection openConnection(String dataSourceName) throws DataSourceException {
+    
+    // Set method name
+    String methodName = "openConnection";
+    
+    // Initialize return value
+    Connection connection = null;
+    
+    // Get connection pool
+    ConnectionPool connectionPool = getConnectionPool(dataSourceName);
+    
+    try {
+      // Borrow connection
+      connection = connectionPool.borrow();
+    }
+    catch (SQLException sqlException) {
+      
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Opening DB Connection", sqlException);
+      
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    
+    return connection;
+  }
+  
+  /**
+   * Returns the connection pool associated with a data source name. A pool is created using
+   * JDBC connection properties from the framework properties file if one does not already exist.
+   * @param dataSourceName - Data source name.
+   * @return ConnectionPool - Connection pool.
+   * @throws DataSourceException
+   */
+  private ConnectionPool getConnectionPool(String dataSourceName) throws DataSourceException {
+    
+    // Set method name
+    String methodName = "getConnectionPool";
+    
+    // Get existing connection pool
+    ConnectionPool connectionPool = connectionPools.get(dataSourceName);
+    
+    if (connectionPool == null) {
+      
+      // Retrieve JDBC connection properties
+      String url = ResourceUtil.getString(Constants.CONNECTION_POOL_URL + "." + dataSourceName);
+      String user = ResourceUtil.getString(Constants.CONNECTION_POOL_USER + "." + dataSourceName);
+      String password = ResourceUtil.getString(Constants.CONNECTION_POOL_PASSWORD + "." + dataSourceName);
+      
+      if (StringUtil.isEmpty(url)) {
+        
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
+        logger.logp(Level.SEVERE, getClass().getName(), methodName, "Undefined Connection Pool URL: " + dataSourceName);
+        
+        throw new DataSourceException(methodName + ": Undefined connection pool URL for " + dataSourceName);
+      }
+      
+      // Create connection pool
+      connectionPool = new ConnectionPool(dataSourceName, url, user, password, maxSize, acquireTimeout,
+          validationTimeout, idleTimeout, maxLifetime);
+      
+      // Register connection pool using any pool registered by a concurrent thread
+      ConnectionPool registeredPool = connectionPools.putIfAbsent(dataSourceName, connectionPool);
+      
+      if (registeredPool != null) {
+        connectionPool = registeredPool;
+      }
+      else {
+        startEviction();
+      }
+    }
+    
+    return connectionPool;
+  }
+  
+  /**
+   * Registers a data source used to create pooled connections for a data source name.
+   * Any existing pool associated with the data source name is closed.
+   * @param dataSourceName - Data source name.
+   * @param dataSource - Data source.
+   */
+  public static void registerDataSource(String dataSourceName, DataSource dataSource) {
+    
+    // Create connection pool
+    ConnectionPool connectionPool = new ConnectionPool(dataSourceName, dataSource, maxSize, acquireTimeout,
+        validationTimeout, idleTimeout, maxLifetime);
+    
+    // Register connection pool
+    ConnectionPool previousPool = connectionPools.put(dataSourceName, connectionPool);
+    
+    // Close previous pool
+    if (previousPool != null) {
+      previousPool.close();
+    }
+    
+    startEviction();
+  }
+  
+  /**
+   * Starts evicting idle connections if eviction has not already been started.
+   */
+  private static synchronized void startEviction() {
+    
+    if (evictionExecutor == null) {
+      
+      // Create executor using a daemon thread so pools do not prevent shutdown
+      evictionExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        
+        public Thread newThread(Runnable runnable) {
+          
+          Thread thread = new Thread(runnable, "jdistil-connection-pool-eviction");
+          thread.setDaemon(true);
+          
+          return thread;
+        }
+      });
+      
+      // Calculate eviction interval
+      long interval = Math.max(1000L, Math.min(MAX_EVICTION_INTERVAL, Math.min(idleTimeout, maxLifetime) / 2L));
+      
+      // Schedule eviction of idle connections from all pools
+      evictionExecutor.scheduleWithFixedDelay(new Runnable() {
+        
+        public void run() {
+          
+          for (ConnectionPool connectionPool : connectionPools.values()) {
+            
+            try {
+              connectionPool.evictIdleConnections();
+            }
+            catch (RuntimeException runtimeException) {
+              
+              // Post warning message
+              Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.connection");
+              logger.logp(Level.WARNING, className, "run", "Evicting Idle Connections", runtimeException);
+            }
+          }
+        }
+      }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+  }
+  
+  /**
+   * Returns the connection pool associated with a data source name.
+   * @param dataSourceName - Data source name.
+   * @return ConnectionPool - Connection pool or null if no pool exists.
+   */
+  public static ConnectionPool getPool(String dataSourceName) {
+    return dataSourceName == null ? null : connectionPools.get(dataSourceName);
+  }
+  
+  /**
+   * Returns all connection pools keyed by data source name.
+   * @return Map - Unmodifiable map of connection pools.
+   */
+  public static Map<String, ConnectionPool> getPools() {
+    return Collections.unmodifiableMap(connectionPools);
+  }
+  
+  /**
+   * Closes and removes all connection pools and stops evicting idle connections.
+   */
+  public static synchronized void shutdown() {
+    
+    // Stop eviction
+    if (evictionExecutor != null) {
+      evictionExecutor.shutdownNow();
+      evictionExecutor = null;
+    }
+    
+    // Close connection pools
+    for (String dataSourceName : connectionPools.keySet()) {
+      
+      ConnectionPool connectionPool = connectionPools.remove(dataSourceName);
+      
+      if (connectionPool != null) {
+        connectionPool.close();
+      }
+    }
+  }
+  
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.dialect;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+  Interface defining database specific SQL syntax used by data managers.
+  @author Bryan Snipes
+*/
+public interface ISqlDialect {
+
+  /**
+    Returns SQL text restricting an ordered query to a single page of rows. The returned SQL text
+    contains parameter place holders for the row offset and row limit following all other parameters.
+    @param sql Ordered query SQL text.
+    @return String Paged query SQL text.
+  */
+  public String getPageSql(String sql);
+
+  /**
+    Sets the row offset and row limit parameters of SQL text returned by the getPageSql method.
+    @param statement Prepared statement.
+    @param index Index of the first paging parameter.
+    @param offset Number of rows to skip.
+    @param limit Maximum number of rows to return.
+    @return int Next parameter index.
+  */
+  public int setPageParameters(PreparedStatement statement, int index, int offset, int limit) throws SQLException;
+
+  /**
+    Returns SQL text testing whether or not a query returns any rows. The returned SQL text
+    produces one or more rows if any rows exist and no rows otherwise. Only the first row is read.
+    @param sql Query SQL text.
+    @return String Exists query SQL text.
+  */
+  public String getExistsSql(String sql);
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.dialect;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+  SQL dialect using the "limit ... offset ..." clause supported by MySQL, MariaDB, PostgreSQL, H2 and SQLite.
+  @author Bryan Snipes
+*/
+public class LimitOffsetSqlDialect extends StandardSqlDialect {
+
+  /**
+    Creates a new LimitOffsetSqlDialect object.
+  */
+  public LimitOffsetSqlDialect() {
+    super();
+  }
+
+  /**
+    Returns SQL text restricting an ordered query to a single page of rows.
+    @see com.bws.jdistil.core.datasource.database.dialect.ISqlDialect#getPageSql
+  */
+  public String getPageSql(String sql) {
+    return sql + " limit ? offset ?";
+  }
+
+  /**
+    Sets the row limit and row offset parameters.
+    @see com.bws.jdistil.core.datasource.database.dialect.ISqlDialect#setPageParameters
+  */
+  public int setPageParameters(PreparedStatement statement, int index, int offset, int limit) throws SQLException {
+
+    // Set limit and offset parameters
+    statement.setInt(index++, limit);
+    statement.setInt(index++, offset);
+
+    return index;
+  }
+
+}
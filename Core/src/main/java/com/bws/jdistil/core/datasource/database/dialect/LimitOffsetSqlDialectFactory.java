@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.dialect;
+
+import com.bws.jdistil.core.factory.SingletonPojoFactory;
+
+/**
+  SQL dialect factory returning a single limit offset SQL dialect. Specify this class
+  as the SQL dialect factory for databases not supporting the standard paging clause.
+  @author Bryan Snipes
+*/
+public class LimitOffsetSqlDialectFactory extends SingletonPojoFactory {
+
+  /**
+    Creates a new LimitOffsetSqlDialectFactory object.
+  */
+  public LimitOffsetSqlDialectFactory() {
+    super(LimitOffsetSqlDialect.class);
+  }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.bws.jdistil.core.configuration.Constants;
+import com.bws.jdistil.core.factory.IFactory;
+import com.bws.jdistil.core.factory.SingletonPojoFactory;
+import com.bws.jdistil.core.resource.ResourceUtil;
+import com.bws.jdistil.core.util.Instantiator;
+import com.bws.jdistil.core.util.StringUtil;
+
+/**
+  Provides static access to an application defined SQL dialect factory using
+  a class specified in the framework properties file. A pojo factory using
+  the standard SQL dialect class is returned if a custom factory class
+  is not defined in the framework properties file. Without a custom factory
+  class, dialects can also be detected from a connection's database product name.
+  @author - Bryan Snipes
+*/
+public final class SqlDialectFactory {
+
+  /**
+    SQL dialect factory.
+  */
+  private static volatile IFactory sqlDialectFactory = null;
+
+  /**
+    Indicates whether or not a custom SQL dialect factory is defined.
+  */
+  private static volatile boolean isCustomFactory = false;
+
+  /**
+    Standard SQL dialect used for detected databases supporting the standard paging clause.
+  */
+  private static final ISqlDialect standardSqlDialect = new StandardSqlDialect();
+
+  /**
+    Limit offset SQL dialect used for detected databases not supporting the standard paging clause.
+  */
+  private static final ISqlDialect limitOffsetSqlDialect = new LimitOffsetSqlDialect();
+
+  /**
+    Creates a new SqlDialectFactory.
+  */
+  private SqlDialectFactory() {
+    super();
+  }
+
+  /**
+    Returns a SQL dialect factory instance.
+    @return IFactory - SQL dialect factory.
+  */
+  public static IFactory getInstance() {
+
+    // Check to see if factory has been created
+    if (sqlDialectFactory == null) {
+
+      synchronized(SqlDialectFactory.class) {
+
+        // Check to see if created while waiting
+        if (sqlDialectFactory == null) {
+
+        	// Attempt to get a custom SQL dialect factory
+        	IFactory customSqlDialectFactory = getCustomSqlDialectFactory();
+        	
+        	// Set custom factory indicator before publishing factory
+        	isCustomFactory = customSqlDialectFactory != null;
+        	sqlDialectFactory = customSqlDialectFactory;
+        	
+        	if (sqlDialectFactory == null) {
+        		
+        		// Use singleton pojo factory targeting the standard SQL dialect
+        		sqlDialectFactory = new SingletonPojoFactory(StandardSqlDialect.class);
+        	}
+        }
+      }
+    }
+
+    return sqlDialectFactory;
+  }
+  
+  /**
+    Returns the SQL dialect used with a database connection. The dialect created by a custom SQL
+    dialect factory is returned if one is defined. Otherwise the dialect is detected using the database
+    product name so MySQL, MariaDB and SQLite use the limit offset clause and all other databases use
+    the standard offset fetch clause.
+    @param connection - Database connection.
+    @return ISqlDialect - SQL dialect.
+    @throws SQLException
+  */
+  public static ISqlDialect getDialect(Connection connection) throws SQLException {
+
+    // Get factory and custom factory indicator
+    IFactory factory = getInstance();
+
+    // Initialize return value
+    ISqlDialect sqlDialect = standardSqlDialect;
+
+    if (isCustomFactory) {
+
+      // Use custom SQL dialect
+      sqlDialect = (ISqlDialect)factory.create();
+    }
+    else {
+
+      // Get database product name
+      String productName = connection.getMetaData().getDatabaseProductName();
+
+      if (productName != null) {
+
+        // Convert to lower case for comparison
+        productName = productName.toLowerCase();
+
+        // Use limit offset dialect for databases without the standard paging clause
+        if (productName.indexOf("mysql") >= 0 || productName.indexOf("mariadb") >= 0 || productName.indexOf("sqlite") >= 0) {
+          sqlDialect = limitOffsetSqlDialect;
+        }
+      }
+    }
+
+    return sqlDialect;
+  }
+
+  /**
+   * Creates and return a custom SQL dialect factory using a class name
+   * defined in the core properties file.
+   * @return IFactory Custom SQL dialect factory.
+   */
+  private static IFactory getCustomSqlDialectFactory() {
+  	
+  	// Set method name
+  	String methodName = "getCustomSqlDialectFactory";
+  	
+  	// Initialize return value
+  	IFactory sqlDialectFactory = null;
+  	
+    // Retrieve SQL dialect factory class name
+    String sqlDialectFactoryClassName = ResourceUtil.getString(Constants.SQL_DIALECT_FACTORY);
+
+    if (!StringUtil.isEmpty(sqlDialectFactoryClassName)) {
+    	
+      // Create SQL dialect factory
+      Object object = Instantiator.create(sqlDialectFactoryClassName);
+    	
+      if (object != null) {
+      	
+      	if (object instanceof IFactory) {
+      		
+      		// Get target class
+      		Class<?> targetClass = ((IFactory)object).getTargetClass();
+      		
+      		// Ensure target class is a SQL dialect
+      		if (ISqlDialect.class.isAssignableFrom(targetClass)) {
+      			
+      			// Cast to factory and assign to return value
+      			sqlDialectFactory = (IFactory)object;
+      		}
+      		else {
+      			
+            // Post error message
+            Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.dialect");
+            logger.logp(Level.SEVERE, "SqlDialectFactory", methodName, "Invalid custom SQL dialect factory: Target class does not implement ISqlDialect interface.");
+      		}
+      	}
+      	else {
+      		
+          // Post error message
+          Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.dialect");
+          logger.logp(Level.SEVERE, "SqlDialectFactory", methodName, "Invalid custom SQL dialect factory: Does not implement IFactory interface.");
+      	}
+      }
+      else {
+      	
+        // Post error message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.dialect");
+        logger.logp(Level.SEVERE, "SqlDialectFactory", methodName, "Error creating instance of custom SQL dialect factory.");
+      }
+    }
+    
+    return sqlDialectFactory;
+  }
+  
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.datasource.database.dialect;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+  SQL dialect using the standard "offset ... rows fetch next ... rows only" clause supported by
+  H2, PostgreSQL, Oracle 12c and later, SQL Server 2012 and later and DB2.
+  @author Bryan Snipes
+*/
+public class StandardSqlDialect implements ISqlDialect {
+
+  /**
+    Creates a new StandardSqlDialect object.
+  */
+  public StandardSqlDialect() {
+    super();
+  }
+
+  /**
+    Returns SQL text restricting an ordered query to a single page of rows.
+    @see com.bws.jdistil.core.datasource.database.dialect.ISqlDialect#getPageSql
+  */
+  public String getPageSql(String sql) {
+    return sql + " offset ? rows fetch next ? rows only";
+  }
+
+  /**
+    Sets the row offset and row limit parameters.
+    @see com.bws.jdistil.core.datasource.database.dialect.ISqlDialect#setPageParameters
+  */
+  public int setPageParameters(PreparedStatement statement, int index, int offset, int limit) throws SQLException {
+
+    // Set offset and limit parameters
+    statement.setInt(index++, offset);
+    statement.setInt(index++, limit);
+
+    return index;
+  }
+
+  /**
+    Returns the query SQL text unchanged since a query against its own tables is portable across
+    databases. Callers limit the statement to a single row.
+    @see com.bws.jdistil.core.datasource.database.dialect.ISqlDialect#getExistsSql
+  */
+  public String getExistsSql(String sql) {
+    return sql;
+  }
+
+}
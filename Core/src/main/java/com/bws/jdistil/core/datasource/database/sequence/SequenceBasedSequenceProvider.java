@@ -34,7 +34,7 @@ import com.bws.jdistil.core.security.IDomain;
  * using a database sequence.
  * @author - Bryan Snipes
  */
-public class SequenceBasedSequenceProvider implements ISequenceProvider {
+public class SequenceBasedSequenceProvider implements ILongSequenceProvider {
 
   /**
    * Class name attribute used in messaging.
@@ -48,16 +48,34 @@ public class SequenceBasedSequenceProvider implements ISequenceProvider {
     super();
   }
   
+  /**
+   * Returns the next sequence value for a specified table and column as an integer.
+   * @see ISequenceProvider#nextValue(String, String, IDomain)
+   */
+  @Override
+  public int nextValue(String tableName, String columnName, IDomain domain) throws DataSourceException {
+  
+    // Get next sequence value
+    long sequenceValue = nextLongValue(tableName, columnName, domain);
+    
+    // Ensure value can be represented as an integer
+    if (sequenceValue > Integer.MAX_VALUE) {
+      throw new DataSourceException("nextValue: Sequence value exceeds integer range.");
+    }
+    
+    return (int)sequenceValue;
+  }
+  
   /**
    * Increments the sequence value for a specified table and column using a database sequence.
    * @param tableName - Table name.
    * @param columnName - Column name.
    * @param domain Target domain.
-   * @return int - Next identity value.
+   * @return long - Next identity value.
    * @throws com.bws.jdistil.core.datasource.DataSourceException
    */
   @Override
-  public int nextValue(String tableName, String columnName, IDomain domain) throws DataSourceException {
+  public long nextLongValue(String tableName, String columnName, IDomain domain) throws DataSourceException {
   
     // Set method name
     String methodName = "nextValue";
@@ -77,7 +95,7 @@ public class SequenceBasedSequenceProvider implements ISequenceProvider {
     columnName = columnName.toLowerCase();
   
     // Initialize return value
-    int sequenceValue = 1;
+    long sequenceValue = 1L;
   
     // Initialize processing variables
     Connection connection = null;
@@ -104,7 +122,7 @@ public class SequenceBasedSequenceProvider implements ISequenceProvider {
       if (resultSet != null && resultSet.next()) {
   
         // Set identity value
-        sequenceValue = resultSet.getInt(0);
+        sequenceValue = resultSet.getLong(1);
       }
     }
     catch (SQLException sqlException) {
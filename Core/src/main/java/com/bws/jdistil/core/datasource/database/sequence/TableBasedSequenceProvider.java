@@ -22,19 +22,27 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.bws.jdistil.core.configuration.Constants;
 import com.bws.jdistil.core.datasource.DataSourceException;
 import com.bws.jdistil.core.datasource.database.DbUtil;
+import com.bws.jdistil.core.resource.ResourceUtil;
 import com.bws.jdistil.core.security.IDomain;
+import com.bws.jdistil.core.util.StringUtil;
 
 /**
  * Sequence provider that provides sequential values for a specified table and column
- * using a database table to maintain the sequential values.
+ * using a database table to maintain the sequential values. Values are reserved in blocks
+ * using a configurable block size so a single transaction reserves a range of values
+ * that are then handed out from memory. A block size of one reserves each value individually.
  * @author - Bryan Snipes
  */
-public class TableBasedSequenceProvider implements ISequenceProvider {
+public class TableBasedSequenceProvider implements ILongSequenceProvider {
 
   /**
     Class name attribute used in messaging.
@@ -46,6 +54,26 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
    */
   private static final String SEQUENCE_TABLE_NAME = "bws_id_lookup";
   
+  /**
+   * Default number of sequential values reserved per transaction.
+   */
+  public static final int DEFAULT_BLOCK_SIZE = 1;
+  
+  /**
+   * Number of sequential values reserved per transaction.
+   */
+  private static final int blockSize = loadBlockSize();
+  
+  /**
+   * Reserved sequence blocks keyed by data source, table and column.
+   */
+  private static final ConcurrentMap<String, SequenceBlock> sequenceBlocks = new ConcurrentHashMap<String, SequenceBlock>();
+  
+  /**
+   * Locks used to serialize block reservations keyed by data source, table and column.
+   */
+  private static final ConcurrentMap<String, Object> reservationLocks = new ConcurrentHashMap<String, Object>();
+  
   /**
    * Creates a new instance of the TableBasedSequenceProvider class.
    */
@@ -54,22 +82,79 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
   }
   
   /**
-    Increments the sequence value for a specified table and column by a value of
-    one and returns the incremented value. Table names and columns not
-    found in the sequence reference table will be added with an initial
-    sequence value of one.
+    Returns the configured block size or the default block size if none is configured.
+    @return int Block size.
+  */
+  private static int loadBlockSize() {
+
+    // Initialize return value
+    int blockSize = DEFAULT_BLOCK_SIZE;
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(Constants.SEQUENCE_BLOCK_SIZE);
+
+    if (!StringUtil.isEmpty(value)) {
+
+      try {
+        // Parse configured value
+        int configuredValue = Integer.parseInt(value.trim());
+
+        // Only use positive values
+        if (configuredValue > 0) {
+          blockSize = configuredValue;
+        }
+      }
+      catch (NumberFormatException numberFormatException) {
+
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.sequence");
+        logger.logp(Level.WARNING, className, "loadBlockSize", "Invalid sequence block size", numberFormatException);
+      }
+    }
+
+    return blockSize;
+  }
+
+  /**
+    Returns the number of sequential values reserved per transaction.
+    @return int Block size.
+  */
+  public static int getBlockSize() {
+    return blockSize;
+  }
+  
+  /**
+    Returns the next sequence value for a specified table and column as an integer.
+    @see ISequenceProvider#nextValue(String, String, IDomain)
+  */
+  @Override
+  public int nextValue(String tableName, String columnName, IDomain domain) throws DataSourceException {
+  
+    // Get next sequence value
+    long sequenceValue = nextLongValue(tableName, columnName, domain);
+    
+    // Ensure value can be represented as an integer
+    if (sequenceValue > Integer.MAX_VALUE) {
+      throw new DataSourceException("nextValue: Sequence value exceeds integer range.");
+    }
+    
+    return (int)sequenceValue;
+  }
+  
+  /**
+    Returns the next sequence value for a specified table and column. Values are handed
+    out from the current reserved block and a new block is reserved when the current
+    block is exhausted. Table names and columns not found in the sequence reference table
+    will be added with an initial sequence value of one.
     @param tableName - Table name.
     @param columnName - Column name.
     @param domain Target domain.
-    @return int - Next identity value.
+    @return long - Next identity value.
     @throws com.bws.jdistil.core.datasource.DataSourceException
   */
   @Override
-  public int nextValue(String tableName, String columnName, IDomain domain) throws DataSourceException {
+  public long nextLongValue(String tableName, String columnName, IDomain domain) throws DataSourceException {
   
-    // Set method name
-    String methodName = "nextValue";
-    
     // Check for valid table name
     if (tableName == null) {
       throw new DataSourceException("Invalid null table name.");
@@ -84,8 +169,82 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
     tableName = tableName.toLowerCase();
     columnName = columnName.toLowerCase();
   
+    // Get data source name
+    String dataSourceName = domain == null ? null : domain.getDatasourceName();
+    
+    // Build sequence key
+    String sequenceKey = dataSourceName + "|" + tableName + "|" + columnName;
+    
     // Initialize return value
-    int sequenceValue = 1;
+    long sequenceValue = 0L;
+    
+    // Initialize value found indicator
+    boolean isValueFound = false;
+    
+    while (!isValueFound) {
+      
+      // Get current sequence block
+      SequenceBlock sequenceBlock = sequenceBlocks.get(sequenceKey);
+      
+      if (sequenceBlock != null) {
+        
+        // Attempt to take next value from current block
+        sequenceValue = sequenceBlock.nextValue();
+        isValueFound = sequenceValue > 0L;
+      }
+      
+      if (!isValueFound) {
+        
+        // Get reservation lock
+        Object reservationLock = reservationLocks.get(sequenceKey);
+        
+        if (reservationLock == null) {
+          
+          // Create reservation lock using any lock created by a concurrent thread
+          reservationLock = new Object();
+          
+          Object currentReservationLock = reservationLocks.putIfAbsent(sequenceKey, reservationLock);
+          
+          if (currentReservationLock != null) {
+            reservationLock = currentReservationLock;
+          }
+        }
+        
+        synchronized(reservationLock) {
+          
+          // Only reserve a new block if another thread has not already replaced the exhausted block
+          if (sequenceBlocks.get(sequenceKey) == sequenceBlock) {
+            
+            // Reserve new block
+            long maxValue = reserveBlock(dataSourceName, tableName, columnName, blockSize);
+            
+            // Replace current block
+            sequenceBlocks.put(sequenceKey, new SequenceBlock(maxValue - blockSize + 1, maxValue));
+          }
+        }
+      }
+    }
+  
+    return sequenceValue;
+  }
+  
+  /**
+    Reserves a block of sequence values for a specified table and column and returns
+    the last value in the reserved block.
+    @param dataSourceName - Data source name.
+    @param tableName - Table name.
+    @param columnName - Column name.
+    @param size - Number of values to reserve.
+    @return long - Last reserved value.
+    @throws com.bws.jdistil.core.datasource.DataSourceException
+  */
+  private long reserveBlock(String dataSourceName, String tableName, String columnName, int size) throws DataSourceException {
+  
+    // Set method name
+    String methodName = "reserveBlock";
+    
+    // Initialize return value
+    long maxValue = size;
   
     // Initialize processing variables
     Connection connection = null;
@@ -93,11 +252,10 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
     ResultSet resultSet = null;
   
     // Open non-transaction based connection
-    if (domain == null) {
+    if (dataSourceName == null) {
       connection = DbUtil.openConnection();
     }
     else {
-    	String dataSourceName = domain.getDatasourceName();
       connection = DbUtil.openConnection(dataSourceName);
     }
 
@@ -120,16 +278,16 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
   
       if (resultSet != null && resultSet.next()) {
   
-        // Set identity value
-        sequenceValue = resultSet.getInt("max_value") + 1;
+        // Set last reserved value
+        maxValue = resultSet.getLong("max_value") + size;
   
         // Increment identity value
-        updateSequence(connection, tableName, columnName, sequenceValue);
+        updateSequence(connection, tableName, columnName, maxValue);
       }
       else {
   
-        // Add new table and column - Sequence already defaulted to value of one
-        addSequence(connection, tableName, columnName);
+        // Add new table and column - First block starts with a value of one
+        addSequence(connection, tableName, columnName, maxValue);
       }
       
       // Commit the transaction
@@ -142,9 +300,9 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
   
       // Post error message
       Logger logger = Logger.getLogger("com.bws.jdistil.core.datasource.database.sequence");
-      logger.logp(Level.SEVERE, className, methodName, "Getting Next Value", sqlException);
+      logger.logp(Level.SEVERE, className, methodName, "Reserving Sequence Block", sqlException);
   
-      throw new DataSourceException("nextValue:" + sqlException.getMessage());
+      throw new DataSourceException("reserveBlock:" + sqlException.getMessage());
     }
     finally {
   
@@ -156,17 +314,18 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
       DbUtil.closeConnection(connection);
     }
   
-    return sequenceValue;
+    return maxValue;
   }
   
   /**
-    Inserts a new table sequence record using a given table name and column name.
+    Inserts a new table sequence record using a given table name, column name and sequence value.
     @param connection - Database connection.
     @param tableName - Table name.
     @param columnName - Column name.
+    @param sequenceValue - Initial sequence value.
     @throws com.bws.jdistil.core.datasource.DataSourceException
   */
-  private void addSequence(Connection connection, String tableName, String columnName)
+  private void addSequence(Connection connection, String tableName, String columnName, long sequenceValue)
       throws DataSourceException {
   
     // Set method name
@@ -185,7 +344,7 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
       int index = 1;
       DbUtil.setString(sqlStatement, index++, tableName);
       DbUtil.setString(sqlStatement, index++, columnName);
-      DbUtil.setInteger(sqlStatement, index++, Integer.valueOf(1));
+      DbUtil.setLong(sqlStatement, index++, Long.valueOf(sequenceValue));
   
       // Execute SQL statement
       sqlStatement.executeUpdate();
@@ -214,7 +373,7 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
     @param sequenceValue - New sequence value.
     @throws com.bws.jdistil.core.datasource.DataSourceException
   */
-  private static void updateSequence(Connection connection, String tableName, String columnName, int sequenceValue) 
+  private static void updateSequence(Connection connection, String tableName, String columnName, long sequenceValue) 
   		throws DataSourceException {
   
     // Set method name
@@ -231,7 +390,7 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
   
       // Set SQL parameters
       int index = 1;
-      DbUtil.setInteger(sqlStatement, index++, Integer.valueOf(sequenceValue));
+      DbUtil.setLong(sqlStatement, index++, Long.valueOf(sequenceValue));
       DbUtil.setString(sqlStatement, index++, tableName);
       DbUtil.setString(sqlStatement, index++, columnName);
   
@@ -253,4 +412,46 @@ public class TableBasedSequenceProvider implements ISequenceProvider {
     }
   }
   
+/**
+ * Block of reserved sequence values handed out using a lock free counter.
+ */
+private static class SequenceBlock {
+
+  /**
+   * Next value to hand out.
+   */
+  private final AtomicLong nextValue;
+  
+  /**
+   * Last reserved value.
+   */
+  private final long maxValue;
+  
+  /**
+   * Creates a new SequenceBlock object using the first and last reserved values.
+   * @param firstValue - First reserved value.
+   * @param maxValue - Last reserved value.
+   */
+  public SequenceBlock(long firstValue, long maxValue) {
+    super();
+    
+    // Set attributes
+    this.nextValue = new AtomicLong(firstValue);
+    this.maxValue = maxValue;
+  }
+  
+  /**
+   * Returns the next reserved value or zero if the block is exhausted.
+   * @return long - Next reserved value.
+   */
+  public long nextValue() {
+    
+    // Get next value
+    long value = nextValue.getAndIncrement();
+    
+    return value <= maxValue ? value : 0L;
+  }
+  
+}
+
 }
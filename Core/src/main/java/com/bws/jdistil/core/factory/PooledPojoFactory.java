@@ -18,10 +18,14 @@
  */
 package com.bws.jdistil.core.factory;
 
+import com.bws.jdistil.core.configuration.Constants;
+import com.bws.jdistil.core.resource.ResourceUtil;
 import com.bws.jdistil.core.util.Instantiator;
 
-import java.util.Hashtable;
-import java.util.Vector;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.lang.ref.Reference;
@@ -29,7 +33,12 @@ import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 
 /**
-  Factory implemented using an object pool.
+  Factory implemented using an object pool. Available objects are kept on a lock free
+  stack of pool entries so objects are created and recycled in constant time without
+  locking. Each pooled object is tracked by identity using a pool entry created once
+  for the object. Pool entries weakly reference created objects so objects that are never
+  recycled are detected when reclaimed by the garbage collector and replaced with new objects.
+  An optional thread cache keeps the most recently recycled object for reuse by the same thread.
   @author - Bryan Snipes
 */
 public class PooledPojoFactory implements IFactory {
@@ -39,6 +48,26 @@ public class PooledPojoFactory implements IFactory {
   */
   private static final int DEFAULT_SIZE = 100;
 
+  /**
+    Empty stack head value.
+  */
+  private static final long EMPTY = 0L;
+
+  /**
+    Indicates whether or not thread caching is enabled by default.
+  */
+  private static final boolean isDefaultThreadCache = Boolean.parseBoolean(ResourceUtil.getString(Constants.FACTORY_THREAD_CACHE));
+
+  /**
+    Reference queue shared by all factories used to detect objects that were not recycled.
+  */
+  private static final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<Object>();
+
+  /**
+    Factory object poller.
+  */
+  private static final Poller poller = new Poller();
+
   /**
     Target class.
   */
@@ -55,31 +84,38 @@ public class PooledPojoFactory implements IFactory {
   private IInitializer initializer = null;
 
   /**
-    Available objects.
+    Pool entries indexed by pool position.
   */
-  private Vector<Object> availableObjects = new Vector<Object>(DEFAULT_SIZE);
+  private AtomicReferenceArray<PoolEntry> entries = null;
 
   /**
-    Locked objects.
+    Pool entries hashed by object identity used to locate recycled objects.
   */
-  private Hashtable<Integer, LockReference> lockedObjects = new Hashtable<Integer, LockReference>(DEFAULT_SIZE);
+  private volatile PoolEntry[] identityTable = null;
 
   /**
-    Reference queue used to cleanup unreleased objects.
+    Stack head combining a version in the upper 32 bits with the top entry position plus one
+    in the lower 32 bits. The version prevents a stale pop from succeeding after the head was
+    popped and pushed by concurrent threads.
   */
-  private ReferenceQueue<Object> referenceQueue = new ReferenceQueue<Object>();
+  private final AtomicLong head = new AtomicLong(EMPTY);
 
   /**
-    Factory object poller.
+    Next stack position plus one indexed by pool position.
   */
-  private static final Poller poller = new Poller();
+  private AtomicIntegerArray nextPositions = null;
+
+  /**
+    Thread cache holding a recycled pool entry for each thread or null if thread caching is disabled.
+  */
+  private ThreadLocal<PoolEntry> threadCache = null;
 
   /**
     Creates a new PooledPojoFactory using a target class.
     @param targetClass - Target class.
   */
   public PooledPojoFactory(Class<?> targetClass) {
-    this(targetClass, DEFAULT_SIZE, null);
+    this(targetClass, DEFAULT_SIZE, null, isDefaultThreadCache);
   }
 
   /**
@@ -89,18 +125,31 @@ public class PooledPojoFactory implements IFactory {
     @param initializer - Object initializer.
   */
   public PooledPojoFactory(Class<?> targetClass, int size, IInitializer initializer) {
+    this(targetClass, size, initializer, isDefaultThreadCache);
+  }
+
+  /**
+    Creates a new PooledPojoFactory object using a target class, pool size, initializer and thread cache indicator.
+    @param targetClass - Target class.
+    @param size - Pool size.
+    @param initializer - Object initializer.
+    @param isThreadCache - Indicates whether or not recycled objects are cached for reuse by the same thread.
+  */
+  public PooledPojoFactory(Class<?> targetClass, int size, IInitializer initializer, boolean isThreadCache) {
     super();
 
     // Set properties
     this.targetClass = targetClass;
-    this.size = size;
+    this.size = Math.max(size, 0);
     this.initializer = initializer;
 
+    // Create thread cache
+    if (isThreadCache) {
+      threadCache = new ThreadLocal<PoolEntry>();
+    }
+
     // Populate pool with objects
     populatePool();
-    
-    // Register with the poller
-    poller.register(this);
   }
 
   /**
@@ -108,14 +157,27 @@ public class PooledPojoFactory implements IFactory {
   */
   private void populatePool() {
 
+    // Create pool entries and stack positions
+    entries = new AtomicReferenceArray<PoolEntry>(size);
+    nextPositions = new AtomicIntegerArray(size);
+
     for (int index = 0; index < size; index++) {
 
       // Create object instance
       Object object = Instantiator.create(targetClass);
 
-      // Add to available objects
-      availableObjects.add(object);
+      if (object != null) {
+
+        // Create pool entry
+        entries.set(index, new PoolEntry(this, index, object));
+
+        // Add to available objects
+        push(index);
+      }
     }
+
+    // Build identity table
+    identityTable = buildIdentityTable();
   }
 
   /**
@@ -133,29 +195,48 @@ public class PooledPojoFactory implements IFactory {
   public Object create() {
 
     // Initialize return value
-  	Object object = null;
+    Object object = null;
 
-    try {
-      // Attempt to retrieve first object
-      object = availableObjects.remove(0);
+    // Initialize pool entry
+    PoolEntry entry = null;
+
+    if (threadCache != null) {
+
+      // Attempt to retrieve thread cached entry
+      entry = threadCache.get();
+
+      if (entry != null) {
+        threadCache.set(null);
+      }
     }
-    catch (ArrayIndexOutOfBoundsException indexException) {
 
-      // Create object if pool was empty
-      object = Instantiator.create(targetClass);
+    if (entry == null) {
+
+      // Attempt to retrieve available entry
+      int index = pop();
+
+      if (index >= 0) {
+        entry = entries.get(index);
+      }
     }
 
-    // Create lock reference
-    LockReference lockReference = new LockReference(object, referenceQueue);
+    if (entry != null) {
 
-    // Add to locked objects
-    lockedObjects.put(lockReference.getId(), lockReference);
+      // Borrow object from pool entry
+      object = entry.borrow();
+    }
+    else {
+
+      // Create object if pool was empty
+      object = Instantiator.create(targetClass);
+    }
 
     return object;
   }
 
   /**
-    Returns an object to the object pool.
+    Returns an object to the object pool. Objects not created by the pool
+    and objects that were already recycled are ignored.
     @param object - Object.
     @see com.bws.jdistil.core.factory.IFactory#recycle
   */
@@ -163,25 +244,27 @@ public class PooledPojoFactory implements IFactory {
 
     if (object != null) {
 
-      // Create target lock reference
-      LockReference targetReference = new LockReference(object, referenceQueue);
+      // Lookup pool entry using object identity
+      PoolEntry entry = lookup(object);
 
-      // Remove from locked objects
-      LockReference lockReference = (LockReference)lockedObjects.remove(targetReference.getId());
+      if (entry != null && entry.isBorrowed()) {
 
-      // Add to available objects if not exceeding size
-      if (lockReference != null && availableObjects.size() < size) {
+        // Re-initialize object state
+        initialize(object);
 
-        // Get referent
-      	Object referent = lockReference.get();
+        // Return object to pool entry
+        if (entry.giveBack(object)) {
 
-        if (referent != null) {
+          if (threadCache != null && threadCache.get() == null) {
 
-          // Re-initialize object state
-          initialize(referent);
+            // Cache entry for reuse by current thread
+            threadCache.set(entry);
+          }
+          else {
 
-          // Add to available objects
-          availableObjects.add(referent);
+            // Add to available objects
+            push(entry.getIndex());
+          }
         }
       }
     }
@@ -200,152 +283,311 @@ public class PooledPojoFactory implements IFactory {
       }
     }
   }
-  
+
   /**
-    Polls the reference queue for objects reclaimed by the garbage collector
-    and adjusts the available objects queue accordingly.
+    Pushes a pool position onto the available objects stack.
+    @param index - Pool position.
   */
-  private void poll() {
+  private void push(int index) {
 
-    // Set method name
-    String methodName = "poll";
-    
-    // Initialize recycle violation indicator
-    boolean isRecycleViolation = false;
-    
-    // Poll reference queue
-    Reference<? extends Object> reference = referenceQueue.poll();
-    
-    while (reference != null) {
-
-      // Set recycle violation
-      isRecycleViolation = true;
-      
-      // Add to available objects if not exceeding size
-      if (availableObjects.size() < size) {
-        
-        // Attempt to get referent
-      	Object referent = reference.get();
-        
-        if (referent != null) {
-
-          // Re-initialize object state
-          initialize(referent);
-          
-          // Add referent back to available list
-          availableObjects.add(referent);
-        }
-        else {
-          
-          // Add new object to available list
-          availableObjects.add(Instantiator.create(targetClass));
+    while (true) {
+
+      // Get current head
+      long currentHead = head.get();
+
+      // Link position to current top position
+      nextPositions.set(index, (int)currentHead);
+
+      // Create new head using next version
+      long newHead = (((currentHead >>> 32) + 1L) << 32) | (index + 1L);
+
+      if (head.compareAndSet(currentHead, newHead)) {
+        break;
+      }
+    }
+  }
+
+  /**
+    Pops a pool position from the available objects stack.
+    @return int - Pool position or -1 if no objects are available.
+  */
+  private int pop() {
+
+    // Initialize return value
+    int index = -1;
+
+    while (true) {
+
+      // Get current head
+      long currentHead = head.get();
+
+      // Get top position
+      int top = (int)currentHead;
+
+      if (top == 0) {
+        break;
+      }
+
+      // Create new head using next version and next position
+      long newHead = (((currentHead >>> 32) + 1L) << 32) | (nextPositions.get(top - 1) & 0xFFFFFFFFL);
+
+      if (head.compareAndSet(currentHead, newHead)) {
+
+        // Set return value
+        index = top - 1;
+
+        break;
+      }
+    }
+
+    return index;
+  }
+
+  /**
+    Returns the pool entry for a given object using object identity.
+    @param object - Object.
+    @return PoolEntry - Pool entry or null if the object was not created by the pool.
+  */
+  private PoolEntry lookup(Object object) {
+
+    // Initialize return value
+    PoolEntry entry = null;
+
+    // Get identity table
+    PoolEntry[] table = identityTable;
+
+    // Calculate starting slot
+    int mask = table.length - 1;
+    int slot = hash(object) & mask;
+
+    // Probe slots until the entry or an empty slot is found
+    PoolEntry candidate = table[slot];
+
+    while (entry == null && candidate != null) {
+
+      if (candidate.get() == object) {
+        entry = candidate;
+      }
+      else {
+        slot = (slot + 1) & mask;
+        candidate = table[slot];
+      }
+    }
+
+    return entry;
+  }
+
+  /**
+    Builds an identity table containing all current pool entries. The table length is a power
+    of two at least twice the pool size so probing always reaches an empty slot.
+    @return PoolEntry[] - Identity table.
+  */
+  private PoolEntry[] buildIdentityTable() {
+
+    // Calculate table length
+    int length = 2;
+
+    while (length < size * 2) {
+      length <<= 1;
+    }
+
+    // Create identity table
+    PoolEntry[] table = new PoolEntry[length];
+    int mask = length - 1;
+
+    for (int index = 0; index < size; index++) {
+
+      // Get pool entry
+      PoolEntry entry = entries.get(index);
+
+      if (entry != null) {
+
+        // Find empty slot
+        int slot = entry.getHash() & mask;
+
+        while (table[slot] != null) {
+          slot = (slot + 1) & mask;
         }
+
+        table[slot] = entry;
       }
-      
-      // Poll reference queue again
-      reference = referenceQueue.poll();
     }
 
-    if (isRecycleViolation) {
+    return table;
+  }
+
+  /**
+    Returns a spread identity hash code for a given object.
+    @param object - Object.
+    @return int - Identity hash code.
+  */
+  private static int hash(Object object) {
+
+    int hash = System.identityHashCode(object);
+
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+    Replaces a pool entry whose object was reclaimed by the garbage collector without being recycled.
+    @param entry - Reclaimed pool entry.
+  */
+  private synchronized void replace(PoolEntry entry) {
 
-      // Post warning
-      Logger logger = Logger.getLogger("com.bws.jdistil.core.factory");
-      logger.logp(Level.WARNING, getClass().getName(), methodName, "Factory Object Not Recycled");
+    // Set method name
+    String methodName = "replace";
+
+    // Get pool position
+    int index = entry.getIndex();
+
+    if (entries.get(index) == entry) {
+
+      // Create replacement object
+      Object object = Instantiator.create(targetClass);
+
+      // Replace pool entry
+      PoolEntry replacement = object == null ? null : new PoolEntry(this, index, object);
+      entries.set(index, replacement);
+
+      // Rebuild identity table
+      identityTable = buildIdentityTable();
+
+      // Add to available objects
+      if (replacement != null) {
+        push(index);
+      }
     }
+
+    // Post warning
+    Logger logger = Logger.getLogger("com.bws.jdistil.core.factory");
+    logger.logp(Level.WARNING, getClass().getName(), methodName, "Factory Object Not Recycled: " + targetClass.getName());
   }
 
 
 /**
-  Extension of a weak reference used to compare referents for equality.
+  Pool entry created once per pooled object. The entry holds a strong reference to its object
+  while the object is available and only a weak reference while the object is borrowed.
 */
-private class LockReference extends WeakReference<Object> {
+private static class PoolEntry extends WeakReference<Object> {
 
   /**
-    Lock reference ID.
+    Owning factory.
   */
-  private Integer id = null;
+  private final PooledPojoFactory factory;
 
   /**
-    Creates a new LockReference object using a referent.
-    @param referent - Referent object.
+    Pool position.
   */
-  public LockReference(Object referent) {
-    super(referent);
+  private final int index;
 
-    // Set ID using referent's hash code
-    id = Integer.valueOf(referent.hashCode());
-  }
+  /**
+    Identity hash code of the pooled object.
+  */
+  private final int hash;
+
+  /**
+    Pooled object while available.
+  */
+  private Object object = null;
 
   /**
-    Creates a new LockReference object using a referent and reference queue.
-    @param referent - Referent object.
-    @param referenceQueue - Reference queue.
+    Indicates whether or not the pooled object is borrowed.
   */
-  public LockReference(Object referent, ReferenceQueue<Object> referenceQueue) {
-    super(referent, referenceQueue);
+  private final AtomicBoolean isBorrowed = new AtomicBoolean(false);
 
-    // Set ID using referent's hash code
-    id = Integer.valueOf(referent.hashCode());
+  /**
+    Creates a new PoolEntry object using a factory, pool position and pooled object.
+    @param factory - Owning factory.
+    @param index - Pool position.
+    @param object - Pooled object.
+  */
+  public PoolEntry(PooledPojoFactory factory, int index, Object object) {
+    super(object, referenceQueue);
+
+    // Set properties
+    this.factory = factory;
+    this.index = index;
+    this.hash = PooledPojoFactory.hash(object);
+    this.object = object;
   }
 
   /**
-    Returns the lock reference ID.
-    @return Integer - Lock reference ID.
+    Returns the owning factory.
+    @return PooledPojoFactory - Owning factory.
   */
-  public Integer getId() {
-    return id;
+  public PooledPojoFactory getFactory() {
+    return factory;
   }
 
   /**
-    Compares this object with another lock reference for equality based on referents.
-    @see java.lang.Object#equals
+    Returns the pool position.
+    @return int - Pool position.
   */
-  public boolean equals(Object object) {
+  public int getIndex() {
+    return index;
+  }
 
-    // Initialize return value
-    boolean isEqual = false;
+  /**
+    Returns the identity hash code of the pooled object.
+    @return int - Identity hash code.
+  */
+  public int getHash() {
+    return hash;
+  }
 
-    if (object != null && object instanceof LockReference) {
+  /**
+    Returns a value indicating whether or not the pooled object is borrowed.
+    @return boolean - Borrowed indicator.
+  */
+  public boolean isBorrowed() {
+    return isBorrowed.get();
+  }
 
-      // Cast to lock reference
-			LockReference lockReference = (LockReference)object;
+  /**
+    Borrows the pooled object releasing the strong reference held by the entry.
+    @return Object - Pooled object.
+  */
+  public Object borrow() {
 
-      // Get referents
-      Object referent1 = get();
-      Object referent2 = lockReference.get();
+    // Get pooled object
+    Object borrowedObject = object;
 
-      // Set equal indicator
-      isEqual = referent1 == referent2;
-    }
+    // Release strong reference
+    object = null;
+    isBorrowed.set(true);
 
-    return isEqual;
+    return borrowedObject;
   }
 
   /**
-    Returns the hash code using the referent.
-    @see java.lang.Object#hashCode
+    Returns the pooled object to the entry.
+    @param object - Pooled object.
+    @return boolean - Indicates whether or not the object was returned by this call.
   */
-  public int hashCode() {
-    return get().hashCode();
+  public boolean giveBack(Object object) {
+
+    // Initialize return value
+    boolean isReturned = isBorrowed.compareAndSet(true, false);
+
+    if (isReturned) {
+      this.object = object;
+    }
+
+    return isReturned;
   }
 
 }
 
 /**
-  Polls all registered pool factories.
+  Waits for pool entries of objects reclaimed by the garbage collector and replaces them.
 */
 private static class Poller extends Thread {
 
-  /**
-    List of registered pooled pojo factories.
-  */
-  private Vector<PooledPojoFactory> pooledPojoFactories = new Vector<PooledPojoFactory>();
-
   /**
     Creates a new Poller object.
   */
   public Poller() {
-    super();
+    super("jdistil-pooled-pojo-factory-poller");
     
     setDaemon(true);
     setPriority(Thread.MIN_PRIORITY);
@@ -353,50 +595,29 @@ private static class Poller extends Thread {
   }
 
   /**
-    Registers a pool factory.
-    @param pooledPojoFactory - Pooled pojo factory.
-  */
-  public void register(PooledPojoFactory pooledPojoFactory) {
-    
-    if (pooledPojoFactory != null) {
-
-    	synchronized(pooledPojoFactories) {
-
-        // Add factory to collection
-    		pooledPojoFactories.add(pooledPojoFactory);
-      }
-    }
-  }
-  
-  /**
-    Polls the reference queue of each registered factory
-    for objects reclaimed by the garbage collector.
+    Blocks on the shared reference queue and replaces reclaimed pool entries.
   */
   public void run() {
 
     while (true) {
 
-      if (pooledPojoFactories != null && !pooledPojoFactories.isEmpty()) {
-        
-        synchronized(pooledPojoFactories) {
+      try {
+        // Wait for reclaimed pool entry
+        Reference<? extends Object> reference = referenceQueue.remove();
 
-          // Invoke poll on each pool factory
-          for (PooledPojoFactory poolFactory : pooledPojoFactories) {
-            poolFactory.poll();
-          }
-        }
-        
-        try {
-          Thread.sleep(30000);
-        }
-        catch (InterruptedException interruptedException) {
-          // Do nothing
+        if (reference instanceof PoolEntry) {
+
+          // Replace pool entry
+          PoolEntry entry = (PoolEntry)reference;
+          entry.getFactory().replace(entry);
         }
       }
+      catch (InterruptedException interruptedException) {
+        // Do nothing
+      }
     }
   }
 
 }
 
 }
-
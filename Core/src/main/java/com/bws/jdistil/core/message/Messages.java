@@ -20,8 +20,11 @@ package com.bws.jdistil.core.message;
 
 import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.bws.jdistil.core.configuration.Constants;
+import com.bws.jdistil.core.conversion.FormatCache;
 import com.bws.jdistil.core.resource.ResourceUtil;
 import com.bws.jdistil.core.util.StringUtil;
 
@@ -177,6 +180,17 @@ public class Messages {
   */
   public static final String AT_LEAST_ONE_REQUIRED_FIELD = "M29";
   
+  /**
+    Format type prefix used to cache parsed messages.
+  */
+  private static final String MESSAGE_FORMAT_PREFIX = "message.";
+
+  /**
+    Locale specific messages keyed by message type and locale. Empty messages are cached for
+    message types without a message.
+  */
+  private static final ConcurrentMap<String, String> messages = new ConcurrentHashMap<String, String>();
+  
 	/**
     Creates a new Messages object. Defined with private access to prevent instantiation.
   */
@@ -222,9 +236,22 @@ public class Messages {
     // Retrieve message using message key
     String message = getMessage(type, locale);
 
-    // Format message using values
     if (!StringUtil.isEmpty(message)) {
-      formattedMessage = MessageFormat.format(message, values);
+
+      // Lookup cached parsed message
+      MessageFormat messageFormat = (MessageFormat)FormatCache.get(MESSAGE_FORMAT_PREFIX + type, locale);
+
+      if (messageFormat == null) {
+
+        // Parse message using the target locale for number and date subformats
+        messageFormat = locale == null ? new MessageFormat(message) : new MessageFormat(message, locale);
+
+        // Cache parsed message
+        messageFormat = (MessageFormat)FormatCache.put(MESSAGE_FORMAT_PREFIX + type, locale, messageFormat);
+      }
+
+      // Format message using values
+      formattedMessage = messageFormat.format(values, new StringBuffer(), null).toString();
     }
   
     return formattedMessage;
@@ -237,6 +264,53 @@ public class Messages {
     @return String Locale specific message.
   */
   public static String getMessage(String type, Locale locale) {
+
+    // Resolve message without caching if no locale is specified
+    if (locale == null) {
+      return loadMessage(type, locale);
+    }
+
+    // Create cache key
+    String key = type + "_" + locale.toString();
+
+    // Lookup cached message
+    String message = messages.get(key);
+
+    if (message == null) {
+
+      // Resolve message
+      message = loadMessage(type, locale);
+
+      // Cache message using an empty message if none exists
+      messages.putIfAbsent(key, message == null ? "" : message);
+    }
+    else if (message.isEmpty()) {
+
+      // Return cached empty message as a missing message
+      message = null;
+    }
+
+    return message;
+  }
+
+  /**
+    Removes all cached messages and formatters so messages are reloaded using current message
+    resources. Parsed messages are held by the format cache, so both caches are cleared together.
+  */
+  public static void clear() {
+
+    // Clear message text before parsed messages so stale text is not parsed again
+    messages.clear();
+    FormatCache.clear();
+  }
+
+  /**
+    Resolves a locale specific message for a given message type using the message resources.
+    @param type Message type.
+	  @param locale Target locale.
+    @return String Locale specific message.
+  */
+  private static String loadMessage(String type, Locale locale) {
   
     // Initialize message
     String message = null;
@@ -81,6 +81,11 @@ public class ViewDataObjects<I, T extends DataObject<I>> extends Processor {
   */
   private boolean cachePagingIds = false;
   
+  /**
+    Database paging indicator.
+  */
+  private boolean isDatabasePaging = false;
+  
   /**
     Page size.
   */
@@ -175,6 +180,35 @@ public class ViewDataObjects<I, T extends DataObject<I>> extends Processor {
       String previousPageActionId, String nextPageActionId, String selectPageActionId,
       Set<String> retrieveDataActionIds, Set<String> refreshDataActionIds, boolean cachePagingIds) {
 
+    this(dataManagerClass, filterCriteriaDefinition, attributeId, nextPageId, pageSize, currentPageNumberFieldId, 
+        selectedPageNumberFieldId, previousPageActionId, nextPageActionId, selectPageActionId, 
+        retrieveDataActionIds, refreshDataActionIds, cachePagingIds, false);
+  }
+
+  /**
+    Creates a new ViewDataObjects object with filtering and paging support. Database paging retrieves
+    only the data objects on the requested page along with a total count instead of retrieving all
+    data object IDs. Paging IDs are never cached when database paging is used.
+    @param dataManagerClass Data manager class.
+    @param filterCriteriaDefinition Filter criteria definition.
+    @param attributeId Attribute ID.
+    @param nextPageId Next page ID.
+    @param pageSize Page size.
+    @param currentPageNumberFieldId Current page number field ID.
+    @param selectedPageNumberFieldId Selected page number field ID.
+    @param previousPageActionId Previous page action ID.
+    @param nextPageActionId Next page action ID.
+    @param selectPageActionId Select page action ID.
+    @param retrieveDataActionIds Collection of data retrieval action IDs.
+    @param refreshDataActionIds Collection of data refresh action IDs.
+    @param cachePagingIds Cache paging IDs indicator.
+    @param isDatabasePaging Database paging indicator.
+  */
+  public ViewDataObjects(Class<? extends IDataManager<I, T>> dataManagerClass, FilterCriteriaDefinition filterCriteriaDefinition, 
+      String attributeId, String nextPageId, int pageSize, String currentPageNumberFieldId, String selectedPageNumberFieldId, 
+      String previousPageActionId, String nextPageActionId, String selectPageActionId,
+      Set<String> retrieveDataActionIds, Set<String> refreshDataActionIds, boolean cachePagingIds, boolean isDatabasePaging) {
+
     super();
 
     // Validate parameters
@@ -214,7 +248,8 @@ public class ViewDataObjects<I, T extends DataObject<I>> extends Processor {
     this.filterCriteriaDefinition = filterCriteriaDefinition;
     this.attributeId = attributeId;
     this.nextPageId = nextPageId;
-    this.cachePagingIds = cachePagingIds;
+    this.cachePagingIds = cachePagingIds && !isDatabasePaging;
+    this.isDatabasePaging = isDatabasePaging;
 
     // Set paging indicator and page size
     this.isPagingSupported = true;
@@ -254,6 +289,11 @@ public class ViewDataObjects<I, T extends DataObject<I>> extends Processor {
       // Retrieve data objects
       dataObjects = retrieveData(processContext);
     }
+    else if (isDatabasePaging) {
+      
+      // Retrieve page of data objects
+      dataObjects = retrievePage(processContext);
+    }
     else {
 
       // Get session
@@ -468,6 +508,103 @@ public class ViewDataObjects<I, T extends DataObject<I>> extends Processor {
     return dataObjects;
   }
 
+  /**
+    Retrieves a single page of data objects and stores paging data in the request attributes.
+    @param processContext Process context.
+    @return List List of data objects.
+  */
+  @SuppressWarnings("unchecked")
+	private List<T> retrievePage(ProcessContext processContext) throws ProcessException {
+
+    // Initialize return value
+    List<T> dataObjects = null;
+
+    // Initialize data manager
+    IDataManager<I, T> dataManager = null;
+
+    // Check for a registered factory
+    IFactory dataManagerFactory = ConfigurationManager.getFactory(dataManagerClass);
+
+    // Create data manager
+    dataManager = (IDataManager<I, T>)dataManagerFactory.create();
+
+    try {
+      // Retrieve page
+      dataObjects = retrievePage(dataManager, processContext);
+    }
+    finally {
+
+      // Recycle data manager
+      dataManagerFactory.recycle(dataManager);
+    }
+
+    return dataObjects;
+  }
+  
+  /**
+    Retrieves a single page of data objects using a data manager and process context. The total
+    number of items is counted by the database and only the data objects on the targeted page are
+    retrieved. Paging data is stored in the request attributes.
+    @param dataManager Data manager.
+    @param processContext Process context.
+    @return List List of data objects.
+  */
+  protected List<T> retrievePage(IDataManager<I, T> dataManager, ProcessContext processContext) throws ProcessException {
+
+    // Set method name
+    String methodName = "retrievePage";
+
+    // Initialize return value
+    List<T> dataObjects = null;
+
+    // Get request and action
+    HttpServletRequest request = processContext.getRequest();
+    Action action = processContext.getAction();
+
+    // Get filter criteria
+    FilterCriteria filterCriteria = getFilterCriteria(processContext);
+    
+		// Get current domain
+		IDomain domain = getCurrentDomain(processContext);
+
+    // Initialize total items
+    int totalItems = 0;
+
+    try {
+
+      // Count data objects unless filter data is required and no value criteria exists
+      if (filterCriteriaDefinition == null || filterCriteria.hasValueCriteria() || 
+          !filterCriteriaDefinition.getIsFilterDataRequired()) {
+        
+        totalItems = dataManager.count(filterCriteria, domain);
+      }
+      
+      // Calculate total pages and page number
+      int totalPages = calculateTotalPages(totalItems);
+      int pageNumber = calculatePageNumber(totalPages, action, request);
+
+      // Retrieve data objects for targeted page
+      if (totalItems > 0) {
+        dataObjects = dataManager.find(filterCriteria, (pageNumber - 1) * pageSize, pageSize, domain);
+      }
+
+      // Store paging data in request attributes
+      request.setAttribute(AttributeNames.TOTAL_ITEMS, Integer.valueOf(totalItems));
+      request.setAttribute(AttributeNames.TOTAL_PAGES, Integer.valueOf(totalPages));
+      request.setAttribute(AttributeNames.CURRENT_PAGE_NUMBER, Integer.valueOf(pageNumber));
+    }
+    catch (DataSourceException dataSourceException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.process.model");
+      logger.logp(Level.SEVERE, getClass().getName(), methodName, "Retrieving Page Data", dataSourceException);
+
+      throw new ProcessException(methodName + ":" + dataSourceException.getMessage());
+    }
+
+    return dataObjects;
+  }
+
   /**
     Retrieves a segmented list of data object IDs.
     @param processContext Process context.
@@ -771,6 +908,14 @@ public class ViewDataObjects<I, T extends DataObject<I>> extends Processor {
 		return cachePagingIds;
 	}
 
+  /**
+	  Returns the database paging indicator.
+	  @return boolean Database paging indicator.
+	*/
+	public boolean getIsDatabasePaging() {
+		return isDatabasePaging;
+	}
+
   /**
 	  Returns the page size.
 	  @return int Page size.
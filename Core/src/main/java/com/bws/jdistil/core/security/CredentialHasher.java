@@ -0,0 +1,420 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.security;
+
+import com.bws.jdistil.core.configuration.Constants;
+import com.bws.jdistil.core.resource.ResourceUtil;
+import com.bws.jdistil.core.util.StringUtil;
+
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.crypto.SecretKey;
+import javax.xml.bind.DatatypeConverter;
+
+/**
+  Static class hashing credentials on a dedicated bounded executor so bursts of credential hashing
+  cannot occupy every request thread. Requests are rejected immediately with a security exception
+  when all hashing threads are busy and the queue is full, and fail with a security exception if
+  they do not complete within a configurable timeout. Queue wait and hashing times are recorded.
+  @author Bryan Snipes
+*/
+public class CredentialHasher {
+
+  /**
+    Class name used for logging.
+  */
+  private static final String className = "com.bws.jdistil.core.security.CredentialHasher";
+
+  /**
+    Default queue size.
+  */
+  private static final long DEFAULT_QUEUE_SIZE = 50;
+
+  /**
+    Default timeout in milliseconds.
+  */
+  private static final long DEFAULT_TIMEOUT = 10000;
+
+  /**
+    Number of hashing threads.
+  */
+  private static final int threadCount = (int)loadSetting(Constants.CREDENTIAL_HASH_THREADS, Runtime.getRuntime().availableProcessors());
+
+  /**
+    Maximum number of queued hashing requests.
+  */
+  private static final int queueSize = (int)loadSetting(Constants.CREDENTIAL_HASH_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+
+  /**
+    Hashing timeout in milliseconds.
+  */
+  private static final long timeout = loadSetting(Constants.CREDENTIAL_HASH_TIMEOUT, DEFAULT_TIMEOUT);
+
+  /**
+    Key algorithm used to hash new credentials.
+  */
+  private static final String algorithm = loadAlgorithm();
+
+  /**
+    Key iterations used to hash new credentials.
+  */
+  private static final int iterations = (int)loadSetting(Constants.CREDENTIAL_HASH_ITERATIONS, Cryptographer.DEFAULT_KEY_ITERATIONS);
+
+  /**
+    Executor used to hash credentials.
+  */
+  private static ThreadPoolExecutor hashExecutor = null;
+
+  /**
+    Number of completed hashing requests.
+  */
+  private static final AtomicLong completedCount = new AtomicLong();
+
+  /**
+    Number of hashing requests rejected because the executor was saturated.
+  */
+  private static final AtomicLong rejectedCount = new AtomicLong();
+
+  /**
+    Number of hashing requests that timed out.
+  */
+  private static final AtomicLong timedOutCount = new AtomicLong();
+
+  /**
+    Total time completed hashing requests waited in the queue in nanoseconds.
+  */
+  private static final AtomicLong totalWaitTime = new AtomicLong();
+
+  /**
+    Total time spent hashing by completed requests in nanoseconds.
+  */
+  private static final AtomicLong totalHashTime = new AtomicLong();
+
+  /**
+    Maximum time spent hashing by a completed request in nanoseconds.
+  */
+  private static final AtomicLong maxHashTime = new AtomicLong();
+
+  /**
+    Creates a new CredentialHasher object.
+  */
+  private CredentialHasher() {
+    super();
+  }
+
+  /**
+    Returns the configured value of a positive setting or a default value if none is configured.
+    @param key Property key.
+    @param defaultValue Default value.
+    @return long Setting value.
+  */
+  private static long loadSetting(String key, long defaultValue) {
+
+    // Initialize return value
+    long setting = defaultValue;
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(key);
+
+    if (!StringUtil.isEmpty(value)) {
+
+      try {
+        // Parse configured value
+        long configuredValue = Long.parseLong(value.trim());
+
+        // Only use positive values
+        if (configuredValue > 0L) {
+          setting = configuredValue;
+        }
+      }
+      catch (NumberFormatException numberFormatException) {
+
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.security");
+        logger.logp(Level.WARNING, className, "loadSetting", "Invalid credential hashing setting: " + key, numberFormatException);
+      }
+    }
+
+    return setting;
+  }
+
+  /**
+    Returns the configured key algorithm or the default key algorithm if none is configured.
+    @return String Key algorithm.
+  */
+  private static String loadAlgorithm() {
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(Constants.CREDENTIAL_HASH_ALGORITHM);
+
+    return StringUtil.isEmpty(value) ? Cryptographer.DEFAULT_KEY_ALGORITHM : value.trim();
+  }
+
+  /**
+    Returns the key algorithm used to hash new credentials.
+    @return String Key algorithm.
+  */
+  public static String getAlgorithm() {
+    return algorithm;
+  }
+
+  /**
+    Returns the number of key iterations used to hash new credentials.
+    @return int Key iterations.
+  */
+  public static int getIterations() {
+    return iterations;
+  }
+
+  /**
+    Returns the hashing executor, creating it if it has not already been created.
+    @return ThreadPoolExecutor Hashing executor.
+  */
+  private static synchronized ThreadPoolExecutor getExecutor() {
+
+    if (hashExecutor == null) {
+
+      // Create thread counter used to name threads
+      final AtomicInteger threadNumber = new AtomicInteger();
+
+      // Create executor using daemon threads and a bounded queue which rejects requests when full
+      hashExecutor = new ThreadPoolExecutor(threadCount, threadCount, 60L, TimeUnit.SECONDS,
+          new ArrayBlockingQueue<Runnable>(queueSize), new ThreadFactory() {
+
+        public Thread newThread(Runnable runnable) {
+
+          Thread thread = new Thread(runnable, "jdistil-credential-hash-" + threadNumber.incrementAndGet());
+          thread.setDaemon(true);
+
+          return thread;
+        }
+      }, new ThreadPoolExecutor.AbortPolicy());
+
+      // Allow idle threads to exit
+      hashExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    return hashExecutor;
+  }
+
+  /**
+    Hashes a credential value using a salt, key algorithm and number of key iterations.
+    @param value Credential value.
+    @param salt Salt.
+    @param keyAlgorithm Key algorithm.
+    @param keyIterations Key iterations.
+    @return String Base64 encoded hash.
+  */
+  public static String hash(final String value, final byte[] salt, final String keyAlgorithm, final int keyIterations)
+      throws SecurityException {
+
+    // Set method name
+    String methodName = "hash";
+
+    // Get submit time used to calculate queue wait time
+    final long submitTime = System.nanoTime();
+
+    // Create hashing task
+    Callable<String> task = new Callable<String>() {
+
+      public String call() throws Exception {
+
+        // Get start time
+        long startTime = System.nanoTime();
+
+        // Create secret key
+        SecretKey secretKey = Cryptographer.createSecretKey(value, salt, keyIterations, keyAlgorithm);
+
+        // Record wait and hashing times
+        recordTimes(startTime - submitTime, System.nanoTime() - startTime);
+
+        return DatatypeConverter.printBase64Binary(secretKey.getEncoded());
+      }
+    };
+
+    // Initialize future result
+    Future<String> future = null;
+
+    try {
+      // Submit hashing task
+      future = getExecutor().submit(task);
+    }
+    catch (RejectedExecutionException rejectedExecutionException) {
+
+      // Increment rejected count
+      rejectedCount.incrementAndGet();
+
+      throw new SecurityException(methodName + ": Credential hashing capacity exceeded.");
+    }
+
+    try {
+      // Wait for hashing to complete
+      return future.get(timeout, TimeUnit.MILLISECONDS);
+    }
+    catch (TimeoutException timeoutException) {
+
+      // Increment timed out count and cancel hashing
+      timedOutCount.incrementAndGet();
+      future.cancel(true);
+
+      throw new SecurityException(methodName + ": Credential hashing timed out.");
+    }
+    catch (InterruptedException interruptedException) {
+
+      // Restore interrupted status and cancel hashing
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+
+      throw new SecurityException(methodName + ": Credential hashing interrupted.");
+    }
+    catch (ExecutionException executionException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.core.security");
+      logger.logp(Level.SEVERE, className, methodName, "Hashing Credential", executionException.getCause());
+
+      throw new SecurityException(methodName + ": " + executionException.getCause().getMessage());
+    }
+  }
+
+  /**
+    Returns a value indicating whether or not a credential value matches an existing hash.
+    @param value Credential value.
+    @param salt Base64 encoded salt.
+    @param expectedHash Base64 encoded expected hash.
+    @param keyAlgorithm Key algorithm.
+    @param keyIterations Key iterations.
+    @return boolean Match indicator.
+  */
+  public static boolean verify(String value, String salt, String expectedHash, String keyAlgorithm, int keyIterations)
+      throws SecurityException {
+
+    // Initialize return value
+    boolean isMatch = false;
+
+    if (value != null && salt != null && expectedHash != null) {
+
+      // Hash credential value
+      String hash = hash(value, DatatypeConverter.parseBase64Binary(salt), keyAlgorithm, keyIterations);
+
+      // Compare hashes using a constant time comparison
+      isMatch = MessageDigest.isEqual(DatatypeConverter.parseBase64Binary(hash), DatatypeConverter.parseBase64Binary(expectedHash));
+    }
+
+    return isMatch;
+  }
+
+  /**
+    Records the queue wait time and hashing time of a completed request.
+    @param waitTime Queue wait time in nanoseconds.
+    @param hashTime Hashing time in nanoseconds.
+  */
+  private static void recordTimes(long waitTime, long hashTime) {
+
+    // Update totals
+    completedCount.incrementAndGet();
+    totalWaitTime.addAndGet(waitTime);
+    totalHashTime.addAndGet(hashTime);
+
+    // Update maximum hashing time
+    long currentMax = maxHashTime.get();
+
+    while (hashTime > currentMax && !maxHashTime.compareAndSet(currentMax, hashTime)) {
+      currentMax = maxHashTime.get();
+    }
+  }
+
+  /**
+    Returns the number of completed hashing requests.
+    @return long Completed count.
+  */
+  public static long getCompletedCount() {
+    return completedCount.get();
+  }
+
+  /**
+    Returns the number of hashing requests rejected because the executor was saturated.
+    @return long Rejected count.
+  */
+  public static long getRejectedCount() {
+    return rejectedCount.get();
+  }
+
+  /**
+    Returns the number of hashing requests that timed out.
+    @return long Timed out count.
+  */
+  public static long getTimedOutCount() {
+    return timedOutCount.get();
+  }
+
+  /**
+    Returns the number of hashing requests currently waiting for a thread.
+    @return int Queued count.
+  */
+  public static int getQueuedCount() {
+    return getExecutor().getQueue().size();
+  }
+
+  /**
+    Returns the average time completed requests waited for a thread.
+    @return long Average wait time in milliseconds.
+  */
+  public static long getAverageWaitTime() {
+
+    // Get completed count
+    long count = completedCount.get();
+
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitTime.get() / count);
+  }
+
+  /**
+    Returns the average time spent hashing by completed requests.
+    @return long Average hashing time in milliseconds.
+  */
+  public static long getAverageHashTime() {
+
+    // Get completed count
+    long count = completedCount.get();
+
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalHashTime.get() / count);
+  }
+
+  /**
+    Returns the maximum time spent hashing by a completed request.
+    @return long Maximum hashing time in milliseconds.
+  */
+  public static long getMaxHashTime() {
+    return TimeUnit.NANOSECONDS.toMillis(maxHashTime.get());
+  }
+
+}
@@ -24,6 +24,8 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -40,11 +42,31 @@ public class Cryptographer {
 
 	private static final String SECURE_RANDOM_ALGORITHM = "SHA1PRNG";
 	private static final String KEY_ALGORITHM = "PBKDF2WithHmacSHA1";
+	
+	/**
+	 * Default key algorithm used for secret keys created without a specified algorithm.
+	 */
+	public static final String DEFAULT_KEY_ALGORITHM = KEY_ALGORITHM;
+	
+	/**
+	 * Default number of key iterations used for hashing credentials.
+	 */
+	public static final int DEFAULT_KEY_ITERATIONS = 10000;
 	private static final String DIGEST_ALGORITHM = "SHA-256";
 	private static final String CIPHER_ALGORITHM = "AES/ECB/PKCS5Padding";
 	private static final String CHAR_SET_NAME = "UTF-8";
 	
 	private static final int KEY_SIZE = 128;
+	
+	/**
+	 * Secret key factories keyed by algorithm cached per thread since secret key factories are not thread safe.
+	 */
+	private static final ThreadLocal<Map<String, SecretKeyFactory>> secretKeyFactories = new ThreadLocal<Map<String, SecretKeyFactory>>() {
+		
+		protected Map<String, SecretKeyFactory> initialValue() {
+			return new HashMap<String, SecretKeyFactory>();
+		}
+	};
 
 	private Cryptographer() {
 		super();
@@ -63,15 +85,44 @@ public class Cryptographer {
 	}
 	
 	public static SecretKey createSecretKey(String value, byte[] salt, int iterations) throws NoSuchAlgorithmException, InvalidKeySpecException {
+		return createSecretKey(value, salt, iterations, KEY_ALGORITHM);
+	}
+	
+	public static SecretKey createSecretKey(String value, byte[] salt, int iterations, String algorithm) throws NoSuchAlgorithmException, InvalidKeySpecException {
 
     // Create PBE key spec
     PBEKeySpec keySpec = new PBEKeySpec(value.toCharArray(), salt, iterations, KEY_SIZE);
     
-    // Generate secret key
-    SecretKeyFactory secretKeyFactory = SecretKeyFactory.getInstance(KEY_ALGORITHM);
-    SecretKey secretKey = secretKeyFactory.generateSecret(keySpec);
-    
-    return secretKey;
+    try {
+      // Generate secret key
+      SecretKeyFactory secretKeyFactory = getSecretKeyFactory(algorithm);
+      SecretKey secretKey = secretKeyFactory.generateSecret(keySpec);
+      
+      return secretKey;
+    }
+    finally {
+    	
+    	// Clear password copy held by key spec
+    	keySpec.clearPassword();
+    }
+	}
+	
+	private static SecretKeyFactory getSecretKeyFactory(String algorithm) throws NoSuchAlgorithmException {
+		
+		// Get current thread's secret key factories
+		Map<String, SecretKeyFactory> factories = secretKeyFactories.get();
+		
+		// Lookup cached secret key factory
+		SecretKeyFactory secretKeyFactory = factories.get(algorithm);
+		
+		if (secretKeyFactory == null) {
+			
+			// Create and cache secret key factory
+			secretKeyFactory = SecretKeyFactory.getInstance(algorithm);
+			factories.put(algorithm, secretKeyFactory);
+		}
+		
+		return secretKeyFactory;
 	}
 	
 	public static byte[] digest(String value, byte[] salt) throws NoSuchAlgorithmException, UnsupportedEncodingException {
@@ -75,18 +75,21 @@ public class Loader {
       
       if (fieldBindings != null) {
 
+        // Get parameter index
+        ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
+
         for (FieldBinding fieldBinding : fieldBindings) {
           
           // Get field ID
           String fieldId = fieldBinding.getFieldId();
           
-          // Get instances
-          List<Integer> instances = ParameterExtractor.getInstances(request, fieldId);
+          // Get instance count
+          int count = parameterIndex.getInstanceCount(fieldId);
           
-          if (instances != null && !instances.isEmpty()) {
+          if (count > 0) {
 
             // Set count and stop processing when first field is found
-          	instanceCount = instances.size();
+          	instanceCount = count;
             break;
           }
         }
@@ -137,6 +140,9 @@ public class Loader {
       	// Get the current session
       	HttpSession session = request.getSession(true);
       	
+      	// Get parameter index
+      	ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
+      	
       	try {
       		
           for (String fieldId : fieldIds) {
@@ -144,7 +150,7 @@ public class Loader {
           	if (!securityManager.isFieldHidden(fieldId, session) && !securityManager.isFieldReadOnly(fieldId, session)) {
           		
               // Get field
-              Field field = ConfigurationManager.getField(fieldId);
+              Field field = parameterIndex.getField(fieldId);
 
               // Get field binding
               FieldBinding fieldBinding = objectBinding.getFieldBinding(fieldId);
@@ -161,8 +167,8 @@ public class Loader {
                   value = getValue(request, object, field, fieldBinding, instance);
                 }
 
-                // Set field value
-                Introspector.setFieldValue(object, fieldId, value);
+                // Set property value using field binding
+                Introspector.setPropertyValue(object, fieldBinding.getPropertyName(), value);
               }
           	}
           }
@@ -18,7 +18,6 @@
  */
 package com.bws.jdistil.core.servlet;
 
-import com.bws.jdistil.core.configuration.ConfigurationManager;
 import com.bws.jdistil.core.configuration.Field;
 import com.bws.jdistil.core.conversion.DateTimeConverter;
 import com.bws.jdistil.core.conversion.IConverter;
@@ -28,7 +27,6 @@ import com.bws.jdistil.core.util.StringUtil;
 import javax.servlet.ServletRequest;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.Enumeration;
 import java.util.List;
 
 /**
@@ -38,6 +36,8 @@ import java.util.List;
   one based and the maximum instance count can be obtained for a given field ID.
   All numeric and date/time methods use core converters that use the default locale.
   Formatting outside the default locale should be handled outside of this class.
+  Parameter values, fields and converted values are read from a request scoped
+  parameter index so each request is only scanned once.
   @author - Bryan Snipes
 */
 public class ParameterExtractor {
@@ -73,34 +73,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Get parameter names
-      Enumeration<?> parameterNames = request.getParameterNames();
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
-      // Check all parameter names
-      while (parameterNames.hasMoreElements()) {
-
-        // Get next parameter name
-        String parameterName = (String)parameterNames.nextElement();
-
-        // Check for field ID prefix
-        if (parameterName.startsWith(fieldId) && parameterName.length() > fieldId.length()) {
-
-        	// Get index of instance separator
-        	int index = parameterName.lastIndexOf("_");
-        	
-        	if (index > 0 && index < parameterName.length() - 1) {
-        		
-            // Get instance suffix
-            String value = parameterName.substring(index + 1);
-
-            // Convert to integer
-            Integer instance = Integer.valueOf(value);
-
-            // Add instance number to return value
-            instances.add(instance);
-        	}
-        }
-      }
+      // Add instance numbers to return value
+      instances.addAll(parameterIndex.getInstances(fieldId));
     }
 
     return instances;
@@ -144,7 +121,7 @@ public class ParameterExtractor {
     if (request != null && !StringUtil.isEmpty(fieldId)) {
 
       // Get field
-      Field field = ConfigurationManager.getField(fieldId);
+      Field field = ParameterIndex.getInstance(request).getField(fieldId);
 
       if (field != null) {
 
@@ -231,18 +208,13 @@ public class ParameterExtractor {
     if (request != null && !StringUtil.isEmpty(fieldId)) {
 
       // Get field
-      Field field = ConfigurationManager.getField(fieldId);
+      Field field = ParameterIndex.getInstance(request).getField(fieldId);
 
       if (field != null) {
 
         // Get field type
         Integer type = field.getType();
 
-        // Append instance if specified
-        if (instance > 0) {
-          fieldId = fieldId + "_" + String.valueOf(instance);
-        }
-
         // Set value based on type
         if (type.equals(Field.STRING)) {
 
@@ -408,20 +380,18 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field value
-      String fieldValue = request.getParameter(fieldId);
+      String fieldValue = parameterIndex.getValue(fieldId, instance);
 
       // Assign value if valid
       if (!StringUtil.isEmpty(fieldValue)) {
 
         // Attempt to get field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use converter if one is available
@@ -429,7 +399,7 @@ public class ParameterExtractor {
           value = fieldValue;
         }
         else {
-          value = (String)converter.parse(fieldValue, request.getLocale());
+          value = (String)parameterIndex.getConvertedValue(fieldId, instance, 0, converter);
         }
       }
     }
@@ -474,13 +444,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -489,18 +457,21 @@ public class ParameterExtractor {
 
         // Attempt to get field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
+
+          // Get field value
+          String fieldValue = fieldValues[index];
 
           // Initialize value
           String value = fieldValue;
 
           // Use converter if one is available
           if (converter != null) {
-            value = (String)converter.parse(fieldValue, request.getLocale());
+            value = (String)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
           }
 
           // Add to values list
@@ -551,20 +522,18 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field value
-      String fieldValue = request.getParameter(fieldId);
+      String fieldValue = parameterIndex.getValue(fieldId, instance);
 
       // Assign value if valid
       if (!StringUtil.isEmpty(fieldValue)) {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -573,7 +542,7 @@ public class ParameterExtractor {
         }
 
         // Parse to object
-        value = (Date)converter.parse(fieldValue, request.getLocale());
+        value = (Date)parameterIndex.getConvertedValue(fieldId, instance, 0, converter);
       }
     }
 
@@ -617,13 +586,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -632,7 +599,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -641,10 +608,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to date
-          Date value = (Date)converter.parse(fieldValue, request.getLocale());
+          Date value = (Date)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -694,20 +661,18 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field value
-      String fieldValue = request.getParameter(fieldId);
+      String fieldValue = parameterIndex.getValue(fieldId, instance);
 
       // Assign value if valid
       if (!StringUtil.isEmpty(fieldValue)) {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -716,7 +681,7 @@ public class ParameterExtractor {
         }
 
         // Parse to object
-        value = (Date)converter.parse(fieldValue, request.getLocale());
+        value = (Date)parameterIndex.getConvertedValue(fieldId, instance, 0, converter);
       }
     }
 
@@ -760,13 +725,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -775,7 +738,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -784,10 +747,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to date
-          Date value = (Date)converter.parse(fieldValue, request.getLocale());
+          Date value = (Date)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -837,20 +800,18 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field value
-      String fieldValue = request.getParameter(fieldId);
+      String fieldValue = parameterIndex.getValue(fieldId, instance);
 
       // Assign value if valid
       if (!StringUtil.isEmpty(fieldValue)) {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -859,7 +820,7 @@ public class ParameterExtractor {
         }
 
         // Parse to object
-        value = (Date)converter.parse(fieldValue, request.getLocale());
+        value = (Date)parameterIndex.getConvertedValue(fieldId, instance, 0, converter);
       }
     }
 
@@ -903,13 +864,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -918,7 +877,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -927,10 +886,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to date
-          Date value = (Date)converter.parse(fieldValue, request.getLocale());
+          Date value = (Date)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -980,20 +939,18 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field value
-      String fieldValue = request.getParameter(fieldId);
+      String fieldValue = parameterIndex.getValue(fieldId, instance);
 
       // Assign value if valid
       if (!StringUtil.isEmpty(fieldValue)) {
 
         // Attempt to get field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use converter if one is available
@@ -1001,7 +958,7 @@ public class ParameterExtractor {
           value = Boolean.valueOf(fieldValue);
         }
         else {
-          value = (Boolean)converter.parse(fieldValue, request.getLocale());
+          value = (Boolean)parameterIndex.getConvertedValue(fieldId, instance, 0, converter);
         }
       }
     }
@@ -1046,13 +1003,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1061,11 +1016,14 @@ public class ParameterExtractor {
 
         // Attempt to get field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
+
+          // Get field value
+          String fieldValue = fieldValues[index];
 
           // Initialize value
           Boolean value = null;
@@ -1075,7 +1033,7 @@ public class ParameterExtractor {
             value = Boolean.valueOf(fieldValue);
           }
           else {
-            value = (Boolean)converter.parse(fieldValue, request.getLocale());
+            value = (Boolean)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
           }
 
           // Add to values list
@@ -1126,20 +1084,18 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field value
-      String fieldValue = request.getParameter(fieldId);
+      String fieldValue = parameterIndex.getValue(fieldId, instance);
 
       // Format value as number
       if (!StringUtil.isEmpty(fieldValue)) {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1148,7 +1104,7 @@ public class ParameterExtractor {
         }
 
         // Parse to object
-        value = (Number)converter.parse(fieldValue, request.getLocale());
+        value = (Number)parameterIndex.getConvertedValue(fieldId, instance, 0, converter);
       }
     }
 
@@ -1192,13 +1148,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1207,7 +1161,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1216,10 +1170,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to object
-          Number value = (Number)converter.parse(fieldValue, request.getLocale());
+          Number value = (Number)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -1315,13 +1269,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1330,7 +1282,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1339,10 +1291,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to object
-          Number value = (Number)converter.parse(fieldValue, request.getLocale());
+          Number value = (Number)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -1438,13 +1390,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1453,7 +1403,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1462,10 +1412,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to object
-          Number value = (Number)converter.parse(fieldValue, request.getLocale());
+          Number value = (Number)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -1561,13 +1511,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1576,7 +1524,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1585,10 +1533,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to object
-          Number value = (Number)converter.parse(fieldValue, request.getLocale());
+          Number value = (Number)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -1684,13 +1632,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1699,7 +1645,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1708,10 +1654,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to object
-          Number value = (Number)converter.parse(fieldValue, request.getLocale());
+          Number value = (Number)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -1807,13 +1753,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1822,7 +1766,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1831,10 +1775,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to object
-          Number value = (Number)converter.parse(fieldValue, request.getLocale());
+          Number value = (Number)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -1930,13 +1874,11 @@ public class ParameterExtractor {
 
     if (fieldId != null) {
 
-      // Append instance if specified
-      if (instance > 0) {
-        fieldId = fieldId + "_" + String.valueOf(instance);
-      }
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
       // Retrieve field values
-      String[] fieldValues = request.getParameterValues(fieldId);
+      String[] fieldValues = parameterIndex.getValues(fieldId, instance);
 
       if (fieldValues != null) {
 
@@ -1945,7 +1887,7 @@ public class ParameterExtractor {
 
         // Use field converter if one is not specified
         if (converter == null) {
-          converter = getFieldConverter(fieldId);
+          converter = parameterIndex.getConverter(fieldId);
         }
 
         // Use default converter if one is not specified
@@ -1954,10 +1896,10 @@ public class ParameterExtractor {
         }
 
         // Process all field values
-        for (String fieldValue : fieldValues) {
+        for (int index = 0; index < fieldValues.length; index++) {
 
           // Parse to object
-          Number value = (Number)converter.parse(fieldValue, request.getLocale());
+          Number value = (Number)parameterIndex.getConvertedValue(fieldId, instance, index, converter);
 
           // Add to values list
           if (value != null) {
@@ -1970,28 +1912,4 @@ public class ParameterExtractor {
     return values;
   }
 
-  /**
-    Returns a converter for a specified field ID and locale.
-    @param fieldId - Field ID.
-    @return IConverter - Field specific converter.
-  */
-  private static IConverter getFieldConverter(String fieldId) {
-
-    // Initialize converter
-    IConverter converter = null;
-    
-    if (!StringUtil.isEmpty(fieldId)) {
-    
-      // Retrieve field
-      Field field = ConfigurationManager.getField(fieldId);
-      
-      // Get converter
-      if (field != null) {
-        converter = field.getConverter();
-      }
-    }
-    
-    return converter;
-  }
-
 }
@@ -0,0 +1,496 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.servlet;
+
+import com.bws.jdistil.core.configuration.AttributeNames;
+import com.bws.jdistil.core.configuration.ConfigurationManager;
+import com.bws.jdistil.core.configuration.Field;
+import com.bws.jdistil.core.conversion.IConverter;
+import com.bws.jdistil.core.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+  Request scoped index of submitted parameters built in a single pass over the parameter names.
+  Parameter values are indexed by field ID and instance number, where instance numbers are parsed
+  from the numeric suffix following the last underscore of a parameter name. Fields and converted
+  values are cached so repeated lookups within the same request do not repeat configuration lookups,
+  parameter name construction or type conversion. An index is rebuilt when the request is dispatched
+  with a different query string, since forwarded and included requests merge query string parameters
+  with the submitted parameters. Mutable converted values such as dates are copied before being returned.
+  @author - Bryan Snipes
+*/
+public class ParameterIndex {
+
+  /**
+    Empty list of instance numbers.
+  */
+  private static final List<Integer> NO_INSTANCES = Collections.<Integer>emptyList();
+
+  /**
+    Dispatch key identifying the query strings in effect when the index was built.
+  */
+  private String dispatchKey = null;
+
+  /**
+    Request locale.
+  */
+  private Locale locale = null;
+
+  /**
+    Parameter values keyed by field ID and instance number.
+  */
+  private Map<String, Map<Integer, String[]>> fieldValues = new HashMap<String, Map<Integer, String[]>>();
+
+  /**
+    Ascending instance numbers keyed by field ID.
+  */
+  private Map<String, List<Integer>> fieldInstances = new HashMap<String, List<Integer>>();
+
+  /**
+    Non-empty parameter values keyed by parameter name.
+  */
+  private Map<String, String[]> nonEmptyValues = new HashMap<String, String[]>();
+
+  /**
+    Fields keyed by field ID.
+  */
+  private Map<String, Field> fields = new HashMap<String, Field>();
+
+  /**
+    Converted values keyed by field ID, instance number and converter.
+  */
+  private Map<ConversionKey, Object[]> convertedValues = new HashMap<ConversionKey, Object[]>();
+
+  /**
+    Creates a new ParameterIndex object using a servlet request.
+    @param request - Servlet request object.
+  */
+  private ParameterIndex(ServletRequest request, String dispatchKey) {
+    super();
+
+    // Set dispatch key and locale
+    this.dispatchKey = dispatchKey;
+    locale = request.getLocale();
+
+    // Get parameter map
+    Map<String, String[]> parameterMap = request.getParameterMap();
+
+    for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
+
+      // Get parameter name and values
+      String parameterName = entry.getKey();
+      String[] parameterValues = entry.getValue();
+
+      // Index parameter values using complete parameter name
+      addValues(parameterName, 0, parameterValues);
+
+      // Index parameter values using instance suffix
+      int index = parameterName.lastIndexOf('_');
+
+      if (index > 0) {
+
+        // Parse instance number
+        int instance = parseInstance(parameterName, index + 1);
+
+        if (instance > 0) {
+
+          // Get field ID
+          String fieldId = parameterName.substring(0, index);
+
+          // Add instance values
+          addValues(fieldId, instance, parameterValues);
+
+          // Add instance number
+          List<Integer> instances = fieldInstances.get(fieldId);
+
+          if (instances == null) {
+            instances = new ArrayList<Integer>();
+            fieldInstances.put(fieldId, instances);
+          }
+
+          instances.add(Integer.valueOf(instance));
+        }
+      }
+
+      // Add non-empty parameter values
+      if (parameterValues != null && parameterValues.length > 0 &&
+          (parameterValues.length > 1 || !StringUtil.isEmpty(parameterValues[0]))) {
+
+        nonEmptyValues.put(parameterName, parameterValues);
+      }
+    }
+
+    // Sort instance numbers
+    for (List<Integer> instances : fieldInstances.values()) {
+      Collections.sort(instances);
+    }
+  }
+
+  /**
+    Returns the parameter index for a given request. The index is created and stored as a request
+    attribute the first time it is requested and is reused for the remainder of the request unless
+    the request is dispatched with a different query string.
+    @param request - Servlet request object.
+    @return ParameterIndex - Parameter index.
+  */
+  public static ParameterIndex getInstance(ServletRequest request) {
+
+    // Lookup existing parameter index
+    ParameterIndex parameterIndex = (ParameterIndex)request.getAttribute(AttributeNames.PARAMETER_INDEX);
+
+    // Get current dispatch key
+    String dispatchKey = getDispatchKey(request);
+
+    // Create parameter index if not found or the request was dispatched with a different query string
+    if (parameterIndex == null || !dispatchKey.equals(parameterIndex.dispatchKey)) {
+
+      parameterIndex = new ParameterIndex(request, dispatchKey);
+
+      request.setAttribute(AttributeNames.PARAMETER_INDEX, parameterIndex);
+    }
+
+    return parameterIndex;
+  }
+
+  /**
+    Returns a key identifying the query strings merged into the parameters of a request. The key combines
+    the request query string, which reflects forwarded query strings, with the query string of an include.
+    @param request - Servlet request object.
+    @return String - Dispatch key.
+  */
+  private static String getDispatchKey(ServletRequest request) {
+
+    // Initialize query strings
+    String queryString = null;
+    Object includeQueryString = request.getAttribute(RequestDispatcher.INCLUDE_QUERY_STRING);
+
+    // Get request query string
+    if (request instanceof HttpServletRequest) {
+      queryString = ((HttpServletRequest)request).getQueryString();
+    }
+
+    return String.valueOf(queryString) + "|" + String.valueOf(includeQueryString);
+  }
+
+  /**
+    Returns the request locale used to convert parameter values.
+    @return Locale - Request locale.
+  */
+  public Locale getLocale() {
+    return locale;
+  }
+
+  /**
+    Returns a list of instance numbers in ascending order for a given field ID.
+    @param fieldId - Field ID.
+    @return List - List of instance numbers.
+  */
+  public List<Integer> getInstances(String fieldId) {
+
+    // Lookup instance numbers
+    List<Integer> instances = fieldId == null ? null : fieldInstances.get(fieldId);
+
+    return instances == null ? NO_INSTANCES : Collections.unmodifiableList(instances);
+  }
+
+  /**
+    Returns the number of instances submitted for a given field ID.
+    @param fieldId - Field ID.
+    @return int - Instance count.
+  */
+  public int getInstanceCount(String fieldId) {
+
+    // Lookup instance numbers
+    List<Integer> instances = fieldId == null ? null : fieldInstances.get(fieldId);
+
+    return instances == null ? 0 : instances.size();
+  }
+
+  /**
+    Returns the parameter values for a given field ID and instance number.
+    @param fieldId - Field ID.
+    @param instance - Instance number or zero for no instance.
+    @return String[] - Parameter values or null if the parameter was not submitted.
+  */
+  public String[] getValues(String fieldId, int instance) {
+
+    // Initialize return value
+    String[] values = null;
+
+    if (fieldId != null) {
+
+      // Lookup instance values
+      Map<Integer, String[]> instanceValues = fieldValues.get(fieldId);
+
+      if (instanceValues != null) {
+        values = instanceValues.get(Integer.valueOf(instance));
+      }
+    }
+
+    return values;
+  }
+
+  /**
+    Returns the first parameter value for a given field ID and instance number.
+    @param fieldId - Field ID.
+    @param instance - Instance number or zero for no instance.
+    @return String - Parameter value or null if the parameter was not submitted.
+  */
+  public String getValue(String fieldId, int instance) {
+
+    // Get parameter values
+    String[] values = getValues(fieldId, instance);
+
+    return values == null || values.length == 0 ? null : values[0];
+  }
+
+  /**
+    Returns all non-empty parameter values keyed by parameter name. Parameters with multiple
+    values are considered non-empty.
+    @return Map - Unmodifiable map of non-empty parameter values.
+  */
+  public Map<String, String[]> getNonEmptyValues() {
+    return Collections.unmodifiableMap(nonEmptyValues);
+  }
+
+  /**
+    Returns the field for a given field ID.
+    @param fieldId - Field ID.
+    @return Field - Field or null if the field is not defined.
+  */
+  public Field getField(String fieldId) {
+
+    // Initialize return value
+    Field field = null;
+
+    if (!StringUtil.isEmpty(fieldId)) {
+
+      // Lookup cached field
+      field = fields.get(fieldId);
+
+      // Retrieve and cache field
+      if (field == null && !fields.containsKey(fieldId)) {
+
+        field = ConfigurationManager.getField(fieldId);
+
+        fields.put(fieldId, field);
+      }
+    }
+
+    return field;
+  }
+
+  /**
+    Returns the converter defined for a given field ID.
+    @param fieldId - Field ID.
+    @return IConverter - Field converter or null if no converter is defined.
+  */
+  public IConverter getConverter(String fieldId) {
+
+    // Get field
+    Field field = getField(fieldId);
+
+    return field == null ? null : field.getConverter();
+  }
+
+  /**
+    Returns a converted parameter value for a given field ID, instance number, value position and
+    converter. All values of the parameter are converted the first time any of them are requested
+    using a given converter and the results are reused for the remainder of the request. Dates are
+    copied so callers modifying a returned value do not affect later lookups. Empty values are not converted.
+    @param fieldId - Field ID.
+    @param instance - Instance number or zero for no instance.
+    @param position - Value position.
+    @param converter - Value converter.
+    @return Object - Converted value or null if the value is empty or not found.
+  */
+  public Object getConvertedValue(String fieldId, int instance, int position, IConverter converter) {
+
+    // Initialize return value
+    Object value = null;
+
+    // Get parameter values
+    String[] values = getValues(fieldId, instance);
+
+    if (values != null && position >= 0 && position < values.length && converter != null) {
+
+      // Create conversion key
+      ConversionKey conversionKey = new ConversionKey(fieldId, instance, converter);
+
+      // Lookup converted values
+      Object[] converted = convertedValues.get(conversionKey);
+
+      if (converted == null) {
+
+        // Convert all non-empty values
+        converted = new Object[values.length];
+
+        for (int index = 0; index < values.length; index++) {
+
+          if (!StringUtil.isEmpty(values[index])) {
+            converted[index] = converter.parse(values[index], locale);
+          }
+        }
+
+        // Cache converted values
+        convertedValues.put(conversionKey, converted);
+      }
+
+      // Set return value
+      value = converted[position];
+
+      // Copy mutable values
+      if (value instanceof Date) {
+        value = ((Date)value).clone();
+      }
+    }
+
+    return value;
+  }
+
+  /**
+    Adds parameter values for a given field ID and instance number.
+    @param fieldId - Field ID.
+    @param instance - Instance number.
+    @param values - Parameter values.
+  */
+  private void addValues(String fieldId, int instance, String[] values) {
+
+    // Lookup instance values
+    Map<Integer, String[]> instanceValues = fieldValues.get(fieldId);
+
+    if (instanceValues == null) {
+      instanceValues = new HashMap<Integer, String[]>(4);
+      fieldValues.put(fieldId, instanceValues);
+    }
+
+    // Add values
+    instanceValues.put(Integer.valueOf(instance), values);
+  }
+
+  /**
+    Parses a positive instance number from the suffix of a parameter name. Suffixes containing
+    non-digit characters, leading zeros or more than nine digits are not instance numbers.
+    @param parameterName - Parameter name.
+    @param start - Starting index of suffix.
+    @return int - Instance number or zero if the suffix is not an instance number.
+  */
+  private static int parseInstance(String parameterName, int start) {
+
+    // Initialize return value
+    int instance = 0;
+
+    // Get suffix length
+    int length = parameterName.length() - start;
+
+    if (length > 0 && length < 10 && parameterName.charAt(start) != '0') {
+
+      for (int index = start; index < parameterName.length(); index++) {
+
+        // Get next character
+        char character = parameterName.charAt(index);
+
+        if (character < '0' || character > '9') {
+          instance = 0;
+          break;
+        }
+
+        instance = instance * 10 + (character - '0');
+      }
+    }
+
+    return instance;
+  }
+
+/**
+  Key identifying converted values using a field ID, instance number and converter instance.
+*/
+private static class ConversionKey {
+
+  /**
+    Field ID.
+  */
+  private String fieldId = null;
+
+  /**
+    Instance number.
+  */
+  private int instance = 0;
+
+  /**
+    Value converter.
+  */
+  private IConverter converter = null;
+
+  /**
+    Creates a new ConversionKey object.
+    @param fieldId Field ID.
+    @param instance Instance number.
+    @param converter Value converter.
+  */
+  public ConversionKey(String fieldId, int instance, IConverter converter) {
+    this.fieldId = fieldId;
+    this.instance = instance;
+    this.converter = converter;
+  }
+
+  /**
+    Returns a value indicating whether or not another key identifies the same converted values.
+    @see java.lang.Object#equals
+  */
+  public boolean equals(Object object) {
+
+    // Initialize return value
+    boolean isEqual = false;
+
+    if (object instanceof ConversionKey) {
+
+      // Cast to conversion key
+      ConversionKey conversionKey = (ConversionKey)object;
+
+      // Compare field ID, instance number and converter instance
+      isEqual = instance == conversionKey.instance && converter == conversionKey.converter &&
+          fieldId.equals(conversionKey.fieldId);
+    }
+
+    return isEqual;
+  }
+
+  /**
+    Returns a hash code based on the field ID, instance number and converter instance.
+    @see java.lang.Object#hashCode
+  */
+  public int hashCode() {
+    return (fieldId.hashCode() * 31 + instance) * 31 + System.identityHashCode(converter);
+  }
+
+}
+
+}
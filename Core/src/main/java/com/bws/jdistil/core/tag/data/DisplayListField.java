@@ -107,31 +107,16 @@ public class DisplayListField extends ValueComponent {
           // Initialize value buffer
           StringBuffer values = new StringBuffer();
           
-          for (IListItem item : items) {
+          // Find selected item
+          IListItem item = fieldValue == null ? null : findItem(items, fieldValue);
 
-            // Get item value and description
-            Object value = item.getValue();
-            String description = item.getDescription();
-            
-            // Initialize selected indicator
-            boolean isSelected = false;
+          if (item != null) {
 
-            if (fieldValue != null) {
+            // Attempt to translate descriptions to a locale specific descriptions
+            String description = Descriptions.getDescription(item.getDescription(), locale);
 
-              // Set selected indicator
-            	isSelected = fieldValue.equals(value);
-            }
-
-            if (isSelected) {
-
-              // Attempt to translate descriptions to a locale specific descriptions
-              description = Descriptions.getDescription(description, locale);
-
-              // Append description
-              values.append(description);
-              
-              break;
-            }
+            // Append description
+            values.append(description);
           }
 
           // Get attributes
@@ -170,6 +155,32 @@ public class DisplayListField extends ValueComponent {
     return SKIP_BODY;
   }
 
+  /**
+   * Returns the list item matching a given field value. Subclasses with keyed access
+   * to list items may override this method to avoid searching the list of items.
+   * @param items List of list items.
+   * @param fieldValue Field value.
+   * @return IListItem Matching list item or null if no list item matches.
+   */
+  protected IListItem findItem(List<IListItem> items, Object fieldValue) throws UiException, JspException {
+
+    // Initialize return value
+    IListItem selectedItem = null;
+
+    for (IListItem item : items) {
+
+      if (fieldValue.equals(item.getValue())) {
+
+        // Set selected item
+        selectedItem = item;
+
+        break;
+      }
+    }
+
+    return selectedItem;
+  }
+
   /**
    * Returns a list of list items objects.
    * @return List List of list item objects.
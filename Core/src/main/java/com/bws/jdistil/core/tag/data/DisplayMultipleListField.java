@@ -23,9 +23,12 @@ import com.bws.jdistil.core.util.Descriptions;
 import com.bws.jdistil.core.util.StringUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -108,22 +111,12 @@ public class DisplayMultipleListField extends ValueComponent {
           // Initialize value buffer
           StringBuffer values = new StringBuffer();
           
-          for (IListItem item : items) {
+          if (fieldValue != null && !fieldValue.isEmpty()) {
 
-            // Get item value and description
-            Object value = item.getValue();
-            String description = item.getDescription();
-            
-            // Initialize selected indicator
-            boolean isSelected = false;
+            // Find selected items
+            List<IListItem> selectedItems = findItems(items, fieldValue);
 
-            if (fieldValue != null) {
-
-              // Set selected indicator
-            	isSelected = fieldValue.contains(value);
-            }
-
-            if (isSelected) {
+            for (IListItem item : selectedItems) {
 
               // Append break if not the first item
               if (values.length() > 0) {
@@ -131,7 +124,7 @@ public class DisplayMultipleListField extends ValueComponent {
               }
               
               // Attempt to translate descriptions to a locale specific descriptions
-              description = Descriptions.getDescription(description, locale);
+              String description = Descriptions.getDescription(item.getDescription(), locale);
 
               // Append description
               values.append(description);
@@ -174,6 +167,32 @@ public class DisplayMultipleListField extends ValueComponent {
     return SKIP_BODY;
   }
 
+  /**
+   * Returns the list items matching a collection of field values in list item order. Subclasses
+   * with keyed access to list items may override this method to avoid searching the list of items.
+   * @param items List of list items.
+   * @param fieldValues Collection of field values.
+   * @return List List of matching list items.
+   */
+  protected List<IListItem> findItems(List<IListItem> items, Collection<Object> fieldValues) throws UiException, JspException {
+
+    // Initialize return value
+    List<IListItem> selectedItems = new ArrayList<IListItem>();
+
+    // Create set of field values for constant time lookups
+    Set<Object> values = new HashSet<Object>(fieldValues);
+
+    for (IListItem item : items) {
+
+      // Add selected item
+      if (values.contains(item.getValue())) {
+        selectedItems.add(item);
+      }
+    }
+
+    return selectedItems;
+  }
+
   /**
    * Returns a list of list items objects.
    * @return List List of list item objects.
@@ -22,8 +22,11 @@ import com.bws.jdistil.core.configuration.ConfigurationManager;
 import com.bws.jdistil.core.configuration.FieldBinding;
 import com.bws.jdistil.core.configuration.ObjectBinding;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
   Provides utility methods for introspecting objects.
@@ -31,6 +34,19 @@ import java.lang.reflect.Method;
 */
 public class Introspector {
 
+  /**
+    Property accessors keyed by property name associated with each class. Accessors are stored with
+    the class itself so the registry does not prevent classes or their class loaders from being unloaded.
+  */
+  private static final ClassValue<ConcurrentMap<String, PropertyAccessor>> accessorRegistry =
+      new ClassValue<ConcurrentMap<String, PropertyAccessor>>() {
+
+    @Override
+    protected ConcurrentMap<String, PropertyAccessor> computeValue(Class<?> objectClass) {
+      return new ConcurrentHashMap<String, PropertyAccessor>();
+    }
+  };
+
   /**
     Creates a new FieldAccessible object.
   */
@@ -70,38 +86,151 @@ public class Introspector {
 	}
 	
   /**
-    Returns a property class using a property name.
+    Returns a property accessor for a given class and property name. Getter and setter methods
+    are resolved once and cached so subsequent property access avoids reflective method lookups.
     @param objectClass Target class.
     @param propertyName Property name.
-    @return Class Property class.
+    @return PropertyAccessor Property accessor.
   */
-  public static Class<?> getPropertyClass(Class<?> objectClass, String propertyName) {
-  
+  public static PropertyAccessor getPropertyAccessor(Class<?> objectClass, String propertyName) {
+
     // Initialize return value
-    Class<?> propertyClass = null;
-  
+    PropertyAccessor propertyAccessor = null;
+
     if (objectClass != null && !StringUtil.isEmpty(propertyName)) {
-  
-      // Get method name
-      String methodName = "get" + propertyName;
-  
-      try {
-        // Get method
-        Method method = objectClass.getMethod(methodName);
-  
-        // Get property value
-        if (method != null) {
-          propertyClass = method.getReturnType();
+
+      // Get property accessors for class
+      ConcurrentMap<String, PropertyAccessor> propertyAccessors = accessorRegistry.get(objectClass);
+
+      // Get property accessor
+      propertyAccessor = propertyAccessors.get(propertyName);
+
+      if (propertyAccessor == null) {
+
+        // Create property accessor
+        propertyAccessor = createPropertyAccessor(objectClass, propertyName);
+
+        // Cache property accessor using any accessor cached by a concurrent thread
+        PropertyAccessor cachedPropertyAccessor = propertyAccessors.putIfAbsent(propertyName, propertyAccessor);
+
+        if (cachedPropertyAccessor != null) {
+          propertyAccessor = cachedPropertyAccessor;
         }
       }
-      catch (NoSuchMethodException noSuchMethodException) {
-        System.out.println("getPropertyValue: " + noSuchMethodException.getMessage());
+    }
+
+    return propertyAccessor;
+  }
+
+  /**
+    Creates a property accessor for a given class and property name.
+    @param objectClass Target class.
+    @param propertyName Property name.
+    @return PropertyAccessor Property accessor.
+  */
+  private static PropertyAccessor createPropertyAccessor(Class<?> objectClass, String propertyName) {
+
+    // Initialize return value
+    PropertyAccessor propertyAccessor = null;
+
+    // Get getter method
+    Method getterMethod = getMethod(objectClass, "get" + propertyName);
+
+    // Get setter method using the first class in the hierarchy defining a matching setter
+    Method setterMethod = null;
+
+    Class<?> currentClass = objectClass;
+
+    while (setterMethod == null && currentClass != null) {
+
+      // Get getter method for current class
+      Method currentGetterMethod = currentClass == objectClass ? getterMethod : getMethod(currentClass, "get" + propertyName);
+
+      // Get setter method using getter return type
+      if (currentGetterMethod != null) {
+        setterMethod = getMethod(currentClass, "set" + propertyName, currentGetterMethod.getReturnType());
+      }
+
+      currentClass = currentClass.getSuperclass();
+    }
+
+    // Get logger
+    Logger logger = Logger.getLogger("com.bws.jdistil.core.util");
+
+    if (getterMethod == null) {
+      logger.logp(Level.FINE, objectClass.getName(), "createPropertyAccessor", "No getter for " + propertyName);
+    }
+
+    if (setterMethod == null) {
+      logger.logp(Level.FINE, objectClass.getName(), "createPropertyAccessor", "No setter for " + propertyName);
+    }
+
+    try {
+      // Create property accessor
+      propertyAccessor = new PropertyAccessor(objectClass, propertyName, getterMethod, setterMethod);
+    }
+    catch (IllegalAccessException illegalAccessException) {
+
+      // Post error message
+      logger.logp(Level.SEVERE, objectClass.getName(), "createPropertyAccessor", "Creating Property Accessor", illegalAccessException);
+
+      // Create property accessor without getter and setter methods
+      try {
+        propertyAccessor = new PropertyAccessor(objectClass, propertyName, null, null);
+      }
+      catch (IllegalAccessException unexpectedException) {
+        // Not possible without methods
       }
     }
-  
+
+    return propertyAccessor;
+  }
+
+  /**
+    Returns a public method using a class, method name and parameter types.
+    @param objectClass Target class.
+    @param methodName Method name.
+    @param parameterTypes Parameter types.
+    @return Method Method or null if not found.
+  */
+  private static Method getMethod(Class<?> objectClass, String methodName, Class<?>... parameterTypes) {
+
+    // Initialize return value
+    Method method = null;
+
+    try {
+      // Get method
+      method = objectClass.getMethod(methodName, parameterTypes);
+    }
+    catch (NoSuchMethodException noSuchMethodException) {
+      // Method not defined
+    }
+
+    return method;
+  }
+
+  /**
+    Returns a property class using a property name.
+    @param objectClass Target class.
+    @param propertyName Property name.
+    @return Class Property class.
+  */
+  public static Class<?> getPropertyClass(Class<?> objectClass, String propertyName) {
+
+    // Initialize return value
+    Class<?> propertyClass = null;
+
+    // Get property accessor
+    PropertyAccessor propertyAccessor = getPropertyAccessor(objectClass, propertyName);
+
+    // Get property class
+    if (propertyAccessor != null) {
+      propertyClass = propertyAccessor.getPropertyClass();
+    }
+
     return propertyClass;
   }
-  
+
   /**
     Returns a property value using a property name.
     @param object Target object.
@@ -109,38 +238,24 @@ public class Introspector {
     @return Object Property value.
   */
   public static Object getPropertyValue(Object object, String propertyName) {
-  
+
     // Initialize return value
     Object propertyValue = null;
-  
-    if (object != null && !StringUtil.isEmpty(propertyName)) {
-  
-      // Get method name
-      String methodName = "get" + propertyName;
-  
-      try {
-        // Get method
-        Method method = object.getClass().getMethod(methodName, (Class[])null);
-  
-        // Get property value
-        if (method != null) {
-          propertyValue = method.invoke(object);
-        }
-      }
-      catch (NoSuchMethodException noSuchMethodException) {
-        System.out.println("getPropertyValue: " + noSuchMethodException.getMessage());
-      }
-      catch (InvocationTargetException invocationTargetException) {
-        System.out.println("getPropertyValue: " + invocationTargetException.getMessage());
-      }
-      catch (IllegalAccessException illegalAccessException) {
-        System.out.println("getPropertyValue: " + illegalAccessException.getMessage());
+
+    if (object != null) {
+
+      // Get property accessor
+      PropertyAccessor propertyAccessor = getPropertyAccessor(object.getClass(), propertyName);
+
+      // Get property value
+      if (propertyAccessor != null) {
+        propertyValue = propertyAccessor.getValue(object);
       }
     }
-  
+
     return propertyValue;
   }
-  
+
   /**
     Sets a property value using a property name and value.
     @param object Target object.
@@ -148,62 +263,17 @@ public class Introspector {
     @param propertyValue Property value.
   */
   public static void setPropertyValue(Object object, String propertyName, Object propertyValue) {
-  
-    if (object != null && !StringUtil.isEmpty(propertyName)) {
-  
-      // Get method name
-      String methodName = "set" + propertyName;
-  
-      // Get object class
-      Class<?> objectClass = object.getClass();
-      
-      if (!setPropertyValue(object, objectClass, methodName, propertyName, propertyValue)) {
-      	
-      	Class<?> parentClass = objectClass.getSuperclass();
-      	
-      	while (parentClass != null && !setPropertyValue(object, parentClass, methodName, propertyName, propertyValue)) {
-      		
-      			parentClass = parentClass.getSuperclass();
-      	}
-      }
-    }
-  }
-  
-  private static boolean setPropertyValue(Object object, Class<?> objectClass, String methodName, String propertyName, Object propertyValue) {
-  	
-  	// Initialize return value
-  	boolean isSuccess = false;
-  	
-    // Create parameter types array
-    Class<?> propertyClass = getPropertyClass(objectClass, propertyName);
-    Class<?>[] parameterTypes = new Class<?>[] {propertyClass};
-
-    try {
-      // Get method
-      Method method = objectClass.getMethod(methodName, parameterTypes);
 
-      if (method != null) {
+    if (object != null) {
 
-        // Create values arrays
-        Object[] values = new Object[] {propertyValue};
+      // Get property accessor
+      PropertyAccessor propertyAccessor = getPropertyAccessor(object.getClass(), propertyName);
 
-        // Set property value
-        method.invoke(object, values);
-        
-        isSuccess = true;
+      // Set property value
+      if (propertyAccessor != null) {
+        propertyAccessor.setValue(object, propertyValue);
       }
     }
-    catch (NoSuchMethodException noSuchMethodException) {
-      System.out.println("setPropertyValue: " + noSuchMethodException.getMessage());
-    }
-    catch (InvocationTargetException invocationTargetException) {
-      System.out.println("setPropertyValue: " + invocationTargetException.getMessage());
-    }
-    catch (IllegalAccessException illegalAccessException) {
-      System.out.println("setPropertyValue: " + illegalAccessException.getMessage());
-    }
-    
-    return isSuccess;
   }
 
   /**
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+  Provides access to a single property of a class using getter and setter method handles
+  resolved once when the accessor is created. Accessors are created and cached by the Introspector.
+  @author Bryan Snipes
+  @see com.bws.jdistil.core.util.Introspector#getPropertyAccessor
+*/
+public class PropertyAccessor {
+
+  /**
+    Generic getter method type.
+  */
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /**
+    Generic setter method type.
+  */
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  /**
+    Target class.
+  */
+  private Class<?> targetClass = null;
+
+  /**
+    Property name.
+  */
+  private String propertyName = null;
+
+  /**
+    Property class.
+  */
+  private Class<?> propertyClass = null;
+
+  /**
+    Getter method handle.
+  */
+  private MethodHandle getter = null;
+
+  /**
+    Setter method handle.
+  */
+  private MethodHandle setter = null;
+
+  /**
+    Setter parameter class with primitive types converted to wrapper types.
+  */
+  private Class<?> setterClass = null;
+
+  /**
+    Indicates whether or not the setter parameter is a primitive type.
+  */
+  private boolean isPrimitiveSetter = false;
+
+  /**
+    Creates a new PropertyAccessor object using a target class, property name and getter and setter methods.
+    @param targetClass Target class.
+    @param propertyName Property name.
+    @param getterMethod Getter method.
+    @param setterMethod Setter method.
+  */
+  PropertyAccessor(Class<?> targetClass, String propertyName, Method getterMethod, Method setterMethod)
+      throws IllegalAccessException {
+    super();
+
+    // Set target class and property name
+    this.targetClass = targetClass;
+    this.propertyName = propertyName;
+
+    // Get lookup used to create method handles
+    MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+    if (getterMethod != null) {
+
+      // Set property class and adapt getter to generic getter type
+      propertyClass = getterMethod.getReturnType();
+      getter = lookup.unreflect(getterMethod).asType(GETTER_TYPE);
+    }
+
+    if (setterMethod != null) {
+
+      // Get setter parameter class
+      Class<?> parameterClass = setterMethod.getParameterTypes()[0];
+
+      // Set setter class and adapt setter to generic setter type
+      isPrimitiveSetter = parameterClass.isPrimitive();
+      setterClass = MethodType.methodType(parameterClass).wrap().returnType();
+      setter = lookup.unreflect(setterMethod).asType(SETTER_TYPE);
+    }
+  }
+
+  /**
+    Returns the property name.
+    @return String Property name.
+  */
+  public String getPropertyName() {
+    return propertyName;
+  }
+
+  /**
+    Returns the property class based on the getter return type.
+    @return Class Property class.
+  */
+  public Class<?> getPropertyClass() {
+    return propertyClass;
+  }
+
+  /**
+    Returns a value indicating whether or not the property has a getter.
+    @return boolean Readable indicator.
+  */
+  public boolean isReadable() {
+    return getter != null;
+  }
+
+  /**
+    Returns a value indicating whether or not the property has a setter.
+    @return boolean Writable indicator.
+  */
+  public boolean isWritable() {
+    return setter != null;
+  }
+
+  /**
+    Returns the property value of a given object.
+    @param object Target object.
+    @return Object Property value.
+  */
+  public Object getValue(Object object) {
+
+    // Initialize return value
+    Object propertyValue = null;
+
+    if (object != null && getter != null) {
+
+      // Verify target object
+      verifyTarget(object);
+
+      try {
+        // Get property value
+        propertyValue = (Object)getter.invokeExact(object);
+      }
+      catch (Error error) {
+        throw error;
+      }
+      catch (Throwable throwable) {
+
+        // Post error message for exception thrown by getter
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.util");
+        logger.logp(Level.SEVERE, targetClass.getName(), "getValue", "Getting " + propertyName, throwable);
+      }
+    }
+
+    return propertyValue;
+  }
+
+  /**
+    Sets the property value of a given object.
+    @param object Target object.
+    @param propertyValue Property value.
+  */
+  public void setValue(Object object, Object propertyValue) {
+
+    if (object != null && setter != null) {
+
+      // Verify target object
+      verifyTarget(object);
+
+      // Verify property value
+      if (propertyValue == null ? isPrimitiveSetter : !setterClass.isInstance(propertyValue)) {
+        throw new IllegalArgumentException("Invalid value for property: " + propertyName);
+      }
+
+      try {
+        // Set property value
+        setter.invokeExact(object, propertyValue);
+      }
+      catch (Error error) {
+        throw error;
+      }
+      catch (Throwable throwable) {
+
+        // Post error message for exception thrown by setter
+        Logger logger = Logger.getLogger("com.bws.jdistil.core.util");
+        logger.logp(Level.SEVERE, targetClass.getName(), "setValue", "Setting " + propertyName, throwable);
+      }
+    }
+  }
+
+  /**
+    Verifies a target object is an instance of the target class.
+    @param object Target object.
+  */
+  private void verifyTarget(Object object) {
+
+    if (!targetClass.isInstance(object)) {
+      throw new IllegalArgumentException("Invalid target object: " + object.getClass().getName());
+    }
+  }
+
+}
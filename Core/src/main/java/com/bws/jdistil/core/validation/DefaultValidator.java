@@ -28,12 +28,11 @@ import com.bws.jdistil.core.process.ProcessException;
 import com.bws.jdistil.core.process.ProcessMessage;
 import com.bws.jdistil.core.security.ISecurityManager;
 import com.bws.jdistil.core.security.SecurityException;
-import com.bws.jdistil.core.util.StringUtil;
+import com.bws.jdistil.core.servlet.ParameterIndex;
 import com.bws.jdistil.core.validation.rules.IActionRule;
 import com.bws.jdistil.core.validation.rules.IFieldRule;
 
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
@@ -90,23 +89,11 @@ public class DefaultValidator implements IProcessor {
 
     if (request != null) {
 
-      // Get field IDs
-      Enumeration<?> fieldIds = request.getParameterNames();
-
-      // Process all field Ids
-      while (fieldIds.hasMoreElements()) {
-
-        // Get current field ID
-        String fieldId = (String)fieldIds.nextElement();
+      // Get parameter index
+      ParameterIndex parameterIndex = ParameterIndex.getInstance(request);
 
-        // Get field values
-        String[] fieldValues = request.getParameterValues(fieldId);
-
-        // Add non-empty fields to data map
-        if (fieldValues != null && (fieldValues.length > 1 || !StringUtil.isEmpty(fieldValues[0]))) {
-          dataMap.put(fieldId, fieldValues);
-        }
-      }
+      // Add non-empty fields to data map
+      dataMap.putAll(parameterIndex.getNonEmptyValues());
     }
 
     return dataMap;
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.security;
+
+import com.bws.jdistil.security.role.Role;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+  Effective permissions of a user computed once from the user's roles. Restricted tasks, hidden fields
+  and read only fields are stored as bit sets indexed by task and field ID so each permission check
+  is a single bit test. A task or field is only restricted if it is restricted by every role.
+  Instances are immutable and small enough to be stored in the session.
+  @author Bryan Snipes
+*/
+public class RolePermissions implements Serializable {
+
+  /**
+    Serial version UID.
+  */
+  private static final long serialVersionUID = 5203178432950615724L;
+
+  /**
+    Roles used to compute the permissions. Not serialized so permissions restored with a
+    session are recomputed from the restored roles.
+  */
+  private transient List<Role> roles = null;
+
+  /**
+    Indicates whether or not the permissions were computed from at least one role.
+  */
+  private boolean hasRoles = false;
+
+  /**
+    Task IDs restricted by all roles.
+  */
+  private BitSet restrictedTaskIds = new BitSet();
+
+  /**
+    Field IDs hidden by all roles.
+  */
+  private BitSet hiddenFieldIds = new BitSet();
+
+  /**
+    Field IDs read only or hidden in all roles.
+  */
+  private BitSet readOnlyFieldIds = new BitSet();
+
+  /**
+    Creates a new RolePermissions object using a list of roles.
+    @param roles List of roles.
+  */
+  public RolePermissions(List<Role> roles) {
+    super();
+
+    // Set roles
+    this.roles = roles;
+
+    if (roles != null) {
+
+      for (Role role : roles) {
+
+        // Get role permissions
+        BitSet roleTaskIds = createBitSet(role.getRestrictedTaskIds(), null);
+        BitSet roleHiddenFieldIds = createBitSet(role.getRestrictedFieldIds(), null);
+        BitSet roleReadOnlyFieldIds = createBitSet(role.getReadOnlyFieldIds(), roleHiddenFieldIds);
+
+        if (!hasRoles) {
+
+          // Initialize using permissions of first role
+          restrictedTaskIds = roleTaskIds;
+          hiddenFieldIds = roleHiddenFieldIds;
+          readOnlyFieldIds = roleReadOnlyFieldIds;
+          hasRoles = true;
+        }
+        else {
+
+          // Retain restrictions shared by all roles
+          restrictedTaskIds.and(roleTaskIds);
+          hiddenFieldIds.and(roleHiddenFieldIds);
+          readOnlyFieldIds.and(roleReadOnlyFieldIds);
+        }
+      }
+    }
+  }
+
+  /**
+    Creates a bit set from a list of IDs and an optional bit set of additional IDs.
+    Null and negative IDs are ignored.
+    @param ids List of IDs.
+    @param additionalIds Additional IDs.
+    @return BitSet Bit set of IDs.
+  */
+  private static BitSet createBitSet(List<Integer> ids, BitSet additionalIds) {
+
+    // Create bit set
+    BitSet bitSet = new BitSet();
+
+    if (ids != null) {
+
+      for (Integer id : ids) {
+
+        if (id != null && id.intValue() >= 0) {
+          bitSet.set(id.intValue());
+        }
+      }
+    }
+
+    if (additionalIds != null) {
+      bitSet.or(additionalIds);
+    }
+
+    return bitSet;
+  }
+
+  /**
+    Returns a value indicating whether or not the permissions were computed from a given list of roles.
+    @param roles List of roles.
+    @return boolean Computed from roles indicator.
+  */
+  public boolean isComputedFrom(List<Role> roles) {
+    return this.roles == roles;
+  }
+
+  /**
+    Indicates whether or not a given task is authorized.
+    @param taskId Task ID.
+    @return boolean Authorized indicator.
+  */
+  public boolean isTaskAuthorized(Integer taskId) {
+    return hasRoles && !isSet(restrictedTaskIds, taskId);
+  }
+
+  /**
+    Indicates whether or not a given field is hidden.
+    @param fieldId Field ID.
+    @return boolean Hidden indicator.
+  */
+  public boolean isFieldHidden(Integer fieldId) {
+    return !hasRoles || isSet(hiddenFieldIds, fieldId);
+  }
+
+  /**
+    Indicates whether or not a given field is read only.
+    @param fieldId Field ID.
+    @return boolean Read only indicator.
+  */
+  public boolean isFieldReadOnly(Integer fieldId) {
+    return !hasRoles || isSet(readOnlyFieldIds, fieldId);
+  }
+
+  /**
+    Returns a value indicating whether or not the bit for a given ID is set.
+    @param bitSet Bit set.
+    @param id ID.
+    @return boolean Bit set indicator.
+  */
+  private static boolean isSet(BitSet bitSet, Integer id) {
+    return id != null && id.intValue() >= 0 && bitSet.get(id.intValue());
+  }
+
+}
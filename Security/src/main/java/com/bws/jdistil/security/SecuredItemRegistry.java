@@ -0,0 +1,659 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.security;
+
+import com.bws.jdistil.core.configuration.ConfigurationManager;
+import com.bws.jdistil.core.datasource.DataSourceException;
+import com.bws.jdistil.core.datasource.database.DbUtil;
+import com.bws.jdistil.core.factory.IFactory;
+import com.bws.jdistil.core.resource.ResourceUtil;
+import com.bws.jdistil.core.util.StringUtil;
+import com.bws.jdistil.security.configuration.Constants;
+import com.bws.jdistil.security.role.Action;
+import com.bws.jdistil.security.role.ActionManager;
+import com.bws.jdistil.security.role.Field;
+import com.bws.jdistil.security.role.FieldManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+  Static class providing the secured actions and fields used by the security manager. Secured items
+  are held in an immutable snapshot that is replaced as a whole when secured items are reloaded, so
+  reads never lock. Secured items are loaded and refreshed in the background at a configurable interval.
+  An optional change detection query returning a single value can be configured so secured items are
+  only reloaded when the returned value changes. Until the first load completes an unloaded snapshot is
+  provided and callers should deny access. A failed refresh keeps the last loaded snapshot.
+  @author Bryan Snipes
+*/
+public class SecuredItemRegistry {
+
+  /**
+    Class name used for logging.
+  */
+  private static final String className = "com.bws.jdistil.security.SecuredItemRegistry";
+
+  /**
+    Default refresh interval in seconds.
+  */
+  private static final long DEFAULT_REFRESH_INTERVAL = 300;
+
+  /**
+    Retry interval in seconds used until the first load completes when periodic refresh is disabled.
+  */
+  private static final long RETRY_INTERVAL = 30;
+
+  /**
+    Refresh interval in seconds. Zero disables periodic refresh.
+  */
+  private static final long refreshInterval = loadRefreshInterval();
+
+  /**
+    Optional SQL query used to detect changes to secured items.
+  */
+  private static final String changeSql = ResourceUtil.getString(Constants.SECURITY_REGISTRY_CHANGE_SQL);
+
+  /**
+    Current snapshot.
+  */
+  private static volatile Snapshot snapshot = new Snapshot();
+
+  /**
+    Lock used to serialize refreshes.
+  */
+  private static final Object refreshLock = new Object();
+
+  /**
+    Lock used to serialize starting and stopping the executor.
+  */
+  private static final Object executorLock = new Object();
+
+  /**
+    Executor used to load and refresh secured items.
+  */
+  private static volatile ScheduledExecutorService refreshExecutor = null;
+
+  /**
+    Indicates whether or not the registry has been shut down.
+  */
+  private static volatile boolean isShutdown = false;
+
+  /**
+    Number of completed reloads.
+  */
+  private static final AtomicLong refreshCount = new AtomicLong();
+
+  /**
+    Number of refreshes skipped because no changes were detected.
+  */
+  private static final AtomicLong skippedRefreshCount = new AtomicLong();
+
+  /**
+    Number of failed refreshes.
+  */
+  private static final AtomicLong failedRefreshCount = new AtomicLong();
+
+  /**
+    Total duration of completed reloads in nanoseconds.
+  */
+  private static final AtomicLong totalRefreshDuration = new AtomicLong();
+
+  /**
+    Duration of the last completed reload in nanoseconds.
+  */
+  private static volatile long lastRefreshDuration = 0;
+
+  /**
+    Creates a new SecuredItemRegistry object.
+  */
+  private SecuredItemRegistry() {
+    super();
+  }
+
+  /**
+    Returns the configured refresh interval or a default refresh interval if none is configured.
+    @return long Refresh interval in seconds.
+  */
+  private static long loadRefreshInterval() {
+
+    // Initialize return value
+    long seconds = DEFAULT_REFRESH_INTERVAL;
+
+    // Attempt to retrieve configured value
+    String value = ResourceUtil.getString(Constants.SECURITY_REGISTRY_REFRESH_INTERVAL);
+
+    if (!StringUtil.isEmpty(value)) {
+
+      try {
+        // Parse configured value
+        long configuredValue = Long.parseLong(value.trim());
+
+        // Only use non negative values
+        if (configuredValue >= 0) {
+          seconds = configuredValue;
+        }
+      }
+      catch (NumberFormatException numberFormatException) {
+
+        // Post warning message
+        Logger logger = Logger.getLogger("com.bws.jdistil.security");
+        logger.logp(Level.WARNING, className, "loadRefreshInterval", "Invalid security registry refresh interval", numberFormatException);
+      }
+    }
+
+    return seconds;
+  }
+
+  /**
+    Starts loading secured items in the background if loading has not already been started and the
+    registry has not been shut down. Returns immediately without waiting for secured items to be loaded.
+  */
+  public static void start() {
+
+    if (refreshExecutor == null && !isShutdown) {
+
+      synchronized (executorLock) {
+
+        if (refreshExecutor == null && !isShutdown) {
+
+          // Create executor using a daemon thread so refreshes do not prevent shutdown
+          ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+            public Thread newThread(Runnable runnable) {
+
+              Thread thread = new Thread(runnable, "jdistil-security-registry-refresh");
+              thread.setDaemon(true);
+
+              return thread;
+            }
+          });
+
+          // Use retry interval until loaded if periodic refresh is disabled
+          long interval = refreshInterval > 0 ? refreshInterval : RETRY_INTERVAL;
+
+          // Schedule initial load and periodic refreshes
+          executor.scheduleWithFixedDelay(new Runnable() {
+
+            public void run() {
+
+              if (refreshInterval > 0 || !snapshot.isLoaded()) {
+                refreshQuietly(false);
+              }
+            }
+          }, 0, interval, TimeUnit.SECONDS);
+
+          refreshExecutor = executor;
+        }
+      }
+    }
+  }
+
+  /**
+    Returns the current snapshot of secured items and starts loading secured items if needed.
+    @return Snapshot Current snapshot.
+  */
+  public static Snapshot getSnapshot() {
+
+    // Ensure loading has been started
+    start();
+
+    return snapshot;
+  }
+
+  /**
+    Requests an asynchronous reload of secured items regardless of detected changes. Requests made after
+    shutdown are ignored.
+  */
+  public static void requestRefresh() {
+
+    // Ensure loading has been started
+    start();
+
+    // Get executor
+    ScheduledExecutorService executor = refreshExecutor;
+
+    try {
+
+      // Submit reload
+      if (executor != null) {
+
+        executor.execute(new Runnable() {
+
+          public void run() {
+            refreshQuietly(true);
+          }
+        });
+      }
+    }
+    catch (RejectedExecutionException rejectedExecutionException) {
+
+      // Post warning message
+      Logger logger = Logger.getLogger("com.bws.jdistil.security");
+      logger.logp(Level.WARNING, className, "requestRefresh", "Requesting Secured Item Refresh", rejectedExecutionException);
+    }
+  }
+
+  /**
+    Stops loading and refreshing secured items. Loading is not started again after shutdown and the
+    last loaded snapshot continues to be provided.
+  */
+  public static void shutdown() {
+
+    synchronized (executorLock) {
+
+      // Prevent restarts
+      isShutdown = true;
+
+      // Stop refreshes
+      if (refreshExecutor != null) {
+        refreshExecutor.shutdownNow();
+        refreshExecutor = null;
+      }
+    }
+  }
+
+  /**
+    Refreshes secured items and logs any failure without propagating it.
+    @param isForced Indicates whether or not to reload regardless of detected changes.
+  */
+  private static void refreshQuietly(boolean isForced) {
+
+    try {
+      refresh(isForced);
+    }
+    catch (DataSourceException dataSourceException) {
+
+      // Post warning message
+      Logger logger = Logger.getLogger("com.bws.jdistil.security");
+      logger.logp(Level.WARNING, className, "refreshQuietly", "Refreshing Secured Items", dataSourceException);
+    }
+    catch (RuntimeException runtimeException) {
+
+      // Increment failed refresh count
+      failedRefreshCount.incrementAndGet();
+
+      // Post warning message
+      Logger logger = Logger.getLogger("com.bws.jdistil.security");
+      logger.logp(Level.WARNING, className, "refreshQuietly", "Refreshing Secured Items", runtimeException);
+    }
+  }
+
+  /**
+    Refreshes secured items in the calling thread. Secured items are only reloaded if forced,
+    if they have not yet been loaded, if no change detection query is configured or if the value
+    returned by the change detection query has changed.
+    @param isForced Indicates whether or not to reload regardless of detected changes.
+    @return boolean Indicates whether or not secured items were reloaded.
+  */
+  public static boolean refresh(boolean isForced) throws DataSourceException {
+
+    // Initialize return value
+    boolean isReloaded = false;
+
+    synchronized (refreshLock) {
+
+      // Get current snapshot
+      Snapshot currentSnapshot = snapshot;
+
+      // Get start time
+      long startTime = System.nanoTime();
+
+      try {
+        // Query change token before loading so later changes are detected by the next refresh
+        Object changeToken = StringUtil.isEmpty(changeSql) ? null : queryChangeToken();
+
+        if (!isForced && currentSnapshot.isLoaded() && changeToken != null && changeToken.equals(currentSnapshot.getChangeToken())) {
+
+          // Increment skipped refresh count
+          skippedRefreshCount.incrementAndGet();
+        }
+        else {
+
+          // Load secured actions and fields
+          Map<String, Action> securedActions = loadSecuredActions();
+          Map<String, Field> securedFields = loadSecuredFields();
+
+          // Replace snapshot
+          snapshot = new Snapshot(securedActions, securedFields, changeToken);
+
+          // Update metrics
+          long duration = System.nanoTime() - startTime;
+          lastRefreshDuration = duration;
+          totalRefreshDuration.addAndGet(duration);
+          refreshCount.incrementAndGet();
+
+          isReloaded = true;
+        }
+      }
+      catch (DataSourceException dataSourceException) {
+
+        // Increment failed refresh count
+        failedRefreshCount.incrementAndGet();
+
+        throw dataSourceException;
+      }
+    }
+
+    return isReloaded;
+  }
+
+  /**
+    Executes the change detection query and returns the first column of the first row.
+    @return Object Change token.
+  */
+  private static Object queryChangeToken() throws DataSourceException {
+
+    // Set method name
+    String methodName = "queryChangeToken";
+
+    // Initialize return value
+    Object changeToken = null;
+
+    // Initialize processing variables
+    Connection connection = null;
+    Statement statement = null;
+    ResultSet resultSet = null;
+
+    try {
+      // Open connection
+      connection = DbUtil.openConnection();
+
+      // Execute change detection query
+      statement = connection.createStatement();
+      resultSet = statement.executeQuery(changeSql);
+
+      if (resultSet.next()) {
+        changeToken = resultSet.getObject(1);
+      }
+    }
+    catch (SQLException sqlException) {
+
+      // Post error message
+      Logger logger = Logger.getLogger("com.bws.jdistil.security");
+      logger.logp(Level.SEVERE, className, methodName, "Querying Secured Item Changes", sqlException);
+
+      throw new DataSourceException(methodName + ": " + sqlException.getMessage());
+    }
+    finally {
+
+      // Close database resources
+      DbUtil.closeResultSet(resultSet);
+      DbUtil.closeStatement(statement);
+      DbUtil.closeConnection(connection);
+    }
+
+    return changeToken;
+  }
+
+  /**
+    Retrieves all secured actions.
+    @return Map Secured actions keyed by secure ID.
+  */
+  private static Map<String, Action> loadSecuredActions() throws DataSourceException {
+
+    // Create secured actions
+    Map<String, Action> securedActions = new HashMap<String, Action>();
+
+    // Get action manager factory
+    IFactory actionManagerFactory = ConfigurationManager.getFactory(ActionManager.class);
+
+    // Create action manager
+    ActionManager actionManager = (ActionManager)actionManagerFactory.create();
+
+    try {
+
+      // Retrieve all actions
+      List<Action> actions = actionManager.find();
+
+      if (actions != null) {
+
+        for (Action action : actions) {
+
+          // Add action keyed by secure ID
+          securedActions.put(action.getSecureId(), action);
+        }
+      }
+    }
+    finally {
+
+      // Recycle action manager
+      actionManagerFactory.recycle(actionManager);
+    }
+
+    return securedActions;
+  }
+
+  /**
+    Retrieves all secured fields.
+    @return Map Secured fields keyed by secure ID.
+  */
+  private static Map<String, Field> loadSecuredFields() throws DataSourceException {
+
+    // Create secured fields
+    Map<String, Field> securedFields = new HashMap<String, Field>();
+
+    // Get field manager factory
+    IFactory fieldManagerFactory = ConfigurationManager.getFactory(FieldManager.class);
+
+    // Create field manager
+    FieldManager fieldManager = (FieldManager)fieldManagerFactory.create();
+
+    try {
+
+      // Retrieve all fields
+      List<Field> fields = fieldManager.find();
+
+      if (fields != null) {
+
+        for (Field field : fields) {
+
+          // Add field keyed by secure ID
+          securedFields.put(field.getSecureId(), field);
+        }
+      }
+    }
+    finally {
+
+      // Recycle field manager
+      fieldManagerFactory.recycle(fieldManager);
+    }
+
+    return securedFields;
+  }
+
+  /**
+    Returns the number of completed reloads.
+    @return long Refresh count.
+  */
+  public static long getRefreshCount() {
+    return refreshCount.get();
+  }
+
+  /**
+    Returns the number of refreshes skipped because no changes were detected.
+    @return long Skipped refresh count.
+  */
+  public static long getSkippedRefreshCount() {
+    return skippedRefreshCount.get();
+  }
+
+  /**
+    Returns the number of failed refreshes.
+    @return long Failed refresh count.
+  */
+  public static long getFailedRefreshCount() {
+    return failedRefreshCount.get();
+  }
+
+  /**
+    Returns the duration of the last completed reload.
+    @return long Duration in milliseconds.
+  */
+  public static long getLastRefreshDuration() {
+    return TimeUnit.NANOSECONDS.toMillis(lastRefreshDuration);
+  }
+
+  /**
+    Returns the average duration of completed reloads.
+    @return long Average duration in milliseconds.
+  */
+  public static long getAverageRefreshDuration() {
+
+    // Get refresh count
+    long count = refreshCount.get();
+
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalRefreshDuration.get() / count);
+  }
+
+/**
+  Immutable snapshot of secured actions and fields.
+*/
+public static class Snapshot {
+
+  /**
+    Loaded indicator.
+  */
+  private final boolean isLoaded;
+
+  /**
+    Secured actions keyed by secure ID.
+  */
+  private final Map<String, Action> securedActions;
+
+  /**
+    Secured fields keyed by secure ID.
+  */
+  private final Map<String, Field> securedFields;
+
+  /**
+    Change token returned by the change detection query.
+  */
+  private final Object changeToken;
+
+  /**
+    Time the snapshot was loaded in milliseconds.
+  */
+  private final long loadTime;
+
+  /**
+    Creates a new unloaded Snapshot object.
+  */
+  private Snapshot() {
+    super();
+
+    // Set empty values
+    this.isLoaded = false;
+    this.securedActions = Collections.emptyMap();
+    this.securedFields = Collections.emptyMap();
+    this.changeToken = null;
+    this.loadTime = 0;
+  }
+
+  /**
+    Creates a new loaded Snapshot object using secured actions, secured fields and a change token.
+    @param securedActions Secured actions keyed by secure ID.
+    @param securedFields Secured fields keyed by secure ID.
+    @param changeToken Change token.
+  */
+  private Snapshot(Map<String, Action> securedActions, Map<String, Field> securedFields, Object changeToken) {
+    super();
+
+    // Set property values
+    this.isLoaded = true;
+    this.securedActions = Collections.unmodifiableMap(securedActions);
+    this.securedFields = Collections.unmodifiableMap(securedFields);
+    this.changeToken = changeToken;
+    this.loadTime = System.currentTimeMillis();
+  }
+
+  /**
+    Returns a value indicating whether or not secured items have been loaded.
+    @return boolean Loaded indicator.
+  */
+  public boolean isLoaded() {
+    return isLoaded;
+  }
+
+  /**
+    Returns the secured action associated with a secure ID.
+    @param secureId Secure ID.
+    @return Action Secured action or null if the action is not secured.
+  */
+  public Action getSecuredAction(String secureId) {
+    return securedActions.get(secureId);
+  }
+
+  /**
+    Returns the secured field associated with a secure ID.
+    @param secureId Secure ID.
+    @return Field Secured field or null if the field is not secured.
+  */
+  public Field getSecuredField(String secureId) {
+    return securedFields.get(secureId);
+  }
+
+  /**
+    Returns the number of secured actions.
+    @return int Secured action count.
+  */
+  public int getSecuredActionCount() {
+    return securedActions.size();
+  }
+
+  /**
+    Returns the number of secured fields.
+    @return int Secured field count.
+  */
+  public int getSecuredFieldCount() {
+    return securedFields.size();
+  }
+
+  /**
+    Returns the change token returned by the change detection query.
+    @return Object Change token.
+  */
+  public Object getChangeToken() {
+    return changeToken;
+  }
+
+  /**
+    Returns the time the snapshot was loaded.
+    @return long Load time in milliseconds or zero if not loaded.
+  */
+  public long getLoadTime() {
+    return loadTime;
+  }
+
+}
+
+}
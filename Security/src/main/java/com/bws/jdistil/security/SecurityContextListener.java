@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.security;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+/**
+  Servlet context listener used to stop refreshing secured items when a web application is stopped
+  or redeployed so the refresh thread is not leaked.
+  @author Bryan Snipes
+  @see com.bws.jdistil.security.SecuredItemRegistry
+*/
+public class SecurityContextListener implements ServletContextListener {
+
+  /**
+    Creates a new SecurityContextListener object.
+  */
+  public SecurityContextListener() {
+    super();
+  }
+
+  /**
+    Performs no processing when a web application is started.
+    @see javax.servlet.ServletContextListener#contextInitialized
+  */
+  public void contextInitialized(ServletContextEvent servletContextEvent) {
+  }
+
+  /**
+    Stops refreshing secured items when a web application is stopped.
+    @see javax.servlet.ServletContextListener#contextDestroyed
+  */
+  public void contextDestroyed(ServletContextEvent servletContextEvent) {
+
+    // Stop refreshing secured items
+    SecuredItemRegistry.shutdown();
+  }
+
+}
@@ -18,26 +18,17 @@
  */
 package com.bws.jdistil.security;
 
-import com.bws.jdistil.core.configuration.ConfigurationManager;
-import com.bws.jdistil.core.datasource.DataSourceException;
-import com.bws.jdistil.core.factory.IFactory;
 import com.bws.jdistil.core.security.DefaultSecurityManager;
 import com.bws.jdistil.core.security.IDomain;
 import com.bws.jdistil.core.security.ISecurityManager;
 import com.bws.jdistil.core.security.SecurityException;
 import com.bws.jdistil.security.configuration.AttributeNames;
 import com.bws.jdistil.security.role.Action;
-import com.bws.jdistil.security.role.ActionManager;
 import com.bws.jdistil.security.role.Field;
-import com.bws.jdistil.security.role.FieldManager;
 import com.bws.jdistil.security.role.Role;
 import com.bws.jdistil.security.user.User;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import javax.servlet.http.HttpSession;
 
@@ -47,34 +38,10 @@ import javax.servlet.http.HttpSession;
 */
 public class SecurityManager extends DefaultSecurityManager {
 
-  /**
-    Secured actions.
-  */
-  private static final Map<String, Action> securedActions = new HashMap<String, Action>();
-  
-  /**
-    Secured fields.
-  */
-  private static final Map<String, Field> securedFields = new HashMap<String, Field>();
-  
   static {
     
-    // Set method name
-    String methodName = "<initializer>";
-    
-    try {
-      // Load secured actions and fields
-      loadSecuredActions();
-      loadSecuredFields();
-    }
-    catch (DataSourceException dataSourceException) {
-      
-      // Post error message
-      Logger logger = Logger.getLogger("com.bws.security");
-      logger.logp(Level.SEVERE, "SecurityManager", methodName, "Initializing Security Manager", dataSourceException);
-  
-      throw new ExceptionInInitializerError(methodName + ":" + dataSourceException.getMessage());
-    }
+    // Start loading secured actions and fields without waiting for them to be loaded
+    SecuredItemRegistry.start();
   }
   
   /**
@@ -84,72 +51,6 @@ public class SecurityManager extends DefaultSecurityManager {
     super();
   }
 
-  /**
-    Retrieves all secured actions.
-    @throws DataSourceException
-  */
-  private static void loadSecuredActions() throws DataSourceException {
-    
-    // Get action manager factory
-    IFactory actionManagerFactory = ConfigurationManager.getFactory(ActionManager.class);
-    
-    // Create action manager
-    ActionManager actionManager = (ActionManager)actionManagerFactory.create();
-
-    try {
-    	
-      // Retrieve all actions   
-      List<Action> actions = actionManager.find();
-      
-      if (actions != null) {
-        
-        for (Action action : actions) {
-        	
-          // Add action keyed by secure ID
-          securedActions.put(action.getSecureId(), action);
-        }
-      }
-    }
-    finally {
-
-    	// Recycle action manager
-    	actionManagerFactory.recycle(actionManager);
-    }
-  }
-  
-  /**
-    Retrieves all secured fields.
-    @throws DataSourceException
-  */
-  private static void loadSecuredFields() throws DataSourceException {
-    
-    // Get field manager factory
-    IFactory fieldManagerFactory = ConfigurationManager.getFactory(FieldManager.class);
-    
-    // Create field manager
-    FieldManager fieldManager = (FieldManager)fieldManagerFactory.create();
-    
-    try {
-    	
-      // Retrieve all fields   
-      List<Field> fields = fieldManager.find();
-      
-      if (fields != null) {
-        
-        for (Field field : fields) {
-        	
-          // Add field keyed by secure ID
-          securedFields.put(field.getSecureId(), field);
-        }
-      }
-    }
-    finally {
-
-    	// Recycle field manager
-    	fieldManagerFactory.recycle(fieldManager);
-    }
-  }
-  
   /**
     Returns a user's domain.
     @param session - Current session.
@@ -205,7 +106,11 @@ public class SecurityManager extends DefaultSecurityManager {
   @Override
   public boolean isAuthorizationRequired(String actionId, HttpSession session) throws SecurityException {
 
-    return securedActions.get(actionId) != null;
+    // Get secured items
+    SecuredItemRegistry.Snapshot securedItems = SecuredItemRegistry.getSnapshot();
+    
+    // Require authorization for all actions until secured items are loaded
+    return !securedItems.isLoaded() || securedItems.getSecuredAction(actionId) != null;
   }
 
   /**
@@ -221,30 +126,21 @@ public class SecurityManager extends DefaultSecurityManager {
     // Initialize return value
     boolean isAuthorized = true;
     
+    // Get secured items
+    SecuredItemRegistry.Snapshot securedItems = SecuredItemRegistry.getSnapshot();
+    
     // Get secured action
-    Action securedAction = securedActions.get(actionId);
+    Action securedAction = securedItems.getSecuredAction(actionId);
     
-    if (securedAction != null) {
+    if (!securedItems.isLoaded()) {
     	
-    	// Set unauthorized by default
+    	// Deny access until secured items are loaded
     	isAuthorized = false;
-
-    	// Get current user's roles
-      @SuppressWarnings("unchecked")
-			List<Role> roles = (List<Role>)session.getAttribute(AttributeNames.ROLES);
-      
-      if (roles != null && !roles.isEmpty()) {
-      	
-      	for (Role role : roles) {
-      		
-          if (!role.getRestrictedTaskIds().contains(securedAction.getTaskId())) {
-          	
-          	// Set authorized and stop processing roles
-          	isAuthorized = true;
-          	break;
-          }
-      	}
-      }
+    }
+    else if (securedAction != null) {
+    	
+    	// Check current user's permissions
+    	isAuthorized = getPermissions(session).isTaskAuthorized(securedAction.getTaskId());
     }
     
     return isAuthorized;
@@ -263,33 +159,21 @@ public class SecurityManager extends DefaultSecurityManager {
     // Initialize return value
     boolean isHidden = false;
     
+    // Get secured items
+    SecuredItemRegistry.Snapshot securedItems = SecuredItemRegistry.getSnapshot();
+    
     // Get secured field
-    Field securedField = securedFields.get(fieldId);
+    Field securedField = securedItems.getSecuredField(fieldId);
     
-    if (securedField != null) {
-      
-    	// Set hidden by default
+    if (!securedItems.isLoaded()) {
+    	
+    	// Treat all fields as hidden until secured items are loaded
     	isHidden = true;
-
-    	// Get current user's roles
-      @SuppressWarnings("unchecked")
-			List<Role> roles = (List<Role>)session.getAttribute(AttributeNames.ROLES);
+    }
+    else if (securedField != null) {
       
-      if (roles != null && !roles.isEmpty()) {
-      	
-      	// Get underlying ID used to compare with role values
-      	Object referenceId = securedField.getId();
-      	
-      	for (Role role : roles) {
-      	
-      		if (!role.getRestrictedFieldIds().contains(referenceId)) {
-      			
-      			// Set not hidden and stop processing roles
-      			isHidden = false;
-      			break;
-      		}
-      	}
-      }
+    	// Check current user's permissions
+    	isHidden = getPermissions(session).isFieldHidden(securedField.getId());
     }
     
     return isHidden;
@@ -308,36 +192,49 @@ public class SecurityManager extends DefaultSecurityManager {
     // Initialize return value
     boolean isReadOnly = false;
     
+    // Get secured items
+    SecuredItemRegistry.Snapshot securedItems = SecuredItemRegistry.getSnapshot();
+    
     // Get secured field
-    Field securedField = securedFields.get(fieldId);
+    Field securedField = securedItems.getSecuredField(fieldId);
     
-    if (securedField != null) {
-      
-    	// Set read only by default
+    if (!securedItems.isLoaded()) {
+    	
+    	// Treat all fields as read only until secured items are loaded
     	isReadOnly = true;
-
-    	// Get current user's roles
-      @SuppressWarnings("unchecked")
-			List<Role> roles = (List<Role>)session.getAttribute(AttributeNames.ROLES);
+    }
+    else if (securedField != null) {
       
-      if (roles != null && !roles.isEmpty()) {
-      	
-      	// Get underlying ID used to compare with role values
-      	Object referenceId = securedField.getId();
-      	
-      	for (Role role : roles) {
-      	
-      		if (!role.getReadOnlyFieldIds().contains(referenceId) && !role.getRestrictedFieldIds().contains(referenceId)) {
-      			
-      			// Set not read only and stop processing roles
-      			isReadOnly = false;
-      			break;
-      		}
-      	}
-      }
+    	// Check current user's permissions
+    	isReadOnly = getPermissions(session).isFieldReadOnly(securedField.getId());
     }
     
     return isReadOnly;
   }
 
+  /**
+    Returns the current user's permissions. Permissions are computed from the roles stored in the
+    session and cached in the session until the roles are replaced or removed.
+    @param session Current session.
+    @return RolePermissions Current user's permissions.
+  */
+  protected RolePermissions getPermissions(HttpSession session) {
+
+    // Get current user's roles
+    @SuppressWarnings("unchecked")
+    List<Role> roles = (List<Role>)session.getAttribute(AttributeNames.ROLES);
+
+    // Get cached permissions
+    RolePermissions permissions = (RolePermissions)session.getAttribute(AttributeNames.PERMISSIONS);
+
+    if (permissions == null || !permissions.isComputedFrom(roles)) {
+
+      // Compute and cache permissions
+      permissions = new RolePermissions(roles);
+      session.setAttribute(AttributeNames.PERMISSIONS, permissions);
+    }
+
+    return permissions;
+  }
+
 }
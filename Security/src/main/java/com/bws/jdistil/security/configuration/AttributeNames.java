@@ -29,6 +29,7 @@ public class AttributeNames extends com.bws.jdistil.core.configuration.Attribute
   public static final String ACTIONS = "ACTIONS";
   public static final String GROUP = "GROUP";
   public static final String GROUPS = "GROUPS";
+  public static final String PERMISSIONS = "PERMISSIONS";
   public static final String PROPERTY = "PROPERTY";
   public static final String FIELDS = "FIELDS";
   public static final String ROLES = "ROLES";
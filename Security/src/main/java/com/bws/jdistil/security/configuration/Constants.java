@@ -29,6 +29,16 @@ public class Constants extends com.bws.jdistil.core.configuration.Constants {
   */
   public static final String PROPERTY_FILE = "security";
 
+  /**
+    Constant defining the secured item registry refresh interval property key.
+  */
+  public static final String SECURITY_REGISTRY_REFRESH_INTERVAL = "security.registry.refresh.interval";
+
+  /**
+    Constant defining the secured item registry change detection query property key.
+  */
+  public static final String SECURITY_REGISTRY_CHANGE_SQL = "security.registry.change.sql";
+
   /**
     Creates a new Constants object.
   */
@@ -26,12 +26,12 @@ import com.bws.jdistil.core.datasource.database.BoundDatabaseDataManager;
 import com.bws.jdistil.core.datasource.database.ColumnBinding;
 import com.bws.jdistil.core.datasource.database.DataObjectBinding;
 import com.bws.jdistil.core.datasource.database.DbUtil;
+import com.bws.jdistil.core.datasource.database.IValueCondition;
 import com.bws.jdistil.core.datasource.database.IdColumnBinding;
+import com.bws.jdistil.core.datasource.database.InListConditions;
 import com.bws.jdistil.core.datasource.database.Join;
 import com.bws.jdistil.core.datasource.database.JoinCondition;
 import com.bws.jdistil.core.datasource.database.Operators;
-import com.bws.jdistil.core.datasource.database.ValueCondition;
-import com.bws.jdistil.core.datasource.database.ValueConditions;
 
 /**
   Action manager class used to retrieve action data objects.
@@ -99,25 +99,11 @@ public class ActionManager extends BoundDatabaseDataManager<Integer, Action> {
       // Create and add join to list
       joins.add(new Join(Join.INNER_JOIN, "bws_task_action", "bws_action", joinCondition));
       
-      // Initialize value conditions
-      ValueConditions valueConditions = null;
-      
-      for (Integer taskId : taskIds) {
-      
-        // Create value condition
-        ValueCondition valueCondition = new ValueCondition("bws_task", "task_id", Operators.EQUALS, DbUtil.INTEGER, taskId);
-        
-        // Add condition to value conditions
-        if (valueConditions == null) {
-          valueConditions = new ValueConditions(valueCondition);
-        }
-        else {
-          valueConditions.add(Operators.OR, valueCondition);
-        }
-      }
-      
+      // Create in list value condition
+      IValueCondition valueCondition = InListConditions.create("bws_task", "task_id", DbUtil.INTEGER, taskIds);
+
       // Retrieve tasks
-      actions = find(joins, valueConditions, null);
+      actions = find(joins, valueCondition, null);
     }
     
     return actions;
@@ -51,6 +51,16 @@ public class User extends DataObject<Integer> implements IListItem, Comparable<U
   */
   private String password = null;
   
+  /**
+    Password hash key algorithm.
+  */
+  private String hashAlgorithm = null;
+  
+  /**
+    Password hash key iterations.
+  */
+  private Integer hashIterations = null;
+  
   /**
     First name.
   */
@@ -139,6 +149,40 @@ public class User extends DataObject<Integer> implements IListItem, Comparable<U
     salt = newSalt;
   }
   
+  /**
+    Returns the password hash key algorithm.
+    @return String Password hash key algorithm.
+  */
+  public String getHashAlgorithm() {
+    return hashAlgorithm;
+  }
+  
+  /**
+    Sets the password hash key algorithm.
+    @param newHashAlgorithm New password hash key algorithm.
+  */
+  public void setHashAlgorithm(String newHashAlgorithm) {
+    updateModifiedStatus(hashAlgorithm, newHashAlgorithm);
+    hashAlgorithm = newHashAlgorithm;
+  }
+  
+  /**
+    Returns the password hash key iterations.
+    @return Integer Password hash key iterations.
+  */
+  public Integer getHashIterations() {
+    return hashIterations;
+  }
+  
+  /**
+    Sets the password hash key iterations.
+    @param newHashIterations New password hash key iterations.
+  */
+  public void setHashIterations(Integer newHashIterations) {
+    updateModifiedStatus(hashIterations, newHashIterations);
+    hashIterations = newHashIterations;
+  }
+  
   /**
     Returns the first name.
     @return String First name.
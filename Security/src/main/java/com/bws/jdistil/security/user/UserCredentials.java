@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2015 Bryan W. Snipes
+ * 
+ * This file is part of the JDistil web application framework.
+ * 
+ * JDistil is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * JDistil is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with JDistil.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.bws.jdistil.security.user;
+
+import com.bws.jdistil.core.security.CredentialHasher;
+import com.bws.jdistil.core.security.Cryptographer;
+import com.bws.jdistil.core.security.SecurityException;
+
+import java.security.NoSuchAlgorithmException;
+
+import javax.xml.bind.DatatypeConverter;
+
+/**
+  Static class used to set and verify user passwords. Passwords are hashed using the key algorithm and
+  iterations stored with each user so the configured hashing cost can be changed without resetting
+  existing passwords. Users without stored hashing settings use the original default settings.
+  @author Bryan Snipes
+  @see com.bws.jdistil.core.security.CredentialHasher
+*/
+public class UserCredentials {
+
+  /**
+    Creates a new UserCredentials object.
+  */
+  private UserCredentials() {
+    super();
+  }
+
+  /**
+    Returns a value indicating whether or not a password matches a user's password.
+    @param user User.
+    @param password Password.
+    @return boolean Valid password indicator.
+  */
+  public static boolean verify(User user, String password) throws SecurityException {
+    return CredentialHasher.verify(password, user.getSalt(), user.getPassword(), getAlgorithm(user), getIterations(user));
+  }
+
+  /**
+    Sets a user's password using a new salt and the currently configured hashing settings.
+    @param user User.
+    @param password Password.
+  */
+  public static void setPassword(User user, String password) throws SecurityException {
+
+    // Set method name
+    String methodName = "setPassword";
+
+    // Initialize salt
+    byte[] saltBytes = null;
+
+    try {
+      // Create salt value
+      saltBytes = Cryptographer.createSalt();
+    }
+    catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+      throw new SecurityException(methodName + ": " + noSuchAlgorithmException.getMessage());
+    }
+
+    // Get configured hashing settings
+    String algorithm = CredentialHasher.getAlgorithm();
+    int iterations = CredentialHasher.getIterations();
+
+    // Hash password
+    String encryptedPassword = CredentialHasher.hash(password, saltBytes, algorithm, iterations);
+
+    // Set salt, password and hashing settings
+    user.setSalt(DatatypeConverter.printBase64Binary(saltBytes));
+    user.setPassword(encryptedPassword);
+    user.setHashAlgorithm(algorithm);
+    user.setHashIterations(Integer.valueOf(iterations));
+  }
+
+  /**
+    Returns a value indicating whether or not a user's password was hashed using settings
+    other than the currently configured hashing settings.
+    @param user User.
+    @return boolean Rehash required indicator.
+  */
+  public static boolean isRehashRequired(User user) {
+    return !CredentialHasher.getAlgorithm().equals(getAlgorithm(user)) || CredentialHasher.getIterations() != getIterations(user);
+  }
+
+  /**
+    Returns the key algorithm used to hash a user's password.
+    @param user User.
+    @return String Key algorithm.
+  */
+  private static String getAlgorithm(User user) {
+    return user.getHashAlgorithm() == null ? Cryptographer.DEFAULT_KEY_ALGORITHM : user.getHashAlgorithm();
+  }
+
+  /**
+    Returns the key iterations used to hash a user's password.
+    @param user User.
+    @return int Key iterations.
+  */
+  private static int getIterations(User user) {
+    return user.getHashIterations() == null ? Cryptographer.DEFAULT_KEY_ITERATIONS : user.getHashIterations().intValue();
+  }
+
+}
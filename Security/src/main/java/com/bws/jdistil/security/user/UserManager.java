@@ -63,6 +63,8 @@ public class UserManager extends BoundDatabaseDataManager<Integer, User> {
     columnBindings.add(new ColumnBinding("logon_id", DbUtil.STRING, true, false, "LogonId"));
     columnBindings.add(new ColumnBinding("salt", DbUtil.STRING, false, false, "Salt"));
     columnBindings.add(new ColumnBinding("password", DbUtil.STRING, false, false, "Password"));
+    columnBindings.add(new ColumnBinding("hash_algorithm", DbUtil.STRING, false, false, "HashAlgorithm"));
+    columnBindings.add(new ColumnBinding("hash_iterations", DbUtil.INTEGER, false, false, "HashIterations"));
     columnBindings.add(new ColumnBinding("first_name", DbUtil.STRING, false, false, "FirstName"));
     columnBindings.add(new ColumnBinding("middle_initial", DbUtil.STRING, false, false, "MiddleInitial"));
     columnBindings.add(new ColumnBinding("last_name", DbUtil.STRING, false, false, "LastName"));
@@ -50,6 +50,8 @@ CREATE TABLE bws_user
    logon_id				  VARCHAR(20)	NOT NULL,
    salt						  VARCHAR(30)	NOT NULL,
    password				  VARCHAR(30)	NOT NULL,
+   hash_algorithm	  VARCHAR(30)	NULL,
+   hash_iterations	INTEGER			NULL,
    first_name			  VARCHAR(20)	NOT NULL,
    middle_initial	  CHAR(1)			NULL,
    last_name			  VARCHAR(20)	NOT NULL,
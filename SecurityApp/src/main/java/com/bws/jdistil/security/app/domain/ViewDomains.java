@@ -63,7 +63,7 @@ public class ViewDomains extends ViewDataObjects<Integer, Domain> {
     super(DomainManager.class, filterCriteriaDefinition, AttributeNames.DOMAINS, PageIds.DOMAINS,
     		10, FieldIds.DOMAIN_CURRENT_PAGE_NUMBER, FieldIds.DOMAIN_SELECTED_PAGE_NUMBER, 
     		ActionIds.VIEW_DOMAIN_PREVIOUS_PAGE, ActionIds.VIEW_DOMAIN_NEXT_PAGE, ActionIds.VIEW_DOMAIN_SELECT_PAGE,
-        retrieveDataActionIds, refreshDataActionIds, false);
+        retrieveDataActionIds, refreshDataActionIds, false, true);
   }
 
 }
@@ -22,9 +22,7 @@ import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.crypto.SecretKey;
 import javax.servlet.http.HttpSession;
-import javax.xml.bind.DatatypeConverter;
 
 import com.bws.jdistil.core.configuration.Action;
 import com.bws.jdistil.core.configuration.ConfigurationManager;
@@ -33,13 +31,13 @@ import com.bws.jdistil.core.process.ProcessContext;
 import com.bws.jdistil.core.process.ProcessException;
 import com.bws.jdistil.core.process.ProcessMessage;
 import com.bws.jdistil.core.process.Processor;
-import com.bws.jdistil.core.security.Cryptographer;
 import com.bws.jdistil.core.security.IDomain;
 import com.bws.jdistil.core.servlet.ParameterExtractor;
 import com.bws.jdistil.core.util.Descriptions;
 import com.bws.jdistil.security.app.configuration.FieldIds;
 import com.bws.jdistil.security.configuration.AttributeNames;
 import com.bws.jdistil.security.user.User;
+import com.bws.jdistil.security.user.UserCredentials;
 import com.bws.jdistil.security.user.UserManager;
 
 /**
@@ -108,16 +106,8 @@ public class ChangePassword extends Processor {
   				
   				try {
   					
-  					// Get existing salt value
-  					String salt = user.getSalt();
-  					byte[] saltBytes = DatatypeConverter.parseBase64Binary(salt);
-
-  					// Encrypt submitted password
-  					SecretKey secretKey = Cryptographer.createSecretKey(password, saltBytes, 10000);
-  					String encryptedPassword = DatatypeConverter.printBase64Binary(secretKey.getEncoded());
-
-  					// Set valid logon indicator
-  		  		isValidLogon = user.getPassword().equals(encryptedPassword);
+  					// Verify submitted password
+  		  		isValidLogon = UserCredentials.verify(user, password);
     			}
     			catch (Exception exception) {
     				
@@ -141,17 +131,8 @@ public class ChangePassword extends Processor {
 	  	    
 	  	    try {
 	  	    	
-    				// Create salt value
-    				byte[] saltBytes = Cryptographer.createSalt();
-    				String salt = DatatypeConverter.printBase64Binary(saltBytes);
-    				
-    				// Encrypt submitted password
-    				SecretKey secretKey = Cryptographer.createSecretKey(newPassword, saltBytes, 10000);
-    				String encryptedPassword = DatatypeConverter.printBase64Binary(secretKey.getEncoded());
-  
     		  	// Set salt and password
-    		  	user.setSalt(salt);
-    		  	user.setPassword(encryptedPassword);
+    		  	UserCredentials.setPassword(user, newPassword);
   
 	  	      // Save user
 	  	      userManager.save(user, domain);
@@ -48,6 +48,7 @@ public class Logoff extends Processor {
 		// Store user and roles from session
 		session.removeAttribute(AttributeNames.USER);
 		session.removeAttribute(AttributeNames.ROLES);
+		session.removeAttribute(AttributeNames.PERMISSIONS);
 	
 		// Handle successful logoff
 		handleSuccess(processContext);
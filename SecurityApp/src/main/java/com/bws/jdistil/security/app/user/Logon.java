@@ -24,9 +24,7 @@ import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.crypto.SecretKey;
 import javax.servlet.http.HttpSession;
-import javax.xml.bind.DatatypeConverter;
 
 import com.bws.jdistil.core.configuration.Action;
 import com.bws.jdistil.core.configuration.ConfigurationManager;
@@ -36,16 +34,17 @@ import com.bws.jdistil.core.process.ProcessContext;
 import com.bws.jdistil.core.process.ProcessException;
 import com.bws.jdistil.core.process.ProcessMessage;
 import com.bws.jdistil.core.process.Processor;
-import com.bws.jdistil.core.security.Cryptographer;
 import com.bws.jdistil.core.security.IDomain;
 import com.bws.jdistil.core.servlet.ParameterExtractor;
 import com.bws.jdistil.core.util.Descriptions;
 import com.bws.jdistil.security.app.configuration.FieldIds;
+import com.bws.jdistil.security.RolePermissions;
 import com.bws.jdistil.security.configuration.AttributeNames;
 import com.bws.jdistil.security.domain.DomainManager;
 import com.bws.jdistil.security.role.Role;
 import com.bws.jdistil.security.role.RoleManager;
 import com.bws.jdistil.security.user.User;
+import com.bws.jdistil.security.user.UserCredentials;
 import com.bws.jdistil.security.user.UserManager;
 
 /**
@@ -103,16 +102,8 @@ public class Logon extends Processor {
   			
   			try {
   				
-    			// Get existing salt value
-    			String salt = user.getSalt();
-    			byte[] saltBytes = DatatypeConverter.parseBase64Binary(salt);
-
-    			// Encrypt submitted password
-    			SecretKey secretKey = Cryptographer.createSecretKey(password, saltBytes, 10000);
-    			String encryptedPassword = DatatypeConverter.printBase64Binary(secretKey.getEncoded());
-    			
-    			// Set valid logon indicator
-    			isValidLogon = user.getPassword().equals(encryptedPassword);
+    			// Verify submitted password
+    			isValidLogon = UserCredentials.verify(user, password);
   			}
   			catch (Exception exception) {
   				
@@ -123,6 +114,12 @@ public class Logon extends Processor {
   			}
   		}
   		
+  		if (isValidLogon && UserCredentials.isRehashRequired(user)) {
+  			
+  			// Rehash password using current hashing settings
+  			rehashPassword(user, password, domain);
+  		}
+  		
   		if (isValidLogon) {
   			
   			// Get current session
@@ -154,6 +151,11 @@ public class Logon extends Processor {
   				}
   			}
   			
+  			// Compute permissions once for the current roles
+  			@SuppressWarnings("unchecked")
+  			List<Role> sessionRoles = (List<Role>)session.getAttribute(AttributeNames.ROLES);
+  			session.setAttribute(AttributeNames.PERMISSIONS, new RolePermissions(sessionRoles));
+  			
   			// Handle successful logon
   			handleSuccess(processContext);
   		}
@@ -196,6 +198,44 @@ public class Logon extends Processor {
 		}
 	}
 	
+	/**
+	 * Rehashes and saves a user's password using the current hashing settings. Failures are logged
+	 * without failing the logon since the existing password remains valid.
+	 * @param user User.
+	 * @param password Verified password.
+	 * @param domain Target domain.
+	 */
+	private void rehashPassword(User user, String password, IDomain domain) {
+		
+		// Set method name
+		String methodName = "rehashPassword";
+		
+    // Get user manager factory
+    IFactory userManagerFactory = ConfigurationManager.getFactory(UserManager.class);
+  
+    // Create user manager
+    UserManager userManager = (UserManager)userManagerFactory.create();
+
+    try {
+    	// Set password using current hashing settings
+    	UserCredentials.setPassword(user, password);
+    	
+      // Save user
+      userManager.save(user, domain);
+    }
+    catch (Exception exception) {
+  
+      // Post warning message
+      Logger logger = Logger.getLogger("com.bws.jdistil.security.app.user");
+      logger.logp(Level.WARNING, getClass().getName(), methodName, "Rehashing User Password", exception);
+    }
+    finally {
+  
+      // Recycle data manager
+      userManagerFactory.recycle(userManager);
+    }
+	}
+	
 	/**
 	 * Retrieves a user based on a logon ID.
 	 * @param logonId Logon ID.
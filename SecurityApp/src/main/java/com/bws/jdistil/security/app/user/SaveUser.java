@@ -22,8 +22,6 @@ import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.crypto.SecretKey;
-import javax.xml.bind.DatatypeConverter;
 
 import com.bws.jdistil.core.configuration.ConfigurationManager;
 import com.bws.jdistil.core.configuration.Field;
@@ -34,13 +32,13 @@ import com.bws.jdistil.core.process.ProcessContext;
 import com.bws.jdistil.core.process.ProcessException;
 import com.bws.jdistil.core.process.ProcessMessage;
 import com.bws.jdistil.core.process.model.SaveDataObject;
-import com.bws.jdistil.core.security.Cryptographer;
 import com.bws.jdistil.core.servlet.ParameterExtractor;
 import com.bws.jdistil.core.util.Descriptions;
 import com.bws.jdistil.core.util.StringUtil;
 import com.bws.jdistil.security.app.configuration.FieldIds;
 import com.bws.jdistil.security.configuration.AttributeNames;
 import com.bws.jdistil.security.user.User;
+import com.bws.jdistil.security.user.UserCredentials;
 import com.bws.jdistil.security.user.UserManager;
 
 /**
@@ -146,17 +144,8 @@ public class SaveUser extends SaveDataObject<Integer, User> {
 			
 			try {
 				
-				// Create salt value
-				byte[] saltBytes = Cryptographer.createSalt();
-				String salt = DatatypeConverter.printBase64Binary(saltBytes);
-				
-				// Encrypt submitted password
-				SecretKey secretKey = Cryptographer.createSecretKey(newPassword, saltBytes, 10000);
-				String encryptedPassword = DatatypeConverter.printBase64Binary(secretKey.getEncoded());
-
 		  	// Set salt and password
-		  	user.setSalt(salt);
-		  	user.setPassword(encryptedPassword);
+		  	UserCredentials.setPassword(user, newPassword);
   		}
   		catch (Exception exception) {
   			
@@ -87,7 +87,7 @@ public class ViewUsers extends ViewDataObjects<Integer, User> {
     super(UserManager.class, filterCriteriaDefinition, AttributeNames.USERS, PageIds.USERS, 10,
     		FieldIds.USER_CURRENT_PAGE_NUMBER, FieldIds.USER_SELECTED_PAGE_NUMBER,
         ActionIds.VIEW_USER_PREVIOUS_PAGE, ActionIds.VIEW_USER_NEXT_PAGE, ActionIds.VIEW_USER_SELECT_PAGE,
-        retrieveDataActionIds, refreshDataActionIds, false);
+        retrieveDataActionIds, refreshDataActionIds, false, true);
   }
 
 }